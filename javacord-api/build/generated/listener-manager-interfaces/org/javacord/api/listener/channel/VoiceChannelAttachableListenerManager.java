@@ -0,0 +1,55 @@
+package org.javacord.api.listener.channel;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Generated;
+import org.javacord.api.listener.ObjectAttachableListener;
+import org.javacord.api.util.event.ListenerManager;
+
+/**
+ * This class can be used to add and retrieve {@link VoiceChannelAttachableListener}s.
+ */
+@Generated("listener-manager-generation.gradle")
+public interface VoiceChannelAttachableListenerManager extends ChannelAttachableListenerManager {
+
+    /**
+     * Adds a listener that implements one or more {@code VoiceChannelAttachableListener}s.
+     * Adding a listener multiple times will only add it once
+     * and return the same listener managers on each invocation.
+     * The order of invocation is according to first addition.
+     *
+     * @param listener The listener to add.
+     * @param <T> The type of the listener.
+     * @return The managers for the added listener.
+     */
+    <T extends VoiceChannelAttachableListener & ObjectAttachableListener> Collection<ListenerManager<? extends VoiceChannelAttachableListener>> addVoiceChannelAttachableListener(T listener);
+
+    /**
+     * Removes a listener that implements one or more {@code VoiceChannelAttachableListener}s.
+     *
+     * @param listener The listener to remove.
+     * @param <T> The type of the listener.
+     */
+    <T extends VoiceChannelAttachableListener & ObjectAttachableListener> void removeVoiceChannelAttachableListener(T listener);
+
+    /**
+     * Gets a map with all registered listeners that implement one or more {@code VoiceChannelAttachableListener}s
+     * and their assigned listener classes they listen to.
+     *
+     * @param <T> The type of the listeners.
+     * @return A map with all registered listeners that implement one or more
+     *         {@code VoiceChannelAttachableListener}s and their assigned listener
+     *         classes they listen to.
+     */
+    <T extends VoiceChannelAttachableListener & ObjectAttachableListener> Map<T, List<Class<T>>> getVoiceChannelAttachableListeners();
+
+    /**
+     * Removes a listener from this object.
+     *
+     * @param listenerClass The listener class.
+     * @param listener The listener to remove.
+     * @param <T> The type of the listener.
+     */
+    <T extends VoiceChannelAttachableListener & ObjectAttachableListener> void removeListener(Class<T> listenerClass, T listener);
+}
@@ -0,0 +1,235 @@
+package org.javacord.api.listener.message;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Generated;
+import org.javacord.api.listener.ObjectAttachableListener;
+import org.javacord.api.listener.message.reaction.ReactionAddListener;
+import org.javacord.api.listener.message.reaction.ReactionRemoveAllListener;
+import org.javacord.api.listener.message.reaction.ReactionRemoveListener;
+import org.javacord.api.util.event.ListenerManager;
+
+/**
+ * This class can be used to add and retrieve {@link MessageAttachableListener}s for potentially uncached messages.
+ */
+@Generated("listener-manager-generation.gradle")
+public interface UncachedMessageAttachableListenerManager {
+
+    /**
+     * Adds a {@code MessageDeleteListener}.
+     *
+     * @param listener The listener to add.
+     * @param messageId The id of the message which should be listened to.
+     * @return The manager of the listener.
+     */
+    ListenerManager<MessageDeleteListener> addMessageDeleteListener(long messageId, MessageDeleteListener listener);
+
+    /**
+     * Gets a list with all registered {@code MessageDeleteListener}s.
+     *
+     * @param messageId The id of the message.
+     * @return A list with all registered {@code MessageDeleteListener}s.
+     */
+    List<MessageDeleteListener> getMessageDeleteListeners(long messageId);
+
+    /**
+     * Gets a list with all registered {@code MessageDeleteListener}s.
+     *
+     * @param messageId The id of the message.
+     * @return A list with all registered {@code MessageDeleteListener}s.
+     */
+    List<MessageDeleteListener> getMessageDeleteListeners(String messageId);
+
+    /**
+     * Adds a {@code MessageEditListener}.
+     *
+     * @param listener The listener to add.
+     * @param messageId The id of the message which should be listened to.
+     * @return The manager of the listener.
+     */
+    ListenerManager<MessageEditListener> addMessageEditListener(long messageId, MessageEditListener listener);
+
+    /**
+     * Gets a list with all registered {@code MessageEditListener}s.
+     *
+     * @param messageId The id of the message.
+     * @return A list with all registered {@code MessageEditListener}s.
+     */
+    List<MessageEditListener> getMessageEditListeners(long messageId);
+
+    /**
+     * Gets a list with all registered {@code MessageEditListener}s.
+     *
+     * @param messageId The id of the message.
+     * @return A list with all registered {@code MessageEditListener}s.
+     */
+    List<MessageEditListener> getMessageEditListeners(String messageId);
+
+    /**
+     * Adds a {@code ReactionAddListener}.
+     *
+     * @param listener The listener to add.
+     * @param messageId The id of the message which should be listened to.
+     * @return The manager of the listener.
+     */
+    ListenerManager<ReactionAddListener> addReactionAddListener(long messageId, ReactionAddListener listener);
+
+    /**
+     * Gets a list with all registered {@code ReactionAddListener}s.
+     *
+     * @param messageId The id of the message.
+     * @return A list with all registered {@code ReactionAddListener}s.
+     */
+    List<ReactionAddListener> getReactionAddListeners(long messageId);
+
+    /**
+     * Gets a list with all registered {@code ReactionAddListener}s.
+     *
+     * @param messageId The id of the message.
+     * @return A list with all registered {@code ReactionAddListener}s.
+     */
+    List<ReactionAddListener> getReactionAddListeners(String messageId);
+
+    /**
+     * Adds a {@code ReactionRemoveAllListener}.
+     *
+     * @param listener The listener to add.
+     * @param messageId The id of the message which should be listened to.
+     * @return The manager of the listener.
+     */
+    ListenerManager<ReactionRemoveAllListener> addReactionRemoveAllListener(long messageId, ReactionRemoveAllListener listener);
+
+    /**
+     * Gets a list with all registered {@code ReactionRemoveAllListener}s.
+     *
+     * @param messageId The id of the message.
+     * @return A list with all registered {@code ReactionRemoveAllListener}s.
+     */
+    List<ReactionRemoveAllListener> getReactionRemoveAllListeners(long messageId);
+
+    /**
+     * Gets a list with all registered {@code ReactionRemoveAllListener}s.
+     *
+     * @param messageId The id of the message.
+     * @return A list with all registered {@code ReactionRemoveAllListener}s.
+     */
+    List<ReactionRemoveAllListener> getReactionRemoveAllListeners(String messageId);
+
+    /**
+     * Adds a {@code ReactionRemoveListener}.
+     *
+     * @param listener The listener to add.
+     * @param messageId The id of the message which should be listened to.
+     * @return The manager of the listener.
+     */
+    ListenerManager<ReactionRemoveListener> addReactionRemoveListener(long messageId, ReactionRemoveListener listener);
+
+    /**
+     * Gets a list with all registered {@code ReactionRemoveListener}s.
+     *
+     * @param messageId The id of the message.
+     * @return A list with all registered {@code ReactionRemoveListener}s.
+     */
+    List<ReactionRemoveListener> getReactionRemoveListeners(long messageId);
+
+    /**
+     * Gets a list with all registered {@code ReactionRemoveListener}s.
+     *
+     * @param messageId The id of the message.
+     * @return A list with all registered {@code ReactionRemoveListener}s.
+     */
+    List<ReactionRemoveListener> getReactionRemoveListeners(String messageId);
+
+    /**
+     * Adds a listener that implements one or more {@code MessageAttachableListener}s
+     * to the message with the given id.
+     * Adding a listener multiple times will only add it once
+     * and return the same listener managers on each invocation.
+     * The order of invocation is according to first addition.
+     *
+     * @param messageId The id of the message which should be listened to.
+     * @param listener The listener to add.
+     * @param <T> The type of the listener.
+     * @return The managers for the added listener.
+     */
+    <T extends MessageAttachableListener & ObjectAttachableListener> Collection<ListenerManager<T>> addMessageAttachableListener(long messageId, T listener);
+
+    /**
+     * Adds a listener that implements one or more {@code MessageAttachableListener}s
+     * to the message with the given id.
+     * Adding a listener multiple times will only add it once
+     * and return the same listener managers on each invocation.
+     * The order of invocation is according to first addition.
+     *
+     * @param messageId The id of the message which should be listened to.
+     * @param listener The listener to add.
+     * @param <T> The type of the listener.
+     * @return The managers for the added listener.
+     */
+    <T extends MessageAttachableListener & ObjectAttachableListener> Collection<ListenerManager<T>> addMessageAttachableListener(String messageId, T listener);
+
+    /**
+     * Removes a listener that implements one or more {@code MessageAttachableListener}s
+     * from the message with the given id.
+     *
+     * @param messageId The id of the message.
+     * @param listener The listener to remove.
+     * @param <T> The type of the listener.
+     */
+    <T extends MessageAttachableListener & ObjectAttachableListener> void removeMessageAttachableListener(long messageId, T listener);
+
+    /**
+     * Removes a listener that implements one or more {@code MessageAttachableListener}s
+     * from the message with the given id.
+     *
+     * @param messageId The id of the message.
+     * @param listener The listener to remove.
+     * @param <T> The type of the listener.
+     */
+    <T extends MessageAttachableListener & ObjectAttachableListener> void removeMessageAttachableListener(String messageId, T listener);
+
+    /**
+     * Gets a map with all registered listeners that implement one or more
+     * {@code MessageAttachableListener}s and their assigned listener classes they listen to.
+     *
+     * @param messageId The id of the message.
+     * @param <T> The type of the listener.
+     * @return A map with all registered listeners that implement one or more
+     *         {@code MessageAttachableListener}s and their assigned listener
+     *         classes they listen to.
+     */
+    <T extends MessageAttachableListener & ObjectAttachableListener> Map<T, List<Class<T>>> getMessageAttachableListeners(long messageId);
+
+    /**
+     * Gets a map with all registered listeners that implement one or more
+     * {@code MessageAttachableListener}s and their assigned listener classes they listen to.
+     *
+     * @param messageId The id of the message.
+     * @param <T> The type of the listener.
+     * @return A map with all registered listeners that implement one or more
+     *         {@code MessageAttachableListener}s and their assigned listener
+     *         classes they listen to.
+     */
+    <T extends MessageAttachableListener & ObjectAttachableListener> Map<T, List<Class<T>>> getMessageAttachableListeners(String messageId);
+
+    /**
+     * Removes a listener from this object.
+     *
+     * @param messageId The id of the message.
+     * @param listenerClass The listener class.
+     * @param listener The listener to remove.
+     * @param <T> The type of the listener.
+     */
+    <T extends MessageAttachableListener & ObjectAttachableListener> void removeListener(long messageId, Class<T> listenerClass, T listener);
+
+    /**
+     * Removes a listener from this object.
+     *
+     * @param messageId The id of the message.
+     * @param listenerClass The listener class.
+     * @param listener The listener to remove.
+     * @param <T> The type of the listener.
+     */
+    <T extends MessageAttachableListener & ObjectAttachableListener> void removeListener(String messageId, Class<T> listenerClass, T listener);
+}
@@ -0,0 +1,100 @@
+package org.javacord.api.listener.server.emoji;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Generated;
+import org.javacord.api.listener.ObjectAttachableListener;
+import org.javacord.api.util.event.ListenerManager;
+
+/**
+ * This class can be used to add and retrieve {@link KnownCustomEmojiAttachableListener}s.
+ */
+@Generated("listener-manager-generation.gradle")
+public interface KnownCustomEmojiAttachableListenerManager {
+
+    /**
+     * Adds a {@code KnownCustomEmojiChangeNameListener}.
+     *
+     * @param listener The listener to add.
+     * @return The manager of the listener.
+     */
+    ListenerManager<KnownCustomEmojiChangeNameListener> addKnownCustomEmojiChangeNameListener(KnownCustomEmojiChangeNameListener listener);
+
+    /**
+     * Gets a list with all registered {@code KnownCustomEmojiChangeNameListener}s.
+     *
+     * @return A list with all registered {@code KnownCustomEmojiChangeNameListener}s.
+     */
+    List<KnownCustomEmojiChangeNameListener> getKnownCustomEmojiChangeNameListeners();
+
+    /**
+     * Adds a {@code KnownCustomEmojiChangeWhitelistedRolesListener}.
+     *
+     * @param listener The listener to add.
+     * @return The manager of the listener.
+     */
+    ListenerManager<KnownCustomEmojiChangeWhitelistedRolesListener> addKnownCustomEmojiChangeWhitelistedRolesListener(KnownCustomEmojiChangeWhitelistedRolesListener listener);
+
+    /**
+     * Gets a list with all registered {@code KnownCustomEmojiChangeWhitelistedRolesListener}s.
+     *
+     * @return A list with all registered {@code KnownCustomEmojiChangeWhitelistedRolesListener}s.
+     */
+    List<KnownCustomEmojiChangeWhitelistedRolesListener> getKnownCustomEmojiChangeWhitelistedRolesListeners();
+
+    /**
+     * Adds a {@code KnownCustomEmojiDeleteListener}.
+     *
+     * @param listener The listener to add.
+     * @return The manager of the listener.
+     */
+    ListenerManager<KnownCustomEmojiDeleteListener> addKnownCustomEmojiDeleteListener(KnownCustomEmojiDeleteListener listener);
+
+    /**
+     * Gets a list with all registered {@code KnownCustomEmojiDeleteListener}s.
+     *
+     * @return A list with all registered {@code KnownCustomEmojiDeleteListener}s.
+     */
+    List<KnownCustomEmojiDeleteListener> getKnownCustomEmojiDeleteListeners();
+
+    /**
+     * Adds a listener that implements one or more {@code KnownCustomEmojiAttachableListener}s.
+     * Adding a listener multiple times will only add it once
+     * and return the same listener managers on each invocation.
+     * The order of invocation is according to first addition.
+     *
+     * @param listener The listener to add.
+     * @param <T> The type of the listener.
+     * @return The managers for the added listener.
+     */
+    <T extends KnownCustomEmojiAttachableListener & ObjectAttachableListener> Collection<ListenerManager<T>> addKnownCustomEmojiAttachableListener(T listener);
+
+    /**
+     * Removes a listener that implements one or more {@code KnownCustomEmojiAttachableListener}s.
+     *
+     * @param listener The listener to remove.
+     * @param <T> The type of the listener.
+     */
+    <T extends KnownCustomEmojiAttachableListener & ObjectAttachableListener> void removeKnownCustomEmojiAttachableListener(T listener);
+
+    /**
+     * Gets a map with all registered listeners that implement one or more {@code KnownCustomEmojiAttachableListener}s
+     * and their assigned listener classes they listen to.
+     *
+     * @param <T> The type of the listeners.
+     * @return A map with all registered listeners that implement one or more
+     *         {@code KnownCustomEmojiAttachableListener}s and their assigned listener
+     *         classes they listen to.
+     */
+    <T extends KnownCustomEmojiAttachableListener & ObjectAttachableListener> Map<T, List<Class<T>>> getKnownCustomEmojiAttachableListeners();
+
+    /**
+     * Removes a listener from this object.
+     *
+     * @param listenerClass The listener class.
+     * @param listener The listener to remove.
+     * @param <T> The type of the listener.
+     */
+    <T extends KnownCustomEmojiAttachableListener & ObjectAttachableListener> void removeListener(Class<T> listenerClass, T listener);
+}
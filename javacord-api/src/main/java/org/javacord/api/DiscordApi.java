@@ -328,6 +328,48 @@ public interface DiscordApi extends GloballyAttachableListenerManager {
      */
     boolean isDefaultAutomaticMessageCacheCleanupEnabled();
 
+    /**
+     * Sets the maximum amount of cached messages across all channels.
+     * Messages which are cached forever are not counted.
+     * If the capacity is exceeded, the oldest messages of the least recently active channels are removed first,
+     * so active channels keep their messages while idle ones give them up.
+     * The per-channel capacity and storage time still apply.
+     * A negative value removes the global capacity, which is the default.
+     *
+     * @param capacity The maximum amount of cached messages across all channels.
+     */
+    void setGlobalMessageCacheCapacity(int capacity);
+
+    /**
+     * Gets the maximum amount of cached messages across all channels.
+     *
+     * @return The maximum amount of cached messages across all channels or a negative value if there is none.
+     */
+    int getGlobalMessageCacheCapacity();
+
+    /**
+     * Sets whether newly received messages are kept in a compact form.
+     * In compact form, the embeds, components, reactions and attachments of a message are stored deflated in their
+     * serialized form and are decoded on every access, unless they are still softly reachable. Mentioned users are
+     * stored by their id and resolved through the user cache on access, so users which were cached when the message
+     * was received, but are no longer cached, are missing from {@code Message#getMentionedUsers()}. The content is
+     * stored UTF-8 encoded and decoded on every access.
+     * This reduces the memory footprint of cached messages at the cost of slower access to these message parts,
+     * which is useful if you want to cache a lot of messages.
+     * It's disabled by default.
+     *
+     * @param compactMessageCacheEnabled Whether newly received messages are kept in a compact form.
+     */
+    void setCompactMessageCacheEnabled(boolean compactMessageCacheEnabled);
+
+    /**
+     * Gets whether newly received messages are kept in a compact form.
+     *
+     * @return Whether newly received messages are kept in a compact form.
+     * @see #setCompactMessageCacheEnabled(boolean)
+     */
+    boolean isCompactMessageCacheEnabled();
+
     /**
      * Gets the current shard of the bot, starting with <code>0</code>.
      *
@@ -6,6 +6,8 @@ import org.javacord.api.internal.DiscordApiBuilderDelegate;
 import org.javacord.api.listener.ChainableGloballyAttachableListenerManager;
 import org.javacord.api.listener.GloballyAttachableListener;
 import org.javacord.api.util.auth.Authenticator;
+import org.javacord.api.util.cache.EntityCacheEngine;
+import org.javacord.api.util.concurrent.EventDispatchStrategy;
 import org.javacord.api.util.internal.DelegateFactory;
 import org.javacord.api.util.ratelimit.LocalRatelimiter;
 import org.javacord.api.util.ratelimit.Ratelimiter;
@@ -373,6 +375,159 @@ public class DiscordApiBuilder implements ChainableGloballyAttachableListenerMan
         return delegate.isShutdownHookRegistrationEnabled();
     }
 
+    /**
+     * Sets the engine that is used for Javacord's internal cache of channels, members, users and user presences.
+     *
+     * <p>By default, {@link EntityCacheEngine#IMMUTABLE} is used. Bots in many large servers might want to use
+     * {@link EntityCacheEngine#CONCURRENT} to reduce the amount of garbage created by cache updates.
+     *
+     * @param engine The entity cache engine.
+     * @return The current instance in order to chain call methods.
+     */
+    public DiscordApiBuilder setEntityCacheEngine(EntityCacheEngine engine) {
+        delegate.setEntityCacheEngine(engine);
+        return this;
+    }
+
+    /**
+     * Gets the engine that is used for Javacord's internal cache of channels, members, users and user presences.
+     *
+     * @return The entity cache engine.
+     * @see #setEntityCacheEngine(EntityCacheEngine)
+     */
+    public EntityCacheEngine getEntityCacheEngine() {
+        return delegate.getEntityCacheEngine();
+    }
+
+    /**
+     * Sets whether Javacord's internal cache should index channels, members and users by their names.
+     *
+     * <p>With name indexes, methods like {@link DiscordApi#getCachedUsersByName(String)} or the methods of a server
+     * which find members or channels by their name are hash lookups instead of scanning all cached members or
+     * channels. The indexes need additional memory for every cached member, so they are disabled by default.
+     *
+     * @param nameIndexesEnabled Whether the name indexes should be enabled or not.
+     * @return The current instance in order to chain call methods.
+     */
+    public DiscordApiBuilder setNameIndexesEnabled(boolean nameIndexesEnabled) {
+        delegate.setNameIndexesEnabled(nameIndexesEnabled);
+        return this;
+    }
+
+    /**
+     * Checks whether Javacord's internal cache should index channels, members and users by their names.
+     *
+     * @return Whether the name indexes are enabled or not.
+     * @see #setNameIndexesEnabled(boolean)
+     */
+    public boolean isNameIndexesEnabled() {
+        return delegate.isNameIndexesEnabled();
+    }
+
+    /**
+     * Sets the amount of partitions that are used to handle gateway events in parallel.
+     *
+     * <p>Gateway events are assigned to a partition by their server id (or channel id for private channels), so
+     * events of the same server are always handled in the order in which they were received, while events of
+     * different servers can be handled in parallel. Events that belong to no server and no channel are always handled
+     * in the same partition.
+     *
+     * <p>By default, only one partition is used, which means that all events are handled by a single thread.
+     *
+     * @param partitionCount The amount of partitions. Must be at least {@code 1}.
+     * @return The current instance in order to chain call methods.
+     * @throws IllegalArgumentException If the partition count is less than {@code 1}.
+     */
+    public DiscordApiBuilder setPacketHandlerPartitionCount(int partitionCount) {
+        delegate.setPacketHandlerPartitionCount(partitionCount);
+        return this;
+    }
+
+    /**
+     * Gets the amount of partitions that are used to handle gateway events in parallel.
+     *
+     * @return The amount of partitions.
+     * @see #setPacketHandlerPartitionCount(int)
+     */
+    public int getPacketHandlerPartitionCount() {
+        return delegate.getPacketHandlerPartitionCount();
+    }
+
+    /**
+     * Sets whether the gateway connection should use the zlib-stream transport compression.
+     *
+     * <p>With transport compression, all payloads of a connection are compressed as one continuous stream instead of
+     * compressing large payloads individually. This noticeably reduces the bandwidth that is used for large payloads
+     * like the ready packet or server creations.
+     *
+     * <p>By default, transport compression is disabled.
+     *
+     * @param transportCompressionEnabled Whether the transport compression should be used.
+     * @return The current instance in order to chain call methods.
+     */
+    public DiscordApiBuilder setTransportCompressionEnabled(boolean transportCompressionEnabled) {
+        delegate.setTransportCompressionEnabled(transportCompressionEnabled);
+        return this;
+    }
+
+    /**
+     * Checks whether the gateway connection should use the zlib-stream transport compression.
+     *
+     * @return Whether the transport compression should be used.
+     * @see #setTransportCompressionEnabled(boolean)
+     */
+    public boolean isTransportCompressionEnabled() {
+        return delegate.isTransportCompressionEnabled();
+    }
+
+    /**
+     * Sets the encoding of the gateway payloads.
+     *
+     * <p>The payloads are decoded into the same structure regardless of the encoding, so the encoding has no effect
+     * on events or entities. By default, {@link GatewayEncoding#JSON} is used.
+     *
+     * @param gatewayEncoding The encoding of the gateway payloads.
+     * @return The current instance in order to chain call methods.
+     */
+    public DiscordApiBuilder setGatewayEncoding(GatewayEncoding gatewayEncoding) {
+        delegate.setGatewayEncoding(gatewayEncoding);
+        return this;
+    }
+
+    /**
+     * Gets the encoding of the gateway payloads.
+     *
+     * @return The encoding of the gateway payloads.
+     * @see #setGatewayEncoding(GatewayEncoding)
+     */
+    public GatewayEncoding getGatewayEncoding() {
+        return delegate.getGatewayEncoding();
+    }
+
+    /**
+     * Sets the strategy which decides on which threads listeners are called.
+     *
+     * <p>Events of the same server are always dispatched sequentially in the order they were received, regardless of
+     * the strategy. By default, {@link EventDispatchStrategy#unboundedPool()} is used.
+     *
+     * @param eventDispatchStrategy The strategy which decides on which threads listeners are called.
+     * @return The current instance in order to chain call methods.
+     */
+    public DiscordApiBuilder setEventDispatchStrategy(EventDispatchStrategy eventDispatchStrategy) {
+        delegate.setEventDispatchStrategy(eventDispatchStrategy);
+        return this;
+    }
+
+    /**
+     * Gets the strategy which decides on which threads listeners are called.
+     *
+     * @return The strategy which decides on which threads listeners are called.
+     * @see #setEventDispatchStrategy(EventDispatchStrategy)
+     */
+    public EventDispatchStrategy getEventDispatchStrategy() {
+        return delegate.getEventDispatchStrategy();
+    }
+
     /**
      * Sets intent for the events which should be received.
      *
@@ -0,0 +1,43 @@
+package org.javacord.api;
+
+/**
+ * This enum contains all encodings that can be used for the payloads of the gateway connection.
+ */
+public enum GatewayEncoding {
+
+    /**
+     * Payloads are sent as json text.
+     *
+     * <p>This encoding is the default.
+     */
+    JSON("json"),
+
+    /**
+     * Payloads are sent in Erlang's external term format.
+     *
+     * <p>This binary encoding is more compact than json and can be decoded without creating an intermediate string,
+     * which reduces the parsing overhead of large payloads like server creations.
+     */
+    ETF("etf");
+
+    private final String name;
+
+    /**
+     * Class constructor.
+     *
+     * @param name The name of the encoding used in the gateway url.
+     */
+    GatewayEncoding(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the name of the encoding used in the gateway url.
+     *
+     * @return The name of the encoding.
+     */
+    public String getName() {
+        return name;
+    }
+
+}
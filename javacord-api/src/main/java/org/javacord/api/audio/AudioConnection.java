@@ -49,6 +49,9 @@ public interface AudioConnection extends AudioConnectionAttachableListenerManage
     /**
      * Sets the audio source, replacing any currently playing source.
      *
+     * <p>The connection polls the frames of the source without waiting for them. The methods of the source which
+     * provide its frames must not block, see {@link AudioSource#getNextFrame()}.
+     *
      * @param source The audio source which will become the source.
      */
     void setAudioSource(AudioSource source);
@@ -122,6 +125,16 @@ public interface AudioConnection extends AudioConnectionAttachableListenerManage
      */
     Set<SpeakingFlag> getSpeakingFlags();
 
+    /**
+     * Gets statistics about the timing of the audio packets sent for this connection.
+     *
+     * <p>The statistics cover the packets sent since the connection to the voice server was established the last
+     * time. They can be used to monitor whether the audio is sent evenly, e.g. on a heavily loaded machine.
+     *
+     * @return The send statistics or an empty optional if the connection to the voice server is not established yet.
+     */
+    Optional<AudioSendStatistics> getSendStatistics();
+
     /**
      * Gets the server of the audio connection.
      *
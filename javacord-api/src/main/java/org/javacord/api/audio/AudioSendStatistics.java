@@ -0,0 +1,45 @@
+package org.javacord.api.audio;
+
+import java.time.Duration;
+
+/**
+ * Statistics about the timing of the audio packets sent for an audio connection.
+ *
+ * <p>Audio packets should be sent every 20ms. The lateness of a packet is the time between the moment it should have
+ * been sent and the moment it was actually sent. The jitter is an estimate of how much the intervals between the
+ * packets deviate from 20ms, calculated like the interarrival jitter of RTP
+ * (see <a href="https://tools.ietf.org/html/rfc3550#appendix-A.8">RFC 3550</a>).
+ *
+ * <p>The statistics are updated while the connection sends audio.
+ */
+public interface AudioSendStatistics {
+
+    /**
+     * Gets the amount of sent packets.
+     *
+     * @return The amount of sent packets.
+     */
+    long getPacketsSent();
+
+    /**
+     * Gets the average time between the moment a packet should have been sent and the moment it was sent.
+     *
+     * @return The average lateness of the packets.
+     */
+    Duration getAverageLateness();
+
+    /**
+     * Gets the highest time between the moment a packet should have been sent and the moment it was sent.
+     *
+     * @return The maximum lateness of the packets.
+     */
+    Duration getMaxLateness();
+
+    /**
+     * Gets the current estimate of the jitter of the intervals between the packets.
+     *
+     * @return The jitter.
+     */
+    Duration getJitter();
+
+}
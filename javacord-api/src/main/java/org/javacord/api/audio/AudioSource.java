@@ -46,6 +46,10 @@ public interface AudioSource extends AudioSourceAttachableListenerManager, Speci
     /**
      * Polls for the next 20ms of audio from the source.
      *
+     * <p>The frames of all audio connections are polled by a few shared threads every 20ms, so this method must not
+     * block, e.g. to wait for audio which is still downloading. A blocking source delays the audio of every other
+     * connection. If no frame is ready yet, {@link #hasNextFrame()} should return {@code false} instead.
+     *
      * @return A byte array containing 20ms of audio, or null if {@link #hasNextFrame()} is false.
      */
     byte[] getNextFrame();
@@ -56,6 +60,8 @@ public interface AudioSource extends AudioSourceAttachableListenerManager, Speci
      * <p>If there is no frame available, but the source has not been finished, it will
      * play a silent sound instead.
      *
+     * <p>This method must not block either, see {@link #getNextFrame()}.
+     *
      * @return Whether or not there is a frame available to be polled.
      */
     boolean hasNextFrame();
@@ -67,6 +73,9 @@ public interface AudioSource extends AudioSourceAttachableListenerManager, Speci
      * frame available right now. An audio source might have no frame available, but is still not
      * finished, e.g. because it's streaming something but downloads it too slowly.
      *
+     * <p>Like {@link #getNextFrame()}, this method is called from the threads which send the audio and must not
+     * block.
+     *
      * @return Whether the audio source has finished and can be dequeued.
      */
     boolean hasFinished();
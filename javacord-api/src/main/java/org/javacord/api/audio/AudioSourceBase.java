@@ -18,6 +18,10 @@ import java.util.Map;
  * The base class of every audio source.
  *
  * <p>It already implements all methods required for listener handling, muting and the {@link #hasFinished()} method.
+ *
+ * <p>Implementations of {@link #getNextFrame()} and {@link #hasNextFrame()} must return right away, as they are
+ * called from the threads which send the audio of all connections. Audio which is loaded slowly should be buffered
+ * in the background.
  */
 public abstract class AudioSourceBase implements AudioSource {
 
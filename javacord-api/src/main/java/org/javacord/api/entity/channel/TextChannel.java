@@ -375,7 +375,8 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
     /**
      * Gets a stream of messages in this channel sorted from newest to oldest.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @return The stream.
@@ -383,6 +384,22 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
      */
     Stream<Message> getMessagesAsStream();
 
+    /**
+     * Gets a stream of messages in this channel sorted from newest to oldest, without caching them.
+     *
+     * <p>Unlike {@link #getMessagesAsStream()}, the messages are neither taken from nor added to the message cache.
+     * This is meant to process a lot of messages once, e.g. to archive a channel, without replacing the cached
+     * messages of the channel.
+     *
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
+     * so consider not using this method from a listener directly.
+     *
+     * @return The stream.
+     * @see #getMessagesAsStream()
+     */
+    Stream<Message> getUncachedMessagesAsStream();
+
     /**
      * Gets up to a given amount of messages in this channel before a given message in any channel.
      *
@@ -459,7 +476,8 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
     /**
      * Gets a stream of messages in this channel before a given message in any channel sorted from newest to oldest.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param before Get messages before the message with this id.
@@ -471,7 +489,8 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
     /**
      * Gets a stream of messages in this channel before a given message in any channel sorted from newest to oldest.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param before Get messages before this message.
@@ -557,7 +576,8 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
     /**
      * Gets a stream of messages in this channel after a given message in any channel sorted from oldest to newest.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param after Get messages after the message with this id.
@@ -569,7 +589,8 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
     /**
      * Gets a stream of messages in this channel after a given message in any channel sorted from oldest to newest.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param after Get messages after this message.
@@ -687,7 +708,8 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
      * messages are available. If only on one side further messages are available, only those are delivered further on.
      * It's not guaranteed to be perfectly balanced.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param around Get messages around the message with this id.
@@ -703,7 +725,8 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
      * messages are available. If only on one side further messages are available, only those are delivered further on.
      * It's not guaranteed to be perfectly balanced.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param around Get messages around this message.
@@ -800,7 +823,8 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
      * Gets all messages in this channel between the first given message in any channel and the second given message in
      * any channel, excluding the boundaries, sorted from first given message to the second given message.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param from The id of the start boundary messages.
@@ -814,7 +838,8 @@ public interface TextChannel extends Channel, Messageable, TextChannelAttachable
      * Gets all messages in this channel between the first given message in any channel and the second given message in
      * any channel, excluding the boundaries, sorted from first given message to the second given message.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param from The start boundary messages.
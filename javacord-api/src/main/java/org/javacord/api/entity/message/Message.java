@@ -1157,7 +1157,8 @@ public interface Message extends DiscordEntity, Comparable<Message>, UpdatableFr
     /**
      * Gets a stream of messages before this message sorted from newest to oldest.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @return The stream.
@@ -1209,7 +1210,8 @@ public interface Message extends DiscordEntity, Comparable<Message>, UpdatableFr
     /**
      * Gets a stream of messages after this message sorted from oldest to newest.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @return The stream.
@@ -1278,7 +1280,8 @@ public interface Message extends DiscordEntity, Comparable<Message>, UpdatableFr
      * messages are available. If only on one side further messages are available, only those are delivered further on.
      * It's not guaranteed to be perfectly balanced.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @return The stream.
@@ -1377,7 +1380,8 @@ public interface Message extends DiscordEntity, Comparable<Message>, UpdatableFr
      * Gets a stream of all messages between this message and the given message, excluding the boundaries, sorted from
      * this message to the given message.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param other The id of the other boundary messages.
@@ -1393,7 +1397,8 @@ public interface Message extends DiscordEntity, Comparable<Message>, UpdatableFr
      * Gets a stream of all messages between this message and the given message, excluding the boundaries, sorted from
      * this message to the given message.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param other The other boundary messages.
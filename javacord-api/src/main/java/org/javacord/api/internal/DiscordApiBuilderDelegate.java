@@ -3,9 +3,12 @@ package org.javacord.api.internal;
 import org.javacord.api.AccountType;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.DiscordApiBuilder;
+import org.javacord.api.GatewayEncoding;
 import org.javacord.api.entity.intent.Intent;
 import org.javacord.api.listener.GloballyAttachableListener;
 import org.javacord.api.util.auth.Authenticator;
+import org.javacord.api.util.cache.EntityCacheEngine;
+import org.javacord.api.util.concurrent.EventDispatchStrategy;
 import org.javacord.api.util.ratelimit.Ratelimiter;
 
 import java.net.Proxy;
@@ -171,6 +174,94 @@ public interface DiscordApiBuilderDelegate {
      */
     boolean isShutdownHookRegistrationEnabled();
 
+    /**
+     * Sets the engine that should be used for the entity cache.
+     *
+     * @param engine The entity cache engine.
+     */
+    void setEntityCacheEngine(EntityCacheEngine engine);
+
+    /**
+     * Gets the engine that is used for the entity cache.
+     *
+     * @return The entity cache engine.
+     * @see #setEntityCacheEngine(EntityCacheEngine)
+     */
+    EntityCacheEngine getEntityCacheEngine();
+
+    /**
+     * Sets whether the entity cache should index channels, members and users by their names.
+     *
+     * @param nameIndexesEnabled Whether the name indexes should be enabled or not.
+     */
+    void setNameIndexesEnabled(boolean nameIndexesEnabled);
+
+    /**
+     * Checks whether the entity cache should index channels, members and users by their names.
+     *
+     * @return Whether the name indexes are enabled or not.
+     * @see #setNameIndexesEnabled(boolean)
+     */
+    boolean isNameIndexesEnabled();
+
+    /**
+     * Sets the amount of partitions that are used to handle gateway events in parallel.
+     *
+     * @param partitionCount The amount of partitions.
+     */
+    void setPacketHandlerPartitionCount(int partitionCount);
+
+    /**
+     * Gets the amount of partitions that are used to handle gateway events in parallel.
+     *
+     * @return The amount of partitions.
+     * @see #setPacketHandlerPartitionCount(int)
+     */
+    int getPacketHandlerPartitionCount();
+
+    /**
+     * Sets whether the gateway connection should use the zlib-stream transport compression.
+     *
+     * @param transportCompressionEnabled Whether the transport compression should be used.
+     */
+    void setTransportCompressionEnabled(boolean transportCompressionEnabled);
+
+    /**
+     * Checks whether the gateway connection should use the zlib-stream transport compression.
+     *
+     * @return Whether the transport compression should be used.
+     * @see #setTransportCompressionEnabled(boolean)
+     */
+    boolean isTransportCompressionEnabled();
+
+    /**
+     * Sets the encoding of the gateway payloads.
+     *
+     * @param gatewayEncoding The encoding of the gateway payloads.
+     */
+    void setGatewayEncoding(GatewayEncoding gatewayEncoding);
+
+    /**
+     * Gets the encoding of the gateway payloads.
+     *
+     * @return The encoding of the gateway payloads.
+     */
+    GatewayEncoding getGatewayEncoding();
+
+    /**
+     * Sets the strategy which decides on which threads listeners are called.
+     *
+     * @param eventDispatchStrategy The strategy which decides on which threads listeners are called.
+     */
+    void setEventDispatchStrategy(EventDispatchStrategy eventDispatchStrategy);
+
+    /**
+     * Gets the strategy which decides on which threads listeners are called.
+     *
+     * @return The strategy which decides on which threads listeners are called.
+     */
+    EventDispatchStrategy getEventDispatchStrategy();
+
     /**
      * Sets the intents where the given predicate matches.
      *
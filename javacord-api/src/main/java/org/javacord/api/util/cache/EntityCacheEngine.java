@@ -0,0 +1,26 @@
+package org.javacord.api.util.cache;
+
+/**
+ * This enum contains all storage engines that can be used for Javacord's internal entity cache.
+ *
+ * <p>The entity cache holds all channels, members, users and user presences.
+ */
+public enum EntityCacheEngine {
+
+    /**
+     * An immutable cache that is replaced as a whole for every modification.
+     *
+     * <p>This engine is the default. Readers always see a consistent snapshot of all entities, but every modification
+     * creates some short-living garbage, which can become noticeable for bots in many large servers.
+     */
+    IMMUTABLE,
+
+    /**
+     * A mutable cache that is backed by concurrent maps and modified in place.
+     *
+     * <p>This engine greatly reduces the amount of garbage created by cache modifications. Collections returned by
+     * the cache are weakly consistent views instead of snapshots.
+     */
+    CONCURRENT
+
+}
@@ -7,7 +7,7 @@ public interface MessageCache {
 
     /**
      * Gets the capacity of the message cache.
-     * Please notice that the cache is cleared only once every minute!
+     * The oldest messages are removed as soon as new messages exceed the capacity.
      *
      * @return The capacity of the message cache.
      */
@@ -16,7 +16,7 @@ public interface MessageCache {
     /**
      * Sets the capacity of the message cache.
      * Messages which are cached forever are not included in this limit.
-     * Please notice that the cache is cleared only once every minute!
+     * The oldest messages are removed as soon as new messages exceed the capacity.
      *
      * @param capacity The capacity of the message cache.
      */
@@ -0,0 +1,153 @@
+package org.javacord.api.util.concurrent;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * The strategy which decides on which threads listeners are called.
+ *
+ * <p>Regardless of the strategy, events with the same dispatch queue (usually events of the same server) are always
+ * dispatched sequentially in the order they were received, while events of different queues are dispatched in
+ * parallel.
+ */
+public final class EventDispatchStrategy {
+
+    /**
+     * The default strategy which calls listeners on the executor service of the {@link ThreadPool}.
+     */
+    private static final EventDispatchStrategy UNBOUNDED_POOL = new EventDispatchStrategy(Type.UNBOUNDED_POOL, 0, null);
+
+    private final Type type;
+    private final int poolSize;
+    private final Executor executor;
+
+    /**
+     * Creates a new event dispatch strategy.
+     *
+     * @param type The type of the strategy.
+     * @param poolSize The amount of threads for a bounded pool.
+     * @param executor The custom executor.
+     */
+    private EventDispatchStrategy(Type type, int poolSize, Executor executor) {
+        this.type = type;
+        this.poolSize = poolSize;
+        this.executor = executor;
+    }
+
+    /**
+     * Gets the default strategy which calls listeners on the executor service of the {@link ThreadPool}.
+     *
+     * <p>This executor service creates as many threads as needed, so blocking listeners never delay other queues,
+     * but a burst of slow listeners can create a lot of threads.
+     *
+     * @return The default strategy.
+     */
+    public static EventDispatchStrategy unboundedPool() {
+        return UNBOUNDED_POOL;
+    }
+
+    /**
+     * Gets a strategy which calls listeners on a pool with a fixed amount of threads.
+     *
+     * <p>If all threads are busy, listener tasks wait until a thread becomes available.
+     *
+     * @param poolSize The amount of threads of the pool.
+     * @return A strategy with a bounded pool.
+     */
+    public static EventDispatchStrategy boundedPool(int poolSize) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("The pool size must be positive!");
+        }
+        return new EventDispatchStrategy(Type.BOUNDED_POOL, poolSize, null);
+    }
+
+    /**
+     * Gets a strategy which calls every listener task on a new virtual thread.
+     *
+     * <p>Virtual threads are only available on Java 21 or newer. On older versions, a bounded pool with the given
+     * amount of threads is used instead.
+     *
+     * @param fallbackPoolSize The amount of threads of the pool which is used if virtual threads are not available.
+     * @return A strategy with virtual threads.
+     */
+    public static EventDispatchStrategy virtualThreads(int fallbackPoolSize) {
+        if (fallbackPoolSize < 1) {
+            throw new IllegalArgumentException("The pool size must be positive!");
+        }
+        return new EventDispatchStrategy(Type.VIRTUAL_THREADS, fallbackPoolSize, null);
+    }
+
+    /**
+     * Gets a strategy which calls listeners on the given executor.
+     *
+     * <p>The executor is not shut down by Javacord.
+     *
+     * @param executor The executor which should be used to call listeners.
+     * @return A strategy with a custom executor.
+     */
+    public static EventDispatchStrategy executor(Executor executor) {
+        return new EventDispatchStrategy(Type.EXECUTOR, 0, Objects.requireNonNull(executor, "executor"));
+    }
+
+    /**
+     * Gets the type of the strategy.
+     *
+     * @return The type of the strategy.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Gets the amount of threads of the pool.
+     *
+     * <p>For {@link Type#VIRTUAL_THREADS} this is the size of the fallback pool.
+     *
+     * @return The amount of threads of the pool or {@code 0} if the strategy does not use a bounded pool.
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Gets the custom executor.
+     *
+     * @return The custom executor if the type is {@link Type#EXECUTOR}.
+     */
+    public Optional<Executor> getExecutor() {
+        return Optional.ofNullable(executor);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EventDispatchStrategy (type: %s, pool size: %d)", type, poolSize);
+    }
+
+    /**
+     * The type of an event dispatch strategy.
+     */
+    public enum Type {
+
+        /**
+         * Listeners are called on the executor service of the {@link ThreadPool}.
+         */
+        UNBOUNDED_POOL,
+
+        /**
+         * Listeners are called on a pool with a fixed amount of threads.
+         */
+        BOUNDED_POOL,
+
+        /**
+         * Listeners are called on virtual threads.
+         */
+        VIRTUAL_THREADS,
+
+        /**
+         * Listeners are called on a custom executor.
+         */
+        EXECUTOR
+    }
+
+}
@@ -0,0 +1,9885 @@
+package org.javacord.core.util.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.Generated;
+import org.javacord.api.audio.AudioConnection;
+import org.javacord.api.audio.AudioSource;
+import org.javacord.api.entity.channel.ChannelCategory;
+import org.javacord.api.entity.channel.GroupChannel;
+import org.javacord.api.entity.channel.PrivateChannel;
+import org.javacord.api.entity.channel.ServerChannel;
+import org.javacord.api.entity.channel.ServerStageVoiceChannel;
+import org.javacord.api.entity.channel.ServerTextChannel;
+import org.javacord.api.entity.channel.ServerVoiceChannel;
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.emoji.KnownCustomEmoji;
+import org.javacord.api.entity.message.Message;
+import org.javacord.api.entity.permission.Role;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.entity.user.User;
+import org.javacord.api.entity.webhook.Webhook;
+import org.javacord.api.event.audio.AudioSourceFinishedEvent;
+import org.javacord.api.event.channel.group.GroupChannelChangeNameEvent;
+import org.javacord.api.event.channel.group.GroupChannelCreateEvent;
+import org.javacord.api.event.channel.group.GroupChannelDeleteEvent;
+import org.javacord.api.event.channel.server.ServerChannelChangeNameEvent;
+import org.javacord.api.event.channel.server.ServerChannelChangeNsfwFlagEvent;
+import org.javacord.api.event.channel.server.ServerChannelChangeOverwrittenPermissionsEvent;
+import org.javacord.api.event.channel.server.ServerChannelChangePositionEvent;
+import org.javacord.api.event.channel.server.ServerChannelCreateEvent;
+import org.javacord.api.event.channel.server.ServerChannelDeleteEvent;
+import org.javacord.api.event.channel.server.invite.ServerChannelInviteCreateEvent;
+import org.javacord.api.event.channel.server.invite.ServerChannelInviteDeleteEvent;
+import org.javacord.api.event.channel.server.text.ServerTextChannelChangeSlowmodeEvent;
+import org.javacord.api.event.channel.server.text.ServerTextChannelChangeTopicEvent;
+import org.javacord.api.event.channel.server.text.WebhooksUpdateEvent;
+import org.javacord.api.event.channel.server.voice.ServerStageVoiceChannelChangeTopicEvent;
+import org.javacord.api.event.channel.server.voice.ServerVoiceChannelChangeBitrateEvent;
+import org.javacord.api.event.channel.server.voice.ServerVoiceChannelChangeUserLimitEvent;
+import org.javacord.api.event.channel.server.voice.ServerVoiceChannelMemberJoinEvent;
+import org.javacord.api.event.channel.server.voice.ServerVoiceChannelMemberLeaveEvent;
+import org.javacord.api.event.channel.user.PrivateChannelCreateEvent;
+import org.javacord.api.event.channel.user.PrivateChannelDeleteEvent;
+import org.javacord.api.event.connection.LostConnectionEvent;
+import org.javacord.api.event.connection.ReconnectEvent;
+import org.javacord.api.event.connection.ResumeEvent;
+import org.javacord.api.event.interaction.ButtonClickEvent;
+import org.javacord.api.event.interaction.InteractionCreateEvent;
+import org.javacord.api.event.interaction.MessageComponentCreateEvent;
+import org.javacord.api.event.interaction.SelectMenuChooseEvent;
+import org.javacord.api.event.interaction.SlashCommandCreateEvent;
+import org.javacord.api.event.message.CachedMessagePinEvent;
+import org.javacord.api.event.message.CachedMessageUnpinEvent;
+import org.javacord.api.event.message.ChannelPinsUpdateEvent;
+import org.javacord.api.event.message.MessageCreateEvent;
+import org.javacord.api.event.message.MessageDeleteEvent;
+import org.javacord.api.event.message.MessageEditEvent;
+import org.javacord.api.event.message.reaction.ReactionAddEvent;
+import org.javacord.api.event.message.reaction.ReactionRemoveAllEvent;
+import org.javacord.api.event.message.reaction.ReactionRemoveEvent;
+import org.javacord.api.event.server.ServerBecomesAvailableEvent;
+import org.javacord.api.event.server.ServerBecomesUnavailableEvent;
+import org.javacord.api.event.server.ServerChangeAfkChannelEvent;
+import org.javacord.api.event.server.ServerChangeAfkTimeoutEvent;
+import org.javacord.api.event.server.ServerChangeBoostCountEvent;
+import org.javacord.api.event.server.ServerChangeBoostLevelEvent;
+import org.javacord.api.event.server.ServerChangeDefaultMessageNotificationLevelEvent;
+import org.javacord.api.event.server.ServerChangeDescriptionEvent;
+import org.javacord.api.event.server.ServerChangeDiscoverySplashEvent;
+import org.javacord.api.event.server.ServerChangeExplicitContentFilterLevelEvent;
+import org.javacord.api.event.server.ServerChangeIconEvent;
+import org.javacord.api.event.server.ServerChangeModeratorsOnlyChannelEvent;
+import org.javacord.api.event.server.ServerChangeMultiFactorAuthenticationLevelEvent;
+import org.javacord.api.event.server.ServerChangeNameEvent;
+import org.javacord.api.event.server.ServerChangeNsfwLevelEvent;
+import org.javacord.api.event.server.ServerChangeOwnerEvent;
+import org.javacord.api.event.server.ServerChangePreferredLocaleEvent;
+import org.javacord.api.event.server.ServerChangeRegionEvent;
+import org.javacord.api.event.server.ServerChangeRulesChannelEvent;
+import org.javacord.api.event.server.ServerChangeServerFeaturesEvent;
+import org.javacord.api.event.server.ServerChangeSplashEvent;
+import org.javacord.api.event.server.ServerChangeSystemChannelEvent;
+import org.javacord.api.event.server.ServerChangeVanityUrlCodeEvent;
+import org.javacord.api.event.server.ServerChangeVerificationLevelEvent;
+import org.javacord.api.event.server.ServerJoinEvent;
+import org.javacord.api.event.server.ServerLeaveEvent;
+import org.javacord.api.event.server.VoiceServerUpdateEvent;
+import org.javacord.api.event.server.VoiceStateUpdateEvent;
+import org.javacord.api.event.server.emoji.KnownCustomEmojiChangeNameEvent;
+import org.javacord.api.event.server.emoji.KnownCustomEmojiChangeWhitelistedRolesEvent;
+import org.javacord.api.event.server.emoji.KnownCustomEmojiCreateEvent;
+import org.javacord.api.event.server.emoji.KnownCustomEmojiDeleteEvent;
+import org.javacord.api.event.server.member.ServerMemberBanEvent;
+import org.javacord.api.event.server.member.ServerMemberJoinEvent;
+import org.javacord.api.event.server.member.ServerMemberLeaveEvent;
+import org.javacord.api.event.server.member.ServerMemberUnbanEvent;
+import org.javacord.api.event.server.role.RoleChangeColorEvent;
+import org.javacord.api.event.server.role.RoleChangeHoistEvent;
+import org.javacord.api.event.server.role.RoleChangeMentionableEvent;
+import org.javacord.api.event.server.role.RoleChangeNameEvent;
+import org.javacord.api.event.server.role.RoleChangePermissionsEvent;
+import org.javacord.api.event.server.role.RoleChangePositionEvent;
+import org.javacord.api.event.server.role.RoleCreateEvent;
+import org.javacord.api.event.server.role.RoleDeleteEvent;
+import org.javacord.api.event.server.role.UserRoleAddEvent;
+import org.javacord.api.event.server.role.UserRoleRemoveEvent;
+import org.javacord.api.event.user.UserChangeActivityEvent;
+import org.javacord.api.event.user.UserChangeAvatarEvent;
+import org.javacord.api.event.user.UserChangeDeafenedEvent;
+import org.javacord.api.event.user.UserChangeDiscriminatorEvent;
+import org.javacord.api.event.user.UserChangeMutedEvent;
+import org.javacord.api.event.user.UserChangeNameEvent;
+import org.javacord.api.event.user.UserChangeNicknameEvent;
+import org.javacord.api.event.user.UserChangePendingEvent;
+import org.javacord.api.event.user.UserChangeSelfDeafenedEvent;
+import org.javacord.api.event.user.UserChangeSelfMutedEvent;
+import org.javacord.api.event.user.UserChangeStatusEvent;
+import org.javacord.api.event.user.UserStartTypingEvent;
+import org.javacord.api.listener.audio.AudioSourceFinishedListener;
+import org.javacord.api.listener.channel.group.GroupChannelChangeNameListener;
+import org.javacord.api.listener.channel.group.GroupChannelCreateListener;
+import org.javacord.api.listener.channel.group.GroupChannelDeleteListener;
+import org.javacord.api.listener.channel.server.ServerChannelChangeNameListener;
+import org.javacord.api.listener.channel.server.ServerChannelChangeNsfwFlagListener;
+import org.javacord.api.listener.channel.server.ServerChannelChangeOverwrittenPermissionsListener;
+import org.javacord.api.listener.channel.server.ServerChannelChangePositionListener;
+import org.javacord.api.listener.channel.server.ServerChannelCreateListener;
+import org.javacord.api.listener.channel.server.ServerChannelDeleteListener;
+import org.javacord.api.listener.channel.server.invite.ServerChannelInviteCreateListener;
+import org.javacord.api.listener.channel.server.invite.ServerChannelInviteDeleteListener;
+import org.javacord.api.listener.channel.server.text.ServerTextChannelChangeSlowmodeListener;
+import org.javacord.api.listener.channel.server.text.ServerTextChannelChangeTopicListener;
+import org.javacord.api.listener.channel.server.text.WebhooksUpdateListener;
+import org.javacord.api.listener.channel.server.voice.ServerStageVoiceChannelChangeTopicListener;
+import org.javacord.api.listener.channel.server.voice.ServerVoiceChannelChangeBitrateListener;
+import org.javacord.api.listener.channel.server.voice.ServerVoiceChannelChangeUserLimitListener;
+import org.javacord.api.listener.channel.server.voice.ServerVoiceChannelMemberJoinListener;
+import org.javacord.api.listener.channel.server.voice.ServerVoiceChannelMemberLeaveListener;
+import org.javacord.api.listener.channel.user.PrivateChannelCreateListener;
+import org.javacord.api.listener.channel.user.PrivateChannelDeleteListener;
+import org.javacord.api.listener.connection.LostConnectionListener;
+import org.javacord.api.listener.connection.ReconnectListener;
+import org.javacord.api.listener.connection.ResumeListener;
+import org.javacord.api.listener.interaction.ButtonClickListener;
+import org.javacord.api.listener.interaction.InteractionCreateListener;
+import org.javacord.api.listener.interaction.MessageComponentCreateListener;
+import org.javacord.api.listener.interaction.SelectMenuChooseListener;
+import org.javacord.api.listener.interaction.SlashCommandCreateListener;
+import org.javacord.api.listener.message.CachedMessagePinListener;
+import org.javacord.api.listener.message.CachedMessageUnpinListener;
+import org.javacord.api.listener.message.ChannelPinsUpdateListener;
+import org.javacord.api.listener.message.MessageAttachableListenerManager;
+import org.javacord.api.listener.message.MessageCreateListener;
+import org.javacord.api.listener.message.MessageDeleteListener;
+import org.javacord.api.listener.message.MessageEditListener;
+import org.javacord.api.listener.message.reaction.ReactionAddListener;
+import org.javacord.api.listener.message.reaction.ReactionRemoveAllListener;
+import org.javacord.api.listener.message.reaction.ReactionRemoveListener;
+import org.javacord.api.listener.server.ServerBecomesAvailableListener;
+import org.javacord.api.listener.server.ServerBecomesUnavailableListener;
+import org.javacord.api.listener.server.ServerChangeAfkChannelListener;
+import org.javacord.api.listener.server.ServerChangeAfkTimeoutListener;
+import org.javacord.api.listener.server.ServerChangeBoostCountListener;
+import org.javacord.api.listener.server.ServerChangeBoostLevelListener;
+import org.javacord.api.listener.server.ServerChangeDefaultMessageNotificationLevelListener;
+import org.javacord.api.listener.server.ServerChangeDescriptionListener;
+import org.javacord.api.listener.server.ServerChangeDiscoverySplashListener;
+import org.javacord.api.listener.server.ServerChangeExplicitContentFilterLevelListener;
+import org.javacord.api.listener.server.ServerChangeIconListener;
+import org.javacord.api.listener.server.ServerChangeModeratorsOnlyChannelListener;
+import org.javacord.api.listener.server.ServerChangeMultiFactorAuthenticationLevelListener;
+import org.javacord.api.listener.server.ServerChangeNameListener;
+import org.javacord.api.listener.server.ServerChangeNsfwLevelListener;
+import org.javacord.api.listener.server.ServerChangeOwnerListener;
+import org.javacord.api.listener.server.ServerChangePreferredLocaleListener;
+import org.javacord.api.listener.server.ServerChangeRegionListener;
+import org.javacord.api.listener.server.ServerChangeRulesChannelListener;
+import org.javacord.api.listener.server.ServerChangeServerFeatureListener;
+import org.javacord.api.listener.server.ServerChangeSplashListener;
+import org.javacord.api.listener.server.ServerChangeSystemChannelListener;
+import org.javacord.api.listener.server.ServerChangeVanityUrlCodeListener;
+import org.javacord.api.listener.server.ServerChangeVerificationLevelListener;
+import org.javacord.api.listener.server.ServerJoinListener;
+import org.javacord.api.listener.server.ServerLeaveListener;
+import org.javacord.api.listener.server.VoiceServerUpdateListener;
+import org.javacord.api.listener.server.VoiceStateUpdateListener;
+import org.javacord.api.listener.server.emoji.KnownCustomEmojiChangeNameListener;
+import org.javacord.api.listener.server.emoji.KnownCustomEmojiChangeWhitelistedRolesListener;
+import org.javacord.api.listener.server.emoji.KnownCustomEmojiCreateListener;
+import org.javacord.api.listener.server.emoji.KnownCustomEmojiDeleteListener;
+import org.javacord.api.listener.server.member.ServerMemberBanListener;
+import org.javacord.api.listener.server.member.ServerMemberJoinListener;
+import org.javacord.api.listener.server.member.ServerMemberLeaveListener;
+import org.javacord.api.listener.server.member.ServerMemberUnbanListener;
+import org.javacord.api.listener.server.role.RoleChangeColorListener;
+import org.javacord.api.listener.server.role.RoleChangeHoistListener;
+import org.javacord.api.listener.server.role.RoleChangeMentionableListener;
+import org.javacord.api.listener.server.role.RoleChangeNameListener;
+import org.javacord.api.listener.server.role.RoleChangePermissionsListener;
+import org.javacord.api.listener.server.role.RoleChangePositionListener;
+import org.javacord.api.listener.server.role.RoleCreateListener;
+import org.javacord.api.listener.server.role.RoleDeleteListener;
+import org.javacord.api.listener.server.role.UserRoleAddListener;
+import org.javacord.api.listener.server.role.UserRoleRemoveListener;
+import org.javacord.api.listener.user.UserChangeActivityListener;
+import org.javacord.api.listener.user.UserChangeAvatarListener;
+import org.javacord.api.listener.user.UserChangeDeafenedListener;
+import org.javacord.api.listener.user.UserChangeDiscriminatorListener;
+import org.javacord.api.listener.user.UserChangeMutedListener;
+import org.javacord.api.listener.user.UserChangeNameListener;
+import org.javacord.api.listener.user.UserChangeNicknameListener;
+import org.javacord.api.listener.user.UserChangePendingListener;
+import org.javacord.api.listener.user.UserChangeSelfDeafenedListener;
+import org.javacord.api.listener.user.UserChangeSelfMutedListener;
+import org.javacord.api.listener.user.UserChangeStatusListener;
+import org.javacord.api.listener.user.UserStartTypingListener;
+import org.javacord.core.DiscordApiImpl;
+import org.javacord.core.util.event.EventDispatcherBase;
+
+/**
+ * This class is used to dispatch events.
+ */
+@Generated("event-dispatcher-generation.gradle")
+public class EventDispatcher extends EventDispatcherBase {
+
+    /**
+     * Creates a new event dispatcher.
+     *
+     * @param api The discord api instance.
+     */
+    public EventDispatcher(DiscordApiImpl api) {
+        super(api);
+    }
+
+    /**
+     * Dispatch an event to {@code AudioSourceFinishedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param audioConnections The {@code AudioConnection}s.
+     * @param audioSources The {@code AudioSource}s.
+     * @param event The event.
+     */
+    public void dispatchAudioSourceFinishedEvent(DispatchQueueSelector queueSelector, Collection<AudioConnection> audioConnections, Collection<AudioSource> audioSources, AudioSourceFinishedEvent event) {
+        List<AudioSourceFinishedListener> listeners = new ArrayList<>();
+        if (audioConnections != null) {
+            audioConnections.stream()
+                            .map(AudioConnection::getAudioSourceFinishedListeners)
+                            .forEach(listeners::addAll);
+        }
+        if (audioSources != null) {
+            audioSources.stream()
+                        .map(AudioSource::getAudioSourceFinishedListeners)
+                        .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getAudioSourceFinishedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onAudioSourceFinished(event));
+    }
+
+    /**
+     * Dispatch an event to {@code AudioSourceFinishedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param audioConnection The {@code AudioConnection}.
+     * @param audioSource The {@code AudioSource}.
+     * @param event The event.
+     */
+    public void dispatchAudioSourceFinishedEvent(DispatchQueueSelector queueSelector, AudioConnection audioConnection, AudioSource audioSource, AudioSourceFinishedEvent event) {
+        List<AudioSourceFinishedListener> listeners = new ArrayList<>();
+        if (audioConnection != null) {
+            listeners.addAll(audioConnection.getAudioSourceFinishedListeners());
+        }
+        if (audioSource != null) {
+            listeners.addAll(audioSource.getAudioSourceFinishedListeners());
+        }
+        listeners.addAll(getApi().getAudioSourceFinishedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onAudioSourceFinished(event));
+    }
+
+    /**
+     * Checks if there are any {@code AudioSourceFinishedListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code AudioSourceFinishedListener}s.
+     */
+    public boolean hasAudioSourceFinishedListeners() {
+        return getApi().hasListeners(AudioSourceFinishedListener.class);
+    }
+
+    /**
+     * Checks if there are {@code AudioSourceFinishedListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param audioConnection The {@code AudioConnection}.
+     * @param audioSource The {@code AudioSource}.
+     * @return Whether there are {@code AudioSourceFinishedListener}s for the given objects.
+     */
+    public boolean hasAudioSourceFinishedListeners(AudioConnection audioConnection, AudioSource audioSource) {
+        return (audioConnection != null && !audioConnection.getAudioSourceFinishedListeners()
+                                                           .isEmpty()) || (audioSource != null && !audioSource.getAudioSourceFinishedListeners()
+                                                                                                              .isEmpty()) || !getApi().getAudioSourceFinishedListeners()
+                                                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code GroupChannelChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param groupChannels The {@code GroupChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchGroupChannelChangeNameEvent(DispatchQueueSelector queueSelector, Collection<GroupChannel> groupChannels, Collection<User> users, GroupChannelChangeNameEvent event) {
+        List<GroupChannelChangeNameListener> listeners = new ArrayList<>();
+        if (groupChannels != null) {
+            groupChannels.stream()
+                         .map(GroupChannel::getGroupChannelChangeNameListeners)
+                         .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getGroupChannelChangeNameListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getGroupChannelChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onGroupChannelChangeName(event));
+    }
+
+    /**
+     * Dispatch an event to {@code GroupChannelChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param groupChannel The {@code GroupChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchGroupChannelChangeNameEvent(DispatchQueueSelector queueSelector, GroupChannel groupChannel, User user, GroupChannelChangeNameEvent event) {
+        List<GroupChannelChangeNameListener> listeners = new ArrayList<>();
+        if (groupChannel != null) {
+            listeners.addAll(groupChannel.getGroupChannelChangeNameListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getGroupChannelChangeNameListeners());
+        }
+        listeners.addAll(getApi().getGroupChannelChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onGroupChannelChangeName(event));
+    }
+
+    /**
+     * Dispatch an event to {@code GroupChannelChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param groupChannel The {@code GroupChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchGroupChannelChangeNameEvent(DispatchQueueSelector queueSelector, GroupChannel groupChannel, long userId, GroupChannelChangeNameEvent event) {
+        List<GroupChannelChangeNameListener> listeners = new ArrayList<>();
+        if (groupChannel != null) {
+            listeners.addAll(groupChannel.getGroupChannelChangeNameListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     GroupChannelChangeNameListener.class));
+        listeners.addAll(getApi().getGroupChannelChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onGroupChannelChangeName(event));
+    }
+
+    /**
+     * Checks if there are any {@code GroupChannelChangeNameListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code GroupChannelChangeNameListener}s.
+     */
+    public boolean hasGroupChannelChangeNameListeners() {
+        return getApi().hasListeners(GroupChannelChangeNameListener.class);
+    }
+
+    /**
+     * Checks if there are {@code GroupChannelChangeNameListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param groupChannel The {@code GroupChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code GroupChannelChangeNameListener}s for the given objects.
+     */
+    public boolean hasGroupChannelChangeNameListeners(GroupChannel groupChannel, User user) {
+        return (groupChannel != null && !groupChannel.getGroupChannelChangeNameListeners()
+                                                     .isEmpty()) || (user != null && !user.getGroupChannelChangeNameListeners()
+                                                                                          .isEmpty()) || !getApi().getGroupChannelChangeNameListeners()
+                                                                                                                  .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code GroupChannelCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchGroupChannelCreateEvent(DispatchQueueSelector queueSelector, Collection<User> users, GroupChannelCreateEvent event) {
+        List<GroupChannelCreateListener> listeners = new ArrayList<>();
+        if (users != null) {
+            users.stream()
+                 .map(User::getGroupChannelCreateListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getGroupChannelCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onGroupChannelCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code GroupChannelCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchGroupChannelCreateEvent(DispatchQueueSelector queueSelector, User user, GroupChannelCreateEvent event) {
+        List<GroupChannelCreateListener> listeners = new ArrayList<>();
+        if (user != null) {
+            listeners.addAll(user.getGroupChannelCreateListeners());
+        }
+        listeners.addAll(getApi().getGroupChannelCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onGroupChannelCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code GroupChannelCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchGroupChannelCreateEvent(DispatchQueueSelector queueSelector, long userId, GroupChannelCreateEvent event) {
+        List<GroupChannelCreateListener> listeners = new ArrayList<>();
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     GroupChannelCreateListener.class));
+        listeners.addAll(getApi().getGroupChannelCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onGroupChannelCreate(event));
+    }
+
+    /**
+     * Checks if there are any {@code GroupChannelCreateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code GroupChannelCreateListener}s.
+     */
+    public boolean hasGroupChannelCreateListeners() {
+        return getApi().hasListeners(GroupChannelCreateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code GroupChannelCreateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param user The {@code User}.
+     * @return Whether there are {@code GroupChannelCreateListener}s for the given objects.
+     */
+    public boolean hasGroupChannelCreateListeners(User user) {
+        return (user != null && !user.getGroupChannelCreateListeners()
+                                     .isEmpty()) || !getApi().getGroupChannelCreateListeners()
+                                                             .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code GroupChannelDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param groupChannels The {@code GroupChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchGroupChannelDeleteEvent(DispatchQueueSelector queueSelector, Collection<GroupChannel> groupChannels, Collection<User> users, GroupChannelDeleteEvent event) {
+        List<GroupChannelDeleteListener> listeners = new ArrayList<>();
+        if (groupChannels != null) {
+            groupChannels.stream()
+                         .map(GroupChannel::getGroupChannelDeleteListeners)
+                         .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getGroupChannelDeleteListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getGroupChannelDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onGroupChannelDelete(event));
+    }
+
+    /**
+     * Dispatch an event to {@code GroupChannelDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param groupChannel The {@code GroupChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchGroupChannelDeleteEvent(DispatchQueueSelector queueSelector, GroupChannel groupChannel, User user, GroupChannelDeleteEvent event) {
+        List<GroupChannelDeleteListener> listeners = new ArrayList<>();
+        if (groupChannel != null) {
+            listeners.addAll(groupChannel.getGroupChannelDeleteListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getGroupChannelDeleteListeners());
+        }
+        listeners.addAll(getApi().getGroupChannelDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onGroupChannelDelete(event));
+    }
+
+    /**
+     * Dispatch an event to {@code GroupChannelDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param groupChannel The {@code GroupChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchGroupChannelDeleteEvent(DispatchQueueSelector queueSelector, GroupChannel groupChannel, long userId, GroupChannelDeleteEvent event) {
+        List<GroupChannelDeleteListener> listeners = new ArrayList<>();
+        if (groupChannel != null) {
+            listeners.addAll(groupChannel.getGroupChannelDeleteListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     GroupChannelDeleteListener.class));
+        listeners.addAll(getApi().getGroupChannelDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onGroupChannelDelete(event));
+    }
+
+    /**
+     * Checks if there are any {@code GroupChannelDeleteListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code GroupChannelDeleteListener}s.
+     */
+    public boolean hasGroupChannelDeleteListeners() {
+        return getApi().hasListeners(GroupChannelDeleteListener.class);
+    }
+
+    /**
+     * Checks if there are {@code GroupChannelDeleteListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param groupChannel The {@code GroupChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code GroupChannelDeleteListener}s for the given objects.
+     */
+    public boolean hasGroupChannelDeleteListeners(GroupChannel groupChannel, User user) {
+        return (groupChannel != null && !groupChannel.getGroupChannelDeleteListeners()
+                                                     .isEmpty()) || (user != null && !user.getGroupChannelDeleteListeners()
+                                                                                          .isEmpty()) || !getApi().getGroupChannelDeleteListeners()
+                                                                                                                  .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param serverChannels The {@code ServerChannel}s.
+     * @param event The event.
+     */
+    public void dispatchServerChannelChangeNameEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<ServerChannel> serverChannels, ServerChannelChangeNameEvent event) {
+        List<ServerChannelChangeNameListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChannelChangeNameListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverChannels != null) {
+            serverChannels.stream()
+                          .map(ServerChannel::getServerChannelChangeNameListeners)
+                          .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChannelChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelChangeName(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverChannel The {@code ServerChannel}.
+     * @param event The event.
+     */
+    public void dispatchServerChannelChangeNameEvent(DispatchQueueSelector queueSelector, Server server, ServerChannel serverChannel, ServerChannelChangeNameEvent event) {
+        List<ServerChannelChangeNameListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChannelChangeNameListeners());
+        }
+        if (serverChannel != null) {
+            listeners.addAll(serverChannel.getServerChannelChangeNameListeners());
+        }
+        listeners.addAll(getApi().getServerChannelChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelChangeName(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChannelChangeNameListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChannelChangeNameListener}s.
+     */
+    public boolean hasServerChannelChangeNameListeners() {
+        return getApi().hasListeners(ServerChannelChangeNameListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChannelChangeNameListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param serverChannel The {@code ServerChannel}.
+     * @return Whether there are {@code ServerChannelChangeNameListener}s for the given objects.
+     */
+    public boolean hasServerChannelChangeNameListeners(Server server, ServerChannel serverChannel) {
+        return (server != null && !server.getServerChannelChangeNameListeners()
+                                         .isEmpty()) || (serverChannel != null && !serverChannel.getServerChannelChangeNameListeners()
+                                                                                                .isEmpty()) || !getApi().getServerChannelChangeNameListeners()
+                                                                                                                        .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelChangeNsfwFlagListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param channelCategorys The {@code ChannelCategory}s.
+     * @param servers The {@code Server}s.
+     * @param serverTextChannels The {@code ServerTextChannel}s.
+     * @param event The event.
+     */
+    public void dispatchServerChannelChangeNsfwFlagEvent(DispatchQueueSelector queueSelector, Collection<ChannelCategory> channelCategorys, Collection<Server> servers, Collection<ServerTextChannel> serverTextChannels, ServerChannelChangeNsfwFlagEvent event) {
+        List<ServerChannelChangeNsfwFlagListener> listeners = new ArrayList<>();
+        if (channelCategorys != null) {
+            channelCategorys.stream()
+                            .map(ChannelCategory::getServerChannelChangeNsfwFlagListeners)
+                            .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChannelChangeNsfwFlagListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverTextChannels != null) {
+            serverTextChannels.stream()
+                              .map(ServerTextChannel::getServerChannelChangeNsfwFlagListeners)
+                              .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChannelChangeNsfwFlagListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelChangeNsfwFlag(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelChangeNsfwFlagListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param channelCategory The {@code ChannelCategory}.
+     * @param server The {@code Server}.
+     * @param serverTextChannel The {@code ServerTextChannel}.
+     * @param event The event.
+     */
+    public void dispatchServerChannelChangeNsfwFlagEvent(DispatchQueueSelector queueSelector, ChannelCategory channelCategory, Server server, ServerTextChannel serverTextChannel, ServerChannelChangeNsfwFlagEvent event) {
+        List<ServerChannelChangeNsfwFlagListener> listeners = new ArrayList<>();
+        if (channelCategory != null) {
+            listeners.addAll(channelCategory.getServerChannelChangeNsfwFlagListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getServerChannelChangeNsfwFlagListeners());
+        }
+        if (serverTextChannel != null) {
+            listeners.addAll(serverTextChannel.getServerChannelChangeNsfwFlagListeners());
+        }
+        listeners.addAll(getApi().getServerChannelChangeNsfwFlagListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelChangeNsfwFlag(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChannelChangeNsfwFlagListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChannelChangeNsfwFlagListener}s.
+     */
+    public boolean hasServerChannelChangeNsfwFlagListeners() {
+        return getApi().hasListeners(ServerChannelChangeNsfwFlagListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChannelChangeNsfwFlagListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param channelCategory The {@code ChannelCategory}.
+     * @param server The {@code Server}.
+     * @param serverTextChannel The {@code ServerTextChannel}.
+     * @return Whether there are {@code ServerChannelChangeNsfwFlagListener}s for the given objects.
+     */
+    public boolean hasServerChannelChangeNsfwFlagListeners(ChannelCategory channelCategory, Server server, ServerTextChannel serverTextChannel) {
+        return (channelCategory != null && !channelCategory.getServerChannelChangeNsfwFlagListeners()
+                                                           .isEmpty()) || (server != null && !server.getServerChannelChangeNsfwFlagListeners()
+                                                                                                    .isEmpty()) || (serverTextChannel != null && !serverTextChannel.getServerChannelChangeNsfwFlagListeners()
+                                                                                                                                                                   .isEmpty()) || !getApi().getServerChannelChangeNsfwFlagListeners()
+                                                                                                                                                                                           .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelChangeOverwrittenPermissionsListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param roles The {@code Role}s.
+     * @param servers The {@code Server}s.
+     * @param serverChannels The {@code ServerChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchServerChannelChangeOverwrittenPermissionsEvent(DispatchQueueSelector queueSelector, Collection<Role> roles, Collection<Server> servers, Collection<ServerChannel> serverChannels, Collection<User> users, ServerChannelChangeOverwrittenPermissionsEvent event) {
+        List<ServerChannelChangeOverwrittenPermissionsListener> listeners = new ArrayList<>();
+        if (roles != null) {
+            roles.stream()
+                 .map(Role::getServerChannelChangeOverwrittenPermissionsListeners)
+                 .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChannelChangeOverwrittenPermissionsListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverChannels != null) {
+            serverChannels.stream()
+                          .map(ServerChannel::getServerChannelChangeOverwrittenPermissionsListeners)
+                          .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getServerChannelChangeOverwrittenPermissionsListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChannelChangeOverwrittenPermissionsListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelChangeOverwrittenPermissions(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelChangeOverwrittenPermissionsListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param serverChannel The {@code ServerChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchServerChannelChangeOverwrittenPermissionsEvent(DispatchQueueSelector queueSelector, Role role, Server server, ServerChannel serverChannel, User user, ServerChannelChangeOverwrittenPermissionsEvent event) {
+        List<ServerChannelChangeOverwrittenPermissionsListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getServerChannelChangeOverwrittenPermissionsListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getServerChannelChangeOverwrittenPermissionsListeners());
+        }
+        if (serverChannel != null) {
+            listeners.addAll(serverChannel.getServerChannelChangeOverwrittenPermissionsListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getServerChannelChangeOverwrittenPermissionsListeners());
+        }
+        listeners.addAll(getApi().getServerChannelChangeOverwrittenPermissionsListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelChangeOverwrittenPermissions(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelChangeOverwrittenPermissionsListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param serverChannel The {@code ServerChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchServerChannelChangeOverwrittenPermissionsEvent(DispatchQueueSelector queueSelector, Role role, Server server, ServerChannel serverChannel, long userId, ServerChannelChangeOverwrittenPermissionsEvent event) {
+        List<ServerChannelChangeOverwrittenPermissionsListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getServerChannelChangeOverwrittenPermissionsListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getServerChannelChangeOverwrittenPermissionsListeners());
+        }
+        if (serverChannel != null) {
+            listeners.addAll(serverChannel.getServerChannelChangeOverwrittenPermissionsListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     ServerChannelChangeOverwrittenPermissionsListener.class));
+        listeners.addAll(getApi().getServerChannelChangeOverwrittenPermissionsListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelChangeOverwrittenPermissions(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChannelChangeOverwrittenPermissionsListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChannelChangeOverwrittenPermissionsListener}s.
+     */
+    public boolean hasServerChannelChangeOverwrittenPermissionsListeners() {
+        return getApi().hasListeners(ServerChannelChangeOverwrittenPermissionsListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChannelChangeOverwrittenPermissionsListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param serverChannel The {@code ServerChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code ServerChannelChangeOverwrittenPermissionsListener}s for the given objects.
+     */
+    public boolean hasServerChannelChangeOverwrittenPermissionsListeners(Role role, Server server, ServerChannel serverChannel, User user) {
+        return (role != null && !role.getServerChannelChangeOverwrittenPermissionsListeners()
+                                     .isEmpty()) || (server != null && !server.getServerChannelChangeOverwrittenPermissionsListeners()
+                                                                              .isEmpty()) || (serverChannel != null && !serverChannel.getServerChannelChangeOverwrittenPermissionsListeners()
+                                                                                                                                     .isEmpty()) || (user != null && !user.getServerChannelChangeOverwrittenPermissionsListeners()
+                                                                                                                                                                          .isEmpty()) || !getApi().getServerChannelChangeOverwrittenPermissionsListeners()
+                                                                                                                                                                                                  .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelChangePositionListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param serverChannels The {@code ServerChannel}s.
+     * @param event The event.
+     */
+    public void dispatchServerChannelChangePositionEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<ServerChannel> serverChannels, ServerChannelChangePositionEvent event) {
+        List<ServerChannelChangePositionListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChannelChangePositionListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverChannels != null) {
+            serverChannels.stream()
+                          .map(ServerChannel::getServerChannelChangePositionListeners)
+                          .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChannelChangePositionListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelChangePosition(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelChangePositionListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverChannel The {@code ServerChannel}.
+     * @param event The event.
+     */
+    public void dispatchServerChannelChangePositionEvent(DispatchQueueSelector queueSelector, Server server, ServerChannel serverChannel, ServerChannelChangePositionEvent event) {
+        List<ServerChannelChangePositionListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChannelChangePositionListeners());
+        }
+        if (serverChannel != null) {
+            listeners.addAll(serverChannel.getServerChannelChangePositionListeners());
+        }
+        listeners.addAll(getApi().getServerChannelChangePositionListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelChangePosition(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChannelChangePositionListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChannelChangePositionListener}s.
+     */
+    public boolean hasServerChannelChangePositionListeners() {
+        return getApi().hasListeners(ServerChannelChangePositionListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChannelChangePositionListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param serverChannel The {@code ServerChannel}.
+     * @return Whether there are {@code ServerChannelChangePositionListener}s for the given objects.
+     */
+    public boolean hasServerChannelChangePositionListeners(Server server, ServerChannel serverChannel) {
+        return (server != null && !server.getServerChannelChangePositionListeners()
+                                         .isEmpty()) || (serverChannel != null && !serverChannel.getServerChannelChangePositionListeners()
+                                                                                                .isEmpty()) || !getApi().getServerChannelChangePositionListeners()
+                                                                                                                        .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChannelCreateEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChannelCreateEvent event) {
+        List<ServerChannelCreateListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChannelCreateListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChannelCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChannelCreateEvent(DispatchQueueSelector queueSelector, Server server, ServerChannelCreateEvent event) {
+        List<ServerChannelCreateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChannelCreateListeners());
+        }
+        listeners.addAll(getApi().getServerChannelCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelCreate(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChannelCreateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChannelCreateListener}s.
+     */
+    public boolean hasServerChannelCreateListeners() {
+        return getApi().hasListeners(ServerChannelCreateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChannelCreateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChannelCreateListener}s for the given objects.
+     */
+    public boolean hasServerChannelCreateListeners(Server server) {
+        return (server != null && !server.getServerChannelCreateListeners()
+                                         .isEmpty()) || !getApi().getServerChannelCreateListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param serverChannels The {@code ServerChannel}s.
+     * @param event The event.
+     */
+    public void dispatchServerChannelDeleteEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<ServerChannel> serverChannels, ServerChannelDeleteEvent event) {
+        List<ServerChannelDeleteListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChannelDeleteListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverChannels != null) {
+            serverChannels.stream()
+                          .map(ServerChannel::getServerChannelDeleteListeners)
+                          .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChannelDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelDelete(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverChannel The {@code ServerChannel}.
+     * @param event The event.
+     */
+    public void dispatchServerChannelDeleteEvent(DispatchQueueSelector queueSelector, Server server, ServerChannel serverChannel, ServerChannelDeleteEvent event) {
+        List<ServerChannelDeleteListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChannelDeleteListeners());
+        }
+        if (serverChannel != null) {
+            listeners.addAll(serverChannel.getServerChannelDeleteListeners());
+        }
+        listeners.addAll(getApi().getServerChannelDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelDelete(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChannelDeleteListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChannelDeleteListener}s.
+     */
+    public boolean hasServerChannelDeleteListeners() {
+        return getApi().hasListeners(ServerChannelDeleteListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChannelDeleteListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param serverChannel The {@code ServerChannel}.
+     * @return Whether there are {@code ServerChannelDeleteListener}s for the given objects.
+     */
+    public boolean hasServerChannelDeleteListeners(Server server, ServerChannel serverChannel) {
+        return (server != null && !server.getServerChannelDeleteListeners()
+                                         .isEmpty()) || (serverChannel != null && !serverChannel.getServerChannelDeleteListeners()
+                                                                                                .isEmpty()) || !getApi().getServerChannelDeleteListeners()
+                                                                                                                        .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelInviteCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChannelInviteCreateEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChannelInviteCreateEvent event) {
+        List<ServerChannelInviteCreateListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChannelInviteCreateListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChannelInviteCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelInviteCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelInviteCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChannelInviteCreateEvent(DispatchQueueSelector queueSelector, Server server, ServerChannelInviteCreateEvent event) {
+        List<ServerChannelInviteCreateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChannelInviteCreateListeners());
+        }
+        listeners.addAll(getApi().getServerChannelInviteCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelInviteCreate(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChannelInviteCreateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChannelInviteCreateListener}s.
+     */
+    public boolean hasServerChannelInviteCreateListeners() {
+        return getApi().hasListeners(ServerChannelInviteCreateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChannelInviteCreateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChannelInviteCreateListener}s for the given objects.
+     */
+    public boolean hasServerChannelInviteCreateListeners(Server server) {
+        return (server != null && !server.getServerChannelInviteCreateListeners()
+                                         .isEmpty()) || !getApi().getServerChannelInviteCreateListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelInviteDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChannelInviteDeleteEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChannelInviteDeleteEvent event) {
+        List<ServerChannelInviteDeleteListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChannelInviteDeleteListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChannelInviteDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelInviteDelete(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChannelInviteDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChannelInviteDeleteEvent(DispatchQueueSelector queueSelector, Server server, ServerChannelInviteDeleteEvent event) {
+        List<ServerChannelInviteDeleteListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChannelInviteDeleteListeners());
+        }
+        listeners.addAll(getApi().getServerChannelInviteDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChannelInviteDelete(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChannelInviteDeleteListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChannelInviteDeleteListener}s.
+     */
+    public boolean hasServerChannelInviteDeleteListeners() {
+        return getApi().hasListeners(ServerChannelInviteDeleteListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChannelInviteDeleteListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChannelInviteDeleteListener}s for the given objects.
+     */
+    public boolean hasServerChannelInviteDeleteListeners(Server server) {
+        return (server != null && !server.getServerChannelInviteDeleteListeners()
+                                         .isEmpty()) || !getApi().getServerChannelInviteDeleteListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerTextChannelChangeSlowmodeListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param serverTextChannels The {@code ServerTextChannel}s.
+     * @param event The event.
+     */
+    public void dispatchServerTextChannelChangeSlowmodeEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<ServerTextChannel> serverTextChannels, ServerTextChannelChangeSlowmodeEvent event) {
+        List<ServerTextChannelChangeSlowmodeListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerTextChannelChangeSlowmodeListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverTextChannels != null) {
+            serverTextChannels.stream()
+                              .map(ServerTextChannel::getServerTextChannelChangeSlowmodeListeners)
+                              .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerTextChannelChangeSlowmodeListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerTextChannelChangeSlowmodeDelay(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerTextChannelChangeSlowmodeListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverTextChannel The {@code ServerTextChannel}.
+     * @param event The event.
+     */
+    public void dispatchServerTextChannelChangeSlowmodeEvent(DispatchQueueSelector queueSelector, Server server, ServerTextChannel serverTextChannel, ServerTextChannelChangeSlowmodeEvent event) {
+        List<ServerTextChannelChangeSlowmodeListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerTextChannelChangeSlowmodeListeners());
+        }
+        if (serverTextChannel != null) {
+            listeners.addAll(serverTextChannel.getServerTextChannelChangeSlowmodeListeners());
+        }
+        listeners.addAll(getApi().getServerTextChannelChangeSlowmodeListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerTextChannelChangeSlowmodeDelay(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerTextChannelChangeSlowmodeListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerTextChannelChangeSlowmodeListener}s.
+     */
+    public boolean hasServerTextChannelChangeSlowmodeListeners() {
+        return getApi().hasListeners(ServerTextChannelChangeSlowmodeListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerTextChannelChangeSlowmodeListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param serverTextChannel The {@code ServerTextChannel}.
+     * @return Whether there are {@code ServerTextChannelChangeSlowmodeListener}s for the given objects.
+     */
+    public boolean hasServerTextChannelChangeSlowmodeListeners(Server server, ServerTextChannel serverTextChannel) {
+        return (server != null && !server.getServerTextChannelChangeSlowmodeListeners()
+                                         .isEmpty()) || (serverTextChannel != null && !serverTextChannel.getServerTextChannelChangeSlowmodeListeners()
+                                                                                                        .isEmpty()) || !getApi().getServerTextChannelChangeSlowmodeListeners()
+                                                                                                                                .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerTextChannelChangeTopicListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param serverTextChannels The {@code ServerTextChannel}s.
+     * @param event The event.
+     */
+    public void dispatchServerTextChannelChangeTopicEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<ServerTextChannel> serverTextChannels, ServerTextChannelChangeTopicEvent event) {
+        List<ServerTextChannelChangeTopicListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerTextChannelChangeTopicListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverTextChannels != null) {
+            serverTextChannels.stream()
+                              .map(ServerTextChannel::getServerTextChannelChangeTopicListeners)
+                              .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerTextChannelChangeTopicListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerTextChannelChangeTopic(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerTextChannelChangeTopicListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverTextChannel The {@code ServerTextChannel}.
+     * @param event The event.
+     */
+    public void dispatchServerTextChannelChangeTopicEvent(DispatchQueueSelector queueSelector, Server server, ServerTextChannel serverTextChannel, ServerTextChannelChangeTopicEvent event) {
+        List<ServerTextChannelChangeTopicListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerTextChannelChangeTopicListeners());
+        }
+        if (serverTextChannel != null) {
+            listeners.addAll(serverTextChannel.getServerTextChannelChangeTopicListeners());
+        }
+        listeners.addAll(getApi().getServerTextChannelChangeTopicListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerTextChannelChangeTopic(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerTextChannelChangeTopicListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerTextChannelChangeTopicListener}s.
+     */
+    public boolean hasServerTextChannelChangeTopicListeners() {
+        return getApi().hasListeners(ServerTextChannelChangeTopicListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerTextChannelChangeTopicListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param serverTextChannel The {@code ServerTextChannel}.
+     * @return Whether there are {@code ServerTextChannelChangeTopicListener}s for the given objects.
+     */
+    public boolean hasServerTextChannelChangeTopicListeners(Server server, ServerTextChannel serverTextChannel) {
+        return (server != null && !server.getServerTextChannelChangeTopicListeners()
+                                         .isEmpty()) || (serverTextChannel != null && !serverTextChannel.getServerTextChannelChangeTopicListeners()
+                                                                                                        .isEmpty()) || !getApi().getServerTextChannelChangeTopicListeners()
+                                                                                                                                .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code WebhooksUpdateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param serverTextChannels The {@code ServerTextChannel}s.
+     * @param event The event.
+     */
+    public void dispatchWebhooksUpdateEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<ServerTextChannel> serverTextChannels, WebhooksUpdateEvent event) {
+        List<WebhooksUpdateListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getWebhooksUpdateListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverTextChannels != null) {
+            serverTextChannels.stream()
+                              .map(ServerTextChannel::getWebhooksUpdateListeners)
+                              .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getWebhooksUpdateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onWebhooksUpdate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code WebhooksUpdateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverTextChannel The {@code ServerTextChannel}.
+     * @param event The event.
+     */
+    public void dispatchWebhooksUpdateEvent(DispatchQueueSelector queueSelector, Server server, ServerTextChannel serverTextChannel, WebhooksUpdateEvent event) {
+        List<WebhooksUpdateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getWebhooksUpdateListeners());
+        }
+        if (serverTextChannel != null) {
+            listeners.addAll(serverTextChannel.getWebhooksUpdateListeners());
+        }
+        listeners.addAll(getApi().getWebhooksUpdateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onWebhooksUpdate(event));
+    }
+
+    /**
+     * Checks if there are any {@code WebhooksUpdateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code WebhooksUpdateListener}s.
+     */
+    public boolean hasWebhooksUpdateListeners() {
+        return getApi().hasListeners(WebhooksUpdateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code WebhooksUpdateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param serverTextChannel The {@code ServerTextChannel}.
+     * @return Whether there are {@code WebhooksUpdateListener}s for the given objects.
+     */
+    public boolean hasWebhooksUpdateListeners(Server server, ServerTextChannel serverTextChannel) {
+        return (server != null && !server.getWebhooksUpdateListeners()
+                                         .isEmpty()) || (serverTextChannel != null && !serverTextChannel.getWebhooksUpdateListeners()
+                                                                                                        .isEmpty()) || !getApi().getWebhooksUpdateListeners()
+                                                                                                                                .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerStageVoiceChannelChangeTopicListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param serverStageVoiceChannels The {@code ServerStageVoiceChannel}s.
+     * @param event The event.
+     */
+    public void dispatchServerStageVoiceChannelChangeTopicEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<ServerStageVoiceChannel> serverStageVoiceChannels, ServerStageVoiceChannelChangeTopicEvent event) {
+        List<ServerStageVoiceChannelChangeTopicListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerStageVoiceChannelChangeTopicListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverStageVoiceChannels != null) {
+            serverStageVoiceChannels.stream()
+                                    .map(ServerStageVoiceChannel::getServerStageVoiceChannelChangeTopicListeners)
+                                    .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerStageVoiceChannelChangeTopicListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerStageVoiceChannelChangeTopic(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerStageVoiceChannelChangeTopicListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverStageVoiceChannel The {@code ServerStageVoiceChannel}.
+     * @param event The event.
+     */
+    public void dispatchServerStageVoiceChannelChangeTopicEvent(DispatchQueueSelector queueSelector, Server server, ServerStageVoiceChannel serverStageVoiceChannel, ServerStageVoiceChannelChangeTopicEvent event) {
+        List<ServerStageVoiceChannelChangeTopicListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerStageVoiceChannelChangeTopicListeners());
+        }
+        if (serverStageVoiceChannel != null) {
+            listeners.addAll(serverStageVoiceChannel.getServerStageVoiceChannelChangeTopicListeners());
+        }
+        listeners.addAll(getApi().getServerStageVoiceChannelChangeTopicListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerStageVoiceChannelChangeTopic(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerStageVoiceChannelChangeTopicListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerStageVoiceChannelChangeTopicListener}s.
+     */
+    public boolean hasServerStageVoiceChannelChangeTopicListeners() {
+        return getApi().hasListeners(ServerStageVoiceChannelChangeTopicListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerStageVoiceChannelChangeTopicListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param serverStageVoiceChannel The {@code ServerStageVoiceChannel}.
+     * @return Whether there are {@code ServerStageVoiceChannelChangeTopicListener}s for the given objects.
+     */
+    public boolean hasServerStageVoiceChannelChangeTopicListeners(Server server, ServerStageVoiceChannel serverStageVoiceChannel) {
+        return (server != null && !server.getServerStageVoiceChannelChangeTopicListeners()
+                                         .isEmpty()) || (serverStageVoiceChannel != null && !serverStageVoiceChannel.getServerStageVoiceChannelChangeTopicListeners()
+                                                                                                                    .isEmpty()) || !getApi().getServerStageVoiceChannelChangeTopicListeners()
+                                                                                                                                            .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerVoiceChannelChangeBitrateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param serverVoiceChannels The {@code ServerVoiceChannel}s.
+     * @param event The event.
+     */
+    public void dispatchServerVoiceChannelChangeBitrateEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<ServerVoiceChannel> serverVoiceChannels, ServerVoiceChannelChangeBitrateEvent event) {
+        List<ServerVoiceChannelChangeBitrateListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerVoiceChannelChangeBitrateListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverVoiceChannels != null) {
+            serverVoiceChannels.stream()
+                               .map(ServerVoiceChannel::getServerVoiceChannelChangeBitrateListeners)
+                               .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerVoiceChannelChangeBitrateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerVoiceChannelChangeBitrate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerVoiceChannelChangeBitrateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverVoiceChannel The {@code ServerVoiceChannel}.
+     * @param event The event.
+     */
+    public void dispatchServerVoiceChannelChangeBitrateEvent(DispatchQueueSelector queueSelector, Server server, ServerVoiceChannel serverVoiceChannel, ServerVoiceChannelChangeBitrateEvent event) {
+        List<ServerVoiceChannelChangeBitrateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerVoiceChannelChangeBitrateListeners());
+        }
+        if (serverVoiceChannel != null) {
+            listeners.addAll(serverVoiceChannel.getServerVoiceChannelChangeBitrateListeners());
+        }
+        listeners.addAll(getApi().getServerVoiceChannelChangeBitrateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerVoiceChannelChangeBitrate(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerVoiceChannelChangeBitrateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerVoiceChannelChangeBitrateListener}s.
+     */
+    public boolean hasServerVoiceChannelChangeBitrateListeners() {
+        return getApi().hasListeners(ServerVoiceChannelChangeBitrateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerVoiceChannelChangeBitrateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param serverVoiceChannel The {@code ServerVoiceChannel}.
+     * @return Whether there are {@code ServerVoiceChannelChangeBitrateListener}s for the given objects.
+     */
+    public boolean hasServerVoiceChannelChangeBitrateListeners(Server server, ServerVoiceChannel serverVoiceChannel) {
+        return (server != null && !server.getServerVoiceChannelChangeBitrateListeners()
+                                         .isEmpty()) || (serverVoiceChannel != null && !serverVoiceChannel.getServerVoiceChannelChangeBitrateListeners()
+                                                                                                          .isEmpty()) || !getApi().getServerVoiceChannelChangeBitrateListeners()
+                                                                                                                                  .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerVoiceChannelChangeUserLimitListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param serverVoiceChannels The {@code ServerVoiceChannel}s.
+     * @param event The event.
+     */
+    public void dispatchServerVoiceChannelChangeUserLimitEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<ServerVoiceChannel> serverVoiceChannels, ServerVoiceChannelChangeUserLimitEvent event) {
+        List<ServerVoiceChannelChangeUserLimitListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerVoiceChannelChangeUserLimitListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverVoiceChannels != null) {
+            serverVoiceChannels.stream()
+                               .map(ServerVoiceChannel::getServerVoiceChannelChangeUserLimitListeners)
+                               .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerVoiceChannelChangeUserLimitListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerVoiceChannelChangeUserLimit(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerVoiceChannelChangeUserLimitListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverVoiceChannel The {@code ServerVoiceChannel}.
+     * @param event The event.
+     */
+    public void dispatchServerVoiceChannelChangeUserLimitEvent(DispatchQueueSelector queueSelector, Server server, ServerVoiceChannel serverVoiceChannel, ServerVoiceChannelChangeUserLimitEvent event) {
+        List<ServerVoiceChannelChangeUserLimitListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerVoiceChannelChangeUserLimitListeners());
+        }
+        if (serverVoiceChannel != null) {
+            listeners.addAll(serverVoiceChannel.getServerVoiceChannelChangeUserLimitListeners());
+        }
+        listeners.addAll(getApi().getServerVoiceChannelChangeUserLimitListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerVoiceChannelChangeUserLimit(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerVoiceChannelChangeUserLimitListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerVoiceChannelChangeUserLimitListener}s.
+     */
+    public boolean hasServerVoiceChannelChangeUserLimitListeners() {
+        return getApi().hasListeners(ServerVoiceChannelChangeUserLimitListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerVoiceChannelChangeUserLimitListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param serverVoiceChannel The {@code ServerVoiceChannel}.
+     * @return Whether there are {@code ServerVoiceChannelChangeUserLimitListener}s for the given objects.
+     */
+    public boolean hasServerVoiceChannelChangeUserLimitListeners(Server server, ServerVoiceChannel serverVoiceChannel) {
+        return (server != null && !server.getServerVoiceChannelChangeUserLimitListeners()
+                                         .isEmpty()) || (serverVoiceChannel != null && !serverVoiceChannel.getServerVoiceChannelChangeUserLimitListeners()
+                                                                                                          .isEmpty()) || !getApi().getServerVoiceChannelChangeUserLimitListeners()
+                                                                                                                                  .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerVoiceChannelMemberJoinListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param serverVoiceChannels The {@code ServerVoiceChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchServerVoiceChannelMemberJoinEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<ServerVoiceChannel> serverVoiceChannels, Collection<User> users, ServerVoiceChannelMemberJoinEvent event) {
+        List<ServerVoiceChannelMemberJoinListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerVoiceChannelMemberJoinListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverVoiceChannels != null) {
+            serverVoiceChannels.stream()
+                               .map(ServerVoiceChannel::getServerVoiceChannelMemberJoinListeners)
+                               .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getServerVoiceChannelMemberJoinListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerVoiceChannelMemberJoinListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerVoiceChannelMemberJoin(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerVoiceChannelMemberJoinListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverVoiceChannel The {@code ServerVoiceChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchServerVoiceChannelMemberJoinEvent(DispatchQueueSelector queueSelector, Server server, ServerVoiceChannel serverVoiceChannel, User user, ServerVoiceChannelMemberJoinEvent event) {
+        List<ServerVoiceChannelMemberJoinListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerVoiceChannelMemberJoinListeners());
+        }
+        if (serverVoiceChannel != null) {
+            listeners.addAll(serverVoiceChannel.getServerVoiceChannelMemberJoinListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getServerVoiceChannelMemberJoinListeners());
+        }
+        listeners.addAll(getApi().getServerVoiceChannelMemberJoinListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerVoiceChannelMemberJoin(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerVoiceChannelMemberJoinListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverVoiceChannel The {@code ServerVoiceChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchServerVoiceChannelMemberJoinEvent(DispatchQueueSelector queueSelector, Server server, ServerVoiceChannel serverVoiceChannel, long userId, ServerVoiceChannelMemberJoinEvent event) {
+        List<ServerVoiceChannelMemberJoinListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerVoiceChannelMemberJoinListeners());
+        }
+        if (serverVoiceChannel != null) {
+            listeners.addAll(serverVoiceChannel.getServerVoiceChannelMemberJoinListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     ServerVoiceChannelMemberJoinListener.class));
+        listeners.addAll(getApi().getServerVoiceChannelMemberJoinListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerVoiceChannelMemberJoin(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerVoiceChannelMemberJoinListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerVoiceChannelMemberJoinListener}s.
+     */
+    public boolean hasServerVoiceChannelMemberJoinListeners() {
+        return getApi().hasListeners(ServerVoiceChannelMemberJoinListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerVoiceChannelMemberJoinListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param serverVoiceChannel The {@code ServerVoiceChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code ServerVoiceChannelMemberJoinListener}s for the given objects.
+     */
+    public boolean hasServerVoiceChannelMemberJoinListeners(Server server, ServerVoiceChannel serverVoiceChannel, User user) {
+        return (server != null && !server.getServerVoiceChannelMemberJoinListeners()
+                                         .isEmpty()) || (serverVoiceChannel != null && !serverVoiceChannel.getServerVoiceChannelMemberJoinListeners()
+                                                                                                          .isEmpty()) || (user != null && !user.getServerVoiceChannelMemberJoinListeners()
+                                                                                                                                               .isEmpty()) || !getApi().getServerVoiceChannelMemberJoinListeners()
+                                                                                                                                                                       .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerVoiceChannelMemberLeaveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param serverVoiceChannels The {@code ServerVoiceChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchServerVoiceChannelMemberLeaveEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<ServerVoiceChannel> serverVoiceChannels, Collection<User> users, ServerVoiceChannelMemberLeaveEvent event) {
+        List<ServerVoiceChannelMemberLeaveListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerVoiceChannelMemberLeaveListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (serverVoiceChannels != null) {
+            serverVoiceChannels.stream()
+                               .map(ServerVoiceChannel::getServerVoiceChannelMemberLeaveListeners)
+                               .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getServerVoiceChannelMemberLeaveListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerVoiceChannelMemberLeaveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerVoiceChannelMemberLeave(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerVoiceChannelMemberLeaveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverVoiceChannel The {@code ServerVoiceChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchServerVoiceChannelMemberLeaveEvent(DispatchQueueSelector queueSelector, Server server, ServerVoiceChannel serverVoiceChannel, User user, ServerVoiceChannelMemberLeaveEvent event) {
+        List<ServerVoiceChannelMemberLeaveListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerVoiceChannelMemberLeaveListeners());
+        }
+        if (serverVoiceChannel != null) {
+            listeners.addAll(serverVoiceChannel.getServerVoiceChannelMemberLeaveListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getServerVoiceChannelMemberLeaveListeners());
+        }
+        listeners.addAll(getApi().getServerVoiceChannelMemberLeaveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerVoiceChannelMemberLeave(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerVoiceChannelMemberLeaveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param serverVoiceChannel The {@code ServerVoiceChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchServerVoiceChannelMemberLeaveEvent(DispatchQueueSelector queueSelector, Server server, ServerVoiceChannel serverVoiceChannel, long userId, ServerVoiceChannelMemberLeaveEvent event) {
+        List<ServerVoiceChannelMemberLeaveListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerVoiceChannelMemberLeaveListeners());
+        }
+        if (serverVoiceChannel != null) {
+            listeners.addAll(serverVoiceChannel.getServerVoiceChannelMemberLeaveListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     ServerVoiceChannelMemberLeaveListener.class));
+        listeners.addAll(getApi().getServerVoiceChannelMemberLeaveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerVoiceChannelMemberLeave(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerVoiceChannelMemberLeaveListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerVoiceChannelMemberLeaveListener}s.
+     */
+    public boolean hasServerVoiceChannelMemberLeaveListeners() {
+        return getApi().hasListeners(ServerVoiceChannelMemberLeaveListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerVoiceChannelMemberLeaveListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param serverVoiceChannel The {@code ServerVoiceChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code ServerVoiceChannelMemberLeaveListener}s for the given objects.
+     */
+    public boolean hasServerVoiceChannelMemberLeaveListeners(Server server, ServerVoiceChannel serverVoiceChannel, User user) {
+        return (server != null && !server.getServerVoiceChannelMemberLeaveListeners()
+                                         .isEmpty()) || (serverVoiceChannel != null && !serverVoiceChannel.getServerVoiceChannelMemberLeaveListeners()
+                                                                                                          .isEmpty()) || (user != null && !user.getServerVoiceChannelMemberLeaveListeners()
+                                                                                                                                               .isEmpty()) || !getApi().getServerVoiceChannelMemberLeaveListeners()
+                                                                                                                                                                       .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code PrivateChannelCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchPrivateChannelCreateEvent(DispatchQueueSelector queueSelector, Collection<User> users, PrivateChannelCreateEvent event) {
+        List<PrivateChannelCreateListener> listeners = new ArrayList<>();
+        if (users != null) {
+            users.stream()
+                 .map(User::getPrivateChannelCreateListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getPrivateChannelCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onPrivateChannelCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code PrivateChannelCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchPrivateChannelCreateEvent(DispatchQueueSelector queueSelector, User user, PrivateChannelCreateEvent event) {
+        List<PrivateChannelCreateListener> listeners = new ArrayList<>();
+        if (user != null) {
+            listeners.addAll(user.getPrivateChannelCreateListeners());
+        }
+        listeners.addAll(getApi().getPrivateChannelCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onPrivateChannelCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code PrivateChannelCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchPrivateChannelCreateEvent(DispatchQueueSelector queueSelector, long userId, PrivateChannelCreateEvent event) {
+        List<PrivateChannelCreateListener> listeners = new ArrayList<>();
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     PrivateChannelCreateListener.class));
+        listeners.addAll(getApi().getPrivateChannelCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onPrivateChannelCreate(event));
+    }
+
+    /**
+     * Checks if there are any {@code PrivateChannelCreateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code PrivateChannelCreateListener}s.
+     */
+    public boolean hasPrivateChannelCreateListeners() {
+        return getApi().hasListeners(PrivateChannelCreateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code PrivateChannelCreateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param user The {@code User}.
+     * @return Whether there are {@code PrivateChannelCreateListener}s for the given objects.
+     */
+    public boolean hasPrivateChannelCreateListeners(User user) {
+        return (user != null && !user.getPrivateChannelCreateListeners()
+                                     .isEmpty()) || !getApi().getPrivateChannelCreateListeners()
+                                                             .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code PrivateChannelDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param privateChannels The {@code PrivateChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchPrivateChannelDeleteEvent(DispatchQueueSelector queueSelector, Collection<PrivateChannel> privateChannels, Collection<User> users, PrivateChannelDeleteEvent event) {
+        List<PrivateChannelDeleteListener> listeners = new ArrayList<>();
+        if (privateChannels != null) {
+            privateChannels.stream()
+                           .map(PrivateChannel::getPrivateChannelDeleteListeners)
+                           .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getPrivateChannelDeleteListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getPrivateChannelDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onPrivateChannelDelete(event));
+    }
+
+    /**
+     * Dispatch an event to {@code PrivateChannelDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param privateChannel The {@code PrivateChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchPrivateChannelDeleteEvent(DispatchQueueSelector queueSelector, PrivateChannel privateChannel, User user, PrivateChannelDeleteEvent event) {
+        List<PrivateChannelDeleteListener> listeners = new ArrayList<>();
+        if (privateChannel != null) {
+            listeners.addAll(privateChannel.getPrivateChannelDeleteListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getPrivateChannelDeleteListeners());
+        }
+        listeners.addAll(getApi().getPrivateChannelDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onPrivateChannelDelete(event));
+    }
+
+    /**
+     * Dispatch an event to {@code PrivateChannelDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param privateChannel The {@code PrivateChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchPrivateChannelDeleteEvent(DispatchQueueSelector queueSelector, PrivateChannel privateChannel, long userId, PrivateChannelDeleteEvent event) {
+        List<PrivateChannelDeleteListener> listeners = new ArrayList<>();
+        if (privateChannel != null) {
+            listeners.addAll(privateChannel.getPrivateChannelDeleteListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     PrivateChannelDeleteListener.class));
+        listeners.addAll(getApi().getPrivateChannelDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onPrivateChannelDelete(event));
+    }
+
+    /**
+     * Checks if there are any {@code PrivateChannelDeleteListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code PrivateChannelDeleteListener}s.
+     */
+    public boolean hasPrivateChannelDeleteListeners() {
+        return getApi().hasListeners(PrivateChannelDeleteListener.class);
+    }
+
+    /**
+     * Checks if there are {@code PrivateChannelDeleteListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param privateChannel The {@code PrivateChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code PrivateChannelDeleteListener}s for the given objects.
+     */
+    public boolean hasPrivateChannelDeleteListeners(PrivateChannel privateChannel, User user) {
+        return (privateChannel != null && !privateChannel.getPrivateChannelDeleteListeners()
+                                                         .isEmpty()) || (user != null && !user.getPrivateChannelDeleteListeners()
+                                                                                              .isEmpty()) || !getApi().getPrivateChannelDeleteListeners()
+                                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code LostConnectionListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param event The event.
+     */
+    public void dispatchLostConnectionEvent(DispatchQueueSelector queueSelector, LostConnectionEvent event) {
+        List<LostConnectionListener> listeners = new ArrayList<>();
+        listeners.addAll(getApi().getLostConnectionListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onLostConnection(event));
+    }
+
+    /**
+     * Checks if there are any {@code LostConnectionListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code LostConnectionListener}s.
+     */
+    public boolean hasLostConnectionListeners() {
+        return getApi().hasListeners(LostConnectionListener.class);
+    }
+
+    /**
+     * Dispatch an event to {@code ReconnectListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param event The event.
+     */
+    public void dispatchReconnectEvent(DispatchQueueSelector queueSelector, ReconnectEvent event) {
+        List<ReconnectListener> listeners = new ArrayList<>();
+        listeners.addAll(getApi().getReconnectListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onReconnect(event));
+    }
+
+    /**
+     * Checks if there are any {@code ReconnectListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ReconnectListener}s.
+     */
+    public boolean hasReconnectListeners() {
+        return getApi().hasListeners(ReconnectListener.class);
+    }
+
+    /**
+     * Dispatch an event to {@code ResumeListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param event The event.
+     */
+    public void dispatchResumeEvent(DispatchQueueSelector queueSelector, ResumeEvent event) {
+        List<ResumeListener> listeners = new ArrayList<>();
+        listeners.addAll(getApi().getResumeListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onResume(event));
+    }
+
+    /**
+     * Checks if there are any {@code ResumeListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ResumeListener}s.
+     */
+    public boolean hasResumeListeners() {
+        return getApi().hasListeners(ResumeListener.class);
+    }
+
+    /**
+     * Dispatch an event to {@code ButtonClickListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchButtonClickEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<TextChannel> textChannels, Collection<User> users, ButtonClickEvent event) {
+        List<ButtonClickListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getButtonClickListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getButtonClickListeners)
+                        .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getButtonClickListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getButtonClickListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onButtonClick(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ButtonClickListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchButtonClickEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, User user, ButtonClickEvent event) {
+        List<ButtonClickListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getButtonClickListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getButtonClickListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getButtonClickListeners());
+        }
+        listeners.addAll(getApi().getButtonClickListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onButtonClick(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ButtonClickListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchButtonClickEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, long userId, ButtonClickEvent event) {
+        List<ButtonClickListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getButtonClickListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getButtonClickListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     ButtonClickListener.class));
+        listeners.addAll(getApi().getButtonClickListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onButtonClick(event));
+    }
+
+    /**
+     * Checks if there are any {@code ButtonClickListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ButtonClickListener}s.
+     */
+    public boolean hasButtonClickListeners() {
+        return getApi().hasListeners(ButtonClickListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ButtonClickListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code ButtonClickListener}s for the given objects.
+     */
+    public boolean hasButtonClickListeners(Server server, TextChannel textChannel, User user) {
+        return (server != null && !server.getButtonClickListeners()
+                                         .isEmpty()) || (textChannel != null && !textChannel.getButtonClickListeners()
+                                                                                            .isEmpty()) || (user != null && !user.getButtonClickListeners()
+                                                                                                                                 .isEmpty()) || !getApi().getButtonClickListeners()
+                                                                                                                                                         .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code InteractionCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchInteractionCreateEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<TextChannel> textChannels, Collection<User> users, InteractionCreateEvent event) {
+        List<InteractionCreateListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getInteractionCreateListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getInteractionCreateListeners)
+                        .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getInteractionCreateListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getInteractionCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onInteractionCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code InteractionCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchInteractionCreateEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, User user, InteractionCreateEvent event) {
+        List<InteractionCreateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getInteractionCreateListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getInteractionCreateListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getInteractionCreateListeners());
+        }
+        listeners.addAll(getApi().getInteractionCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onInteractionCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code InteractionCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchInteractionCreateEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, long userId, InteractionCreateEvent event) {
+        List<InteractionCreateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getInteractionCreateListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getInteractionCreateListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     InteractionCreateListener.class));
+        listeners.addAll(getApi().getInteractionCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onInteractionCreate(event));
+    }
+
+    /**
+     * Checks if there are any {@code InteractionCreateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code InteractionCreateListener}s.
+     */
+    public boolean hasInteractionCreateListeners() {
+        return getApi().hasListeners(InteractionCreateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code InteractionCreateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code InteractionCreateListener}s for the given objects.
+     */
+    public boolean hasInteractionCreateListeners(Server server, TextChannel textChannel, User user) {
+        return (server != null && !server.getInteractionCreateListeners()
+                                         .isEmpty()) || (textChannel != null && !textChannel.getInteractionCreateListeners()
+                                                                                            .isEmpty()) || (user != null && !user.getInteractionCreateListeners()
+                                                                                                                                 .isEmpty()) || !getApi().getInteractionCreateListeners()
+                                                                                                                                                         .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code MessageComponentCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchMessageComponentCreateEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<TextChannel> textChannels, Collection<User> users, MessageComponentCreateEvent event) {
+        List<MessageComponentCreateListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getMessageComponentCreateListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getMessageComponentCreateListeners)
+                        .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getMessageComponentCreateListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getMessageComponentCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onComponentCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code MessageComponentCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchMessageComponentCreateEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, User user, MessageComponentCreateEvent event) {
+        List<MessageComponentCreateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getMessageComponentCreateListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getMessageComponentCreateListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getMessageComponentCreateListeners());
+        }
+        listeners.addAll(getApi().getMessageComponentCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onComponentCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code MessageComponentCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchMessageComponentCreateEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, long userId, MessageComponentCreateEvent event) {
+        List<MessageComponentCreateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getMessageComponentCreateListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getMessageComponentCreateListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     MessageComponentCreateListener.class));
+        listeners.addAll(getApi().getMessageComponentCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onComponentCreate(event));
+    }
+
+    /**
+     * Checks if there are any {@code MessageComponentCreateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code MessageComponentCreateListener}s.
+     */
+    public boolean hasMessageComponentCreateListeners() {
+        return getApi().hasListeners(MessageComponentCreateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code MessageComponentCreateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code MessageComponentCreateListener}s for the given objects.
+     */
+    public boolean hasMessageComponentCreateListeners(Server server, TextChannel textChannel, User user) {
+        return (server != null && !server.getMessageComponentCreateListeners()
+                                         .isEmpty()) || (textChannel != null && !textChannel.getMessageComponentCreateListeners()
+                                                                                            .isEmpty()) || (user != null && !user.getMessageComponentCreateListeners()
+                                                                                                                                 .isEmpty()) || !getApi().getMessageComponentCreateListeners()
+                                                                                                                                                         .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code SelectMenuChooseListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchSelectMenuChooseEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<TextChannel> textChannels, Collection<User> users, SelectMenuChooseEvent event) {
+        List<SelectMenuChooseListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getSelectMenuChooseListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getSelectMenuChooseListeners)
+                        .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getSelectMenuChooseListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getSelectMenuChooseListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onSelectMenuChoose(event));
+    }
+
+    /**
+     * Dispatch an event to {@code SelectMenuChooseListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchSelectMenuChooseEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, User user, SelectMenuChooseEvent event) {
+        List<SelectMenuChooseListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getSelectMenuChooseListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getSelectMenuChooseListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getSelectMenuChooseListeners());
+        }
+        listeners.addAll(getApi().getSelectMenuChooseListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onSelectMenuChoose(event));
+    }
+
+    /**
+     * Dispatch an event to {@code SelectMenuChooseListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchSelectMenuChooseEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, long userId, SelectMenuChooseEvent event) {
+        List<SelectMenuChooseListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getSelectMenuChooseListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getSelectMenuChooseListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     SelectMenuChooseListener.class));
+        listeners.addAll(getApi().getSelectMenuChooseListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onSelectMenuChoose(event));
+    }
+
+    /**
+     * Checks if there are any {@code SelectMenuChooseListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code SelectMenuChooseListener}s.
+     */
+    public boolean hasSelectMenuChooseListeners() {
+        return getApi().hasListeners(SelectMenuChooseListener.class);
+    }
+
+    /**
+     * Checks if there are {@code SelectMenuChooseListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code SelectMenuChooseListener}s for the given objects.
+     */
+    public boolean hasSelectMenuChooseListeners(Server server, TextChannel textChannel, User user) {
+        return (server != null && !server.getSelectMenuChooseListeners()
+                                         .isEmpty()) || (textChannel != null && !textChannel.getSelectMenuChooseListeners()
+                                                                                            .isEmpty()) || (user != null && !user.getSelectMenuChooseListeners()
+                                                                                                                                 .isEmpty()) || !getApi().getSelectMenuChooseListeners()
+                                                                                                                                                         .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code SlashCommandCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchSlashCommandCreateEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<TextChannel> textChannels, Collection<User> users, SlashCommandCreateEvent event) {
+        List<SlashCommandCreateListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getSlashCommandCreateListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getSlashCommandCreateListeners)
+                        .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getSlashCommandCreateListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getSlashCommandCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onSlashCommandCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code SlashCommandCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchSlashCommandCreateEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, User user, SlashCommandCreateEvent event) {
+        List<SlashCommandCreateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getSlashCommandCreateListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getSlashCommandCreateListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getSlashCommandCreateListeners());
+        }
+        listeners.addAll(getApi().getSlashCommandCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onSlashCommandCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code SlashCommandCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchSlashCommandCreateEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, long userId, SlashCommandCreateEvent event) {
+        List<SlashCommandCreateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getSlashCommandCreateListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getSlashCommandCreateListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     SlashCommandCreateListener.class));
+        listeners.addAll(getApi().getSlashCommandCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onSlashCommandCreate(event));
+    }
+
+    /**
+     * Checks if there are any {@code SlashCommandCreateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code SlashCommandCreateListener}s.
+     */
+    public boolean hasSlashCommandCreateListeners() {
+        return getApi().hasListeners(SlashCommandCreateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code SlashCommandCreateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code SlashCommandCreateListener}s for the given objects.
+     */
+    public boolean hasSlashCommandCreateListeners(Server server, TextChannel textChannel, User user) {
+        return (server != null && !server.getSlashCommandCreateListeners()
+                                         .isEmpty()) || (textChannel != null && !textChannel.getSlashCommandCreateListeners()
+                                                                                            .isEmpty()) || (user != null && !user.getSlashCommandCreateListeners()
+                                                                                                                                 .isEmpty()) || !getApi().getSlashCommandCreateListeners()
+                                                                                                                                                         .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code CachedMessagePinListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messages The {@code Message}s.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param event The event.
+     */
+    public void dispatchCachedMessagePinEvent(DispatchQueueSelector queueSelector, Collection<Message> messages, Collection<Server> servers, Collection<TextChannel> textChannels, CachedMessagePinEvent event) {
+        List<CachedMessagePinListener> listeners = new ArrayList<>();
+        if (messages != null) {
+            messages.stream()
+                    .map(Message::getCachedMessagePinListeners)
+                    .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getCachedMessagePinListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getCachedMessagePinListeners)
+                        .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getCachedMessagePinListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onCachedMessagePin(event));
+    }
+
+    /**
+     * Dispatch an event to {@code CachedMessagePinListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param message The {@code Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param event The event.
+     */
+    public void dispatchCachedMessagePinEvent(DispatchQueueSelector queueSelector, Message message, Server server, TextChannel textChannel, CachedMessagePinEvent event) {
+        List<CachedMessagePinListener> listeners = new ArrayList<>();
+        if (message != null) {
+            listeners.addAll(message.getCachedMessagePinListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getCachedMessagePinListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getCachedMessagePinListeners());
+        }
+        listeners.addAll(getApi().getCachedMessagePinListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onCachedMessagePin(event));
+    }
+
+    /**
+     * Checks if there are any {@code CachedMessagePinListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code CachedMessagePinListener}s.
+     */
+    public boolean hasCachedMessagePinListeners() {
+        return getApi().hasListeners(CachedMessagePinListener.class);
+    }
+
+    /**
+     * Checks if there are {@code CachedMessagePinListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param message The {@code Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @return Whether there are {@code CachedMessagePinListener}s for the given objects.
+     */
+    public boolean hasCachedMessagePinListeners(Message message, Server server, TextChannel textChannel) {
+        return (message != null && !message.getCachedMessagePinListeners()
+                                           .isEmpty()) || (server != null && !server.getCachedMessagePinListeners()
+                                                                                    .isEmpty()) || (textChannel != null && !textChannel.getCachedMessagePinListeners()
+                                                                                                                                       .isEmpty()) || !getApi().getCachedMessagePinListeners()
+                                                                                                                                                               .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code CachedMessageUnpinListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messages The {@code Message}s.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param event The event.
+     */
+    public void dispatchCachedMessageUnpinEvent(DispatchQueueSelector queueSelector, Collection<Message> messages, Collection<Server> servers, Collection<TextChannel> textChannels, CachedMessageUnpinEvent event) {
+        List<CachedMessageUnpinListener> listeners = new ArrayList<>();
+        if (messages != null) {
+            messages.stream()
+                    .map(Message::getCachedMessageUnpinListeners)
+                    .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getCachedMessageUnpinListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getCachedMessageUnpinListeners)
+                        .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getCachedMessageUnpinListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onCachedMessageUnpin(event));
+    }
+
+    /**
+     * Dispatch an event to {@code CachedMessageUnpinListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param message The {@code Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param event The event.
+     */
+    public void dispatchCachedMessageUnpinEvent(DispatchQueueSelector queueSelector, Message message, Server server, TextChannel textChannel, CachedMessageUnpinEvent event) {
+        List<CachedMessageUnpinListener> listeners = new ArrayList<>();
+        if (message != null) {
+            listeners.addAll(message.getCachedMessageUnpinListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getCachedMessageUnpinListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getCachedMessageUnpinListeners());
+        }
+        listeners.addAll(getApi().getCachedMessageUnpinListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onCachedMessageUnpin(event));
+    }
+
+    /**
+     * Checks if there are any {@code CachedMessageUnpinListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code CachedMessageUnpinListener}s.
+     */
+    public boolean hasCachedMessageUnpinListeners() {
+        return getApi().hasListeners(CachedMessageUnpinListener.class);
+    }
+
+    /**
+     * Checks if there are {@code CachedMessageUnpinListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param message The {@code Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @return Whether there are {@code CachedMessageUnpinListener}s for the given objects.
+     */
+    public boolean hasCachedMessageUnpinListeners(Message message, Server server, TextChannel textChannel) {
+        return (message != null && !message.getCachedMessageUnpinListeners()
+                                           .isEmpty()) || (server != null && !server.getCachedMessageUnpinListeners()
+                                                                                    .isEmpty()) || (textChannel != null && !textChannel.getCachedMessageUnpinListeners()
+                                                                                                                                       .isEmpty()) || !getApi().getCachedMessageUnpinListeners()
+                                                                                                                                                               .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ChannelPinsUpdateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param event The event.
+     */
+    public void dispatchChannelPinsUpdateEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<TextChannel> textChannels, ChannelPinsUpdateEvent event) {
+        List<ChannelPinsUpdateListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getChannelPinsUpdateListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getChannelPinsUpdateListeners)
+                        .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getChannelPinsUpdateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onChannelPinsUpdate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ChannelPinsUpdateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param event The event.
+     */
+    public void dispatchChannelPinsUpdateEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, ChannelPinsUpdateEvent event) {
+        List<ChannelPinsUpdateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getChannelPinsUpdateListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getChannelPinsUpdateListeners());
+        }
+        listeners.addAll(getApi().getChannelPinsUpdateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onChannelPinsUpdate(event));
+    }
+
+    /**
+     * Checks if there are any {@code ChannelPinsUpdateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ChannelPinsUpdateListener}s.
+     */
+    public boolean hasChannelPinsUpdateListeners() {
+        return getApi().hasListeners(ChannelPinsUpdateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ChannelPinsUpdateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @return Whether there are {@code ChannelPinsUpdateListener}s for the given objects.
+     */
+    public boolean hasChannelPinsUpdateListeners(Server server, TextChannel textChannel) {
+        return (server != null && !server.getChannelPinsUpdateListeners()
+                                         .isEmpty()) || (textChannel != null && !textChannel.getChannelPinsUpdateListeners()
+                                                                                            .isEmpty()) || !getApi().getChannelPinsUpdateListeners()
+                                                                                                                    .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code MessageCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param users The {@code User}s.
+     * @param webhookIds The ids of the {@link Webhook}s.
+     * @param event The event.
+     */
+    public void dispatchMessageCreateEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<TextChannel> textChannels, Collection<User> users, Collection<Long> webhookIds, MessageCreateEvent event) {
+        List<MessageCreateListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getMessageCreateListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getMessageCreateListeners)
+                        .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getMessageCreateListeners)
+                 .forEach(listeners::addAll);
+        }
+        if (webhookIds != null) {
+            webhookIds.stream()
+                      .map(webhookId -> getApi().getObjectListeners(Webhook.class,
+                                                                    webhookId,
+                                                                    MessageCreateListener.class))
+                      .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getMessageCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onMessageCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code MessageCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @param webhookId The id of the {@link Webhook}.
+     * @param event The event.
+     */
+    public void dispatchMessageCreateEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, User user, Long webhookId, MessageCreateEvent event) {
+        List<MessageCreateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getMessageCreateListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getMessageCreateListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getMessageCreateListeners());
+        }
+        if (webhookId != null) {
+            listeners.addAll(getApi().getObjectListeners(Webhook.class,
+                                                         webhookId,
+                                                         MessageCreateListener.class));
+        }
+        listeners.addAll(getApi().getMessageCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onMessageCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code MessageCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param userId The id of the {@link User}.
+     * @param webhookId The id of the {@link Webhook}.
+     * @param event The event.
+     */
+    public void dispatchMessageCreateEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, long userId, Long webhookId, MessageCreateEvent event) {
+        List<MessageCreateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getMessageCreateListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getMessageCreateListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     MessageCreateListener.class));
+        if (webhookId != null) {
+            listeners.addAll(getApi().getObjectListeners(Webhook.class,
+                                                         webhookId,
+                                                         MessageCreateListener.class));
+        }
+        listeners.addAll(getApi().getMessageCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onMessageCreate(event));
+    }
+
+    /**
+     * Checks if there are any {@code MessageCreateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code MessageCreateListener}s.
+     */
+    public boolean hasMessageCreateListeners() {
+        return getApi().hasListeners(MessageCreateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code MessageCreateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @param webhookId The id of the {@link Webhook}.
+     * @return Whether there are {@code MessageCreateListener}s for the given objects.
+     */
+    public boolean hasMessageCreateListeners(Server server, TextChannel textChannel, User user, Long webhookId) {
+        return (server != null && !server.getMessageCreateListeners()
+                                         .isEmpty()) || (textChannel != null && !textChannel.getMessageCreateListeners()
+                                                                                            .isEmpty()) || (user != null && !user.getMessageCreateListeners()
+                                                                                                                                 .isEmpty()) || (webhookId != null && !getApi().getObjectListeners(Webhook.class,
+                                                                                                                                                                                                   webhookId,
+                                                                                                                                                                                                   MessageCreateListener.class)
+                                                                                                                                                                               .isEmpty()) || !getApi().getMessageCreateListeners()
+                                                                                                                                                                                                       .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code MessageDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messages The {@code Message}s.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param event The event.
+     */
+    public void dispatchMessageDeleteEvent(DispatchQueueSelector queueSelector, Collection<Message> messages, Collection<Server> servers, Collection<TextChannel> textChannels, MessageDeleteEvent event) {
+        List<MessageDeleteListener> listeners = new ArrayList<>();
+        if (messages != null) {
+            messages.stream()
+                    .map(Message::getMessageDeleteListeners)
+                    .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getMessageDeleteListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getMessageDeleteListeners)
+                        .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getMessageDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onMessageDelete(event));
+    }
+
+    /**
+     * Dispatch an event to {@code MessageDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messageId The id of the {@link Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param event The event.
+     */
+    public void dispatchMessageDeleteEvent(DispatchQueueSelector queueSelector, long messageId, Server server, TextChannel textChannel, MessageDeleteEvent event) {
+        List<MessageDeleteListener> listeners = new ArrayList<>();
+        listeners.addAll(MessageAttachableListenerManager.getMessageDeleteListeners(getApi(),
+                                                                                    messageId));
+        if (server != null) {
+            listeners.addAll(server.getMessageDeleteListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getMessageDeleteListeners());
+        }
+        listeners.addAll(getApi().getMessageDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onMessageDelete(event));
+    }
+
+    /**
+     * Checks if there are any {@code MessageDeleteListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code MessageDeleteListener}s.
+     */
+    public boolean hasMessageDeleteListeners() {
+        return getApi().hasListeners(MessageDeleteListener.class);
+    }
+
+    /**
+     * Checks if there are {@code MessageDeleteListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param messageId The id of the {@link Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @return Whether there are {@code MessageDeleteListener}s for the given objects.
+     */
+    public boolean hasMessageDeleteListeners(long messageId, Server server, TextChannel textChannel) {
+        return !MessageAttachableListenerManager.getMessageDeleteListeners(getApi(),
+                                                                           messageId)
+                                                .isEmpty() || (server != null && !server.getMessageDeleteListeners()
+                                                                                        .isEmpty()) || (textChannel != null && !textChannel.getMessageDeleteListeners()
+                                                                                                                                           .isEmpty()) || !getApi().getMessageDeleteListeners()
+                                                                                                                                                                   .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code MessageEditListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messages The {@code Message}s.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param event The event.
+     */
+    public void dispatchMessageEditEvent(DispatchQueueSelector queueSelector, Collection<Message> messages, Collection<Server> servers, Collection<TextChannel> textChannels, MessageEditEvent event) {
+        List<MessageEditListener> listeners = new ArrayList<>();
+        if (messages != null) {
+            messages.stream()
+                    .map(Message::getMessageEditListeners)
+                    .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getMessageEditListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getMessageEditListeners)
+                        .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getMessageEditListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onMessageEdit(event));
+    }
+
+    /**
+     * Dispatch an event to {@code MessageEditListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messageId The id of the {@link Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param event The event.
+     */
+    public void dispatchMessageEditEvent(DispatchQueueSelector queueSelector, long messageId, Server server, TextChannel textChannel, MessageEditEvent event) {
+        List<MessageEditListener> listeners = new ArrayList<>();
+        listeners.addAll(MessageAttachableListenerManager.getMessageEditListeners(getApi(),
+                                                                                  messageId));
+        if (server != null) {
+            listeners.addAll(server.getMessageEditListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getMessageEditListeners());
+        }
+        listeners.addAll(getApi().getMessageEditListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onMessageEdit(event));
+    }
+
+    /**
+     * Checks if there are any {@code MessageEditListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code MessageEditListener}s.
+     */
+    public boolean hasMessageEditListeners() {
+        return getApi().hasListeners(MessageEditListener.class);
+    }
+
+    /**
+     * Checks if there are {@code MessageEditListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param messageId The id of the {@link Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @return Whether there are {@code MessageEditListener}s for the given objects.
+     */
+    public boolean hasMessageEditListeners(long messageId, Server server, TextChannel textChannel) {
+        return !MessageAttachableListenerManager.getMessageEditListeners(getApi(),
+                                                                         messageId)
+                                                .isEmpty() || (server != null && !server.getMessageEditListeners()
+                                                                                        .isEmpty()) || (textChannel != null && !textChannel.getMessageEditListeners()
+                                                                                                                                           .isEmpty()) || !getApi().getMessageEditListeners()
+                                                                                                                                                                   .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ReactionAddListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messages The {@code Message}s.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchReactionAddEvent(DispatchQueueSelector queueSelector, Collection<Message> messages, Collection<Server> servers, Collection<TextChannel> textChannels, Collection<User> users, ReactionAddEvent event) {
+        List<ReactionAddListener> listeners = new ArrayList<>();
+        if (messages != null) {
+            messages.stream()
+                    .map(Message::getReactionAddListeners)
+                    .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getReactionAddListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getReactionAddListeners)
+                        .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getReactionAddListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getReactionAddListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onReactionAdd(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ReactionAddListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messageId The id of the {@link Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchReactionAddEvent(DispatchQueueSelector queueSelector, long messageId, Server server, TextChannel textChannel, User user, ReactionAddEvent event) {
+        List<ReactionAddListener> listeners = new ArrayList<>();
+        listeners.addAll(MessageAttachableListenerManager.getReactionAddListeners(getApi(),
+                                                                                  messageId));
+        if (server != null) {
+            listeners.addAll(server.getReactionAddListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getReactionAddListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getReactionAddListeners());
+        }
+        listeners.addAll(getApi().getReactionAddListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onReactionAdd(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ReactionAddListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messageId The id of the {@link Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchReactionAddEvent(DispatchQueueSelector queueSelector, long messageId, Server server, TextChannel textChannel, long userId, ReactionAddEvent event) {
+        List<ReactionAddListener> listeners = new ArrayList<>();
+        listeners.addAll(MessageAttachableListenerManager.getReactionAddListeners(getApi(),
+                                                                                  messageId));
+        if (server != null) {
+            listeners.addAll(server.getReactionAddListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getReactionAddListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     ReactionAddListener.class));
+        listeners.addAll(getApi().getReactionAddListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onReactionAdd(event));
+    }
+
+    /**
+     * Checks if there are any {@code ReactionAddListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ReactionAddListener}s.
+     */
+    public boolean hasReactionAddListeners() {
+        return getApi().hasListeners(ReactionAddListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ReactionAddListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param messageId The id of the {@link Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code ReactionAddListener}s for the given objects.
+     */
+    public boolean hasReactionAddListeners(long messageId, Server server, TextChannel textChannel, User user) {
+        return !MessageAttachableListenerManager.getReactionAddListeners(getApi(),
+                                                                         messageId)
+                                                .isEmpty() || (server != null && !server.getReactionAddListeners()
+                                                                                        .isEmpty()) || (textChannel != null && !textChannel.getReactionAddListeners()
+                                                                                                                                           .isEmpty()) || (user != null && !user.getReactionAddListeners()
+                                                                                                                                                                                .isEmpty()) || !getApi().getReactionAddListeners()
+                                                                                                                                                                                                        .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ReactionRemoveAllListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messages The {@code Message}s.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param event The event.
+     */
+    public void dispatchReactionRemoveAllEvent(DispatchQueueSelector queueSelector, Collection<Message> messages, Collection<Server> servers, Collection<TextChannel> textChannels, ReactionRemoveAllEvent event) {
+        List<ReactionRemoveAllListener> listeners = new ArrayList<>();
+        if (messages != null) {
+            messages.stream()
+                    .map(Message::getReactionRemoveAllListeners)
+                    .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getReactionRemoveAllListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getReactionRemoveAllListeners)
+                        .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getReactionRemoveAllListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onReactionRemoveAll(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ReactionRemoveAllListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messageId The id of the {@link Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param event The event.
+     */
+    public void dispatchReactionRemoveAllEvent(DispatchQueueSelector queueSelector, long messageId, Server server, TextChannel textChannel, ReactionRemoveAllEvent event) {
+        List<ReactionRemoveAllListener> listeners = new ArrayList<>();
+        listeners.addAll(MessageAttachableListenerManager.getReactionRemoveAllListeners(getApi(),
+                                                                                        messageId));
+        if (server != null) {
+            listeners.addAll(server.getReactionRemoveAllListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getReactionRemoveAllListeners());
+        }
+        listeners.addAll(getApi().getReactionRemoveAllListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onReactionRemoveAll(event));
+    }
+
+    /**
+     * Checks if there are any {@code ReactionRemoveAllListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ReactionRemoveAllListener}s.
+     */
+    public boolean hasReactionRemoveAllListeners() {
+        return getApi().hasListeners(ReactionRemoveAllListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ReactionRemoveAllListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param messageId The id of the {@link Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @return Whether there are {@code ReactionRemoveAllListener}s for the given objects.
+     */
+    public boolean hasReactionRemoveAllListeners(long messageId, Server server, TextChannel textChannel) {
+        return !MessageAttachableListenerManager.getReactionRemoveAllListeners(getApi(),
+                                                                               messageId)
+                                                .isEmpty() || (server != null && !server.getReactionRemoveAllListeners()
+                                                                                        .isEmpty()) || (textChannel != null && !textChannel.getReactionRemoveAllListeners()
+                                                                                                                                           .isEmpty()) || !getApi().getReactionRemoveAllListeners()
+                                                                                                                                                                   .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ReactionRemoveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messages The {@code Message}s.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchReactionRemoveEvent(DispatchQueueSelector queueSelector, Collection<Message> messages, Collection<Server> servers, Collection<TextChannel> textChannels, Collection<User> users, ReactionRemoveEvent event) {
+        List<ReactionRemoveListener> listeners = new ArrayList<>();
+        if (messages != null) {
+            messages.stream()
+                    .map(Message::getReactionRemoveListeners)
+                    .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getReactionRemoveListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getReactionRemoveListeners)
+                        .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getReactionRemoveListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getReactionRemoveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onReactionRemove(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ReactionRemoveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messageId The id of the {@link Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchReactionRemoveEvent(DispatchQueueSelector queueSelector, long messageId, Server server, TextChannel textChannel, User user, ReactionRemoveEvent event) {
+        List<ReactionRemoveListener> listeners = new ArrayList<>();
+        listeners.addAll(MessageAttachableListenerManager.getReactionRemoveListeners(getApi(),
+                                                                                     messageId));
+        if (server != null) {
+            listeners.addAll(server.getReactionRemoveListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getReactionRemoveListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getReactionRemoveListeners());
+        }
+        listeners.addAll(getApi().getReactionRemoveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onReactionRemove(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ReactionRemoveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param messageId The id of the {@link Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchReactionRemoveEvent(DispatchQueueSelector queueSelector, long messageId, Server server, TextChannel textChannel, long userId, ReactionRemoveEvent event) {
+        List<ReactionRemoveListener> listeners = new ArrayList<>();
+        listeners.addAll(MessageAttachableListenerManager.getReactionRemoveListeners(getApi(),
+                                                                                     messageId));
+        if (server != null) {
+            listeners.addAll(server.getReactionRemoveListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getReactionRemoveListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     ReactionRemoveListener.class));
+        listeners.addAll(getApi().getReactionRemoveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onReactionRemove(event));
+    }
+
+    /**
+     * Checks if there are any {@code ReactionRemoveListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ReactionRemoveListener}s.
+     */
+    public boolean hasReactionRemoveListeners() {
+        return getApi().hasListeners(ReactionRemoveListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ReactionRemoveListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param messageId The id of the {@link Message}.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code ReactionRemoveListener}s for the given objects.
+     */
+    public boolean hasReactionRemoveListeners(long messageId, Server server, TextChannel textChannel, User user) {
+        return !MessageAttachableListenerManager.getReactionRemoveListeners(getApi(),
+                                                                            messageId)
+                                                .isEmpty() || (server != null && !server.getReactionRemoveListeners()
+                                                                                        .isEmpty()) || (textChannel != null && !textChannel.getReactionRemoveListeners()
+                                                                                                                                           .isEmpty()) || (user != null && !user.getReactionRemoveListeners()
+                                                                                                                                                                                .isEmpty()) || !getApi().getReactionRemoveListeners()
+                                                                                                                                                                                                        .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerBecomesAvailableListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param event The event.
+     */
+    public void dispatchServerBecomesAvailableEvent(DispatchQueueSelector queueSelector, ServerBecomesAvailableEvent event) {
+        List<ServerBecomesAvailableListener> listeners = new ArrayList<>();
+        listeners.addAll(getApi().getServerBecomesAvailableListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerBecomesAvailable(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerBecomesAvailableListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerBecomesAvailableListener}s.
+     */
+    public boolean hasServerBecomesAvailableListeners() {
+        return getApi().hasListeners(ServerBecomesAvailableListener.class);
+    }
+
+    /**
+     * Dispatch an event to {@code ServerBecomesUnavailableListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerBecomesUnavailableEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerBecomesUnavailableEvent event) {
+        List<ServerBecomesUnavailableListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerBecomesUnavailableListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerBecomesUnavailableListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerBecomesUnavailable(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerBecomesUnavailableListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerBecomesUnavailableEvent(DispatchQueueSelector queueSelector, Server server, ServerBecomesUnavailableEvent event) {
+        List<ServerBecomesUnavailableListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerBecomesUnavailableListeners());
+        }
+        listeners.addAll(getApi().getServerBecomesUnavailableListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerBecomesUnavailable(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerBecomesUnavailableListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerBecomesUnavailableListener}s.
+     */
+    public boolean hasServerBecomesUnavailableListeners() {
+        return getApi().hasListeners(ServerBecomesUnavailableListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerBecomesUnavailableListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerBecomesUnavailableListener}s for the given objects.
+     */
+    public boolean hasServerBecomesUnavailableListeners(Server server) {
+        return (server != null && !server.getServerBecomesUnavailableListeners()
+                                         .isEmpty()) || !getApi().getServerBecomesUnavailableListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeAfkChannelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeAfkChannelEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeAfkChannelEvent event) {
+        List<ServerChangeAfkChannelListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeAfkChannelListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeAfkChannelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeAfkChannel(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeAfkChannelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeAfkChannelEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeAfkChannelEvent event) {
+        List<ServerChangeAfkChannelListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeAfkChannelListeners());
+        }
+        listeners.addAll(getApi().getServerChangeAfkChannelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeAfkChannel(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeAfkChannelListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeAfkChannelListener}s.
+     */
+    public boolean hasServerChangeAfkChannelListeners() {
+        return getApi().hasListeners(ServerChangeAfkChannelListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeAfkChannelListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeAfkChannelListener}s for the given objects.
+     */
+    public boolean hasServerChangeAfkChannelListeners(Server server) {
+        return (server != null && !server.getServerChangeAfkChannelListeners()
+                                         .isEmpty()) || !getApi().getServerChangeAfkChannelListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeAfkTimeoutListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeAfkTimeoutEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeAfkTimeoutEvent event) {
+        List<ServerChangeAfkTimeoutListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeAfkTimeoutListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeAfkTimeoutListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeAfkTimeout(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeAfkTimeoutListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeAfkTimeoutEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeAfkTimeoutEvent event) {
+        List<ServerChangeAfkTimeoutListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeAfkTimeoutListeners());
+        }
+        listeners.addAll(getApi().getServerChangeAfkTimeoutListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeAfkTimeout(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeAfkTimeoutListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeAfkTimeoutListener}s.
+     */
+    public boolean hasServerChangeAfkTimeoutListeners() {
+        return getApi().hasListeners(ServerChangeAfkTimeoutListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeAfkTimeoutListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeAfkTimeoutListener}s for the given objects.
+     */
+    public boolean hasServerChangeAfkTimeoutListeners(Server server) {
+        return (server != null && !server.getServerChangeAfkTimeoutListeners()
+                                         .isEmpty()) || !getApi().getServerChangeAfkTimeoutListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeBoostCountListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeBoostCountEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeBoostCountEvent event) {
+        List<ServerChangeBoostCountListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeBoostCountListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeBoostCountListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeBoostCount(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeBoostCountListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeBoostCountEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeBoostCountEvent event) {
+        List<ServerChangeBoostCountListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeBoostCountListeners());
+        }
+        listeners.addAll(getApi().getServerChangeBoostCountListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeBoostCount(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeBoostCountListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeBoostCountListener}s.
+     */
+    public boolean hasServerChangeBoostCountListeners() {
+        return getApi().hasListeners(ServerChangeBoostCountListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeBoostCountListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeBoostCountListener}s for the given objects.
+     */
+    public boolean hasServerChangeBoostCountListeners(Server server) {
+        return (server != null && !server.getServerChangeBoostCountListeners()
+                                         .isEmpty()) || !getApi().getServerChangeBoostCountListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeBoostLevelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeBoostLevelEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeBoostLevelEvent event) {
+        List<ServerChangeBoostLevelListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeBoostLevelListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeBoostLevelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeBoostLevel(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeBoostLevelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeBoostLevelEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeBoostLevelEvent event) {
+        List<ServerChangeBoostLevelListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeBoostLevelListeners());
+        }
+        listeners.addAll(getApi().getServerChangeBoostLevelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeBoostLevel(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeBoostLevelListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeBoostLevelListener}s.
+     */
+    public boolean hasServerChangeBoostLevelListeners() {
+        return getApi().hasListeners(ServerChangeBoostLevelListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeBoostLevelListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeBoostLevelListener}s for the given objects.
+     */
+    public boolean hasServerChangeBoostLevelListeners(Server server) {
+        return (server != null && !server.getServerChangeBoostLevelListeners()
+                                         .isEmpty()) || !getApi().getServerChangeBoostLevelListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeDefaultMessageNotificationLevelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeDefaultMessageNotificationLevelEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeDefaultMessageNotificationLevelEvent event) {
+        List<ServerChangeDefaultMessageNotificationLevelListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeDefaultMessageNotificationLevelListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeDefaultMessageNotificationLevelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeDefaultMessageNotificationLevel(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeDefaultMessageNotificationLevelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeDefaultMessageNotificationLevelEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeDefaultMessageNotificationLevelEvent event) {
+        List<ServerChangeDefaultMessageNotificationLevelListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeDefaultMessageNotificationLevelListeners());
+        }
+        listeners.addAll(getApi().getServerChangeDefaultMessageNotificationLevelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeDefaultMessageNotificationLevel(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeDefaultMessageNotificationLevelListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeDefaultMessageNotificationLevelListener}s.
+     */
+    public boolean hasServerChangeDefaultMessageNotificationLevelListeners() {
+        return getApi().hasListeners(ServerChangeDefaultMessageNotificationLevelListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeDefaultMessageNotificationLevelListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeDefaultMessageNotificationLevelListener}s for the given objects.
+     */
+    public boolean hasServerChangeDefaultMessageNotificationLevelListeners(Server server) {
+        return (server != null && !server.getServerChangeDefaultMessageNotificationLevelListeners()
+                                         .isEmpty()) || !getApi().getServerChangeDefaultMessageNotificationLevelListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeDescriptionListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeDescriptionEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeDescriptionEvent event) {
+        List<ServerChangeDescriptionListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeDescriptionListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeDescriptionListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeDescription(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeDescriptionListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeDescriptionEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeDescriptionEvent event) {
+        List<ServerChangeDescriptionListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeDescriptionListeners());
+        }
+        listeners.addAll(getApi().getServerChangeDescriptionListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeDescription(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeDescriptionListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeDescriptionListener}s.
+     */
+    public boolean hasServerChangeDescriptionListeners() {
+        return getApi().hasListeners(ServerChangeDescriptionListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeDescriptionListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeDescriptionListener}s for the given objects.
+     */
+    public boolean hasServerChangeDescriptionListeners(Server server) {
+        return (server != null && !server.getServerChangeDescriptionListeners()
+                                         .isEmpty()) || !getApi().getServerChangeDescriptionListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeDiscoverySplashListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeDiscoverySplashEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeDiscoverySplashEvent event) {
+        List<ServerChangeDiscoverySplashListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeDiscoverySplashListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeDiscoverySplashListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeDiscoverySplash(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeDiscoverySplashListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeDiscoverySplashEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeDiscoverySplashEvent event) {
+        List<ServerChangeDiscoverySplashListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeDiscoverySplashListeners());
+        }
+        listeners.addAll(getApi().getServerChangeDiscoverySplashListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeDiscoverySplash(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeDiscoverySplashListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeDiscoverySplashListener}s.
+     */
+    public boolean hasServerChangeDiscoverySplashListeners() {
+        return getApi().hasListeners(ServerChangeDiscoverySplashListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeDiscoverySplashListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeDiscoverySplashListener}s for the given objects.
+     */
+    public boolean hasServerChangeDiscoverySplashListeners(Server server) {
+        return (server != null && !server.getServerChangeDiscoverySplashListeners()
+                                         .isEmpty()) || !getApi().getServerChangeDiscoverySplashListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeExplicitContentFilterLevelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeExplicitContentFilterLevelEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeExplicitContentFilterLevelEvent event) {
+        List<ServerChangeExplicitContentFilterLevelListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeExplicitContentFilterLevelListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeExplicitContentFilterLevelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeExplicitContentFilterLevel(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeExplicitContentFilterLevelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeExplicitContentFilterLevelEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeExplicitContentFilterLevelEvent event) {
+        List<ServerChangeExplicitContentFilterLevelListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeExplicitContentFilterLevelListeners());
+        }
+        listeners.addAll(getApi().getServerChangeExplicitContentFilterLevelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeExplicitContentFilterLevel(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeExplicitContentFilterLevelListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeExplicitContentFilterLevelListener}s.
+     */
+    public boolean hasServerChangeExplicitContentFilterLevelListeners() {
+        return getApi().hasListeners(ServerChangeExplicitContentFilterLevelListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeExplicitContentFilterLevelListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeExplicitContentFilterLevelListener}s for the given objects.
+     */
+    public boolean hasServerChangeExplicitContentFilterLevelListeners(Server server) {
+        return (server != null && !server.getServerChangeExplicitContentFilterLevelListeners()
+                                         .isEmpty()) || !getApi().getServerChangeExplicitContentFilterLevelListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeIconListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeIconEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeIconEvent event) {
+        List<ServerChangeIconListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeIconListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeIconListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeIcon(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeIconListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeIconEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeIconEvent event) {
+        List<ServerChangeIconListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeIconListeners());
+        }
+        listeners.addAll(getApi().getServerChangeIconListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeIcon(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeIconListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeIconListener}s.
+     */
+    public boolean hasServerChangeIconListeners() {
+        return getApi().hasListeners(ServerChangeIconListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeIconListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeIconListener}s for the given objects.
+     */
+    public boolean hasServerChangeIconListeners(Server server) {
+        return (server != null && !server.getServerChangeIconListeners()
+                                         .isEmpty()) || !getApi().getServerChangeIconListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeModeratorsOnlyChannelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeModeratorsOnlyChannelEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeModeratorsOnlyChannelEvent event) {
+        List<ServerChangeModeratorsOnlyChannelListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeModeratorsOnlyChannelListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeModeratorsOnlyChannelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeModeratorsOnlyChannel(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeModeratorsOnlyChannelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeModeratorsOnlyChannelEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeModeratorsOnlyChannelEvent event) {
+        List<ServerChangeModeratorsOnlyChannelListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeModeratorsOnlyChannelListeners());
+        }
+        listeners.addAll(getApi().getServerChangeModeratorsOnlyChannelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeModeratorsOnlyChannel(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeModeratorsOnlyChannelListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeModeratorsOnlyChannelListener}s.
+     */
+    public boolean hasServerChangeModeratorsOnlyChannelListeners() {
+        return getApi().hasListeners(ServerChangeModeratorsOnlyChannelListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeModeratorsOnlyChannelListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeModeratorsOnlyChannelListener}s for the given objects.
+     */
+    public boolean hasServerChangeModeratorsOnlyChannelListeners(Server server) {
+        return (server != null && !server.getServerChangeModeratorsOnlyChannelListeners()
+                                         .isEmpty()) || !getApi().getServerChangeModeratorsOnlyChannelListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeMultiFactorAuthenticationLevelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeMultiFactorAuthenticationLevelEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeMultiFactorAuthenticationLevelEvent event) {
+        List<ServerChangeMultiFactorAuthenticationLevelListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeMultiFactorAuthenticationLevelListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeMultiFactorAuthenticationLevelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeMultiFactorAuthenticationLevel(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeMultiFactorAuthenticationLevelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeMultiFactorAuthenticationLevelEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeMultiFactorAuthenticationLevelEvent event) {
+        List<ServerChangeMultiFactorAuthenticationLevelListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeMultiFactorAuthenticationLevelListeners());
+        }
+        listeners.addAll(getApi().getServerChangeMultiFactorAuthenticationLevelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeMultiFactorAuthenticationLevel(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeMultiFactorAuthenticationLevelListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeMultiFactorAuthenticationLevelListener}s.
+     */
+    public boolean hasServerChangeMultiFactorAuthenticationLevelListeners() {
+        return getApi().hasListeners(ServerChangeMultiFactorAuthenticationLevelListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeMultiFactorAuthenticationLevelListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeMultiFactorAuthenticationLevelListener}s for the given objects.
+     */
+    public boolean hasServerChangeMultiFactorAuthenticationLevelListeners(Server server) {
+        return (server != null && !server.getServerChangeMultiFactorAuthenticationLevelListeners()
+                                         .isEmpty()) || !getApi().getServerChangeMultiFactorAuthenticationLevelListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeNameEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeNameEvent event) {
+        List<ServerChangeNameListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeNameListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeName(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeNameEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeNameEvent event) {
+        List<ServerChangeNameListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeNameListeners());
+        }
+        listeners.addAll(getApi().getServerChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeName(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeNameListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeNameListener}s.
+     */
+    public boolean hasServerChangeNameListeners() {
+        return getApi().hasListeners(ServerChangeNameListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeNameListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeNameListener}s for the given objects.
+     */
+    public boolean hasServerChangeNameListeners(Server server) {
+        return (server != null && !server.getServerChangeNameListeners()
+                                         .isEmpty()) || !getApi().getServerChangeNameListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeNsfwLevelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeNsfwLevelEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeNsfwLevelEvent event) {
+        List<ServerChangeNsfwLevelListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeNsfwLevelListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeNsfwLevelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeNsfwLevel(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeNsfwLevelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeNsfwLevelEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeNsfwLevelEvent event) {
+        List<ServerChangeNsfwLevelListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeNsfwLevelListeners());
+        }
+        listeners.addAll(getApi().getServerChangeNsfwLevelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeNsfwLevel(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeNsfwLevelListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeNsfwLevelListener}s.
+     */
+    public boolean hasServerChangeNsfwLevelListeners() {
+        return getApi().hasListeners(ServerChangeNsfwLevelListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeNsfwLevelListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeNsfwLevelListener}s for the given objects.
+     */
+    public boolean hasServerChangeNsfwLevelListeners(Server server) {
+        return (server != null && !server.getServerChangeNsfwLevelListeners()
+                                         .isEmpty()) || !getApi().getServerChangeNsfwLevelListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeOwnerListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeOwnerEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeOwnerEvent event) {
+        List<ServerChangeOwnerListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeOwnerListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeOwnerListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeOwner(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeOwnerListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeOwnerEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeOwnerEvent event) {
+        List<ServerChangeOwnerListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeOwnerListeners());
+        }
+        listeners.addAll(getApi().getServerChangeOwnerListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeOwner(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeOwnerListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeOwnerListener}s.
+     */
+    public boolean hasServerChangeOwnerListeners() {
+        return getApi().hasListeners(ServerChangeOwnerListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeOwnerListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeOwnerListener}s for the given objects.
+     */
+    public boolean hasServerChangeOwnerListeners(Server server) {
+        return (server != null && !server.getServerChangeOwnerListeners()
+                                         .isEmpty()) || !getApi().getServerChangeOwnerListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangePreferredLocaleListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangePreferredLocaleEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangePreferredLocaleEvent event) {
+        List<ServerChangePreferredLocaleListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangePreferredLocaleListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangePreferredLocaleListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangePreferredLocale(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangePreferredLocaleListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangePreferredLocaleEvent(DispatchQueueSelector queueSelector, Server server, ServerChangePreferredLocaleEvent event) {
+        List<ServerChangePreferredLocaleListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangePreferredLocaleListeners());
+        }
+        listeners.addAll(getApi().getServerChangePreferredLocaleListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangePreferredLocale(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangePreferredLocaleListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangePreferredLocaleListener}s.
+     */
+    public boolean hasServerChangePreferredLocaleListeners() {
+        return getApi().hasListeners(ServerChangePreferredLocaleListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangePreferredLocaleListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangePreferredLocaleListener}s for the given objects.
+     */
+    public boolean hasServerChangePreferredLocaleListeners(Server server) {
+        return (server != null && !server.getServerChangePreferredLocaleListeners()
+                                         .isEmpty()) || !getApi().getServerChangePreferredLocaleListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeRegionListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeRegionEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeRegionEvent event) {
+        List<ServerChangeRegionListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeRegionListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeRegionListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeRegion(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeRegionListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeRegionEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeRegionEvent event) {
+        List<ServerChangeRegionListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeRegionListeners());
+        }
+        listeners.addAll(getApi().getServerChangeRegionListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeRegion(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeRegionListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeRegionListener}s.
+     */
+    public boolean hasServerChangeRegionListeners() {
+        return getApi().hasListeners(ServerChangeRegionListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeRegionListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeRegionListener}s for the given objects.
+     */
+    public boolean hasServerChangeRegionListeners(Server server) {
+        return (server != null && !server.getServerChangeRegionListeners()
+                                         .isEmpty()) || !getApi().getServerChangeRegionListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeRulesChannelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeRulesChannelEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeRulesChannelEvent event) {
+        List<ServerChangeRulesChannelListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeRulesChannelListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeRulesChannelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeRulesChannel(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeRulesChannelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeRulesChannelEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeRulesChannelEvent event) {
+        List<ServerChangeRulesChannelListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeRulesChannelListeners());
+        }
+        listeners.addAll(getApi().getServerChangeRulesChannelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeRulesChannel(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeRulesChannelListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeRulesChannelListener}s.
+     */
+    public boolean hasServerChangeRulesChannelListeners() {
+        return getApi().hasListeners(ServerChangeRulesChannelListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeRulesChannelListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeRulesChannelListener}s for the given objects.
+     */
+    public boolean hasServerChangeRulesChannelListeners(Server server) {
+        return (server != null && !server.getServerChangeRulesChannelListeners()
+                                         .isEmpty()) || !getApi().getServerChangeRulesChannelListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeServerFeatureListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeServerFeaturesEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeServerFeaturesEvent event) {
+        List<ServerChangeServerFeatureListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeServerFeatureListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeServerFeatureListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeServerFeature(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeServerFeatureListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeServerFeaturesEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeServerFeaturesEvent event) {
+        List<ServerChangeServerFeatureListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeServerFeatureListeners());
+        }
+        listeners.addAll(getApi().getServerChangeServerFeatureListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeServerFeature(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeServerFeatureListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeServerFeatureListener}s.
+     */
+    public boolean hasServerChangeServerFeatureListeners() {
+        return getApi().hasListeners(ServerChangeServerFeatureListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeServerFeatureListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeServerFeatureListener}s for the given objects.
+     */
+    public boolean hasServerChangeServerFeatureListeners(Server server) {
+        return (server != null && !server.getServerChangeServerFeatureListeners()
+                                         .isEmpty()) || !getApi().getServerChangeServerFeatureListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeSplashListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeSplashEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeSplashEvent event) {
+        List<ServerChangeSplashListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeSplashListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeSplashListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeSplash(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeSplashListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeSplashEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeSplashEvent event) {
+        List<ServerChangeSplashListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeSplashListeners());
+        }
+        listeners.addAll(getApi().getServerChangeSplashListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeSplash(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeSplashListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeSplashListener}s.
+     */
+    public boolean hasServerChangeSplashListeners() {
+        return getApi().hasListeners(ServerChangeSplashListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeSplashListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeSplashListener}s for the given objects.
+     */
+    public boolean hasServerChangeSplashListeners(Server server) {
+        return (server != null && !server.getServerChangeSplashListeners()
+                                         .isEmpty()) || !getApi().getServerChangeSplashListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeSystemChannelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeSystemChannelEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeSystemChannelEvent event) {
+        List<ServerChangeSystemChannelListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeSystemChannelListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeSystemChannelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeSystemChannel(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeSystemChannelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeSystemChannelEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeSystemChannelEvent event) {
+        List<ServerChangeSystemChannelListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeSystemChannelListeners());
+        }
+        listeners.addAll(getApi().getServerChangeSystemChannelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeSystemChannel(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeSystemChannelListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeSystemChannelListener}s.
+     */
+    public boolean hasServerChangeSystemChannelListeners() {
+        return getApi().hasListeners(ServerChangeSystemChannelListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeSystemChannelListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeSystemChannelListener}s for the given objects.
+     */
+    public boolean hasServerChangeSystemChannelListeners(Server server) {
+        return (server != null && !server.getServerChangeSystemChannelListeners()
+                                         .isEmpty()) || !getApi().getServerChangeSystemChannelListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeVanityUrlCodeListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeVanityUrlCodeEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeVanityUrlCodeEvent event) {
+        List<ServerChangeVanityUrlCodeListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeVanityUrlCodeListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeVanityUrlCodeListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeVanityUrlCode(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeVanityUrlCodeListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeVanityUrlCodeEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeVanityUrlCodeEvent event) {
+        List<ServerChangeVanityUrlCodeListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeVanityUrlCodeListeners());
+        }
+        listeners.addAll(getApi().getServerChangeVanityUrlCodeListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeVanityUrlCode(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeVanityUrlCodeListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeVanityUrlCodeListener}s.
+     */
+    public boolean hasServerChangeVanityUrlCodeListeners() {
+        return getApi().hasListeners(ServerChangeVanityUrlCodeListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeVanityUrlCodeListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeVanityUrlCodeListener}s for the given objects.
+     */
+    public boolean hasServerChangeVanityUrlCodeListeners(Server server) {
+        return (server != null && !server.getServerChangeVanityUrlCodeListeners()
+                                         .isEmpty()) || !getApi().getServerChangeVanityUrlCodeListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeVerificationLevelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerChangeVerificationLevelEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerChangeVerificationLevelEvent event) {
+        List<ServerChangeVerificationLevelListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerChangeVerificationLevelListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerChangeVerificationLevelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeVerificationLevel(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerChangeVerificationLevelListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerChangeVerificationLevelEvent(DispatchQueueSelector queueSelector, Server server, ServerChangeVerificationLevelEvent event) {
+        List<ServerChangeVerificationLevelListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerChangeVerificationLevelListeners());
+        }
+        listeners.addAll(getApi().getServerChangeVerificationLevelListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerChangeVerificationLevel(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerChangeVerificationLevelListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerChangeVerificationLevelListener}s.
+     */
+    public boolean hasServerChangeVerificationLevelListeners() {
+        return getApi().hasListeners(ServerChangeVerificationLevelListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerChangeVerificationLevelListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerChangeVerificationLevelListener}s for the given objects.
+     */
+    public boolean hasServerChangeVerificationLevelListeners(Server server) {
+        return (server != null && !server.getServerChangeVerificationLevelListeners()
+                                         .isEmpty()) || !getApi().getServerChangeVerificationLevelListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerJoinListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param event The event.
+     */
+    public void dispatchServerJoinEvent(DispatchQueueSelector queueSelector, ServerJoinEvent event) {
+        List<ServerJoinListener> listeners = new ArrayList<>();
+        listeners.addAll(getApi().getServerJoinListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerJoin(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerJoinListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerJoinListener}s.
+     */
+    public boolean hasServerJoinListeners() {
+        return getApi().hasListeners(ServerJoinListener.class);
+    }
+
+    /**
+     * Dispatch an event to {@code ServerLeaveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchServerLeaveEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, ServerLeaveEvent event) {
+        List<ServerLeaveListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerLeaveListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerLeaveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerLeave(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerLeaveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchServerLeaveEvent(DispatchQueueSelector queueSelector, Server server, ServerLeaveEvent event) {
+        List<ServerLeaveListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerLeaveListeners());
+        }
+        listeners.addAll(getApi().getServerLeaveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerLeave(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerLeaveListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerLeaveListener}s.
+     */
+    public boolean hasServerLeaveListeners() {
+        return getApi().hasListeners(ServerLeaveListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerLeaveListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code ServerLeaveListener}s for the given objects.
+     */
+    public boolean hasServerLeaveListeners(Server server) {
+        return (server != null && !server.getServerLeaveListeners()
+                                         .isEmpty()) || !getApi().getServerLeaveListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code VoiceServerUpdateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchVoiceServerUpdateEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, VoiceServerUpdateEvent event) {
+        List<VoiceServerUpdateListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getVoiceServerUpdateListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getVoiceServerUpdateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onVoiceServerUpdate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code VoiceServerUpdateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchVoiceServerUpdateEvent(DispatchQueueSelector queueSelector, Server server, VoiceServerUpdateEvent event) {
+        List<VoiceServerUpdateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getVoiceServerUpdateListeners());
+        }
+        listeners.addAll(getApi().getVoiceServerUpdateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onVoiceServerUpdate(event));
+    }
+
+    /**
+     * Checks if there are any {@code VoiceServerUpdateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code VoiceServerUpdateListener}s.
+     */
+    public boolean hasVoiceServerUpdateListeners() {
+        return getApi().hasListeners(VoiceServerUpdateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code VoiceServerUpdateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code VoiceServerUpdateListener}s for the given objects.
+     */
+    public boolean hasVoiceServerUpdateListeners(Server server) {
+        return (server != null && !server.getVoiceServerUpdateListeners()
+                                         .isEmpty()) || !getApi().getVoiceServerUpdateListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code VoiceStateUpdateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param serverChannels The {@code ServerChannel}s.
+     * @param event The event.
+     */
+    public void dispatchVoiceStateUpdateEvent(DispatchQueueSelector queueSelector, Collection<ServerChannel> serverChannels, VoiceStateUpdateEvent event) {
+        List<VoiceStateUpdateListener> listeners = new ArrayList<>();
+        if (serverChannels != null) {
+            serverChannels.stream()
+                          .map(ServerChannel::getVoiceStateUpdateListeners)
+                          .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getVoiceStateUpdateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onVoiceStateUpdate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code VoiceStateUpdateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param serverChannel The {@code ServerChannel}.
+     * @param event The event.
+     */
+    public void dispatchVoiceStateUpdateEvent(DispatchQueueSelector queueSelector, ServerChannel serverChannel, VoiceStateUpdateEvent event) {
+        List<VoiceStateUpdateListener> listeners = new ArrayList<>();
+        if (serverChannel != null) {
+            listeners.addAll(serverChannel.getVoiceStateUpdateListeners());
+        }
+        listeners.addAll(getApi().getVoiceStateUpdateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onVoiceStateUpdate(event));
+    }
+
+    /**
+     * Checks if there are any {@code VoiceStateUpdateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code VoiceStateUpdateListener}s.
+     */
+    public boolean hasVoiceStateUpdateListeners() {
+        return getApi().hasListeners(VoiceStateUpdateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code VoiceStateUpdateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param serverChannel The {@code ServerChannel}.
+     * @return Whether there are {@code VoiceStateUpdateListener}s for the given objects.
+     */
+    public boolean hasVoiceStateUpdateListeners(ServerChannel serverChannel) {
+        return (serverChannel != null && !serverChannel.getVoiceStateUpdateListeners()
+                                                       .isEmpty()) || !getApi().getVoiceStateUpdateListeners()
+                                                                               .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code KnownCustomEmojiChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param knownCustomEmojis The {@code KnownCustomEmoji}s.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchKnownCustomEmojiChangeNameEvent(DispatchQueueSelector queueSelector, Collection<KnownCustomEmoji> knownCustomEmojis, Collection<Server> servers, KnownCustomEmojiChangeNameEvent event) {
+        List<KnownCustomEmojiChangeNameListener> listeners = new ArrayList<>();
+        if (knownCustomEmojis != null) {
+            knownCustomEmojis.stream()
+                             .map(KnownCustomEmoji::getKnownCustomEmojiChangeNameListeners)
+                             .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getKnownCustomEmojiChangeNameListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getKnownCustomEmojiChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onKnownCustomEmojiChangeName(event));
+    }
+
+    /**
+     * Dispatch an event to {@code KnownCustomEmojiChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param knownCustomEmoji The {@code KnownCustomEmoji}.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchKnownCustomEmojiChangeNameEvent(DispatchQueueSelector queueSelector, KnownCustomEmoji knownCustomEmoji, Server server, KnownCustomEmojiChangeNameEvent event) {
+        List<KnownCustomEmojiChangeNameListener> listeners = new ArrayList<>();
+        if (knownCustomEmoji != null) {
+            listeners.addAll(knownCustomEmoji.getKnownCustomEmojiChangeNameListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getKnownCustomEmojiChangeNameListeners());
+        }
+        listeners.addAll(getApi().getKnownCustomEmojiChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onKnownCustomEmojiChangeName(event));
+    }
+
+    /**
+     * Checks if there are any {@code KnownCustomEmojiChangeNameListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code KnownCustomEmojiChangeNameListener}s.
+     */
+    public boolean hasKnownCustomEmojiChangeNameListeners() {
+        return getApi().hasListeners(KnownCustomEmojiChangeNameListener.class);
+    }
+
+    /**
+     * Checks if there are {@code KnownCustomEmojiChangeNameListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param knownCustomEmoji The {@code KnownCustomEmoji}.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code KnownCustomEmojiChangeNameListener}s for the given objects.
+     */
+    public boolean hasKnownCustomEmojiChangeNameListeners(KnownCustomEmoji knownCustomEmoji, Server server) {
+        return (knownCustomEmoji != null && !knownCustomEmoji.getKnownCustomEmojiChangeNameListeners()
+                                                             .isEmpty()) || (server != null && !server.getKnownCustomEmojiChangeNameListeners()
+                                                                                                      .isEmpty()) || !getApi().getKnownCustomEmojiChangeNameListeners()
+                                                                                                                              .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code KnownCustomEmojiChangeWhitelistedRolesListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param knownCustomEmojis The {@code KnownCustomEmoji}s.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchKnownCustomEmojiChangeWhitelistedRolesEvent(DispatchQueueSelector queueSelector, Collection<KnownCustomEmoji> knownCustomEmojis, Collection<Server> servers, KnownCustomEmojiChangeWhitelistedRolesEvent event) {
+        List<KnownCustomEmojiChangeWhitelistedRolesListener> listeners = new ArrayList<>();
+        if (knownCustomEmojis != null) {
+            knownCustomEmojis.stream()
+                             .map(KnownCustomEmoji::getKnownCustomEmojiChangeWhitelistedRolesListeners)
+                             .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getKnownCustomEmojiChangeWhitelistedRolesListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getKnownCustomEmojiChangeWhitelistedRolesListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onKnownCustomEmojiChangeWhitelistedRoles(event));
+    }
+
+    /**
+     * Dispatch an event to {@code KnownCustomEmojiChangeWhitelistedRolesListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param knownCustomEmoji The {@code KnownCustomEmoji}.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchKnownCustomEmojiChangeWhitelistedRolesEvent(DispatchQueueSelector queueSelector, KnownCustomEmoji knownCustomEmoji, Server server, KnownCustomEmojiChangeWhitelistedRolesEvent event) {
+        List<KnownCustomEmojiChangeWhitelistedRolesListener> listeners = new ArrayList<>();
+        if (knownCustomEmoji != null) {
+            listeners.addAll(knownCustomEmoji.getKnownCustomEmojiChangeWhitelistedRolesListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getKnownCustomEmojiChangeWhitelistedRolesListeners());
+        }
+        listeners.addAll(getApi().getKnownCustomEmojiChangeWhitelistedRolesListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onKnownCustomEmojiChangeWhitelistedRoles(event));
+    }
+
+    /**
+     * Checks if there are any {@code KnownCustomEmojiChangeWhitelistedRolesListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code KnownCustomEmojiChangeWhitelistedRolesListener}s.
+     */
+    public boolean hasKnownCustomEmojiChangeWhitelistedRolesListeners() {
+        return getApi().hasListeners(KnownCustomEmojiChangeWhitelistedRolesListener.class);
+    }
+
+    /**
+     * Checks if there are {@code KnownCustomEmojiChangeWhitelistedRolesListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param knownCustomEmoji The {@code KnownCustomEmoji}.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code KnownCustomEmojiChangeWhitelistedRolesListener}s for the given objects.
+     */
+    public boolean hasKnownCustomEmojiChangeWhitelistedRolesListeners(KnownCustomEmoji knownCustomEmoji, Server server) {
+        return (knownCustomEmoji != null && !knownCustomEmoji.getKnownCustomEmojiChangeWhitelistedRolesListeners()
+                                                             .isEmpty()) || (server != null && !server.getKnownCustomEmojiChangeWhitelistedRolesListeners()
+                                                                                                      .isEmpty()) || !getApi().getKnownCustomEmojiChangeWhitelistedRolesListeners()
+                                                                                                                              .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code KnownCustomEmojiCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchKnownCustomEmojiCreateEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, KnownCustomEmojiCreateEvent event) {
+        List<KnownCustomEmojiCreateListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getKnownCustomEmojiCreateListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getKnownCustomEmojiCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onKnownCustomEmojiCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code KnownCustomEmojiCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchKnownCustomEmojiCreateEvent(DispatchQueueSelector queueSelector, Server server, KnownCustomEmojiCreateEvent event) {
+        List<KnownCustomEmojiCreateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getKnownCustomEmojiCreateListeners());
+        }
+        listeners.addAll(getApi().getKnownCustomEmojiCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onKnownCustomEmojiCreate(event));
+    }
+
+    /**
+     * Checks if there are any {@code KnownCustomEmojiCreateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code KnownCustomEmojiCreateListener}s.
+     */
+    public boolean hasKnownCustomEmojiCreateListeners() {
+        return getApi().hasListeners(KnownCustomEmojiCreateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code KnownCustomEmojiCreateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code KnownCustomEmojiCreateListener}s for the given objects.
+     */
+    public boolean hasKnownCustomEmojiCreateListeners(Server server) {
+        return (server != null && !server.getKnownCustomEmojiCreateListeners()
+                                         .isEmpty()) || !getApi().getKnownCustomEmojiCreateListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code KnownCustomEmojiDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param knownCustomEmojis The {@code KnownCustomEmoji}s.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchKnownCustomEmojiDeleteEvent(DispatchQueueSelector queueSelector, Collection<KnownCustomEmoji> knownCustomEmojis, Collection<Server> servers, KnownCustomEmojiDeleteEvent event) {
+        List<KnownCustomEmojiDeleteListener> listeners = new ArrayList<>();
+        if (knownCustomEmojis != null) {
+            knownCustomEmojis.stream()
+                             .map(KnownCustomEmoji::getKnownCustomEmojiDeleteListeners)
+                             .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getKnownCustomEmojiDeleteListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getKnownCustomEmojiDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onKnownCustomEmojiDelete(event));
+    }
+
+    /**
+     * Dispatch an event to {@code KnownCustomEmojiDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param knownCustomEmoji The {@code KnownCustomEmoji}.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchKnownCustomEmojiDeleteEvent(DispatchQueueSelector queueSelector, KnownCustomEmoji knownCustomEmoji, Server server, KnownCustomEmojiDeleteEvent event) {
+        List<KnownCustomEmojiDeleteListener> listeners = new ArrayList<>();
+        if (knownCustomEmoji != null) {
+            listeners.addAll(knownCustomEmoji.getKnownCustomEmojiDeleteListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getKnownCustomEmojiDeleteListeners());
+        }
+        listeners.addAll(getApi().getKnownCustomEmojiDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onKnownCustomEmojiDelete(event));
+    }
+
+    /**
+     * Checks if there are any {@code KnownCustomEmojiDeleteListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code KnownCustomEmojiDeleteListener}s.
+     */
+    public boolean hasKnownCustomEmojiDeleteListeners() {
+        return getApi().hasListeners(KnownCustomEmojiDeleteListener.class);
+    }
+
+    /**
+     * Checks if there are {@code KnownCustomEmojiDeleteListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param knownCustomEmoji The {@code KnownCustomEmoji}.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code KnownCustomEmojiDeleteListener}s for the given objects.
+     */
+    public boolean hasKnownCustomEmojiDeleteListeners(KnownCustomEmoji knownCustomEmoji, Server server) {
+        return (knownCustomEmoji != null && !knownCustomEmoji.getKnownCustomEmojiDeleteListeners()
+                                                             .isEmpty()) || (server != null && !server.getKnownCustomEmojiDeleteListeners()
+                                                                                                      .isEmpty()) || !getApi().getKnownCustomEmojiDeleteListeners()
+                                                                                                                              .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerMemberBanListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchServerMemberBanEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, ServerMemberBanEvent event) {
+        List<ServerMemberBanListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerMemberBanListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getServerMemberBanListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerMemberBanListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberBan(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerMemberBanListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchServerMemberBanEvent(DispatchQueueSelector queueSelector, Server server, User user, ServerMemberBanEvent event) {
+        List<ServerMemberBanListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerMemberBanListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getServerMemberBanListeners());
+        }
+        listeners.addAll(getApi().getServerMemberBanListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberBan(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerMemberBanListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchServerMemberBanEvent(DispatchQueueSelector queueSelector, Server server, long userId, ServerMemberBanEvent event) {
+        List<ServerMemberBanListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerMemberBanListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     ServerMemberBanListener.class));
+        listeners.addAll(getApi().getServerMemberBanListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberBan(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerMemberBanListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerMemberBanListener}s.
+     */
+    public boolean hasServerMemberBanListeners() {
+        return getApi().hasListeners(ServerMemberBanListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerMemberBanListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code ServerMemberBanListener}s for the given objects.
+     */
+    public boolean hasServerMemberBanListeners(Server server, User user) {
+        return (server != null && !server.getServerMemberBanListeners()
+                                         .isEmpty()) || (user != null && !user.getServerMemberBanListeners()
+                                                                              .isEmpty()) || !getApi().getServerMemberBanListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerMemberJoinListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchServerMemberJoinEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, ServerMemberJoinEvent event) {
+        List<ServerMemberJoinListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerMemberJoinListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getServerMemberJoinListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerMemberJoinListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberJoin(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerMemberJoinListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchServerMemberJoinEvent(DispatchQueueSelector queueSelector, Server server, User user, ServerMemberJoinEvent event) {
+        List<ServerMemberJoinListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerMemberJoinListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getServerMemberJoinListeners());
+        }
+        listeners.addAll(getApi().getServerMemberJoinListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberJoin(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerMemberJoinListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchServerMemberJoinEvent(DispatchQueueSelector queueSelector, Server server, long userId, ServerMemberJoinEvent event) {
+        List<ServerMemberJoinListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerMemberJoinListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     ServerMemberJoinListener.class));
+        listeners.addAll(getApi().getServerMemberJoinListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberJoin(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerMemberJoinListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerMemberJoinListener}s.
+     */
+    public boolean hasServerMemberJoinListeners() {
+        return getApi().hasListeners(ServerMemberJoinListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerMemberJoinListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code ServerMemberJoinListener}s for the given objects.
+     */
+    public boolean hasServerMemberJoinListeners(Server server, User user) {
+        return (server != null && !server.getServerMemberJoinListeners()
+                                         .isEmpty()) || (user != null && !user.getServerMemberJoinListeners()
+                                                                              .isEmpty()) || !getApi().getServerMemberJoinListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerMemberLeaveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchServerMemberLeaveEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, ServerMemberLeaveEvent event) {
+        List<ServerMemberLeaveListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerMemberLeaveListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getServerMemberLeaveListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerMemberLeaveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberLeave(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerMemberLeaveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchServerMemberLeaveEvent(DispatchQueueSelector queueSelector, Server server, User user, ServerMemberLeaveEvent event) {
+        List<ServerMemberLeaveListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerMemberLeaveListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getServerMemberLeaveListeners());
+        }
+        listeners.addAll(getApi().getServerMemberLeaveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberLeave(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerMemberLeaveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchServerMemberLeaveEvent(DispatchQueueSelector queueSelector, Server server, long userId, ServerMemberLeaveEvent event) {
+        List<ServerMemberLeaveListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerMemberLeaveListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     ServerMemberLeaveListener.class));
+        listeners.addAll(getApi().getServerMemberLeaveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberLeave(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerMemberLeaveListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerMemberLeaveListener}s.
+     */
+    public boolean hasServerMemberLeaveListeners() {
+        return getApi().hasListeners(ServerMemberLeaveListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerMemberLeaveListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code ServerMemberLeaveListener}s for the given objects.
+     */
+    public boolean hasServerMemberLeaveListeners(Server server, User user) {
+        return (server != null && !server.getServerMemberLeaveListeners()
+                                         .isEmpty()) || (user != null && !user.getServerMemberLeaveListeners()
+                                                                              .isEmpty()) || !getApi().getServerMemberLeaveListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code ServerMemberUnbanListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchServerMemberUnbanEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, ServerMemberUnbanEvent event) {
+        List<ServerMemberUnbanListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getServerMemberUnbanListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getServerMemberUnbanListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getServerMemberUnbanListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberUnban(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerMemberUnbanListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchServerMemberUnbanEvent(DispatchQueueSelector queueSelector, Server server, User user, ServerMemberUnbanEvent event) {
+        List<ServerMemberUnbanListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerMemberUnbanListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getServerMemberUnbanListeners());
+        }
+        listeners.addAll(getApi().getServerMemberUnbanListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberUnban(event));
+    }
+
+    /**
+     * Dispatch an event to {@code ServerMemberUnbanListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchServerMemberUnbanEvent(DispatchQueueSelector queueSelector, Server server, long userId, ServerMemberUnbanEvent event) {
+        List<ServerMemberUnbanListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getServerMemberUnbanListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     ServerMemberUnbanListener.class));
+        listeners.addAll(getApi().getServerMemberUnbanListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberUnban(event));
+    }
+
+    /**
+     * Checks if there are any {@code ServerMemberUnbanListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code ServerMemberUnbanListener}s.
+     */
+    public boolean hasServerMemberUnbanListeners() {
+        return getApi().hasListeners(ServerMemberUnbanListener.class);
+    }
+
+    /**
+     * Checks if there are {@code ServerMemberUnbanListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code ServerMemberUnbanListener}s for the given objects.
+     */
+    public boolean hasServerMemberUnbanListeners(Server server, User user) {
+        return (server != null && !server.getServerMemberUnbanListeners()
+                                         .isEmpty()) || (user != null && !user.getServerMemberUnbanListeners()
+                                                                              .isEmpty()) || !getApi().getServerMemberUnbanListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code RoleChangeColorListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param roles The {@code Role}s.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchRoleChangeColorEvent(DispatchQueueSelector queueSelector, Collection<Role> roles, Collection<Server> servers, RoleChangeColorEvent event) {
+        List<RoleChangeColorListener> listeners = new ArrayList<>();
+        if (roles != null) {
+            roles.stream()
+                 .map(Role::getRoleChangeColorListeners)
+                 .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getRoleChangeColorListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getRoleChangeColorListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleChangeColor(event));
+    }
+
+    /**
+     * Dispatch an event to {@code RoleChangeColorListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchRoleChangeColorEvent(DispatchQueueSelector queueSelector, Role role, Server server, RoleChangeColorEvent event) {
+        List<RoleChangeColorListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getRoleChangeColorListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getRoleChangeColorListeners());
+        }
+        listeners.addAll(getApi().getRoleChangeColorListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleChangeColor(event));
+    }
+
+    /**
+     * Checks if there are any {@code RoleChangeColorListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code RoleChangeColorListener}s.
+     */
+    public boolean hasRoleChangeColorListeners() {
+        return getApi().hasListeners(RoleChangeColorListener.class);
+    }
+
+    /**
+     * Checks if there are {@code RoleChangeColorListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code RoleChangeColorListener}s for the given objects.
+     */
+    public boolean hasRoleChangeColorListeners(Role role, Server server) {
+        return (role != null && !role.getRoleChangeColorListeners()
+                                     .isEmpty()) || (server != null && !server.getRoleChangeColorListeners()
+                                                                              .isEmpty()) || !getApi().getRoleChangeColorListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code RoleChangeHoistListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param roles The {@code Role}s.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchRoleChangeHoistEvent(DispatchQueueSelector queueSelector, Collection<Role> roles, Collection<Server> servers, RoleChangeHoistEvent event) {
+        List<RoleChangeHoistListener> listeners = new ArrayList<>();
+        if (roles != null) {
+            roles.stream()
+                 .map(Role::getRoleChangeHoistListeners)
+                 .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getRoleChangeHoistListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getRoleChangeHoistListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleChangeHoist(event));
+    }
+
+    /**
+     * Dispatch an event to {@code RoleChangeHoistListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchRoleChangeHoistEvent(DispatchQueueSelector queueSelector, Role role, Server server, RoleChangeHoistEvent event) {
+        List<RoleChangeHoistListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getRoleChangeHoistListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getRoleChangeHoistListeners());
+        }
+        listeners.addAll(getApi().getRoleChangeHoistListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleChangeHoist(event));
+    }
+
+    /**
+     * Checks if there are any {@code RoleChangeHoistListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code RoleChangeHoistListener}s.
+     */
+    public boolean hasRoleChangeHoistListeners() {
+        return getApi().hasListeners(RoleChangeHoistListener.class);
+    }
+
+    /**
+     * Checks if there are {@code RoleChangeHoistListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code RoleChangeHoistListener}s for the given objects.
+     */
+    public boolean hasRoleChangeHoistListeners(Role role, Server server) {
+        return (role != null && !role.getRoleChangeHoistListeners()
+                                     .isEmpty()) || (server != null && !server.getRoleChangeHoistListeners()
+                                                                              .isEmpty()) || !getApi().getRoleChangeHoistListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code RoleChangeMentionableListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param roles The {@code Role}s.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchRoleChangeMentionableEvent(DispatchQueueSelector queueSelector, Collection<Role> roles, Collection<Server> servers, RoleChangeMentionableEvent event) {
+        List<RoleChangeMentionableListener> listeners = new ArrayList<>();
+        if (roles != null) {
+            roles.stream()
+                 .map(Role::getRoleChangeMentionableListeners)
+                 .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getRoleChangeMentionableListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getRoleChangeMentionableListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleChangeMentionable(event));
+    }
+
+    /**
+     * Dispatch an event to {@code RoleChangeMentionableListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchRoleChangeMentionableEvent(DispatchQueueSelector queueSelector, Role role, Server server, RoleChangeMentionableEvent event) {
+        List<RoleChangeMentionableListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getRoleChangeMentionableListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getRoleChangeMentionableListeners());
+        }
+        listeners.addAll(getApi().getRoleChangeMentionableListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleChangeMentionable(event));
+    }
+
+    /**
+     * Checks if there are any {@code RoleChangeMentionableListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code RoleChangeMentionableListener}s.
+     */
+    public boolean hasRoleChangeMentionableListeners() {
+        return getApi().hasListeners(RoleChangeMentionableListener.class);
+    }
+
+    /**
+     * Checks if there are {@code RoleChangeMentionableListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code RoleChangeMentionableListener}s for the given objects.
+     */
+    public boolean hasRoleChangeMentionableListeners(Role role, Server server) {
+        return (role != null && !role.getRoleChangeMentionableListeners()
+                                     .isEmpty()) || (server != null && !server.getRoleChangeMentionableListeners()
+                                                                              .isEmpty()) || !getApi().getRoleChangeMentionableListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code RoleChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param roles The {@code Role}s.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchRoleChangeNameEvent(DispatchQueueSelector queueSelector, Collection<Role> roles, Collection<Server> servers, RoleChangeNameEvent event) {
+        List<RoleChangeNameListener> listeners = new ArrayList<>();
+        if (roles != null) {
+            roles.stream()
+                 .map(Role::getRoleChangeNameListeners)
+                 .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getRoleChangeNameListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getRoleChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleChangeName(event));
+    }
+
+    /**
+     * Dispatch an event to {@code RoleChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchRoleChangeNameEvent(DispatchQueueSelector queueSelector, Role role, Server server, RoleChangeNameEvent event) {
+        List<RoleChangeNameListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getRoleChangeNameListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getRoleChangeNameListeners());
+        }
+        listeners.addAll(getApi().getRoleChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleChangeName(event));
+    }
+
+    /**
+     * Checks if there are any {@code RoleChangeNameListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code RoleChangeNameListener}s.
+     */
+    public boolean hasRoleChangeNameListeners() {
+        return getApi().hasListeners(RoleChangeNameListener.class);
+    }
+
+    /**
+     * Checks if there are {@code RoleChangeNameListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code RoleChangeNameListener}s for the given objects.
+     */
+    public boolean hasRoleChangeNameListeners(Role role, Server server) {
+        return (role != null && !role.getRoleChangeNameListeners()
+                                     .isEmpty()) || (server != null && !server.getRoleChangeNameListeners()
+                                                                              .isEmpty()) || !getApi().getRoleChangeNameListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code RoleChangePermissionsListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param roles The {@code Role}s.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchRoleChangePermissionsEvent(DispatchQueueSelector queueSelector, Collection<Role> roles, Collection<Server> servers, RoleChangePermissionsEvent event) {
+        List<RoleChangePermissionsListener> listeners = new ArrayList<>();
+        if (roles != null) {
+            roles.stream()
+                 .map(Role::getRoleChangePermissionsListeners)
+                 .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getRoleChangePermissionsListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getRoleChangePermissionsListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleChangePermissions(event));
+    }
+
+    /**
+     * Dispatch an event to {@code RoleChangePermissionsListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchRoleChangePermissionsEvent(DispatchQueueSelector queueSelector, Role role, Server server, RoleChangePermissionsEvent event) {
+        List<RoleChangePermissionsListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getRoleChangePermissionsListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getRoleChangePermissionsListeners());
+        }
+        listeners.addAll(getApi().getRoleChangePermissionsListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleChangePermissions(event));
+    }
+
+    /**
+     * Checks if there are any {@code RoleChangePermissionsListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code RoleChangePermissionsListener}s.
+     */
+    public boolean hasRoleChangePermissionsListeners() {
+        return getApi().hasListeners(RoleChangePermissionsListener.class);
+    }
+
+    /**
+     * Checks if there are {@code RoleChangePermissionsListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code RoleChangePermissionsListener}s for the given objects.
+     */
+    public boolean hasRoleChangePermissionsListeners(Role role, Server server) {
+        return (role != null && !role.getRoleChangePermissionsListeners()
+                                     .isEmpty()) || (server != null && !server.getRoleChangePermissionsListeners()
+                                                                              .isEmpty()) || !getApi().getRoleChangePermissionsListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code RoleChangePositionListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param roles The {@code Role}s.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchRoleChangePositionEvent(DispatchQueueSelector queueSelector, Collection<Role> roles, Collection<Server> servers, RoleChangePositionEvent event) {
+        List<RoleChangePositionListener> listeners = new ArrayList<>();
+        if (roles != null) {
+            roles.stream()
+                 .map(Role::getRoleChangePositionListeners)
+                 .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getRoleChangePositionListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getRoleChangePositionListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleChangePosition(event));
+    }
+
+    /**
+     * Dispatch an event to {@code RoleChangePositionListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchRoleChangePositionEvent(DispatchQueueSelector queueSelector, Role role, Server server, RoleChangePositionEvent event) {
+        List<RoleChangePositionListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getRoleChangePositionListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getRoleChangePositionListeners());
+        }
+        listeners.addAll(getApi().getRoleChangePositionListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleChangePosition(event));
+    }
+
+    /**
+     * Checks if there are any {@code RoleChangePositionListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code RoleChangePositionListener}s.
+     */
+    public boolean hasRoleChangePositionListeners() {
+        return getApi().hasListeners(RoleChangePositionListener.class);
+    }
+
+    /**
+     * Checks if there are {@code RoleChangePositionListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code RoleChangePositionListener}s for the given objects.
+     */
+    public boolean hasRoleChangePositionListeners(Role role, Server server) {
+        return (role != null && !role.getRoleChangePositionListeners()
+                                     .isEmpty()) || (server != null && !server.getRoleChangePositionListeners()
+                                                                              .isEmpty()) || !getApi().getRoleChangePositionListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code RoleCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchRoleCreateEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, RoleCreateEvent event) {
+        List<RoleCreateListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getRoleCreateListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getRoleCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleCreate(event));
+    }
+
+    /**
+     * Dispatch an event to {@code RoleCreateListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchRoleCreateEvent(DispatchQueueSelector queueSelector, Server server, RoleCreateEvent event) {
+        List<RoleCreateListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getRoleCreateListeners());
+        }
+        listeners.addAll(getApi().getRoleCreateListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleCreate(event));
+    }
+
+    /**
+     * Checks if there are any {@code RoleCreateListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code RoleCreateListener}s.
+     */
+    public boolean hasRoleCreateListeners() {
+        return getApi().hasListeners(RoleCreateListener.class);
+    }
+
+    /**
+     * Checks if there are {@code RoleCreateListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code RoleCreateListener}s for the given objects.
+     */
+    public boolean hasRoleCreateListeners(Server server) {
+        return (server != null && !server.getRoleCreateListeners()
+                                         .isEmpty()) || !getApi().getRoleCreateListeners()
+                                                                 .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code RoleDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param roles The {@code Role}s.
+     * @param servers The {@code Server}s.
+     * @param event The event.
+     */
+    public void dispatchRoleDeleteEvent(DispatchQueueSelector queueSelector, Collection<Role> roles, Collection<Server> servers, RoleDeleteEvent event) {
+        List<RoleDeleteListener> listeners = new ArrayList<>();
+        if (roles != null) {
+            roles.stream()
+                 .map(Role::getRoleDeleteListeners)
+                 .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getRoleDeleteListeners)
+                   .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getRoleDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleDelete(event));
+    }
+
+    /**
+     * Dispatch an event to {@code RoleDeleteListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param event The event.
+     */
+    public void dispatchRoleDeleteEvent(DispatchQueueSelector queueSelector, Role role, Server server, RoleDeleteEvent event) {
+        List<RoleDeleteListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getRoleDeleteListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getRoleDeleteListeners());
+        }
+        listeners.addAll(getApi().getRoleDeleteListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onRoleDelete(event));
+    }
+
+    /**
+     * Checks if there are any {@code RoleDeleteListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code RoleDeleteListener}s.
+     */
+    public boolean hasRoleDeleteListeners() {
+        return getApi().hasListeners(RoleDeleteListener.class);
+    }
+
+    /**
+     * Checks if there are {@code RoleDeleteListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @return Whether there are {@code RoleDeleteListener}s for the given objects.
+     */
+    public boolean hasRoleDeleteListeners(Role role, Server server) {
+        return (role != null && !role.getRoleDeleteListeners()
+                                     .isEmpty()) || (server != null && !server.getRoleDeleteListeners()
+                                                                              .isEmpty()) || !getApi().getRoleDeleteListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserRoleAddListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param roles The {@code Role}s.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserRoleAddEvent(DispatchQueueSelector queueSelector, Collection<Role> roles, Collection<Server> servers, Collection<User> users, UserRoleAddEvent event) {
+        List<UserRoleAddListener> listeners = new ArrayList<>();
+        if (roles != null) {
+            roles.stream()
+                 .map(Role::getUserRoleAddListeners)
+                 .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserRoleAddListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserRoleAddListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserRoleAddListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserRoleAdd(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserRoleAddListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserRoleAddEvent(DispatchQueueSelector queueSelector, Role role, Server server, User user, UserRoleAddEvent event) {
+        List<UserRoleAddListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getUserRoleAddListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getUserRoleAddListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserRoleAddListeners());
+        }
+        listeners.addAll(getApi().getUserRoleAddListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserRoleAdd(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserRoleAddListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserRoleAddEvent(DispatchQueueSelector queueSelector, Role role, Server server, long userId, UserRoleAddEvent event) {
+        List<UserRoleAddListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getUserRoleAddListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getUserRoleAddListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserRoleAddListener.class));
+        listeners.addAll(getApi().getUserRoleAddListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserRoleAdd(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserRoleAddListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserRoleAddListener}s.
+     */
+    public boolean hasUserRoleAddListeners() {
+        return getApi().hasListeners(UserRoleAddListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserRoleAddListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserRoleAddListener}s for the given objects.
+     */
+    public boolean hasUserRoleAddListeners(Role role, Server server, User user) {
+        return (role != null && !role.getUserRoleAddListeners()
+                                     .isEmpty()) || (server != null && !server.getUserRoleAddListeners()
+                                                                              .isEmpty()) || (user != null && !user.getUserRoleAddListeners()
+                                                                                                                   .isEmpty()) || !getApi().getUserRoleAddListeners()
+                                                                                                                                           .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserRoleRemoveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param roles The {@code Role}s.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserRoleRemoveEvent(DispatchQueueSelector queueSelector, Collection<Role> roles, Collection<Server> servers, Collection<User> users, UserRoleRemoveEvent event) {
+        List<UserRoleRemoveListener> listeners = new ArrayList<>();
+        if (roles != null) {
+            roles.stream()
+                 .map(Role::getUserRoleRemoveListeners)
+                 .forEach(listeners::addAll);
+        }
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserRoleRemoveListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserRoleRemoveListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserRoleRemoveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserRoleRemove(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserRoleRemoveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserRoleRemoveEvent(DispatchQueueSelector queueSelector, Role role, Server server, User user, UserRoleRemoveEvent event) {
+        List<UserRoleRemoveListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getUserRoleRemoveListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getUserRoleRemoveListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserRoleRemoveListeners());
+        }
+        listeners.addAll(getApi().getUserRoleRemoveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserRoleRemove(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserRoleRemoveListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserRoleRemoveEvent(DispatchQueueSelector queueSelector, Role role, Server server, long userId, UserRoleRemoveEvent event) {
+        List<UserRoleRemoveListener> listeners = new ArrayList<>();
+        if (role != null) {
+            listeners.addAll(role.getUserRoleRemoveListeners());
+        }
+        if (server != null) {
+            listeners.addAll(server.getUserRoleRemoveListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserRoleRemoveListener.class));
+        listeners.addAll(getApi().getUserRoleRemoveListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserRoleRemove(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserRoleRemoveListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserRoleRemoveListener}s.
+     */
+    public boolean hasUserRoleRemoveListeners() {
+        return getApi().hasListeners(UserRoleRemoveListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserRoleRemoveListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param role The {@code Role}.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserRoleRemoveListener}s for the given objects.
+     */
+    public boolean hasUserRoleRemoveListeners(Role role, Server server, User user) {
+        return (role != null && !role.getUserRoleRemoveListeners()
+                                     .isEmpty()) || (server != null && !server.getUserRoleRemoveListeners()
+                                                                              .isEmpty()) || (user != null && !user.getUserRoleRemoveListeners()
+                                                                                                                   .isEmpty()) || !getApi().getUserRoleRemoveListeners()
+                                                                                                                                           .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeActivityListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserChangeActivityEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, UserChangeActivityEvent event) {
+        List<UserChangeActivityListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserChangeActivityListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserChangeActivityListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserChangeActivityListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeActivity(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeActivityListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeActivityEvent(DispatchQueueSelector queueSelector, Server server, User user, UserChangeActivityEvent event) {
+        List<UserChangeActivityListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeActivityListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserChangeActivityListeners());
+        }
+        listeners.addAll(getApi().getUserChangeActivityListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeActivity(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeActivityListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeActivityEvent(DispatchQueueSelector queueSelector, Server server, long userId, UserChangeActivityEvent event) {
+        List<UserChangeActivityListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeActivityListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserChangeActivityListener.class));
+        listeners.addAll(getApi().getUserChangeActivityListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeActivity(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserChangeActivityListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserChangeActivityListener}s.
+     */
+    public boolean hasUserChangeActivityListeners() {
+        return getApi().hasListeners(UserChangeActivityListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserChangeActivityListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserChangeActivityListener}s for the given objects.
+     */
+    public boolean hasUserChangeActivityListeners(Server server, User user) {
+        return (server != null && !server.getUserChangeActivityListeners()
+                                         .isEmpty()) || (user != null && !user.getUserChangeActivityListeners()
+                                                                              .isEmpty()) || !getApi().getUserChangeActivityListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeAvatarListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserChangeAvatarEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, UserChangeAvatarEvent event) {
+        List<UserChangeAvatarListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserChangeAvatarListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserChangeAvatarListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserChangeAvatarListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeAvatar(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeAvatarListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeAvatarEvent(DispatchQueueSelector queueSelector, Server server, User user, UserChangeAvatarEvent event) {
+        List<UserChangeAvatarListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeAvatarListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserChangeAvatarListeners());
+        }
+        listeners.addAll(getApi().getUserChangeAvatarListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeAvatar(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeAvatarListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeAvatarEvent(DispatchQueueSelector queueSelector, Server server, long userId, UserChangeAvatarEvent event) {
+        List<UserChangeAvatarListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeAvatarListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserChangeAvatarListener.class));
+        listeners.addAll(getApi().getUserChangeAvatarListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeAvatar(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserChangeAvatarListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserChangeAvatarListener}s.
+     */
+    public boolean hasUserChangeAvatarListeners() {
+        return getApi().hasListeners(UserChangeAvatarListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserChangeAvatarListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserChangeAvatarListener}s for the given objects.
+     */
+    public boolean hasUserChangeAvatarListeners(Server server, User user) {
+        return (server != null && !server.getUserChangeAvatarListeners()
+                                         .isEmpty()) || (user != null && !user.getUserChangeAvatarListeners()
+                                                                              .isEmpty()) || !getApi().getUserChangeAvatarListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeDeafenedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserChangeDeafenedEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, UserChangeDeafenedEvent event) {
+        List<UserChangeDeafenedListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserChangeDeafenedListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserChangeDeafenedListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserChangeDeafenedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeDeafened(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeDeafenedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeDeafenedEvent(DispatchQueueSelector queueSelector, Server server, User user, UserChangeDeafenedEvent event) {
+        List<UserChangeDeafenedListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeDeafenedListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserChangeDeafenedListeners());
+        }
+        listeners.addAll(getApi().getUserChangeDeafenedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeDeafened(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeDeafenedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeDeafenedEvent(DispatchQueueSelector queueSelector, Server server, long userId, UserChangeDeafenedEvent event) {
+        List<UserChangeDeafenedListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeDeafenedListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserChangeDeafenedListener.class));
+        listeners.addAll(getApi().getUserChangeDeafenedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeDeafened(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserChangeDeafenedListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserChangeDeafenedListener}s.
+     */
+    public boolean hasUserChangeDeafenedListeners() {
+        return getApi().hasListeners(UserChangeDeafenedListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserChangeDeafenedListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserChangeDeafenedListener}s for the given objects.
+     */
+    public boolean hasUserChangeDeafenedListeners(Server server, User user) {
+        return (server != null && !server.getUserChangeDeafenedListeners()
+                                         .isEmpty()) || (user != null && !user.getUserChangeDeafenedListeners()
+                                                                              .isEmpty()) || !getApi().getUserChangeDeafenedListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeDiscriminatorListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserChangeDiscriminatorEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, UserChangeDiscriminatorEvent event) {
+        List<UserChangeDiscriminatorListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserChangeDiscriminatorListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserChangeDiscriminatorListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserChangeDiscriminatorListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeDiscriminator(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeDiscriminatorListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeDiscriminatorEvent(DispatchQueueSelector queueSelector, Server server, User user, UserChangeDiscriminatorEvent event) {
+        List<UserChangeDiscriminatorListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeDiscriminatorListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserChangeDiscriminatorListeners());
+        }
+        listeners.addAll(getApi().getUserChangeDiscriminatorListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeDiscriminator(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeDiscriminatorListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeDiscriminatorEvent(DispatchQueueSelector queueSelector, Server server, long userId, UserChangeDiscriminatorEvent event) {
+        List<UserChangeDiscriminatorListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeDiscriminatorListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserChangeDiscriminatorListener.class));
+        listeners.addAll(getApi().getUserChangeDiscriminatorListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeDiscriminator(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserChangeDiscriminatorListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserChangeDiscriminatorListener}s.
+     */
+    public boolean hasUserChangeDiscriminatorListeners() {
+        return getApi().hasListeners(UserChangeDiscriminatorListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserChangeDiscriminatorListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserChangeDiscriminatorListener}s for the given objects.
+     */
+    public boolean hasUserChangeDiscriminatorListeners(Server server, User user) {
+        return (server != null && !server.getUserChangeDiscriminatorListeners()
+                                         .isEmpty()) || (user != null && !user.getUserChangeDiscriminatorListeners()
+                                                                              .isEmpty()) || !getApi().getUserChangeDiscriminatorListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeMutedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserChangeMutedEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, UserChangeMutedEvent event) {
+        List<UserChangeMutedListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserChangeMutedListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserChangeMutedListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserChangeMutedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeMuted(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeMutedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeMutedEvent(DispatchQueueSelector queueSelector, Server server, User user, UserChangeMutedEvent event) {
+        List<UserChangeMutedListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeMutedListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserChangeMutedListeners());
+        }
+        listeners.addAll(getApi().getUserChangeMutedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeMuted(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeMutedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeMutedEvent(DispatchQueueSelector queueSelector, Server server, long userId, UserChangeMutedEvent event) {
+        List<UserChangeMutedListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeMutedListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserChangeMutedListener.class));
+        listeners.addAll(getApi().getUserChangeMutedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeMuted(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserChangeMutedListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserChangeMutedListener}s.
+     */
+    public boolean hasUserChangeMutedListeners() {
+        return getApi().hasListeners(UserChangeMutedListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserChangeMutedListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserChangeMutedListener}s for the given objects.
+     */
+    public boolean hasUserChangeMutedListeners(Server server, User user) {
+        return (server != null && !server.getUserChangeMutedListeners()
+                                         .isEmpty()) || (user != null && !user.getUserChangeMutedListeners()
+                                                                              .isEmpty()) || !getApi().getUserChangeMutedListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserChangeNameEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, UserChangeNameEvent event) {
+        List<UserChangeNameListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserChangeNameListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserChangeNameListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeName(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeNameEvent(DispatchQueueSelector queueSelector, Server server, User user, UserChangeNameEvent event) {
+        List<UserChangeNameListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeNameListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserChangeNameListeners());
+        }
+        listeners.addAll(getApi().getUserChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeName(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeNameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeNameEvent(DispatchQueueSelector queueSelector, Server server, long userId, UserChangeNameEvent event) {
+        List<UserChangeNameListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeNameListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserChangeNameListener.class));
+        listeners.addAll(getApi().getUserChangeNameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeName(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserChangeNameListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserChangeNameListener}s.
+     */
+    public boolean hasUserChangeNameListeners() {
+        return getApi().hasListeners(UserChangeNameListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserChangeNameListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserChangeNameListener}s for the given objects.
+     */
+    public boolean hasUserChangeNameListeners(Server server, User user) {
+        return (server != null && !server.getUserChangeNameListeners()
+                                         .isEmpty()) || (user != null && !user.getUserChangeNameListeners()
+                                                                              .isEmpty()) || !getApi().getUserChangeNameListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeNicknameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserChangeNicknameEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, UserChangeNicknameEvent event) {
+        List<UserChangeNicknameListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserChangeNicknameListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserChangeNicknameListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserChangeNicknameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeNickname(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeNicknameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeNicknameEvent(DispatchQueueSelector queueSelector, Server server, User user, UserChangeNicknameEvent event) {
+        List<UserChangeNicknameListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeNicknameListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserChangeNicknameListeners());
+        }
+        listeners.addAll(getApi().getUserChangeNicknameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeNickname(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeNicknameListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeNicknameEvent(DispatchQueueSelector queueSelector, Server server, long userId, UserChangeNicknameEvent event) {
+        List<UserChangeNicknameListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeNicknameListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserChangeNicknameListener.class));
+        listeners.addAll(getApi().getUserChangeNicknameListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeNickname(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserChangeNicknameListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserChangeNicknameListener}s.
+     */
+    public boolean hasUserChangeNicknameListeners() {
+        return getApi().hasListeners(UserChangeNicknameListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserChangeNicknameListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserChangeNicknameListener}s for the given objects.
+     */
+    public boolean hasUserChangeNicknameListeners(Server server, User user) {
+        return (server != null && !server.getUserChangeNicknameListeners()
+                                         .isEmpty()) || (user != null && !user.getUserChangeNicknameListeners()
+                                                                              .isEmpty()) || !getApi().getUserChangeNicknameListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangePendingListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserChangePendingEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, UserChangePendingEvent event) {
+        List<UserChangePendingListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserChangePendingListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserChangePendingListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserChangePendingListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberChangePending(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangePendingListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangePendingEvent(DispatchQueueSelector queueSelector, Server server, User user, UserChangePendingEvent event) {
+        List<UserChangePendingListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangePendingListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserChangePendingListeners());
+        }
+        listeners.addAll(getApi().getUserChangePendingListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberChangePending(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangePendingListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangePendingEvent(DispatchQueueSelector queueSelector, Server server, long userId, UserChangePendingEvent event) {
+        List<UserChangePendingListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangePendingListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserChangePendingListener.class));
+        listeners.addAll(getApi().getUserChangePendingListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onServerMemberChangePending(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserChangePendingListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserChangePendingListener}s.
+     */
+    public boolean hasUserChangePendingListeners() {
+        return getApi().hasListeners(UserChangePendingListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserChangePendingListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserChangePendingListener}s for the given objects.
+     */
+    public boolean hasUserChangePendingListeners(Server server, User user) {
+        return (server != null && !server.getUserChangePendingListeners()
+                                         .isEmpty()) || (user != null && !user.getUserChangePendingListeners()
+                                                                              .isEmpty()) || !getApi().getUserChangePendingListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeSelfDeafenedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserChangeSelfDeafenedEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, UserChangeSelfDeafenedEvent event) {
+        List<UserChangeSelfDeafenedListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserChangeSelfDeafenedListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserChangeSelfDeafenedListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserChangeSelfDeafenedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeSelfDeafened(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeSelfDeafenedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeSelfDeafenedEvent(DispatchQueueSelector queueSelector, Server server, User user, UserChangeSelfDeafenedEvent event) {
+        List<UserChangeSelfDeafenedListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeSelfDeafenedListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserChangeSelfDeafenedListeners());
+        }
+        listeners.addAll(getApi().getUserChangeSelfDeafenedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeSelfDeafened(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeSelfDeafenedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeSelfDeafenedEvent(DispatchQueueSelector queueSelector, Server server, long userId, UserChangeSelfDeafenedEvent event) {
+        List<UserChangeSelfDeafenedListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeSelfDeafenedListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserChangeSelfDeafenedListener.class));
+        listeners.addAll(getApi().getUserChangeSelfDeafenedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeSelfDeafened(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserChangeSelfDeafenedListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserChangeSelfDeafenedListener}s.
+     */
+    public boolean hasUserChangeSelfDeafenedListeners() {
+        return getApi().hasListeners(UserChangeSelfDeafenedListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserChangeSelfDeafenedListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserChangeSelfDeafenedListener}s for the given objects.
+     */
+    public boolean hasUserChangeSelfDeafenedListeners(Server server, User user) {
+        return (server != null && !server.getUserChangeSelfDeafenedListeners()
+                                         .isEmpty()) || (user != null && !user.getUserChangeSelfDeafenedListeners()
+                                                                              .isEmpty()) || !getApi().getUserChangeSelfDeafenedListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeSelfMutedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserChangeSelfMutedEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, UserChangeSelfMutedEvent event) {
+        List<UserChangeSelfMutedListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserChangeSelfMutedListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserChangeSelfMutedListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserChangeSelfMutedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeSelfMuted(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeSelfMutedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeSelfMutedEvent(DispatchQueueSelector queueSelector, Server server, User user, UserChangeSelfMutedEvent event) {
+        List<UserChangeSelfMutedListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeSelfMutedListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserChangeSelfMutedListeners());
+        }
+        listeners.addAll(getApi().getUserChangeSelfMutedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeSelfMuted(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeSelfMutedListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeSelfMutedEvent(DispatchQueueSelector queueSelector, Server server, long userId, UserChangeSelfMutedEvent event) {
+        List<UserChangeSelfMutedListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeSelfMutedListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserChangeSelfMutedListener.class));
+        listeners.addAll(getApi().getUserChangeSelfMutedListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeSelfMuted(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserChangeSelfMutedListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserChangeSelfMutedListener}s.
+     */
+    public boolean hasUserChangeSelfMutedListeners() {
+        return getApi().hasListeners(UserChangeSelfMutedListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserChangeSelfMutedListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserChangeSelfMutedListener}s for the given objects.
+     */
+    public boolean hasUserChangeSelfMutedListeners(Server server, User user) {
+        return (server != null && !server.getUserChangeSelfMutedListeners()
+                                         .isEmpty()) || (user != null && !user.getUserChangeSelfMutedListeners()
+                                                                              .isEmpty()) || !getApi().getUserChangeSelfMutedListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeStatusListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserChangeStatusEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<User> users, UserChangeStatusEvent event) {
+        List<UserChangeStatusListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserChangeStatusListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserChangeStatusListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserChangeStatusListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeStatus(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeStatusListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeStatusEvent(DispatchQueueSelector queueSelector, Server server, User user, UserChangeStatusEvent event) {
+        List<UserChangeStatusListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeStatusListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserChangeStatusListeners());
+        }
+        listeners.addAll(getApi().getUserChangeStatusListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeStatus(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserChangeStatusListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserChangeStatusEvent(DispatchQueueSelector queueSelector, Server server, long userId, UserChangeStatusEvent event) {
+        List<UserChangeStatusListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserChangeStatusListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserChangeStatusListener.class));
+        listeners.addAll(getApi().getUserChangeStatusListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserChangeStatus(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserChangeStatusListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserChangeStatusListener}s.
+     */
+    public boolean hasUserChangeStatusListeners() {
+        return getApi().hasListeners(UserChangeStatusListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserChangeStatusListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserChangeStatusListener}s for the given objects.
+     */
+    public boolean hasUserChangeStatusListeners(Server server, User user) {
+        return (server != null && !server.getUserChangeStatusListeners()
+                                         .isEmpty()) || (user != null && !user.getUserChangeStatusListeners()
+                                                                              .isEmpty()) || !getApi().getUserChangeStatusListeners()
+                                                                                                      .isEmpty();
+    }
+
+    /**
+     * Dispatch an event to {@code UserStartTypingListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param servers The {@code Server}s.
+     * @param textChannels The {@code TextChannel}s.
+     * @param users The {@code User}s.
+     * @param event The event.
+     */
+    public void dispatchUserStartTypingEvent(DispatchQueueSelector queueSelector, Collection<Server> servers, Collection<TextChannel> textChannels, Collection<User> users, UserStartTypingEvent event) {
+        List<UserStartTypingListener> listeners = new ArrayList<>();
+        if (servers != null) {
+            servers.stream()
+                   .map(Server::getUserStartTypingListeners)
+                   .forEach(listeners::addAll);
+        }
+        if (textChannels != null) {
+            textChannels.stream()
+                        .map(TextChannel::getUserStartTypingListeners)
+                        .forEach(listeners::addAll);
+        }
+        if (users != null) {
+            users.stream()
+                 .map(User::getUserStartTypingListeners)
+                 .forEach(listeners::addAll);
+        }
+        listeners.addAll(getApi().getUserStartTypingListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserStartTyping(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserStartTypingListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @param event The event.
+     */
+    public void dispatchUserStartTypingEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, User user, UserStartTypingEvent event) {
+        List<UserStartTypingListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserStartTypingListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getUserStartTypingListeners());
+        }
+        if (user != null) {
+            listeners.addAll(user.getUserStartTypingListeners());
+        }
+        listeners.addAll(getApi().getUserStartTypingListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserStartTyping(event));
+    }
+
+    /**
+     * Dispatch an event to {@code UserStartTypingListener}s.
+     *
+     * @param queueSelector The object which is used to determine in which queue the event should be
+     *                      dispatched. Usually the object is a server object (for server-dependent
+     *                      events), a discord api instance (for server-independent events, like DMs or
+     *                      GMs) or {@code null} (for lifecycle events, like connection lost, resume or
+     *                      reconnect). Providing {@code null} means, that already started dispatchings
+     *                      are going to be finished, then all events with a {@code null} queue
+     *                      selector are dispatched and finally other events are dispatched like normal
+     *                      again. Events with the same queue selector are dispatched sequentially in
+     *                      the correct order of enqueueal, but on arbitrary threads from a thread
+     *                      pool. Events with different queue selectors are dispatched in parallel.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param userId The id of the {@link User}.
+     * @param event The event.
+     */
+    public void dispatchUserStartTypingEvent(DispatchQueueSelector queueSelector, Server server, TextChannel textChannel, long userId, UserStartTypingEvent event) {
+        List<UserStartTypingListener> listeners = new ArrayList<>();
+        if (server != null) {
+            listeners.addAll(server.getUserStartTypingListeners());
+        }
+        if (textChannel != null) {
+            listeners.addAll(textChannel.getUserStartTypingListeners());
+        }
+        listeners.addAll(getApi().getObjectListeners(User.class,
+                                                     userId,
+                                                     UserStartTypingListener.class));
+        listeners.addAll(getApi().getUserStartTypingListeners());
+        dispatchEvent(queueSelector,
+                      listeners,
+                      listener -> listener.onUserStartTyping(event));
+    }
+
+    /**
+     * Checks if there are any {@code UserStartTypingListener}s, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @return Whether there are any {@code UserStartTypingListener}s.
+     */
+    public boolean hasUserStartTypingListeners() {
+        return getApi().hasListeners(UserStartTypingListener.class);
+    }
+
+    /**
+     * Checks if there are {@code UserStartTypingListener}s for the given objects.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     * @param server The {@code Server}.
+     * @param textChannel The {@code TextChannel}.
+     * @param user The {@code User}.
+     * @return Whether there are {@code UserStartTypingListener}s for the given objects.
+     */
+    public boolean hasUserStartTypingListeners(Server server, TextChannel textChannel, User user) {
+        return (server != null && !server.getUserStartTypingListeners()
+                                         .isEmpty()) || (textChannel != null && !textChannel.getUserStartTypingListeners()
+                                                                                            .isEmpty()) || (user != null && !user.getUserStartTypingListeners()
+                                                                                                                                 .isEmpty()) || !getApi().getUserStartTypingListeners()
+                                                                                                                                                         .isEmpty();
+    }
+}
@@ -0,0 +1,155 @@
+package org.javacord.core.listener.channel.group;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Generated;
+import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.channel.GroupChannel;
+import org.javacord.api.listener.ObjectAttachableListener;
+import org.javacord.api.listener.channel.ChannelAttachableListener;
+import org.javacord.api.listener.channel.TextChannelAttachableListener;
+import org.javacord.api.listener.channel.VoiceChannelAttachableListener;
+import org.javacord.api.listener.channel.group.GroupChannelAttachableListener;
+import org.javacord.api.listener.channel.group.GroupChannelAttachableListenerManager;
+import org.javacord.api.listener.channel.group.GroupChannelChangeNameListener;
+import org.javacord.api.listener.channel.group.GroupChannelDeleteListener;
+import org.javacord.api.util.event.ListenerManager;
+import org.javacord.core.DiscordApiImpl;
+import org.javacord.core.listener.channel.InternalTextChannelAttachableListenerManager;
+import org.javacord.core.listener.channel.InternalVoiceChannelAttachableListenerManager;
+import org.javacord.core.util.ClassHelper;
+
+/**
+ * The implementation of {@code GroupChannelAttachableListenerManager}.
+ */
+@Generated("listener-manager-generation.gradle")
+public interface InternalGroupChannelAttachableListenerManager extends GroupChannelAttachableListenerManager, InternalTextChannelAttachableListenerManager, InternalVoiceChannelAttachableListenerManager {
+
+    /**
+     * Gets the discord api instance.
+     *
+     * @return The discord api instance.
+     */
+    DiscordApi getApi();
+
+    /**
+     * Gets the id of this object.
+     *
+     * @return The id of this object.
+     */
+    long getId();
+
+    @Override
+    default ListenerManager<GroupChannelChangeNameListener> addGroupChannelChangeNameListener(GroupChannelChangeNameListener listener) {
+        return ((DiscordApiImpl) getApi()).addObjectListener(GroupChannel.class,
+                                                             getId(),
+                                                             GroupChannelChangeNameListener.class,
+                                                             listener);
+    }
+
+    @Override
+    default List<GroupChannelChangeNameListener> getGroupChannelChangeNameListeners() {
+        return ((DiscordApiImpl) getApi()).getObjectListeners(GroupChannel.class,
+                                                              getId(),
+                                                              GroupChannelChangeNameListener.class);
+    }
+
+    @Override
+    default ListenerManager<GroupChannelDeleteListener> addGroupChannelDeleteListener(GroupChannelDeleteListener listener) {
+        return ((DiscordApiImpl) getApi()).addObjectListener(GroupChannel.class,
+                                                             getId(),
+                                                             GroupChannelDeleteListener.class,
+                                                             listener);
+    }
+
+    @Override
+    default List<GroupChannelDeleteListener> getGroupChannelDeleteListeners() {
+        return ((DiscordApiImpl) getApi()).getObjectListeners(GroupChannel.class,
+                                                              getId(),
+                                                              GroupChannelDeleteListener.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    default <T extends GroupChannelAttachableListener & ObjectAttachableListener> Collection<ListenerManager<? extends GroupChannelAttachableListener>> addGroupChannelAttachableListener(T listener) {
+        return ClassHelper.getInterfacesAsStream(listener.getClass())
+                          .filter(GroupChannelAttachableListener.class::isAssignableFrom)
+                          .filter(ObjectAttachableListener.class::isAssignableFrom)
+                          .map(listenerClass -> (Class<T>) listenerClass)
+                          .flatMap(listenerClass -> {
+                              if (ChannelAttachableListener.class.isAssignableFrom(listenerClass)) {
+                                  return addChannelAttachableListener((ChannelAttachableListener & ObjectAttachableListener) listener).stream();
+                              } else if (TextChannelAttachableListener.class.isAssignableFrom(listenerClass)) {
+                                  return addTextChannelAttachableListener((TextChannelAttachableListener & ObjectAttachableListener) listener).stream();
+                              } else if (VoiceChannelAttachableListener.class.isAssignableFrom(listenerClass)) {
+                                  return addVoiceChannelAttachableListener((VoiceChannelAttachableListener & ObjectAttachableListener) listener).stream();
+                              } else {
+                                  return Stream.of(((DiscordApiImpl) getApi()).addObjectListener(GroupChannel.class,
+                                                                                                 getId(),
+                                                                                                 listenerClass,
+                                                                                                 listener));
+                              }
+                          })
+                          .collect(Collectors.toList());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    default <T extends GroupChannelAttachableListener & ObjectAttachableListener> void removeGroupChannelAttachableListener(T listener) {
+        ClassHelper.getInterfacesAsStream(listener.getClass())
+                   .filter(GroupChannelAttachableListener.class::isAssignableFrom)
+                   .filter(ObjectAttachableListener.class::isAssignableFrom)
+                   .map(listenerClass -> (Class<T>) listenerClass)
+                   .forEach(listenerClass -> {
+                       if (ChannelAttachableListener.class.isAssignableFrom(listenerClass)) {
+                           removeChannelAttachableListener((ChannelAttachableListener & ObjectAttachableListener) listener);
+                       } else if (TextChannelAttachableListener.class.isAssignableFrom(listenerClass)) {
+                           removeTextChannelAttachableListener((TextChannelAttachableListener & ObjectAttachableListener) listener);
+                       } else if (VoiceChannelAttachableListener.class.isAssignableFrom(listenerClass)) {
+                           removeVoiceChannelAttachableListener((VoiceChannelAttachableListener & ObjectAttachableListener) listener);
+                       } else {
+                           ((DiscordApiImpl) getApi()).removeObjectListener(GroupChannel.class,
+                                                                            getId(),
+                                                                            listenerClass,
+                                                                            listener);
+                       }
+                   });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    default <T extends GroupChannelAttachableListener & ObjectAttachableListener> Map<T, List<Class<T>>> getGroupChannelAttachableListeners() {
+        Map<T, List<Class<T>>> listeners = ((DiscordApiImpl) getApi()).getObjectListeners(GroupChannel.class,
+                                                                                          getId());
+        getVoiceChannelAttachableListeners().forEach((listener, listenerClasses) -> listeners.merge((T) listener,
+                                                                                                    (List<Class<T>>) (Object) listenerClasses,
+                                                                                                    (listenerClasses1, listenerClasses2) -> {
+                                                                                                        listenerClasses1.addAll(listenerClasses2);
+                                                                                                        return listenerClasses1;
+                                                                                                    }));
+        getTextChannelAttachableListeners().forEach((listener, listenerClasses) -> listeners.merge((T) listener,
+                                                                                                   (List<Class<T>>) (Object) listenerClasses,
+                                                                                                   (listenerClasses1, listenerClasses2) -> {
+                                                                                                       listenerClasses1.addAll(listenerClasses2);
+                                                                                                       return listenerClasses1;
+                                                                                                   }));
+        getChannelAttachableListeners().forEach((listener, listenerClasses) -> listeners.merge((T) listener,
+                                                                                               (List<Class<T>>) (Object) listenerClasses,
+                                                                                               (listenerClasses1, listenerClasses2) -> {
+                                                                                                   listenerClasses1.addAll(listenerClasses2);
+                                                                                                   return listenerClasses1;
+                                                                                               }));
+        return listeners;
+    }
+
+    @Override
+    default <T extends GroupChannelAttachableListener & ObjectAttachableListener> void removeListener(Class<T> listenerClass, T listener) {
+        ((DiscordApiImpl) getApi()).removeObjectListener(GroupChannel.class,
+                                                         getId(),
+                                                         listenerClass,
+                                                         listener);
+    }
+}
@@ -0,0 +1,172 @@
+package org.javacord.core.entity.message;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.javacord.api.entity.channel.TextChannel;
+import org.javacord.api.entity.message.Message;
+import org.javacord.core.DiscordApiImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap footprint of messages and the time it takes to read their content and parts.
+ *
+ * <p>JMH has no result type for retained memory, so the footprint per message is measured once per fork, right after
+ * the messages were created, and printed to the output of the benchmark. The score is the time it takes to read the
+ * content and the parts of all messages, which is the price of a smaller footprint.
+ *
+ * <p>The footprint is measured for three representations of the messages:
+ * <ul>
+ *     <li>{@code EAGER}: All parts are decoded, like they were before they were decoded lazily.</li>
+ *     <li>{@code LAZY}: The parts were not accessed yet, so the messages retain their json data.
+ *         This is the default.</li>
+ *     <li>{@code COMPACT}: The compact message cache is enabled.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class MessageFootprintBenchmark {
+
+    private static final int MESSAGE_COUNT = 20_000;
+
+    /**
+     * The representation of the messages.
+     */
+    @Param({"EAGER", "LAZY", "COMPACT"})
+    public Representation representation;
+
+    private DiscordApiImpl api;
+
+    private List<Message> messages;
+
+    /**
+     * Creates the messages and prints their heap footprint.
+     *
+     * @throws IOException If the json data of the message could not be read.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        api = new DiscordApiImpl("token", null, null, null, null, null, false);
+        api.setCompactMessageCacheEnabled(representation == Representation.COMPACT);
+        ObjectMapper mapper = api.getObjectMapper();
+        ObjectNode data = (ObjectNode) mapper.readTree(MessageFootprintBenchmark.class.getResource("message.json"));
+        TextChannel channel = channel(api);
+
+        long before = usedHeap();
+        messages = new ArrayList<>(MESSAGE_COUNT);
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            data.put("id", i + 1);
+            Message message = new MessageImpl(api, channel, data.deepCopy(), false);
+            if (representation == Representation.EAGER) {
+                message.getEmbeds();
+                message.getComponents();
+                message.getReactions();
+                message.getAttachments();
+                message.getMentionedUsers();
+            }
+            messages.add(message);
+        }
+        long after = usedHeap();
+        System.out.printf("%nHeap footprint per message (%s): %d bytes%n",
+                representation, (after - before) / MESSAGE_COUNT);
+    }
+
+    /**
+     * Shuts down the threads of the discord api instance.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        api.getThreadPool().shutdown();
+    }
+
+    /**
+     * Reads the content, the embeds, the reactions and the mentioned users of all messages.
+     *
+     * @param blackhole The blackhole which consumes the read values.
+     */
+    @Benchmark
+    public void readMessages(Blackhole blackhole) {
+        for (Message message : messages) {
+            blackhole.consume(message.getContent());
+            blackhole.consume(message.getEmbeds());
+            blackhole.consume(message.getReactions());
+            blackhole.consume(message.getMentionedUsers());
+        }
+    }
+
+    /**
+     * The representations of the messages.
+     */
+    public enum Representation {
+        EAGER,
+        LAZY,
+        COMPACT
+    }
+
+    /**
+     * Creates a text channel which is not in a server and has no message cache.
+     *
+     * @param api The discord api instance of the channel.
+     * @return The text channel.
+     */
+    private static TextChannel channel(DiscordApiImpl api) {
+        return (TextChannel) Proxy.newProxyInstance(TextChannel.class.getClassLoader(),
+                new Class<?>[] {TextChannel.class}, (proxy, method, args) -> {
+                    if ("getApi".equals(method.getName())) {
+                        return api;
+                    }
+                    if (method.getReturnType() == Optional.class) {
+                        return Optional.empty();
+                    }
+                    if (method.getReturnType() == boolean.class) {
+                        return false;
+                    }
+                    if (method.getReturnType() == long.class) {
+                        return 2L;
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Gets the used heap after collecting the garbage.
+     *
+     * @return The used heap in bytes.
+     */
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+}
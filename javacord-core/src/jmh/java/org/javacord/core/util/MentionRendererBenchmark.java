@@ -0,0 +1,145 @@
+package org.javacord.core.util;
+
+import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.Nameable;
+import org.javacord.api.entity.channel.ServerChannel;
+import org.javacord.api.entity.emoji.KnownCustomEmoji;
+import org.javacord.api.entity.permission.Role;
+import org.javacord.api.entity.user.User;
+import org.javacord.api.util.DiscordRegexPattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Compares rendering the mentions of a message in a single pass with the regex replacements which were used before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MentionRendererBenchmark {
+
+    private DiscordApi api;
+
+    private String content;
+
+    /**
+     * Creates a discord api instance which knows one entity of every mention type and a message which mentions them
+     * 2000 times.
+     */
+    @Setup
+    public void setup() {
+        User user = named(User.class, "Bo$$");
+        Role role = named(Role.class, "mods");
+        ServerChannel channel = named(ServerChannel.class, "$general");
+        KnownCustomEmoji emoji = named(KnownCustomEmoji.class, "real_name");
+        api = (DiscordApi) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {DiscordApi.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getCachedUserById":
+                            return Optional.ofNullable("1".equals(args[0]) ? user : null);
+                        case "getRoleById":
+                            return Optional.ofNullable("2".equals(args[0]) ? role : null);
+                        case "getServerChannelById":
+                            return Optional.ofNullable("3".equals(args[0]) ? channel : null);
+                        case "getCustomEmojiById":
+                            return Optional.ofNullable("4".equals(args[0]) ? emoji : null);
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        content = IntStream.range(0, 500)
+                .mapToObj(i -> "<@1> <@&2> <#3> <:name:4> text")
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Renders the mentions in a single pass.
+     *
+     * @return The readable content.
+     */
+    @Benchmark
+    public String singlePass() {
+        return MentionRenderer.makeMentionsReadable(api, content, null);
+    }
+
+    /**
+     * Renders the mentions with a regex replacement for every mention type.
+     *
+     * @return The readable content.
+     */
+    @Benchmark
+    public String regexReplacements() {
+        String readableContent = content;
+        readableContent = replaceAll(readableContent, DiscordRegexPattern.USER_MENTION, matcher ->
+                api.getCachedUserById(matcher.group("id")).map(user -> "@" + user.getName()).orElse(null));
+        readableContent = replaceAll(readableContent, DiscordRegexPattern.ROLE_MENTION, matcher ->
+                "@" + api.getRoleById(matcher.group("id")).map(Role::getName).orElse("deleted-role"));
+        readableContent = replaceAll(readableContent, DiscordRegexPattern.CHANNEL_MENTION, matcher ->
+                "#" + api.getServerChannelById(matcher.group("id")).map(ServerChannel::getName)
+                        .orElse("deleted-channel"));
+        readableContent = replaceAll(readableContent, DiscordRegexPattern.CUSTOM_EMOJI, matcher ->
+                ":" + api.getCustomEmojiById(matcher.group("id")).map(KnownCustomEmoji::getName)
+                        .orElse(matcher.group("name")) + ":");
+        return DiscordApi.ESCAPED_CHARACTER.matcher(readableContent).replaceAll("${char}");
+    }
+
+    /**
+     * Replaces all matches of a pattern one by one, the way it was done before the single pass renderer.
+     *
+     * @param content The content.
+     * @param pattern The pattern.
+     * @param replacement The function which returns the replacement of a match or {@code null} to keep it.
+     * @return The content with the replacements.
+     */
+    private static String replaceAll(
+            String content, Pattern pattern, Function<Matcher, String> replacement) {
+        Matcher matcher = pattern.matcher(content);
+        while (matcher.find()) {
+            String replaced = replacement.apply(matcher);
+            if (replaced != null) {
+                content = matcher.replaceFirst(Matcher.quoteReplacement(replaced));
+                matcher.reset(content);
+            }
+        }
+        return content;
+    }
+
+    /**
+     * Creates an entity which only knows its name.
+     *
+     * @param type The type of the entity.
+     * @param name The name of the entity.
+     * @param <T> The type of the entity.
+     * @return The entity.
+     */
+    private static <T extends Nameable> T named(Class<T> type, String name) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    if ("getName".equals(method.getName())) {
+                        return name;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+
+}
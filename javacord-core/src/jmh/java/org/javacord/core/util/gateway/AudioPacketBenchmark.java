@@ -0,0 +1,97 @@
+package org.javacord.core.util.gateway;
+
+import com.codahale.xsalsa20poly1305.SecretBox;
+import okio.ByteString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.DatagramPacket;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing audio packets into a reused {@link AudioPacket} with sealing every frame with a new secret box,
+ * the way it was done before the buffers and ciphers were reused.
+ *
+ * <p>Run it with {@code -prof gc} to compare the allocations per packet, too.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AudioPacketBenchmark {
+
+    private static final int SSRC = 1234;
+
+    private final byte[] key = new byte[32];
+
+    private final byte[] frame = new byte[160];
+
+    private final InetSocketAddress address = new InetSocketAddress("127.0.0.1", 50000);
+
+    private AudioPacket packet;
+
+    private char sequence;
+
+    /**
+     * Creates the secret key, a random audio frame and the reused packet.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        random.nextBytes(key);
+        random.nextBytes(frame);
+        packet = new AudioPacket(SSRC, address);
+        packet.setSecretKey(key);
+    }
+
+    /**
+     * Writes the frame into the reused packet.
+     *
+     * @return The datagram packet.
+     */
+    @Benchmark
+    public DatagramPacket reusedPacket() {
+        sequence++;
+        return packet.write(frame, sequence, sequence * 960);
+    }
+
+    /**
+     * Seals the frame with a new secret box and wraps it in a new datagram packet.
+     *
+     * @return The datagram packet.
+     */
+    @Benchmark
+    public DatagramPacket newSecretBox() {
+        sequence++;
+        byte[] header = ByteBuffer.allocate(12)
+                .put(0, (byte) 0x80)
+                .put(1, (byte) 0x78)
+                .putChar(2, sequence)
+                .putInt(4, sequence * 960)
+                .putInt(8, SSRC)
+                .array();
+        byte[] nonce = new byte[24];
+        System.arraycopy(header, 0, nonce, 0, header.length);
+        byte[] sealed = new SecretBox(ByteString.of(key))
+                .seal(ByteString.of(nonce), ByteString.of(frame))
+                .toByteArray();
+        byte[] bytes = new byte[header.length + sealed.length];
+        System.arraycopy(header, 0, bytes, 0, header.length);
+        System.arraycopy(sealed, 0, bytes, header.length, sealed.length);
+        return new DatagramPacket(bytes, bytes.length, address);
+    }
+
+}
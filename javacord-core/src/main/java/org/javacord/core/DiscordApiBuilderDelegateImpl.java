@@ -5,10 +5,13 @@ import org.apache.logging.log4j.CloseableThreadContext;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.AccountType;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.GatewayEncoding;
 import org.javacord.api.entity.intent.Intent;
 import org.javacord.api.internal.DiscordApiBuilderDelegate;
 import org.javacord.api.listener.GloballyAttachableListener;
 import org.javacord.api.util.auth.Authenticator;
+import org.javacord.api.util.cache.EntityCacheEngine;
+import org.javacord.api.util.concurrent.EventDispatchStrategy;
 import org.javacord.api.util.ratelimit.Ratelimiter;
 import org.javacord.core.util.gateway.DiscordWebSocketAdapter;
 import org.javacord.core.util.logging.LoggerUtil;
@@ -123,6 +126,36 @@ public class DiscordApiBuilderDelegateImpl implements DiscordApiBuilderDelegate
      */
     private volatile boolean registerShutdownHook = true;
 
+    /**
+     * The engine used for the entity cache.
+     */
+    private volatile EntityCacheEngine entityCacheEngine = EntityCacheEngine.IMMUTABLE;
+
+    /**
+     * Whether the entity cache should index channels, members and users by their names.
+     */
+    private volatile boolean nameIndexesEnabled = false;
+
+    /**
+     * The amount of partitions that are used to handle gateway events in parallel.
+     */
+    private volatile int packetHandlerPartitionCount = 1;
+
+    /**
+     * Whether the gateway connection should use the zlib-stream transport compression.
+     */
+    private volatile boolean transportCompressionEnabled = false;
+
+    /**
+     * The encoding of the gateway payloads.
+     */
+    private volatile GatewayEncoding gatewayEncoding = GatewayEncoding.JSON;
+
+    /**
+     * The strategy which decides on which threads listeners are called.
+     */
+    private volatile EventDispatchStrategy eventDispatchStrategy = EventDispatchStrategy.unboundedPool();
+
     /**
      * The intents. Default are all intents except the privileged
      */
@@ -192,9 +225,11 @@ public class DiscordApiBuilderDelegateImpl implements DiscordApiBuilderDelegate
         try (CloseableThreadContext.Instance closeableThreadContextInstance =
                      CloseableThreadContext.put("shard", Integer.toString(currentShard.get()))) {
             new DiscordApiImpl(accountType, token, currentShard.get(), totalShards.get(), intents,
-                    waitForServersOnStartup, waitForUsersOnStartup, registerShutdownHook, globalRatelimiter,
-                    gatewayIdentifyRatelimiter, proxySelector, proxy, proxyAuthenticator, trustAllCertificates,
-                    future, null, preparedListeners, preparedUnspecifiedListeners);
+                    waitForServersOnStartup, waitForUsersOnStartup, registerShutdownHook, entityCacheEngine,
+                    nameIndexesEnabled, packetHandlerPartitionCount, transportCompressionEnabled, gatewayEncoding,
+                    eventDispatchStrategy, globalRatelimiter, gatewayIdentifyRatelimiter, proxySelector, proxy,
+                    proxyAuthenticator, trustAllCertificates, future, null, preparedListeners,
+                    preparedUnspecifiedListeners);
         }
         return future;
     }
@@ -385,6 +420,69 @@ public class DiscordApiBuilderDelegateImpl implements DiscordApiBuilderDelegate
         return registerShutdownHook;
     }
 
+    @Override
+    public void setEntityCacheEngine(EntityCacheEngine engine) {
+        entityCacheEngine = Objects.requireNonNull(engine);
+    }
+
+    @Override
+    public EntityCacheEngine getEntityCacheEngine() {
+        return entityCacheEngine;
+    }
+
+    @Override
+    public void setNameIndexesEnabled(boolean nameIndexesEnabled) {
+        this.nameIndexesEnabled = nameIndexesEnabled;
+    }
+
+    @Override
+    public boolean isNameIndexesEnabled() {
+        return nameIndexesEnabled;
+    }
+
+    @Override
+    public void setPacketHandlerPartitionCount(int partitionCount) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("partitionCount cannot be less than 1!");
+        }
+        packetHandlerPartitionCount = partitionCount;
+    }
+
+    @Override
+    public int getPacketHandlerPartitionCount() {
+        return packetHandlerPartitionCount;
+    }
+
+    @Override
+    public void setTransportCompressionEnabled(boolean transportCompressionEnabled) {
+        this.transportCompressionEnabled = transportCompressionEnabled;
+    }
+
+    @Override
+    public boolean isTransportCompressionEnabled() {
+        return transportCompressionEnabled;
+    }
+
+    @Override
+    public void setGatewayEncoding(GatewayEncoding gatewayEncoding) {
+        this.gatewayEncoding = gatewayEncoding;
+    }
+
+    @Override
+    public GatewayEncoding getGatewayEncoding() {
+        return gatewayEncoding;
+    }
+
+    @Override
+    public void setEventDispatchStrategy(EventDispatchStrategy eventDispatchStrategy) {
+        this.eventDispatchStrategy = eventDispatchStrategy;
+    }
+
+    @Override
+    public EventDispatchStrategy getEventDispatchStrategy() {
+        return eventDispatchStrategy;
+    }
+
     @Override
     public void setAllIntentsWhere(Predicate<Intent> condition) {
         intents = new HashSet<>();
@@ -5,13 +5,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.Dispatcher;
 import okhttp3.Dns;
+import okhttp3.MultipartBody;
 import okhttp3.OkHttpClient;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okhttp3.logging.HttpLoggingInterceptor.Level;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.AccountType;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.GatewayEncoding;
 import org.javacord.api.Javacord;
 import org.javacord.api.entity.ApplicationInfo;
 import org.javacord.api.entity.activity.Activity;
@@ -33,6 +36,7 @@ import org.javacord.api.entity.intent.Intent;
 import org.javacord.api.entity.message.Message;
 import org.javacord.api.entity.message.MessageSet;
 import org.javacord.api.entity.message.UncachedMessageUtil;
+import org.javacord.api.entity.permission.Role;
 import org.javacord.api.entity.server.Server;
 import org.javacord.api.entity.server.invite.Invite;
 import org.javacord.api.entity.user.User;
@@ -47,7 +51,8 @@ import org.javacord.api.interaction.SlashCommandPermissions;
 import org.javacord.api.listener.GloballyAttachableListener;
 import org.javacord.api.listener.ObjectAttachableListener;
 import org.javacord.api.util.auth.Authenticator;
-import org.javacord.api.util.concurrent.ThreadPool;
+import org.javacord.api.util.cache.EntityCacheEngine;
+import org.javacord.api.util.concurrent.EventDispatchStrategy;
 import org.javacord.api.util.event.ListenerManager;
 import org.javacord.api.util.ratelimit.LocalRatelimiter;
 import org.javacord.api.util.ratelimit.Ratelimiter;
@@ -73,10 +78,13 @@ import org.javacord.core.interaction.SlashCommandImpl;
 import org.javacord.core.interaction.SlashCommandPermissionsImpl;
 import org.javacord.core.util.ClassHelper;
 import org.javacord.core.util.Cleanupable;
+import org.javacord.core.util.MentionRenderer;
 import org.javacord.core.util.cache.JavacordEntityCache;
+import org.javacord.core.util.cache.MessageCacheSweeper;
 import org.javacord.core.util.concurrent.ThreadPoolImpl;
 import org.javacord.core.util.event.DispatchQueueSelector;
 import org.javacord.core.util.event.EventDispatcher;
+import org.javacord.core.util.event.ListenerList;
 import org.javacord.core.util.event.ListenerManagerImpl;
 import org.javacord.core.util.gateway.DiscordWebSocketAdapter;
 import org.javacord.core.util.http.ProxyAuthenticator;
@@ -93,16 +101,12 @@ import java.lang.ref.WeakReference;
 import java.net.Proxy;
 import java.net.ProxySelector;
 import java.time.Duration;
-import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -147,7 +151,7 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
     /**
      * The thread pool which is used internally.
      */
-    private final ThreadPoolImpl threadPool = new ThreadPoolImpl();
+    private final ThreadPoolImpl threadPool;
 
     /**
      * The http client for this instance.
@@ -224,6 +228,11 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
      */
     private boolean defaultAutomaticMessageCacheCleanupEnabled = true;
 
+    /**
+     * Whether newly received messages are kept in a compact form.
+     */
+    private volatile boolean compactMessageCacheEnabled = false;
+
     /**
      * The function to calculate the reconnect delay.
      */
@@ -317,9 +326,39 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
     private volatile Long timeOffset = null;
 
     /**
-     * An immutable cache with all Javacord entities.
+     * The engine of the entity cache.
+     */
+    private final EntityCacheEngine entityCacheEngine;
+
+    /**
+     * Whether the entity cache indexes channels, members and users by their names.
+     */
+    private final boolean nameIndexesEnabled;
+
+    /**
+     * A cache with all Javacord entities.
+     */
+    private final AtomicReference<JavacordEntityCache> entityCache;
+
+    /**
+     * The locks used to serialize compound updates of the same entity if the entity cache is mutable.
+     */
+    private final Object[] entityCacheLocks = new Object[64];
+
+    /**
+     * The amount of partitions that are used to handle gateway events in parallel.
+     */
+    private final int packetHandlerPartitionCount;
+
+    /**
+     * Whether the gateway connection uses the zlib-stream transport compression.
+     */
+    private final boolean transportCompressionEnabled;
+
+    /**
+     * The encoding of the gateway payloads.
      */
-    private final AtomicReference<JavacordEntityCache> entityCache = new AtomicReference<>(JavacordEntityCache.empty());
+    private final GatewayEncoding gatewayEncoding;
 
     /**
      * Whether the user cache is enabled or not.
@@ -352,13 +391,18 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
     /**
      * A set with all unavailable servers.
      */
-    private final HashSet<Long> unavailableServers = new HashSet<>();
+    private final Set<Long> unavailableServers = ConcurrentHashMap.newKeySet();
 
     /**
      * A map with all known custom emoji.
      */
     private final ConcurrentHashMap<Long, KnownCustomEmoji> customEmojis = new ConcurrentHashMap<>();
 
+    /**
+     * A map with the roles of all servers, including ready and not ready ones.
+     */
+    private final ConcurrentHashMap<Long, Role> roles = new ConcurrentHashMap<>();
+
     /**
      * A map with all cached messages.
      */
@@ -377,25 +421,28 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
      */
     private final ReferenceQueue<Message> messagesCleanupQueue = new ReferenceQueue<>();
 
+    /**
+     * The sweeper which cleans the message caches of all channels.
+     */
+    private final MessageCacheSweeper messageCacheSweeper = new MessageCacheSweeper();
+
     /**
      * A map which contains all globally attachable listeners.
      * The key is the class of the listener.
      */
-    private final Map<Class<? extends GloballyAttachableListener>,
-            Map<GloballyAttachableListener, ListenerManagerImpl<? extends GloballyAttachableListener>>>
-            listeners = Collections.synchronizedMap(new ConcurrentHashMap<>());
+    private final ConcurrentHashMap<Class<? extends GloballyAttachableListener>,
+            ListenerList<GloballyAttachableListener>> listeners = new ConcurrentHashMap<>();
 
     /**
      * A map which contains all listeners which are assigned to a specific object instead of being global.
-     * The key of the outer map is the class which the listener was registered to (e.g. Message.class).
-     * The key of the first inner map is the id of the object.
-     * The key of the second inner map is the class of the listener.
-     * The key of the third inner map is the listener itself.
-     * The final value is the listener manager.
+     * The key of the outer map is the class of the listener, so an event without object listeners only costs a
+     * single lookup.
+     * The key of the first inner map is the class which the listener was registered to (e.g. Message.class).
+     * The key of the second inner map is the id of the object.
      */
-    private final Map<Class<?>, Map<Long, Map<Class<? extends ObjectAttachableListener>,
-            Map<ObjectAttachableListener, ListenerManagerImpl<? extends ObjectAttachableListener>>>>>
-            objectListeners = Collections.synchronizedMap(new ConcurrentHashMap<>());
+    private final ConcurrentHashMap<Class<? extends ObjectAttachableListener>, ConcurrentHashMap<Class<?>,
+            ConcurrentHashMap<Long, ListenerList<ObjectAttachableListener>>>> objectListeners =
+            new ConcurrentHashMap<>();
 
     /**
      * Creates a new discord api instance that can be used for auto-ratelimited REST calls,
@@ -461,8 +508,10 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
             CompletableFuture<DiscordApi> ready
     ) {
         this(accountType, token, currentShard, totalShards, intents, waitForServersOnStartup, waitForUsersOnStartup,
-                true, globalRatelimiter, gatewayIdentifyRatelimiter, proxySelector, proxy, proxyAuthenticator,
-                trustAllCertificates, ready, null, Collections.emptyMap(), Collections.emptyList());
+                true, EntityCacheEngine.IMMUTABLE, false, 1, false, GatewayEncoding.JSON,
+                EventDispatchStrategy.unboundedPool(), globalRatelimiter, gatewayIdentifyRatelimiter, proxySelector,
+                proxy, proxyAuthenticator, trustAllCertificates, ready, null,
+                Collections.emptyMap(), Collections.emptyList());
     }
 
     /**
@@ -508,8 +557,10 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
             CompletableFuture<DiscordApi> ready,
             Dns dns) {
         this(accountType, token, currentShard, totalShards, intents, waitForServersOnStartup, waitForUsersOnStartup,
-                true, globalRatelimiter, gatewayIdentifyRatelimiter, proxySelector, proxy, proxyAuthenticator,
-                trustAllCertificates, ready, dns, Collections.emptyMap(), Collections.emptyList());
+                true, EntityCacheEngine.IMMUTABLE, false, 1, false, GatewayEncoding.JSON,
+                EventDispatchStrategy.unboundedPool(), globalRatelimiter, gatewayIdentifyRatelimiter, proxySelector,
+                proxy, proxyAuthenticator, trustAllCertificates, ready, dns,
+                Collections.emptyMap(), Collections.emptyList());
     }
 
     /**
@@ -524,6 +575,14 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
      * @param waitForUsersOnStartup         Whether Javacord should wait for all users
      *                                      to become available on startup or not.
      * @param registerShutdownHook          Whether the shutdown hook should be registered or not.
+     * @param entityCacheEngine             The engine used for the entity cache.
+     * @param nameIndexesEnabled            Whether the entity cache should index channels, members and users by
+     *                                      their names.
+     * @param packetHandlerPartitionCount   The amount of partitions used to handle gateway events in parallel.
+     * @param transportCompressionEnabled   Whether the gateway connection should use the zlib-stream transport
+     *                                      compression.
+     * @param gatewayEncoding               The encoding of the gateway payloads.
+     * @param eventDispatchStrategy         The strategy which decides on which threads listeners are called.
      * @param globalRatelimiter             The ratelimiter used for global ratelimits.
      * @param gatewayIdentifyRatelimiter    The ratelimiter used to respect the 5 second gateway identify ratelimit.
      * @param proxySelector                 The proxy selector which should be used to determine the proxies that
@@ -550,6 +609,12 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
             boolean waitForServersOnStartup,
             boolean waitForUsersOnStartup,
             boolean registerShutdownHook,
+            EntityCacheEngine entityCacheEngine,
+            boolean nameIndexesEnabled,
+            int packetHandlerPartitionCount,
+            boolean transportCompressionEnabled,
+            GatewayEncoding gatewayEncoding,
+            EventDispatchStrategy eventDispatchStrategy,
             Ratelimiter globalRatelimiter,
             Ratelimiter gatewayIdentifyRatelimiter,
             ProxySelector proxySelector,
@@ -562,6 +627,7 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
                     List<Function<DiscordApi,GloballyAttachableListener>>
                     > listenerSourceMap,
             List<Function<DiscordApi, GloballyAttachableListener>> unspecifiedListeners) {
+        this.threadPool = new ThreadPoolImpl(eventDispatchStrategy);
         this.accountType = accountType;
         this.token = token;
         this.currentShard = currentShard;
@@ -575,6 +641,15 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
         this.proxyAuthenticator = proxyAuthenticator;
         this.trustAllCertificates = trustAllCertificates;
         this.intents = intents;
+        this.entityCacheEngine = entityCacheEngine;
+        this.nameIndexesEnabled = nameIndexesEnabled;
+        this.packetHandlerPartitionCount = packetHandlerPartitionCount;
+        this.transportCompressionEnabled = transportCompressionEnabled;
+        this.gatewayEncoding = gatewayEncoding;
+        this.entityCache = new AtomicReference<>(JavacordEntityCache.empty(entityCacheEngine, nameIndexesEnabled));
+        for (int i = 0; i < entityCacheLocks.length; i++) {
+            entityCacheLocks[i] = new Object();
+        }
         userCacheEnabled = intents.contains(Intent.GUILD_MEMBERS);
         this.reconnectDelayProvider = x ->
                 (int) Math.round(Math.pow(x, 1.5) - (1 / (1 / (0.1 * x) + 1)) * Math.pow(x, 1.5));
@@ -587,14 +662,30 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
             throw new IllegalArgumentException("Cannot wait for users when GUILD_MEMBERS intent is not set!");
         }
 
+        // Ratelimits are handled by the RatelimitManager, so the dispatcher must not limit the asynchronous calls
+        Dispatcher httpDispatcher = new Dispatcher();
+        httpDispatcher.setMaxRequests(Integer.MAX_VALUE);
+        httpDispatcher.setMaxRequestsPerHost(Integer.MAX_VALUE);
+        Logger httpLogger = LoggerUtil.getLogger(OkHttpClient.class);
+        HttpLoggingInterceptor bodyLoggingInterceptor =
+                new HttpLoggingInterceptor(httpLogger::trace).setLevel(Level.BODY);
+        HttpLoggingInterceptor headersLoggingInterceptor =
+                new HttpLoggingInterceptor(httpLogger::trace).setLevel(Level.HEADERS);
         OkHttpClient.Builder httpClientBuilder = new OkHttpClient.Builder()
+                .dispatcher(httpDispatcher)
                 .addInterceptor(chain -> chain.proceed(chain.request()
                         .newBuilder()
                         .addHeader("User-Agent", Javacord.USER_AGENT)
                         .build()))
-                .addInterceptor(
-                        new HttpLoggingInterceptor(LoggerUtil.getLogger(OkHttpClient.class)::trace).setLevel(Level.BODY)
-                )
+                .addInterceptor(chain -> {
+                    if (!httpLogger.isTraceEnabled()) {
+                        return chain.proceed(chain.request());
+                    }
+                    // Logging the body would load streamed uploads into memory and read them twice
+                    return chain.request().body() instanceof MultipartBody
+                            ? headersLoggingInterceptor.intercept(chain)
+                            : bodyLoggingInterceptor.intercept(chain);
+                })
                 .proxyAuthenticator(new ProxyAuthenticator(proxyAuthenticator))
                 .proxy(proxy);
         if (proxySelector != null) {
@@ -673,6 +764,7 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
                     logger.error("Failed to process messages cleanup queue!", t);
                 }
             }, 30, 30, TimeUnit.SECONDS);
+            messageCacheSweeper.start(getThreadPool().getScheduler());
 
             if (registerShutdownHook) {
                 // Add shutdown hook
@@ -702,6 +794,63 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
         return entityCache;
     }
 
+    /**
+     * Gets the amount of partitions that are used to handle gateway events in parallel.
+     *
+     * @return The amount of partitions.
+     */
+    public int getPacketHandlerPartitionCount() {
+        return packetHandlerPartitionCount;
+    }
+
+    /**
+     * Checks if the gateway connection uses the zlib-stream transport compression.
+     *
+     * @return Whether the gateway connection uses the zlib-stream transport compression.
+     */
+    public boolean isTransportCompressionEnabled() {
+        return transportCompressionEnabled;
+    }
+
+    /**
+     * Gets the encoding of the gateway payloads.
+     *
+     * @return The encoding of the gateway payloads.
+     */
+    public GatewayEncoding getGatewayEncoding() {
+        return gatewayEncoding;
+    }
+
+    /**
+     * Gets the engine of the entity cache.
+     *
+     * @return The engine of the entity cache.
+     */
+    public EntityCacheEngine getEntityCacheEngine() {
+        return entityCacheEngine;
+    }
+
+    /**
+     * Updates the entity cache.
+     *
+     * <p>For the immutable entity cache, the mapper might be called multiple times on contention.
+     * For a mutable entity cache, the mapper is called exactly once and all updates for the same entity id are
+     * serialized, so that compound updates like replacing an entity happen atomically for this entity.
+     *
+     * @param entityId The id of the updated entity.
+     * @param mapper A function that takes the old entity cache and returns the new one.
+     */
+    private void updateEntityCache(long entityId, UnaryOperator<JavacordEntityCache> mapper) {
+        if (entityCacheEngine == EntityCacheEngine.IMMUTABLE) {
+            entityCache.getAndUpdate(mapper);
+            return;
+        }
+        int hash = Long.hashCode(entityId);
+        synchronized (entityCacheLocks[(hash ^ (hash >>> 16)) & (entityCacheLocks.length - 1)]) {
+            entityCache.getAndUpdate(mapper);
+        }
+    }
+
     /**
      * Checks if the user cache is enabled.
      *
@@ -763,9 +912,10 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
                 .filter(Cleanupable.class::isInstance)
                 .map(Cleanupable.class::cast)
                 .forEach(Cleanupable::cleanup);
-        entityCache.set(JavacordEntityCache.empty());
+        entityCache.set(JavacordEntityCache.empty(entityCacheEngine, nameIndexesEnabled));
         unavailableServers.clear();
         customEmojis.clear();
+        roles.clear();
         messages.clear();
         messageIdByRef.clear();
         timeOffset = null;
@@ -892,7 +1042,7 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
      * @param channel The channel to add.
      */
     public void addChannelToCache(Channel channel) {
-        entityCache.getAndUpdate(cache -> {
+        updateEntityCache(channel.getId(), cache -> {
             Channel oldChannel = cache.getChannelCache().getChannelById(channel.getId()).orElse(null);
             if (oldChannel != channel && oldChannel instanceof Cleanupable) {
                 ((Cleanupable) oldChannel).cleanup();
@@ -901,6 +1051,16 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
         });
     }
 
+    /**
+     * Updates the indexes of a channel in the cache after a change of its name.
+     *
+     * @param channel The changed channel.
+     */
+    public void updateChannelInCache(Channel channel) {
+        updateEntityCache(channel.getId(),
+                cache -> cache.updateChannelCache(channelCache -> channelCache.updateChannel(channel)));
+    }
+
     /**
      * Updates a user presence in the cache.
      *
@@ -908,7 +1068,7 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
      * @param mapper A function that takes the old user presence (or null) and returns the new user presence.
      */
     public void updateUserPresence(long userId, UnaryOperator<UserPresence> mapper) {
-        entityCache.getAndUpdate(cache -> {
+        updateEntityCache(userId, cache -> {
             UserPresence presence = cache.getUserPresenceCache().getPresenceByUserId(userId)
                     .orElseGet(() -> new UserPresence(userId, null, null, io.vavr.collection.HashMap.empty()));
             return cache.updateUserPresenceCache(userPresenceCache ->
@@ -922,7 +1082,7 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
      * @param channelId The id of the channel to remove.
      */
     public void removeChannelFromCache(long channelId) {
-        entityCache.getAndUpdate(cache -> {
+        updateEntityCache(channelId, cache -> {
             Channel channel = cache.getChannelCache().getChannelById(channelId).orElse(null);
             if (channel == null) {
                 return cache;
@@ -940,7 +1100,7 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
      * @param member The member to add.
      */
     public void addMemberToCacheOrReplaceExisting(Member member) {
-        entityCache.getAndUpdate(cache -> {
+        updateEntityCache(member.getId(), cache -> {
             Member oldMember = cache.getMemberCache()
                     .getMemberByIdAndServer(member.getId(), member.getServer().getId())
                     .orElse(null);
@@ -948,13 +1108,33 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
         });
     }
 
+    /**
+     * Adds all given members to the cache in one step.
+     *
+     * <p>For the immutable entity cache, this updates the cache only once for all members, which is a lot cheaper
+     * than calling {@link #addMemberToCacheOrReplaceExisting(Member)} for every member of a large member chunk.
+     *
+     * @param members The members to add.
+     */
+    public void addMembersToCacheOrReplaceExisting(Collection<Member> members) {
+        if (members.isEmpty()) {
+            return;
+        }
+        if (entityCacheEngine == EntityCacheEngine.IMMUTABLE) {
+            entityCache.getAndUpdate(cache -> cache.updateMemberCache(
+                    memberCache -> memberCache.addOrReplaceMembers(members)));
+        } else {
+            members.forEach(this::addMemberToCacheOrReplaceExisting);
+        }
+    }
+
     /**
      * Updates the user object for all members in the cache.
      *
      * @param user The new user object.
      */
     public void updateUserOfAllMembers(User user) {
-        entityCache.getAndUpdate(cache ->  {
+        updateEntityCache(user.getId(), cache ->  {
             JavacordEntityCache newCache = cache;
             for (Member member : cache.getMemberCache().getMembersById(user.getId())) {
                 newCache = newCache.updateMemberCache(memberCache -> memberCache
@@ -973,7 +1153,7 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
      * @param serverId The id of the member's server.
      */
     public void removeMemberFromCache(long memberId, long serverId) {
-        entityCache.getAndUpdate(cache -> {
+        updateEntityCache(memberId, cache -> {
             Member member = cache.getMemberCache().getMemberByIdAndServer(memberId, serverId).orElse(null);
             if (member == null) {
                 return cache;
@@ -1092,6 +1272,26 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
         customEmojis.remove(emoji.getId());
     }
 
+    /**
+     * Adds a role to the cache.
+     *
+     * @param role The role to add.
+     */
+    public void addRoleToCache(Role role) {
+        roles.put(role.getId(), role);
+    }
+
+    /**
+     * Removes a role from the cache.
+     *
+     * <p>It is only removed if it was not replaced by another instance meanwhile, e.g. by a newer server object.
+     *
+     * @param role The role to remove.
+     */
+    public void removeRoleFromCache(Role role) {
+        roles.computeIfPresent(role.getId(), (id, cachedRole) -> cachedRole == role ? null : cachedRole);
+    }
+
     /**
      * Gets or creates a new message object.
      *
@@ -1150,13 +1350,20 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
     @SuppressWarnings("unchecked")
     public <T extends ObjectAttachableListener> ListenerManager<T> addObjectListener(
             Class<?> objectClass, long objectId, Class<T> listenerClass, T listener) {
-        Map<ObjectAttachableListener, ListenerManagerImpl<? extends ObjectAttachableListener>> listeners =
-                objectListeners
-                        .computeIfAbsent(objectClass, key -> new ConcurrentHashMap<>())
-                        .computeIfAbsent(objectId, key -> new ConcurrentHashMap<>())
-                        .computeIfAbsent(listenerClass, c -> Collections.synchronizedMap(new LinkedHashMap<>()));
-        return (ListenerManager<T>) listeners.computeIfAbsent(
-                listener, key -> new ListenerManagerImpl<>(this, listener, listenerClass, objectClass, objectId));
+        AtomicReference<ListenerManagerImpl<? extends ObjectAttachableListener>> listenerManager =
+                new AtomicReference<>();
+        objectListeners
+                .computeIfAbsent(listenerClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(objectClass, key -> new ConcurrentHashMap<>())
+                .compute(objectId, (id, listenerList) -> {
+                    if (listenerList == null) {
+                        listenerList = new ListenerList<>();
+                    }
+                    listenerManager.set(listenerList.add(listener, () ->
+                            new ListenerManagerImpl<>(this, listener, listenerClass, objectClass, objectId)));
+                    return listenerList;
+                });
+        return (ListenerManager<T>) listenerManager.get();
     }
 
     /**
@@ -1170,42 +1377,28 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
      */
     public <T extends ObjectAttachableListener> void removeObjectListener(
             Class<?> objectClass, long objectId, Class<T> listenerClass, T listener) {
-        synchronized (objectListeners) {
-            if (objectClass == null) {
-                return;
-            }
-            Map<Long, Map<Class<? extends ObjectAttachableListener>, Map<ObjectAttachableListener,
-                    ListenerManagerImpl<? extends ObjectAttachableListener>>>> objectListener =
-                    objectListeners.get(objectClass);
-            if (objectListener == null) {
-                return;
-            }
-            Map<Class<? extends ObjectAttachableListener>, Map<ObjectAttachableListener,
-                    ListenerManagerImpl<? extends ObjectAttachableListener>>> listeners = objectListener.get(objectId);
-            if (listeners == null) {
-                return;
-            }
-            Map<ObjectAttachableListener, ListenerManagerImpl<? extends ObjectAttachableListener>> classListeners =
-                    listeners.get(listenerClass);
-            if (classListeners == null) {
-                return;
-            }
-            ListenerManagerImpl<? extends ObjectAttachableListener> listenerManager = classListeners.get(listener);
-            if (listenerManager == null) {
-                return;
-            }
-            classListeners.remove(listener);
-            listenerManager.removed();
+        if (objectClass == null) {
+            return;
+        }
+        Map<Class<?>, ConcurrentHashMap<Long, ListenerList<ObjectAttachableListener>>> objectClassListeners =
+                objectListeners.get(listenerClass);
+        if (objectClassListeners == null) {
+            return;
+        }
+        ConcurrentHashMap<Long, ListenerList<ObjectAttachableListener>> objectIdListeners =
+                objectClassListeners.get(objectClass);
+        if (objectIdListeners == null) {
+            return;
+        }
+        AtomicReference<ListenerManagerImpl<? extends ObjectAttachableListener>> listenerManager =
+                new AtomicReference<>();
+        objectIdListeners.computeIfPresent(objectId, (id, listenerList) -> {
+            listenerManager.set(listenerList.remove(listener));
             // Clean it up
-            if (classListeners.isEmpty()) {
-                listeners.remove(listenerClass);
-                if (listeners.isEmpty()) {
-                    objectListener.remove(objectId);
-                    if (objectListener.isEmpty()) {
-                        objectListeners.remove(objectClass);
-                    }
-                }
-            }
+            return listenerList.isEmpty() ? null : listenerList;
+        });
+        if (listenerManager.get() != null) {
+            listenerManager.get().removed();
         }
     }
 
@@ -1219,24 +1412,16 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
         if (objectClass == null) {
             return;
         }
-        synchronized (objectListeners) {
-            Map<Long, Map<Class<? extends ObjectAttachableListener>,
-                    Map<ObjectAttachableListener, ListenerManagerImpl<? extends ObjectAttachableListener>>>>
-                    objects = objectListeners.get(objectClass);
-            if (objects == null) {
-                return;
+        for (Map<Class<?>, ConcurrentHashMap<Long, ListenerList<ObjectAttachableListener>>> objectClassListeners
+                : objectListeners.values()) {
+            ConcurrentHashMap<Long, ListenerList<ObjectAttachableListener>> objectIdListeners =
+                    objectClassListeners.get(objectClass);
+            if (objectIdListeners == null) {
+                continue;
             }
-            // Remove all listeners
-            objects.computeIfPresent(objectId, (id, listeners) -> {
-                listeners.values().stream()
-                        .flatMap(map -> map.values().stream())
-                        .forEach(ListenerManagerImpl::removed);
-                listeners.clear();
-                return null;
-            });
-            // Cleanup
-            if (objects.isEmpty()) {
-                objectListeners.remove(objectClass);
+            ListenerList<ObjectAttachableListener> listenerList = objectIdListeners.remove(objectId);
+            if (listenerList != null) {
+                listenerList.clear().forEach(ListenerManagerImpl::removed);
             }
         }
     }
@@ -1254,26 +1439,24 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
     @SuppressWarnings("unchecked")
     public <T extends ObjectAttachableListener> Map<T, List<Class<T>>> getObjectListeners(
             Class<?> objectClass, long objectId) {
-        return Collections.unmodifiableMap(Optional.ofNullable(objectClass)
-                .map(objectListeners::get)
-                .map(objectListener -> objectListener.get(objectId))
-                .map(Map::entrySet)
-                .map(Set::stream)
-                .map(entryStream -> entryStream
-                        .flatMap(entry -> entry
-                                .getValue()
-                                .keySet()
-                                .stream()
-                                .map(listener -> new SimpleEntry<>((T) listener, (Class<T>) entry.getKey()))))
-                .map(entryStream -> entryStream
-                        .collect(Collectors.groupingBy(Entry::getKey,
-                                                       Collectors.mapping(Entry::getValue, Collectors.toList()))))
-                .orElseGet(HashMap::new));
+        Map<T, List<Class<T>>> listenerClassesByListener = new HashMap<>();
+        if (objectClass != null) {
+            objectListeners.forEach((listenerClass, objectClassListeners) -> Optional
+                    .ofNullable(objectClassListeners.get(objectClass))
+                    .map(objectIdListeners -> objectIdListeners.get(objectId))
+                    .ifPresent(listenerList -> listenerList.getListeners().forEach(listener ->
+                            listenerClassesByListener
+                                    .computeIfAbsent((T) listener, key -> new ArrayList<>())
+                                    .add((Class<T>) listenerClass))));
+        }
+        return Collections.unmodifiableMap(listenerClassesByListener);
     }
 
     /**
      * Gets all object listeners of the given class.
      *
+     * <p>The returned list is an immutable snapshot which is not copied, so calling this method does not allocate.
+     *
      * @param objectClass The class of the object.
      * @param objectId The id of the object.
      * @param listenerClass The listener class.
@@ -1283,36 +1466,72 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
     @SuppressWarnings("unchecked")
     public <T extends ObjectAttachableListener> List<T> getObjectListeners(
             Class<?> objectClass, long objectId, Class<T> listenerClass) {
-        return Collections.unmodifiableList((List<T>) Optional.ofNullable(objectClass)
-                .map(objectListeners::get)
-                .map(objectListener -> objectListener.get(objectId))
-                .map(listeners -> listeners.get(listenerClass))
-                .map(Map::keySet)
-                .map(ArrayList::new)
-                .orElseGet(ArrayList::new));
+        if (objectClass == null) {
+            return Collections.emptyList();
+        }
+        Map<Class<?>, ConcurrentHashMap<Long, ListenerList<ObjectAttachableListener>>> objectClassListeners =
+                objectListeners.get(listenerClass);
+        if (objectClassListeners == null) {
+            return Collections.emptyList();
+        }
+        ConcurrentHashMap<Long, ListenerList<ObjectAttachableListener>> objectIdListeners =
+                objectClassListeners.get(objectClass);
+        // Checking for emptiness first avoids boxing the id if there are no listeners
+        if (objectIdListeners == null || objectIdListeners.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ListenerList<ObjectAttachableListener> listenerList = objectIdListeners.get(objectId);
+        return listenerList == null ? Collections.emptyList() : (List<T>) (List<?>) listenerList.getListeners();
+    }
+
+    /**
+     * Checks if there are any listeners of the given class, either global or attached to any object.
+     *
+     * <p>This check is cheap and can be used to skip creating events nobody listens to.
+     *
+     * @param listenerClass The listener class.
+     * @return Whether there are any listeners of the given class.
+     */
+    public boolean hasListeners(Class<?> listenerClass) {
+        ListenerList<GloballyAttachableListener> listenerList = listeners.get(listenerClass);
+        if (listenerList != null && !listenerList.isEmpty()) {
+            return true;
+        }
+        Map<Class<?>, ConcurrentHashMap<Long, ListenerList<ObjectAttachableListener>>> objectClassListeners =
+                objectListeners.get(listenerClass);
+        if (objectClassListeners == null) {
+            return false;
+        }
+        for (Map<Long, ListenerList<ObjectAttachableListener>> objectIdListeners : objectClassListeners.values()) {
+            if (!objectIdListeners.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T extends GloballyAttachableListener> Map<T, List<Class<T>>> getListeners() {
-        return Collections.unmodifiableMap(listeners.entrySet().stream()
-                .flatMap(entry -> entry
-                        .getValue()
-                        .keySet()
-                        .stream()
-                        .map(listener -> new SimpleEntry<>((T) listener, (Class<T>) entry.getKey())))
-                .collect(Collectors.groupingBy(Entry::getKey,
-                                               Collectors.mapping(Entry::getValue, Collectors.toList()))));
+        Map<T, List<Class<T>>> listenerClassesByListener = new HashMap<>();
+        listeners.forEach((listenerClass, listenerList) -> listenerList.getListeners().forEach(listener ->
+                listenerClassesByListener
+                        .computeIfAbsent((T) listener, key -> new ArrayList<>())
+                        .add((Class<T>) listenerClass)));
+        return Collections.unmodifiableMap(listenerClassesByListener);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned list is an immutable snapshot which is not copied, so calling this method does not allocate.
+     */
     @Override
     @SuppressWarnings("unchecked")
     public <T extends GloballyAttachableListener> List<T> getListeners(Class<T> listenerClass) {
-        return Collections.unmodifiableList((List<T>) Optional.ofNullable(listenerClass)
-                .map(listeners::get)
-                .map(Map::keySet)
-                .map(ArrayList::new)
-                .orElseGet(ArrayList::new));
+        ListenerList<GloballyAttachableListener> listenerList =
+                listenerClass == null ? null : listeners.get(listenerClass);
+        return listenerList == null ? Collections.emptyList() : (List<T>) (List<?>) listenerList.getListeners();
     }
 
     @Override
@@ -1331,10 +1550,19 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
     }
 
     @Override
-    public ThreadPool getThreadPool() {
+    public ThreadPoolImpl getThreadPool() {
         return threadPool;
     }
 
+    /**
+     * Gets the sweeper which cleans the message caches of all channels.
+     *
+     * @return The message cache sweeper.
+     */
+    public MessageCacheSweeper getMessageCacheSweeper() {
+        return messageCacheSweeper;
+    }
+
     @Override
     public CompletableFuture<List<SlashCommand>> getGlobalSlashCommands() {
         return new RestRequest<List<SlashCommand>>(this, RestMethod.GET, RestEndpoint.SLASH_COMMANDS)
@@ -1553,6 +1781,26 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
         return defaultAutomaticMessageCacheCleanupEnabled;
     }
 
+    @Override
+    public void setGlobalMessageCacheCapacity(int capacity) {
+        messageCacheSweeper.setGlobalCapacity(capacity);
+    }
+
+    @Override
+    public int getGlobalMessageCacheCapacity() {
+        return messageCacheSweeper.getGlobalCapacity();
+    }
+
+    @Override
+    public void setCompactMessageCacheEnabled(boolean compactMessageCacheEnabled) {
+        this.compactMessageCacheEnabled = compactMessageCacheEnabled;
+    }
+
+    @Override
+    public boolean isCompactMessageCacheEnabled() {
+        return compactMessageCacheEnabled;
+    }
+
     @Override
     public int getCurrentShard() {
         return currentShard;
@@ -1782,6 +2030,25 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
         return getEntityCache().get().getMemberCache().getUserCache().getUserById(id);
     }
 
+    @Override
+    public Collection<User> getCachedUsersByName(String name) {
+        return Collections.unmodifiableList(
+                getEntityCache().get().getMemberCache().getUserCache().getUsersByNameIgnoreCase(name).stream()
+                        .filter(user -> user.getName().equals(name))
+                        .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Collection<User> getCachedUsersByNameIgnoreCase(String name) {
+        return Collections.unmodifiableList(
+                new ArrayList<>(getEntityCache().get().getMemberCache().getUserCache().getUsersByNameIgnoreCase(name)));
+    }
+
+    @Override
+    public String makeMentionsReadable(String content, Server server) {
+        return MentionRenderer.makeMentionsReadable(this, content, server);
+    }
+
     @Override
     public CompletableFuture<User> getUserById(long id) {
         return getCachedUserById(id)
@@ -1858,6 +2125,13 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
         return Optional.ofNullable(customEmojis.get(id));
     }
 
+    @Override
+    public Optional<Role> getRoleById(long id) {
+        return Optional.ofNullable(roles.get(id))
+                // Only return roles of ready servers, like getServerById does
+                .filter(role -> servers.containsKey(role.getServer().getId()));
+    }
+
     @Override
     public Collection<Channel> getChannels() {
         return entityCache.get().getChannelCache().getChannels();
@@ -1928,29 +2202,30 @@ public class DiscordApiImpl implements DiscordApi, DispatchQueueSelector {
     @Override
     @SuppressWarnings("unchecked")
     public <T extends GloballyAttachableListener> ListenerManager<T> addListener(Class<T> listenerClass, T listener) {
-        return (ListenerManager<T>) listeners
-                .computeIfAbsent(listenerClass, key -> Collections.synchronizedMap(new LinkedHashMap<>()))
-                .computeIfAbsent(listener, key -> new ListenerManagerImpl<>(this, listener, listenerClass));
+        AtomicReference<ListenerManagerImpl<? extends GloballyAttachableListener>> listenerManager =
+                new AtomicReference<>();
+        listeners.compute(listenerClass, (key, listenerList) -> {
+            if (listenerList == null) {
+                listenerList = new ListenerList<>();
+            }
+            listenerManager.set(listenerList.add(listener, () ->
+                    new ListenerManagerImpl<>(this, listener, listenerClass)));
+            return listenerList;
+        });
+        return (ListenerManager<T>) listenerManager.get();
     }
 
     @Override
     public <T extends GloballyAttachableListener> void removeListener(Class<T> listenerClass, T listener) {
-        synchronized (listeners) {
-            Map<GloballyAttachableListener, ListenerManagerImpl<? extends GloballyAttachableListener>> classListeners =
-                    listeners.get(listenerClass);
-            if (classListeners == null) {
-                return;
-            }
-            ListenerManagerImpl<? extends GloballyAttachableListener> listenerManager = classListeners.get(listener);
-            if (listenerManager == null) {
-                return;
-            }
-            classListeners.remove(listener);
-            listenerManager.removed();
+        AtomicReference<ListenerManagerImpl<? extends GloballyAttachableListener>> listenerManager =
+                new AtomicReference<>();
+        listeners.computeIfPresent(listenerClass, (key, listenerList) -> {
+            listenerManager.set(listenerList.remove(listener));
             // Clean it up
-            if (classListeners.isEmpty()) {
-                listeners.remove(listenerClass);
-            }
+            return listenerList.isEmpty() ? null : listenerList;
+        });
+        if (listenerManager.get() != null) {
+            listenerManager.get().removed();
         }
     }
 
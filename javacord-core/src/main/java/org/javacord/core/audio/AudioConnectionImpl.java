@@ -3,6 +3,7 @@ package org.javacord.core.audio;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.audio.AudioConnection;
+import org.javacord.api.audio.AudioSendStatistics;
 import org.javacord.api.audio.AudioSource;
 import org.javacord.api.audio.SpeakingFlag;
 import org.javacord.api.entity.channel.ServerVoiceChannel;
@@ -298,26 +299,12 @@ public class AudioConnectionImpl implements AudioConnection, InternalAudioConnec
     }
 
     /**
-     * Gets the current audio source, blocking the thread until it is available.
+     * Gets the current audio source without blocking the thread.
      *
-     * @return The current audio source.
-     * @throws InterruptedException If interrupted while waiting.
+     * @return The current audio source or {@code null} if there is none.
      */
-    public AudioSource getCurrentAudioSourceBlocking() throws InterruptedException {
-        return currentSource.get();
-    }
-
-    /**
-     * Gets the current audio source, waiting up to the specified wait time
-     * if necessary for an audio source to become available.
-     *
-     * @param timeout How long to wait before giving up.
-     * @param unit    A {@code TimeUnit} determining how to interpret the {@code timeout} parameter.
-     * @return The current audio source, or {@code null} if the specified waiting time elapsed.
-     * @throws InterruptedException If interrupted while waiting.
-     */
-    public AudioSource getCurrentAudioSourceBlocking(long timeout, TimeUnit unit) throws InterruptedException {
-        return currentSource.get(timeout, unit);
+    public AudioSource getCurrentAudioSource() {
+        return currentSource.getNow();
     }
 
     @Override
@@ -410,6 +397,12 @@ public class AudioConnectionImpl implements AudioConnection, InternalAudioConnec
                 .sendVoiceStateUpdate(getChannel().getServer(), getChannel(), muted, deafened);
     }
 
+    @Override
+    public Optional<AudioSendStatistics> getSendStatistics() {
+        AudioWebSocketAdapter websocketAdapter = this.websocketAdapter;
+        return websocketAdapter == null ? Optional.empty() : websocketAdapter.getSendStatistics();
+    }
+
     @Override
     public String toString() {
         return String.format(
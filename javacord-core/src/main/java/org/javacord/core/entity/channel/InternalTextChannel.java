@@ -93,6 +93,11 @@ public interface InternalTextChannel extends TextChannel, InternalTextChannelAtt
         return MessageSetImpl.getMessagesAsStream(this);
     }
 
+    @Override
+    default Stream<Message> getUncachedMessagesAsStream() {
+        return MessageSetImpl.getUncachedMessagesAsStream(this);
+    }
+
     @Override
     default CompletableFuture<MessageSet> getMessagesBefore(int limit, long before) {
         return MessageSetImpl.getMessagesBefore(this, limit, before);
@@ -5,25 +5,24 @@ import org.javacord.api.DiscordApi;
 import org.javacord.api.entity.DiscordEntity;
 import org.javacord.api.entity.Permissionable;
 import org.javacord.api.entity.channel.ServerChannel;
-import org.javacord.api.entity.permission.PermissionState;
 import org.javacord.api.entity.permission.PermissionType;
 import org.javacord.api.entity.permission.Permissions;
-import org.javacord.api.entity.permission.PermissionsBuilder;
 import org.javacord.api.entity.permission.Role;
 import org.javacord.api.entity.server.Server;
 import org.javacord.api.entity.server.invite.RichInvite;
 import org.javacord.api.entity.user.User;
 import org.javacord.core.DiscordApiImpl;
+import org.javacord.core.entity.permission.PermissionsCache;
 import org.javacord.core.entity.permission.PermissionsImpl;
 import org.javacord.core.entity.server.ServerImpl;
 import org.javacord.core.entity.server.invite.InviteImpl;
+import org.javacord.core.entity.user.MemberImpl;
 import org.javacord.core.listener.channel.server.InternalServerChannelAttachableListenerManager;
 import org.javacord.core.util.logging.LoggerUtil;
 import org.javacord.core.util.rest.RestEndpoint;
 import org.javacord.core.util.rest.RestMethod;
 import org.javacord.core.util.rest.RestRequest;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -34,7 +33,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * The implementation of {@link ServerChannel}.
@@ -48,6 +46,11 @@ public abstract class ServerChannelImpl implements ServerChannel, InternalServer
             .comparingInt(ServerChannel::getRawPosition)
             .thenComparingLong(ServerChannel::getId);
 
+    /**
+     * The maximum amount of users whose effective permissions are memoized per channel.
+     */
+    private static final int EFFECTIVE_PERMISSIONS_CACHE_CAPACITY = 1000;
+
     /**
      * The discord api instance.
      */
@@ -83,6 +86,12 @@ public abstract class ServerChannelImpl implements ServerChannel, InternalServer
      */
     private final ConcurrentHashMap<Long, Permissions> overwrittenRolePermissions = new ConcurrentHashMap<>();
 
+    /**
+     * The memoized effective permissions of users in this channel.
+     */
+    private final PermissionsCache effectivePermissionsCache =
+            new PermissionsCache(EFFECTIVE_PERMISSIONS_CACHE_CAPACITY);
+
     /**
      * Creates a new server channel object.
      *
@@ -139,6 +148,15 @@ public abstract class ServerChannelImpl implements ServerChannel, InternalServer
         this.rawPosition = position;
     }
 
+    /**
+     * Removes the memoized effective permissions of a user, e.g. because the user left the server.
+     *
+     * @param userId The id of the user.
+     */
+    public void removeCachedPermissions(long userId) {
+        effectivePermissionsCache.remove(userId);
+    }
+
     /**
      * Gets the overwritten role permissions.
      *
@@ -218,48 +236,85 @@ public abstract class ServerChannelImpl implements ServerChannel, InternalServer
 
     @Override
     public Permissions getEffectiveOverwrittenPermissions(User user) {
-        PermissionsBuilder builder = new PermissionsBuilder(PermissionsImpl.EMPTY_PERMISSIONS);
-        Server server = getServer();
-        Role everyoneRole = server.getEveryoneRole();
-        Permissions everyoneRolePermissionOverwrites = getOverwrittenPermissions(everyoneRole);
-        for (PermissionType type : PermissionType.values()) {
-            if (everyoneRolePermissionOverwrites.getState(type) == PermissionState.DENIED) {
-                builder.setState(type, PermissionState.DENIED);
-            }
-            if (everyoneRolePermissionOverwrites.getState(type) == PermissionState.ALLOWED) {
-                builder.setState(type, PermissionState.ALLOWED);
-            }
-        }
-        List<Role> rolesOfUser = new ArrayList<>(server.getRoles(user));
-        rolesOfUser.remove(everyoneRole);
-        List<Permissions> permissionOverwrites = rolesOfUser.stream()
-                .map(this::getOverwrittenPermissions)
-                .collect(Collectors.toList());
-        for (Permissions permissions : permissionOverwrites) {
-            for (PermissionType type : PermissionType.values()) {
-                if (permissions.getState(type) == PermissionState.DENIED) {
-                    builder.setState(type, PermissionState.DENIED);
+        return getEffectiveOverwrittenPermissions(user.getId(), server.getMemberOf(user));
+    }
+
+    /**
+     * Gets the effective overwritten permissions of a user.
+     *
+     * <p>The overwrites are applied in the same order as Discord does: The overwrites of the everyone role first,
+     * then the denied and allowed permissions of the other roles, and the overwrites of the user last.
+     *
+     * @param userId The id of the user.
+     * @param member The member object of the user or {@code null} if the user is not a member of the server.
+     * @return The effective overwritten permissions of the user.
+     */
+    private Permissions getEffectiveOverwrittenPermissions(long userId, MemberImpl member) {
+        long everyoneRoleId = server.getId();
+        Permissions everyoneOverwrites =
+                overwrittenRolePermissions.getOrDefault(everyoneRoleId, PermissionsImpl.EMPTY_PERMISSIONS);
+        long allowed = everyoneOverwrites.getAllowedBitmask();
+        long denied = everyoneOverwrites.getDeniedBitmask() & ~allowed;
+
+        if (member != null) {
+            long rolesAllowed = 0;
+            long rolesDenied = 0;
+            for (Long roleId : member.getRoleIds()) {
+                Permissions overwrites = overwrittenRolePermissions.get(roleId);
+                if (overwrites == null || roleId == everyoneRoleId || !server.getRoleById(roleId).isPresent()) {
+                    continue;
                 }
+                rolesAllowed |= overwrites.getAllowedBitmask();
+                rolesDenied |= overwrites.getDeniedBitmask() & ~overwrites.getAllowedBitmask();
             }
+            allowed = (allowed & ~rolesDenied) | rolesAllowed;
+            denied = (denied | rolesDenied) & ~rolesAllowed;
         }
-        for (Permissions permissions : permissionOverwrites) {
-            for (PermissionType type : PermissionType.values()) {
-                if (permissions.getState(type) == PermissionState.ALLOWED) {
-                    builder.setState(type, PermissionState.ALLOWED);
-                }
-            }
+
+        Permissions userOverwrites = overwrittenUserPermissions.get(userId);
+        if (userOverwrites != null) {
+            long userAllowed = userOverwrites.getAllowedBitmask();
+            long userDenied = userOverwrites.getDeniedBitmask() & ~userAllowed;
+            allowed = (allowed & ~userDenied) | userAllowed;
+            denied = (denied | userDenied) & ~userAllowed;
         }
-        for (PermissionType type : PermissionType.values()) {
-            Permissions permissions = overwrittenUserPermissions
-                    .getOrDefault(user.getId(), PermissionsImpl.EMPTY_PERMISSIONS);
-            if (permissions.getState(type) == PermissionState.DENIED) {
-                builder.setState(type, PermissionState.DENIED);
-            }
-            if (permissions.getState(type) == PermissionState.ALLOWED) {
-                builder.setState(type, PermissionState.ALLOWED);
+        return new PermissionsImpl(
+                allowed & PermissionsImpl.ALL_PERMISSIONS_BITMASK, denied & PermissionsImpl.ALL_PERMISSIONS_BITMASK);
+    }
+
+    @Override
+    public Permissions getEffectivePermissions(User user) {
+        long generation = server.getPermissionsGeneration();
+        MemberImpl member = server.getMemberOf(user);
+        List<Long> roleIds = member == null ? null : member.getRoleIds();
+        Permissions permissions = effectivePermissionsCache.get(user.getId(), roleIds, generation);
+        if (permissions == null) {
+            permissions = server.getPermissions(user);
+            if (!server.isOwner(user)) {
+                Permissions overwrites = getEffectiveOverwrittenPermissions(user.getId(), member);
+                long allowed = (permissions.getAllowedBitmask() & ~overwrites.getDeniedBitmask())
+                        | overwrites.getAllowedBitmask();
+                permissions = new PermissionsImpl(allowed, ~allowed & PermissionsImpl.ALL_PERMISSIONS_BITMASK);
             }
+            effectivePermissionsCache.put(user.getId(), roleIds, generation, permissions);
         }
-        return builder.build();
+        return permissions;
+    }
+
+    @Override
+    public boolean hasPermission(User user, PermissionType permission) {
+        return permission.isSet(getEffectivePermissions(user).getAllowedBitmask());
+    }
+
+    @Override
+    public boolean hasPermissions(User user, PermissionType... type) {
+        long required = PermissionsImpl.toBitmask(type);
+        return (getEffectivePermissions(user).getAllowedBitmask() & required) == required;
+    }
+
+    @Override
+    public boolean hasAnyPermission(User user, PermissionType... type) {
+        return (getEffectivePermissions(user).getAllowedBitmask() & PermissionsImpl.toBitmask(type)) != 0;
     }
 
     @Override
@@ -0,0 +1,120 @@
+package org.javacord.core.entity.message;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.SoftReference;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The parts of a compact message, like its embeds or reactions, which are kept deflated until they are accessed.
+ *
+ * <p>All parts of a message are serialized into a single json object and deflated, as the json data of the parts
+ * takes more memory than the decoded parts themselves. The inflated json object is only softly referenced, so it is
+ * dropped again under memory pressure and inflated once more on the next access.
+ */
+class CompactMessageParts {
+
+    /**
+     * The deflater of the current thread.
+     *
+     * <p>Setting up a deflater allocates and clears its internal buffers, which would take longer than deflating the
+     * few hundred bytes of a message, so it is reused.
+     */
+    private static final ThreadLocal<Deflater> DEFLATER =
+            ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+
+    /**
+     * The object mapper which parses the inflated json object.
+     */
+    private final ObjectMapper mapper;
+
+    /**
+     * The deflated json object.
+     */
+    private final byte[] deflated;
+
+    /**
+     * The length of the serialized json object.
+     */
+    private final int length;
+
+    /**
+     * The inflated json object, if it is still softly reachable. Guarded by {@code this}.
+     */
+    private SoftReference<JsonNode> inflated;
+
+    /**
+     * Creates new compact message parts.
+     *
+     * @param mapper The object mapper which serializes and parses the json object.
+     * @param parts The json object with the parts of the message.
+     */
+    CompactMessageParts(ObjectMapper mapper, ObjectNode parts) {
+        this.mapper = mapper;
+        byte[] serialized;
+        try {
+            serialized = mapper.writeValueAsBytes(parts);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        length = serialized.length;
+
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setInput(serialized);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length / 2);
+        byte[] buffer = new byte[Math.min(length, 1024) + 16];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflated = out.toByteArray();
+    }
+
+    /**
+     * Gets a part of the message, inflating the json object if necessary.
+     *
+     * @param name The name of the part.
+     * @return The json data of the part or {@code null} if the message does not have this part.
+     */
+    synchronized JsonNode get(String name) {
+        JsonNode json = inflated == null ? null : inflated.get();
+        if (json == null) {
+            json = inflate();
+            inflated = new SoftReference<>(json);
+        }
+        return json.get(name);
+    }
+
+    /**
+     * Inflates and parses the json object.
+     *
+     * @return The json object with the parts of the message.
+     */
+    private JsonNode inflate() {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(deflated);
+            byte[] serialized = new byte[length];
+            int inflatedLength = 0;
+            while (inflatedLength < length && !inflater.finished()) {
+                inflatedLength += inflater.inflate(serialized, inflatedLength, length - inflatedLength);
+            }
+            return mapper.readTree(serialized);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("The compact message parts are corrupted", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
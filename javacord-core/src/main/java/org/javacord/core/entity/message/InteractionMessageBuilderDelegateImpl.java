@@ -144,7 +144,7 @@ public class InteractionMessageBuilderDelegateImpl extends MessageBuilderDelegat
                                 ((EmbedBuilderDelegateImpl) embeds.get(0).getDelegate()).getRequiredAttachments());
                     }
 
-                    addMultipartBodyToRequest(request, body, tempAttachments, request.getApi());
+                    addMultipartBodyToRequest(request, body, tempAttachments);
 
                     request.execute(result -> request.getApi().getOrCreateMessage(
                             request.getApi().getTextChannelById(result.getJsonBody().get("channel_id").asLong())
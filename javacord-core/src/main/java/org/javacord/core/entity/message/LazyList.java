@@ -0,0 +1,147 @@
+package org.javacord.core.entity.message;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A list of message parts, like embeds or reactions, which are decoded from a json array on first access.
+ *
+ * <p>Most listeners never look at these parts, so decoding them lazily saves the time and allocations while handling
+ * the message. Once decoded, the json array is dropped.
+ *
+ * <p>In compact mode, the json array is taken from the {@link CompactMessageParts} of the message and the decoded list
+ * is only softly referenced, so it is dropped again under memory pressure and decoded once more on the next access.
+ * Modifying the list decodes it for good.
+ *
+ * @param <T> The type of the message parts.
+ */
+class LazyList<T> {
+
+    /**
+     * The function which decodes a single message part.
+     */
+    private final Function<JsonNode, T> decoder;
+
+    /**
+     * The json array which was not decoded yet, if it is not in compact mode. Guarded by {@code this}.
+     */
+    private JsonNode json;
+
+    /**
+     * The compact parts of the message which contain the json array in compact mode. Guarded by {@code this}.
+     */
+    private CompactMessageParts compactParts;
+
+    /**
+     * The name of the json array in the compact parts of the message.
+     */
+    private final String name;
+
+    /**
+     * The decoded list, if it was decoded in compact mode and not modified yet. Guarded by {@code this}.
+     */
+    private SoftReference<List<T>> softlyDecoded;
+
+    /**
+     * The decoded list, if it is not in compact mode or was modified. Guarded by {@code this}.
+     *
+     * <p>If neither this nor the json array nor the compact parts are present, the list is empty.
+     */
+    private List<T> decoded;
+
+    /**
+     * Creates a new list.
+     *
+     * @param json The json array with the message parts. May be {@code null}.
+     * @param decoder The function which decodes a single message part.
+     */
+    LazyList(JsonNode json, Function<JsonNode, T> decoder) {
+        this.decoder = decoder;
+        this.json = json == null || json.size() == 0 ? null : json;
+        name = null;
+    }
+
+    /**
+     * Creates a new list in compact mode.
+     *
+     * @param compactParts The compact parts of the message. May be {@code null} if the message has no parts.
+     * @param name The name of the json array in the compact parts.
+     * @param decoder The function which decodes a single message part.
+     */
+    LazyList(CompactMessageParts compactParts, String name, Function<JsonNode, T> decoder) {
+        this.decoder = decoder;
+        this.compactParts = compactParts;
+        this.name = name;
+    }
+
+    /**
+     * Gets an unmodifiable copy of the list.
+     *
+     * @return A copy of the list.
+     */
+    synchronized List<T> getCopy() {
+        return Collections.unmodifiableList(new ArrayList<>(getDecoded()));
+    }
+
+    /**
+     * Gets the list to modify it.
+     *
+     * <p>This drops the compact form, as the modifications can't be applied to it.
+     *
+     * @return The modifiable list.
+     */
+    synchronized List<T> getModifiable() {
+        if (decoded == null) {
+            decoded = new ArrayList<>(getDecoded());
+            compactParts = null;
+            softlyDecoded = null;
+        }
+        return decoded;
+    }
+
+    /**
+     * Gets the decoded list, decoding it from the json array or the compact parts if necessary.
+     *
+     * @return The decoded list.
+     */
+    private List<T> getDecoded() {
+        if (decoded != null) {
+            return decoded;
+        }
+        if (json != null) {
+            decoded = decode(json);
+            json = null;
+            return decoded;
+        }
+        if (compactParts == null) {
+            return Collections.emptyList();
+        }
+        List<T> list = softlyDecoded == null ? null : softlyDecoded.get();
+        if (list == null) {
+            JsonNode compactJson = compactParts.get(name);
+            list = compactJson == null ? Collections.emptyList() : decode(compactJson);
+            softlyDecoded = new SoftReference<>(list);
+        }
+        return list;
+    }
+
+    /**
+     * Decodes all message parts of the given json array.
+     *
+     * @param json The json array.
+     * @return The decoded message parts.
+     */
+    private List<T> decode(JsonNode json) {
+        List<T> list = new ArrayList<>(json.size());
+        for (JsonNode partJson : json) {
+            list.add(decoder.apply(partJson));
+        }
+        return list;
+    }
+
+}
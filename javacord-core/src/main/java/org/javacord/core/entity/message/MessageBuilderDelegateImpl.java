@@ -4,9 +4,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import okhttp3.MediaType;
 import okhttp3.MultipartBody;
-import okhttp3.RequestBody;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.entity.Icon;
@@ -41,7 +39,6 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
-import java.net.URLConnection;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -436,7 +433,7 @@ public class MessageBuilderDelegateImpl implements MessageBuilderDelegate {
                                 ((EmbedBuilderDelegateImpl) embed.getDelegate()).getRequiredAttachments());
                     }
 
-                    addMultipartBodyToRequest(request, body, tempAttachments, channel.getApi());
+                    addMultipartBodyToRequest(request, body, tempAttachments);
 
                     request.execute(result -> ((DiscordApiImpl) channel.getApi())
                             .getOrCreateMessage(channel, result.getJsonBody()))
@@ -517,7 +514,7 @@ public class MessageBuilderDelegateImpl implements MessageBuilderDelegate {
                                 ((EmbedBuilderDelegateImpl) embed.getDelegate()).getRequiredAttachments());
                     }
 
-                    addMultipartBodyToRequest(request, body, tempAttachments, api);
+                    addMultipartBodyToRequest(request, body, tempAttachments);
 
                     executeWebhookRest(request, wait, future, api);
                 } catch (Throwable t) {
@@ -577,25 +574,17 @@ public class MessageBuilderDelegateImpl implements MessageBuilderDelegate {
      * @param request The RestRequest to add the MultipartBody to
      * @param body The body to use as base for the MultipartBody
      * @param attachments The List of FileContainers to add as attachments
-     * @param api The api instance needed to add the attachments
      */
     protected void addMultipartBodyToRequest(RestRequest<?> request, ObjectNode body,
-                                             List<FileContainer> attachments, DiscordApi api) {
+                                             List<FileContainer> attachments) {
         MultipartBody.Builder multipartBodyBuilder = new MultipartBody.Builder()
                 .setType(MultipartBody.FORM)
                 .addFormDataPart("payload_json", body.toString());
 
         Collections.reverse(attachments);
         for (int i = 0; i < attachments.size(); i++) {
-            byte[] bytes = attachments.get(i).asByteArray(api).join();
-
-            String mediaType = URLConnection
-                    .guessContentTypeFromName(attachments.get(i).getFileTypeOrName());
-            if (mediaType == null) {
-                mediaType = "application/octet-stream";
-            }
             multipartBodyBuilder.addFormDataPart("file" + i, attachments.get(i).getFileTypeOrName(),
-                    RequestBody.create(MediaType.parse(mediaType), bytes));
+                    attachments.get(i).asRequestBody());
         }
 
         request.setMultipartBody(multipartBodyBuilder.build());
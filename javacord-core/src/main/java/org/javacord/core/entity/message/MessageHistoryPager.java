@@ -0,0 +1,129 @@
+package org.javacord.core.entity.message;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.javacord.api.entity.channel.TextChannel;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Iterates over the json data of the messages in a channel, page by page.
+ *
+ * <p>As soon as a page is received, the next page is requested in the background, so the round trip to Discord
+ * overlaps with the processing of the current page.
+ */
+class MessageHistoryPager implements Iterator<JsonNode> {
+
+    /**
+     * The maximum amount of messages Discord returns per request.
+     */
+    static final int PAGE_SIZE = 100;
+
+    /**
+     * The channel of the messages.
+     */
+    private final TextChannel channel;
+
+    /**
+     * Whether older messages are requested. Otherwise newer messages are requested.
+     */
+    private final boolean older;
+
+    /**
+     * The json data of the received messages which were not consumed yet. Guarded by {@code this}.
+     */
+    private final Deque<JsonNode> messageJsons = new ArrayDeque<>(PAGE_SIZE);
+
+    /**
+     * The id of the message the next page starts after. Guarded by {@code this}.
+     */
+    private long referenceMessageId;
+
+    /**
+     * The next page which is already requested or {@code null}. Guarded by {@code this}.
+     */
+    private CompletableFuture<List<JsonNode>> nextPage;
+
+    /**
+     * Whether all pages were received. Guarded by {@code this}.
+     */
+    private boolean exhausted;
+
+    /**
+     * Creates a new pager. The first page is requested on first access.
+     *
+     * @param channel The channel of the messages.
+     * @param referenceMessageId The id of the message to start after or {@code -1} to start with the newest message.
+     * @param older Whether older messages should be requested. Otherwise newer messages are requested.
+     */
+    MessageHistoryPager(TextChannel channel, long referenceMessageId, boolean older) {
+        this.channel = channel;
+        this.referenceMessageId = referenceMessageId;
+        this.older = older;
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        ensureMessagesAvailable();
+        return !messageJsons.isEmpty();
+    }
+
+    @Override
+    public synchronized JsonNode next() {
+        ensureMessagesAvailable();
+        JsonNode messageJson = messageJsons.poll();
+        if (messageJson == null) {
+            throw new NoSuchElementException();
+        }
+        return messageJson;
+    }
+
+    /**
+     * Gets the json data of the next message without consuming it.
+     *
+     * @return The json data of the next message or {@code null} if there are no more messages.
+     */
+    synchronized JsonNode peek() {
+        ensureMessagesAvailable();
+        return messageJsons.peek();
+    }
+
+    /**
+     * Waits for the next page if all received messages were consumed and requests the page after it.
+     */
+    private void ensureMessagesAvailable() {
+        if (!messageJsons.isEmpty() || exhausted) {
+            return;
+        }
+        List<JsonNode> page = (nextPage == null ? requestPage(referenceMessageId) : nextPage).join();
+        nextPage = null;
+        messageJsons.addAll(page);
+        if (page.size() < PAGE_SIZE) {
+            // Discord only returns fewer messages than requested for the last page
+            exhausted = true;
+            return;
+        }
+        referenceMessageId = page.get(page.size() - 1).get("id").asLong();
+        nextPage = requestPage(referenceMessageId);
+    }
+
+    /**
+     * Requests the page after the given reference message.
+     *
+     * @param referenceMessageId The id of the message the page starts after.
+     * @return The json data of the messages, sorted in iteration order.
+     */
+    CompletableFuture<List<JsonNode>> requestPage(long referenceMessageId) {
+        return MessageSetImpl.requestAsSortedJsonNodesAsync(
+                channel,
+                PAGE_SIZE,
+                older ? referenceMessageId : -1,
+                older ? -1 : referenceMessageId,
+                older);
+    }
+
+}
@@ -1,6 +1,9 @@
 package org.javacord.core.entity.message;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.entity.DiscordEntity;
 import org.javacord.api.entity.channel.TextChannel;
@@ -28,6 +31,7 @@ import org.javacord.core.entity.user.UserImpl;
 import org.javacord.core.listener.message.InternalMessageAttachableListenerManager;
 import org.javacord.core.util.cache.MessageCacheImpl;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
@@ -37,6 +41,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 
 /**
@@ -59,14 +64,27 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
     private final long id;
 
     /**
-     * The content of the message.
+     * Whether the message is kept in a compact form.
+     */
+    private final boolean compact;
+
+    /**
+     * The content of the message, if the message is not compact.
      */
     private volatile String content;
 
+    /**
+     * The UTF-8 encoded content of the message, if the message is compact.
+     *
+     * <p>Javacord targets Java 8, where strings store every character in two bytes, so this halves the footprint of
+     * mostly ASCII content at the cost of decoding it on every access.
+     */
+    private volatile byte[] encodedContent;
+
     /**
      * The components of the message.
      */
-    private final List<HighLevelComponent> components = new ArrayList<>();
+    private final LazyList<HighLevelComponent> components;
 
     /**
      * The type of the message.
@@ -126,22 +144,33 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
     /**
      * A list with all embeds.
      */
-    private final List<Embed> embeds = new ArrayList<>();
+    private final LazyList<Embed> embeds;
 
     /**
      * A list with all reactions.
      */
-    private final List<Reaction> reactions = new ArrayList<>();
+    private final LazyList<Reaction> reactions;
 
     /**
      * The attachments of the message.
      */
-    private final List<MessageAttachment> attachments = new ArrayList<>();
+    private final LazyList<MessageAttachment> attachments;
 
     /**
      * The users mentioned in this message.
+     *
+     * <p>In compact mode, this only contains the mentioned users which were not cached when the message was created.
+     */
+    private final LazyList<User> mentions;
+
+    /**
+     * The ids of the users mentioned in this message, if the message is compact.
+     *
+     * <p>The users are resolved through the user cache on access. Users which were not cached when the message was
+     * created are taken from the {@link #mentions} instead. Users which were cached back then, but are no longer
+     * cached, are missing from the mentioned users.
      */
-    private final List<User> mentions = new ArrayList<>();
+    private final long[] mentionedUserIds;
 
     /**
      * The roles mentioned in this message.
@@ -151,16 +180,34 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
     /**
      * Creates a new message object.
      *
+     * <p>The embeds, components, reactions, attachments and mentioned users are decoded on first access. If the
+     * compact message cache is enabled, they are kept in deflated {@link CompactMessageParts} instead, the mentioned
+     * users are resolved through the user cache and the content is kept UTF-8 encoded.
+     *
      * @param api The discord api instance.
      * @param channel The channel of the message.
      * @param data The json data of the message.
      */
     public MessageImpl(DiscordApiImpl api, TextChannel channel, JsonNode data) {
+        this(api, channel, data, true);
+    }
+
+    /**
+     * Creates a new message object.
+     *
+     * @param api The discord api instance.
+     * @param channel The channel of the message.
+     * @param data The json data of the message.
+     * @param cached Whether the message should be added to the message cache. The referenced message is only taken
+     *               from and added to the message cache if this is {@code true}, too.
+     */
+    public MessageImpl(DiscordApiImpl api, TextChannel channel, JsonNode data, boolean cached) {
         this.api = api;
         this.channel = channel;
 
         id = data.get("id").asLong();
-        content = data.get("content").asText();
+        compact = api.isCompactMessageCacheEnabled();
+        setContent(data.get("content").asText());
 
         pinned = data.get("pinned").asBoolean(false);
         tts = data.get("tts").asBoolean(false);
@@ -175,43 +222,50 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
         Long webhookId = data.has("webhook_id") ? data.get("webhook_id").asLong() : null;
         author = new MessageAuthorImpl(this, webhookId, data);
 
-        MessageCacheImpl cache = (MessageCacheImpl) channel.getMessageCache();
-        cache.addMessage(this);
-
-        if (data.has("embeds")) {
-            for (JsonNode embedJson : data.get("embeds")) {
-                Embed embed = new EmbedImpl(embedJson);
-                embeds.add(embed);
-            }
+        if (cached) {
+            MessageCacheImpl cache = (MessageCacheImpl) channel.getMessageCache();
+            cache.addMessage(this);
         }
 
-        if (data.has("components")) {
-            for (JsonNode componentJson : data.get("components")) {
-                ActionRowImpl actionRow = new ActionRowImpl(componentJson);
-                components.add(actionRow);
+        ObjectMapper mapper = api.getObjectMapper();
+        Function<JsonNode, User> userDecoder = json -> new UserImpl(api, json, (MemberImpl) null,
+                getServer().map(ServerImpl.class::cast).orElse(null));
+        if (compact) {
+            ObjectNode parts = mapper.createObjectNode();
+            for (String name : new String[] {"embeds", "components", "reactions", "attachments"}) {
+                if (data.hasNonNull(name) && data.get(name).size() > 0) {
+                    parts.set(name, data.get(name));
+                }
             }
-        }
-
-        if (data.has("reactions")) {
-            for (JsonNode reactionJson : data.get("reactions")) {
-                Reaction reaction = new ReactionImpl(this, reactionJson);
-                reactions.add(reaction);
+            JsonNode mentionsJson = data.path("mentions");
+            mentionedUserIds = new long[mentionsJson.size()];
+            ArrayNode uncachedMentionsJson = mapper.createArrayNode();
+            for (int i = 0; i < mentionedUserIds.length; i++) {
+                mentionedUserIds[i] = mentionsJson.get(i).get("id").asLong();
+                if (!api.getCachedUserById(mentionedUserIds[i]).isPresent()) {
+                    uncachedMentionsJson.add(mentionsJson.get(i));
+                }
             }
-        }
-
-        if (data.has("attachments")) {
-            for (JsonNode attachmentJson : data.get("attachments")) {
-                MessageAttachment attachment = new MessageAttachmentImpl(this, attachmentJson);
-                attachments.add(attachment);
+            if (uncachedMentionsJson.size() > 0) {
+                parts.set("mentions", uncachedMentionsJson);
             }
-        }
 
-        if (data.has("mentions")) {
-            for (JsonNode mentionJson : data.get("mentions")) {
-                User user = new UserImpl(api, mentionJson, (MemberImpl) null,
-                        getServer().map(ServerImpl.class::cast).orElse(null));
-                mentions.add(user);
-            }
+            CompactMessageParts compactParts = parts.size() == 0 ? null : new CompactMessageParts(mapper, parts);
+            embeds = new LazyList<>(parts.has("embeds") ? compactParts : null, "embeds", EmbedImpl::new);
+            components = new LazyList<>(
+                    parts.has("components") ? compactParts : null, "components", ActionRowImpl::new);
+            reactions = new LazyList<>(parts.has("reactions") ? compactParts : null, "reactions",
+                    json -> new ReactionImpl(this, json));
+            attachments = new LazyList<>(parts.has("attachments") ? compactParts : null, "attachments",
+                    json -> new MessageAttachmentImpl(this, json));
+            mentions = new LazyList<>(parts.has("mentions") ? compactParts : null, "mentions", userDecoder);
+        } else {
+            embeds = new LazyList<>(data.get("embeds"), EmbedImpl::new);
+            components = new LazyList<>(data.get("components"), ActionRowImpl::new);
+            reactions = new LazyList<>(data.get("reactions"), json -> new ReactionImpl(this, json));
+            attachments = new LazyList<>(data.get("attachments"), json -> new MessageAttachmentImpl(this, json));
+            mentions = new LazyList<>(data.get("mentions"), userDecoder);
+            mentionedUserIds = null;
         }
 
         if (data.hasNonNull("mention_roles")) {
@@ -235,7 +289,9 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
         }
 
         if (data.hasNonNull("referenced_message")) {
-            referencedMessage = api.getOrCreateMessage(channel, data.get("referenced_message"));
+            referencedMessage = cached
+                    ? api.getOrCreateMessage(channel, data.get("referenced_message"))
+                    : new MessageImpl(api, channel, data.get("referenced_message"), false);
         } else {
             referencedMessage = null;
         }
@@ -253,7 +309,11 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
      * @param content The content to set.
      */
     public void setContent(String content) {
-        this.content = content;
+        if (compact) {
+            encodedContent = content.getBytes(StandardCharsets.UTF_8);
+        } else {
+            this.content = content;
+        }
     }
 
     /**
@@ -289,8 +349,9 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
      * @param embeds The embeds to set.
      */
     public void setEmbeds(List<Embed> embeds) {
-        this.embeds.clear();
-        this.embeds.addAll(embeds);
+        List<Embed> modifiableEmbeds = this.embeds.getModifiable();
+        modifiableEmbeds.clear();
+        modifiableEmbeds.addAll(embeds);
     }
 
     /**
@@ -309,6 +370,7 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
      * @param you Whether this reaction is used by you or not.
      */
     public void addReaction(Emoji emoji, boolean you) {
+        List<Reaction> reactions = this.reactions.getModifiable();
         Optional<Reaction> reaction = reactions.stream().filter(r -> emoji.equalsEmoji(r.getEmoji())).findAny();
         reaction.ifPresent(r -> ((ReactionImpl) r).incrementCount(you));
         if (!reaction.isPresent()) {
@@ -323,6 +385,7 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
      * @param you Whether this reaction is used by you or not.
      */
     public void removeReaction(Emoji emoji, boolean you) {
+        List<Reaction> reactions = this.reactions.getModifiable();
         Optional<Reaction> reaction = reactions.stream().filter(r -> emoji.equalsEmoji(r.getEmoji())).findAny();
         reaction.ifPresent(r -> ((ReactionImpl) r).decrementCount(you));
         reactions.removeIf(r -> r.getCount() <= 0);
@@ -332,7 +395,7 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
      * Removes all reaction from this message.
      */
     public void removeAllReactionsFromCache() {
-        reactions.clear();
+        reactions.getModifiable().clear();
     }
 
     @Override
@@ -347,7 +410,7 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
 
     @Override
     public String getContent() {
-        return content;
+        return compact ? new String(encodedContent, StandardCharsets.UTF_8) : content;
     }
 
     @Override
@@ -357,7 +420,7 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
 
     @Override
     public List<MessageAttachment> getAttachments() {
-        return Collections.unmodifiableList(attachments);
+        return attachments.getCopy();
     }
 
     @Override
@@ -408,7 +471,7 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
 
     @Override
     public List<Embed> getEmbeds() {
-        return Collections.unmodifiableList(new ArrayList<>(embeds));
+        return embeds.getCopy();
     }
 
     @Override
@@ -440,9 +503,10 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
     public void setCachedForever(boolean cachedForever) {
         this.cacheForever = cachedForever;
         if (cachedForever) {
+            // Register it first, so adding it to the cache does not evict another message
+            ((MessageCacheImpl) channel.getMessageCache()).addCacheForeverMessage(this);
             // Just make sure it's in the cache
             ((MessageCacheImpl) channel.getMessageCache()).addMessage(this);
-            ((MessageCacheImpl) channel.getMessageCache()).addCacheForeverMessage(this);
         } else {
             ((MessageCacheImpl) channel.getMessageCache()).removeCacheForeverMessage(this);
         }
@@ -450,17 +514,29 @@ public class MessageImpl implements Message, InternalMessageAttachableListenerMa
 
     @Override
     public List<Reaction> getReactions() {
-        return Collections.unmodifiableList(new ArrayList<>(reactions));
+        return reactions.getCopy();
     }
 
     @Override
     public List<HighLevelComponent> getComponents() {
-        return Collections.unmodifiableList(new ArrayList<>(this.components));
+        return components.getCopy();
     }
 
     @Override
     public List<User> getMentionedUsers() {
-        return Collections.unmodifiableList(new ArrayList<>(mentions));
+        if (mentionedUserIds == null) {
+            return mentions.getCopy();
+        }
+        List<User> uncachedUsers = mentions.getCopy();
+        List<User> users = new ArrayList<>(mentionedUserIds.length);
+        for (long userId : mentionedUserIds) {
+            Optional<User> user = api.getCachedUserById(userId);
+            if (!user.isPresent()) {
+                user = uncachedUsers.stream().filter(uncachedUser -> uncachedUser.getId() == userId).findAny();
+            }
+            user.ifPresent(users::add);
+        }
+        return Collections.unmodifiableList(users);
     }
 
     @Override
@@ -238,7 +238,8 @@ public class MessageSetImpl implements MessageSet {
     /**
      * Gets a stream of messages in the given channel sorted from newest to oldest.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param channel The channel of the messages.
@@ -252,7 +253,8 @@ public class MessageSetImpl implements MessageSet {
     /**
      * Gets a stream of messages in the given channel sorted from newest to oldest.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param channel The channel of the messages.
@@ -263,45 +265,47 @@ public class MessageSetImpl implements MessageSet {
      * @see #getMessages(TextChannel, int, long, long)
      */
     private static Stream<Message> getMessagesAsStream(TextChannel channel, long before, long after) {
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Iterator<Message>() {
-            private final DiscordApiImpl api = ((DiscordApiImpl) channel.getApi());
-            // before was set or both were not set
-            private final boolean older = (before != -1) || (after == -1);
-            private final boolean newer = after != -1;
-            private long referenceMessageId = older ? before : after;
-            private final List<JsonNode> messageJsons = Collections.synchronizedList(new ArrayList<>());
-
-            private void ensureMessagesAvailable() {
-                if (messageJsons.isEmpty()) {
-                    synchronized (messageJsons) {
-                        if (messageJsons.isEmpty()) {
-                            messageJsons.addAll(requestAsSortedJsonNodes(
-                                    channel,
-                                    100,
-                                    older ? referenceMessageId : -1,
-                                    newer ? referenceMessageId : -1,
-                                    older
-                            ));
-                            if (!messageJsons.isEmpty()) {
-                                referenceMessageId = messageJsons.get(messageJsons.size() - 1).get("id").asLong();
-                            }
-                        }
-                    }
-                }
-            }
+        return getMessagesAsStream(channel, before, after, true);
+    }
 
-            @Override
-            public boolean hasNext() {
-                ensureMessagesAvailable();
-                return !messageJsons.isEmpty();
-            }
+    /**
+     * Gets a stream of messages in the given channel sorted from newest to oldest.
+     *
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the
+     * background while the current one is consumed.
+     *
+     * @param channel The channel of the messages.
+     * @param before Get messages before the message with this id.
+     * @param after Get messages after the message with this id.
+     * @param cached Whether the messages should be taken from and added to the message cache.
+     *
+     * @return The stream.
+     */
+    private static Stream<Message> getMessagesAsStream(TextChannel channel, long before, long after, boolean cached) {
+        DiscordApiImpl api = (DiscordApiImpl) channel.getApi();
+        // before was set or both were not set
+        boolean older = (before != -1) || (after == -1);
+        MessageHistoryPager pager = new MessageHistoryPager(channel, older ? before : after, older);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pager,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT), false)
+                .map(messageJson -> cached
+                        ? api.getOrCreateMessage(channel, messageJson)
+                        : new MessageImpl(api, channel, messageJson, false));
+    }
 
-            @Override
-            public Message next() {
-                ensureMessagesAvailable();
-                return api.getOrCreateMessage(channel, messageJsons.remove(0));
-            }
-        }, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT), false);
+    /**
+     * Gets a stream of messages in the given channel sorted from newest to oldest, without caching them.
+     *
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
+     * so consider not using this method from a listener directly.
+     *
+     * @param channel The channel of the messages.
+     * @return The stream.
+     * @see #getMessagesAsStream(TextChannel)
+     */
+    public static Stream<Message> getUncachedMessagesAsStream(TextChannel channel) {
+        return getMessagesAsStream(channel, -1, -1, false);
     }
 
     /**
@@ -352,7 +356,8 @@ public class MessageSetImpl implements MessageSet {
      * Gets a stream of messages in the given channel before a given message in any channel sorted from newest to
      * oldest.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param channel The channel of the messages.
@@ -411,7 +416,8 @@ public class MessageSetImpl implements MessageSet {
     /**
      * Gets a stream of messages in the given channel after a given message in any channel sorted from oldest to newest.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param channel The channel of the messages.
@@ -553,7 +559,8 @@ public class MessageSetImpl implements MessageSet {
      * messages are available. If only on one side further messages are available, only those are delivered further on.
      * It's not guaranteed to be perfectly balanced.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param channel The channel of the messages.
@@ -564,74 +571,29 @@ public class MessageSetImpl implements MessageSet {
     public static Stream<Message> getMessagesAroundAsStream(TextChannel channel, long around) {
         return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Iterator<Message>() {
             private final DiscordApiImpl api = ((DiscordApiImpl) channel.getApi());
-            private final AtomicBoolean firstBatch = new AtomicBoolean(true);
+            private final AtomicBoolean firstMessage = new AtomicBoolean(true);
             private final AtomicBoolean nextIsOlder = new AtomicBoolean();
-            private long olderReferenceMessageId = around;
-            private long newerReferenceMessageId = around - 1;
-            private final List<JsonNode> olderMessageJsons = Collections.synchronizedList(new ArrayList<>());
-            private final List<JsonNode> newerMessageJsons = Collections.synchronizedList(new ArrayList<>());
-            private final AtomicBoolean hasMoreOlderMessages = new AtomicBoolean(true);
-            private final AtomicBoolean hasMoreNewerMessages = new AtomicBoolean(true);
-
-            private void ensureMessagesAvailable() {
-                if (olderMessageJsons.isEmpty() && hasMoreOlderMessages.get()) {
-                    synchronized (olderMessageJsons) {
-                        if (olderMessageJsons.isEmpty() && hasMoreOlderMessages.get()) {
-                            olderMessageJsons.addAll(requestAsSortedJsonNodes(
-                                    channel,
-                                    100,
-                                    olderReferenceMessageId,
-                                    -1,
-                                    true
-                            ));
-                            if (olderMessageJsons.isEmpty()) {
-                                hasMoreOlderMessages.set(false);
-                            } else {
-                                olderReferenceMessageId =
-                                        olderMessageJsons.get(olderMessageJsons.size() - 1).get("id").asLong();
-                            }
-                        }
-                    }
-                }
-                if (newerMessageJsons.isEmpty() && hasMoreNewerMessages.get()) {
-                    synchronized (newerMessageJsons) {
-                        if (newerMessageJsons.isEmpty() && hasMoreNewerMessages.get()) {
-                            newerMessageJsons.addAll(requestAsSortedJsonNodes(
-                                    channel,
-                                    100,
-                                    -1,
-                                    newerReferenceMessageId,
-                                    false
-                            ));
-                            if (newerMessageJsons.isEmpty()) {
-                                hasMoreNewerMessages.set(false);
-                            } else {
-                                newerReferenceMessageId =
-                                        newerMessageJsons.get(newerMessageJsons.size() - 1).get("id").asLong();
-                                if (firstBatch.getAndSet(false)) {
-                                    nextIsOlder.set(newerMessageJsons.get(0).get("id").asLong() != around);
-                                }
-                            }
-                        }
-                    }
-                }
-            }
+            private final MessageHistoryPager olderMessageJsons = new MessageHistoryPager(channel, around, true);
+            private final MessageHistoryPager newerMessageJsons = new MessageHistoryPager(channel, around - 1, false);
 
             @Override
             public boolean hasNext() {
-                ensureMessagesAvailable();
-                return !(olderMessageJsons.isEmpty() && newerMessageJsons.isEmpty());
+                return olderMessageJsons.hasNext() || newerMessageJsons.hasNext();
             }
 
             @Override
             public Message next() {
-                ensureMessagesAvailable();
+                if (firstMessage.getAndSet(false)) {
+                    JsonNode firstNewerMessageJson = newerMessageJsons.peek();
+                    nextIsOlder.set(firstNewerMessageJson != null
+                            && firstNewerMessageJson.get("id").asLong() != around);
+                }
                 boolean nextIsOlder = this.nextIsOlder.get();
                 this.nextIsOlder.set(!nextIsOlder);
                 JsonNode messageJson =
-                        ((nextIsOlder && !olderMessageJsons.isEmpty()) || newerMessageJsons.isEmpty())
-                        ? olderMessageJsons.remove(0)
-                        : newerMessageJsons.remove(0);
+                        ((nextIsOlder && olderMessageJsons.hasNext()) || !newerMessageJsons.hasNext())
+                        ? olderMessageJsons.next()
+                        : newerMessageJsons.next();
                 return api.getOrCreateMessage(channel, messageJson);
             }
         }, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT), false);
@@ -729,7 +691,8 @@ public class MessageSetImpl implements MessageSet {
      * Gets all messages in the given channel between the first given message in any channel and the second given
      * message in any channel, excluding the boundaries, sorted from first given message to the second given message.
      *
-     * <p>The messages are retrieved in batches synchronously from Discord,
+     * <p>The messages are retrieved in batches from Discord. The next batch is requested in the background while the
+     * current one is consumed, but consuming the stream blocks while waiting for a batch,
      * so consider not using this method from a listener directly.
      *
      * @param channel The channel of the messages.
@@ -763,7 +726,7 @@ public class MessageSetImpl implements MessageSet {
     }
 
     /**
-     * Requests the messages from Discord, sorted by their id.
+     * Requests the messages from Discord asynchronously, sorted by their id.
      *
      * @param channel The channel of which to get messages from.
      * @param limit The limit of messages to get.
@@ -772,12 +735,13 @@ public class MessageSetImpl implements MessageSet {
      * @param reversed If {@code true}, get from oldest to newest, otherwise from newest to oldest.
      * @return The JSON nodes.
      */
-    private static List<JsonNode> requestAsSortedJsonNodes(
+    static CompletableFuture<List<JsonNode>> requestAsSortedJsonNodesAsync(
             TextChannel channel, int limit, long before, long after, boolean reversed) {
-        List<JsonNode> messageJsonNodes = requestAsJsonNodes(channel, limit, before, after);
-        Comparator<JsonNode> idComparator = Comparator.comparingLong(jsonNode -> jsonNode.get("id").asLong());
-        messageJsonNodes.sort(reversed ? idComparator.reversed() : idComparator);
-        return messageJsonNodes;
+        return requestAsJsonNodesAsync(channel, limit, before, after).thenApply(messageJsonNodes -> {
+            Comparator<JsonNode> idComparator = Comparator.comparingLong(jsonNode -> jsonNode.get("id").asLong());
+            messageJsonNodes.sort(reversed ? idComparator.reversed() : idComparator);
+            return messageJsonNodes;
+        });
     }
 
     /**
@@ -790,6 +754,20 @@ public class MessageSetImpl implements MessageSet {
      * @return The JSON nodes.
      */
     private static List<JsonNode> requestAsJsonNodes(TextChannel channel, int limit, long before, long after) {
+        return requestAsJsonNodesAsync(channel, limit, before, after).join();
+    }
+
+    /**
+     * Requests the messages from Discord asynchronously.
+     *
+     * @param channel The channel of which to get messages from.
+     * @param limit The limit of messages to get.
+     * @param before Get messages before the message with this id.
+     * @param after Get messages after the message with this id.
+     * @return The JSON nodes.
+     */
+    private static CompletableFuture<List<JsonNode>> requestAsJsonNodesAsync(
+            TextChannel channel, int limit, long before, long after) {
         RestRequest<List<JsonNode>> restRequest =
                 new RestRequest<List<JsonNode>>(channel.getApi(), RestMethod.GET, RestEndpoint.MESSAGE)
                 .setUrlParameters(channel.getIdAsString());
@@ -808,7 +786,7 @@ public class MessageSetImpl implements MessageSet {
             List<JsonNode> messageJsonNodes = new ArrayList<>();
             result.getJsonBody().iterator().forEachRemaining(messageJsonNodes::add);
             return messageJsonNodes;
-        }).join();
+        });
     }
 
     @Override
@@ -0,0 +1,129 @@
+package org.javacord.core.entity.permission;
+
+import org.javacord.api.entity.permission.Permissions;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memoizes the computed permissions of users, e.g. the effective permissions in a channel.
+ *
+ * <p>A cached entry is only valid for the role ids it was computed from and for the permissions generation of the
+ * server at the time the computation started. Checking the role ids makes member updates invalidate their entries on
+ * their own, also for member objects which are attached to users, e.g. message authors. Changes of roles, permission
+ * overwrites or the owner bump the generation of the server, which invalidates all entries at once.
+ */
+public class PermissionsCache {
+
+    /**
+     * The cached entries by user id.
+     */
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The maximum amount of cached entries.
+     */
+    private final int capacity;
+
+    /**
+     * The newest generation this cache has seen. Entries of older generations are dropped lazily.
+     */
+    private volatile long generation;
+
+    /**
+     * Creates a new permissions cache without a capacity limit.
+     */
+    public PermissionsCache() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new permissions cache.
+     *
+     * <p>If the capacity is reached, an arbitrary entry is dropped for every new entry.
+     *
+     * @param capacity The maximum amount of cached entries.
+     */
+    public PermissionsCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Gets the cached permissions of a user.
+     *
+     * @param userId The id of the user.
+     * @param roleIds The role ids of the member or {@code null} if the user is no member.
+     * @param generation The current permissions generation of the server.
+     * @return The cached permissions or {@code null} if there are no valid cached permissions.
+     */
+    public Permissions get(long userId, List<Long> roleIds, long generation) {
+        if (generation != this.generation) {
+            if (generation > this.generation) {
+                // All entries are outdated, drop them, so that users who are gone don't stay in the cache forever
+                entries.clear();
+                this.generation = generation;
+            }
+            return null;
+        }
+        Entry entry = entries.get(userId);
+        if (entry == null || entry.generation != generation || !Objects.equals(entry.roleIds, roleIds)) {
+            return null;
+        }
+        return entry.permissions;
+    }
+
+    /**
+     * Caches the permissions of a user.
+     *
+     * @param userId The id of the user.
+     * @param roleIds The role ids the permissions were computed from or {@code null} if the user is no member.
+     * @param generation The permissions generation of the server before the computation started.
+     * @param permissions The permissions.
+     */
+    public void put(long userId, List<Long> roleIds, long generation, Permissions permissions) {
+        if (entries.size() >= capacity && !entries.containsKey(userId)) {
+            Iterator<Long> userIds = entries.keySet().iterator();
+            if (userIds.hasNext()) {
+                userIds.next();
+                userIds.remove();
+            }
+        }
+        entries.put(userId, new Entry(roleIds, generation, permissions));
+    }
+
+    /**
+     * Removes the cached permissions of a user.
+     *
+     * @param userId The id of the user.
+     */
+    public void remove(long userId) {
+        entries.remove(userId);
+    }
+
+    /**
+     * A cached entry.
+     */
+    private static class Entry {
+
+        private final List<Long> roleIds;
+        private final long generation;
+        private final Permissions permissions;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param roleIds The role ids the permissions were computed from.
+         * @param generation The permissions generation of the server before the computation started.
+         * @param permissions The permissions.
+         */
+        private Entry(List<Long> roleIds, long generation, Permissions permissions) {
+            this.roleIds = roleIds;
+            this.generation = generation;
+            this.permissions = permissions;
+        }
+
+    }
+
+}
@@ -16,6 +16,11 @@ public class PermissionsImpl implements Permissions {
      */
     public static final Permissions EMPTY_PERMISSIONS = new PermissionsImpl(0, 0);
 
+    /**
+     * A bitmask with all known permission types.
+     */
+    public static final long ALL_PERMISSIONS_BITMASK = toBitmask(PermissionType.values());
+
     private final long allowed;
     private final long denied;
 
@@ -48,6 +53,21 @@ public class PermissionsImpl implements Permissions {
         this.denied = tempDenied;
     }
 
+    /**
+     * Creates a bitmask which contains the given permission types.
+     *
+     * @param types The permission types.
+     * @return The bitmask.
+     */
+    public static long toBitmask(PermissionType... types) {
+        long bitmask = 0;
+        for (PermissionType type : types) {
+            // The value is an int, but the bits are unsigned
+            bitmask |= Integer.toUnsignedLong(type.getValue());
+        }
+        return bitmask;
+    }
+
     @Override
     public long getAllowedBitmask() {
         return allowed;
@@ -24,6 +24,8 @@ import org.javacord.api.entity.channel.ServerTextChannel;
 import org.javacord.api.entity.channel.ServerVoiceChannel;
 import org.javacord.api.entity.emoji.KnownCustomEmoji;
 import org.javacord.api.entity.intent.Intent;
+import org.javacord.api.entity.permission.PermissionType;
+import org.javacord.api.entity.permission.Permissions;
 import org.javacord.api.entity.permission.Role;
 import org.javacord.api.entity.server.Ban;
 import org.javacord.api.entity.server.BoostLevel;
@@ -51,6 +53,8 @@ import org.javacord.core.entity.channel.ServerChannelImpl;
 import org.javacord.core.entity.channel.ServerStageVoiceChannelImpl;
 import org.javacord.core.entity.channel.ServerTextChannelImpl;
 import org.javacord.core.entity.channel.ServerVoiceChannelImpl;
+import org.javacord.core.entity.permission.PermissionsCache;
+import org.javacord.core.entity.permission.PermissionsImpl;
 import org.javacord.core.entity.permission.RoleImpl;
 import org.javacord.core.entity.server.invite.InviteImpl;
 import org.javacord.core.entity.user.Member;
@@ -84,9 +88,11 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The implementation of {@link Server}.
@@ -203,6 +209,17 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
      */
     private final ConcurrentHashMap<Long, Role> roles = new ConcurrentHashMap<>();
 
+    /**
+     * The generation of the permission related state, like roles and permission overwrites.
+     * It is incremented on every change to invalidate all memoized permissions.
+     */
+    private final AtomicLong permissionsGeneration = new AtomicLong();
+
+    /**
+     * The memoized permissions of users in this server.
+     */
+    private final PermissionsCache permissionsCache = new PermissionsCache();
+
     /**
      * A set with all members that are muted.
      */
@@ -381,6 +398,7 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
             for (JsonNode roleJson : data.get("roles")) {
                 Role role = new RoleImpl(api, this, roleJson);
                 this.roles.put(role.getId(), role);
+                api.addRoleToCache(role);
             }
         }
 
@@ -637,13 +655,33 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
         this.multiFactorAuthenticationLevel = multiFactorAuthenticationLevel;
     }
 
+    /**
+     * Gets the generation of the permission related state, like roles and permission overwrites.
+     *
+     * @return The current permissions generation.
+     */
+    public long getPermissionsGeneration() {
+        return permissionsGeneration.get();
+    }
+
+    /**
+     * Invalidates all memoized permissions of this server and its channels.
+     * Must be called after roles, permission overwrites or the owner changed.
+     */
+    public void invalidatePermissions() {
+        permissionsGeneration.incrementAndGet();
+    }
+
     /**
      * Removes a role from the cache.
      *
      * @param roleId The id of the role to remove.
      */
     public void removeRole(long roleId) {
-        roles.remove(roleId);
+        Role role = roles.remove(roleId);
+        if (role != null) {
+            api.removeRoleFromCache(role);
+        }
     }
 
     /**
@@ -676,6 +714,7 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
             return getRoleById(id).orElseGet(() -> {
                 Role role = new RoleImpl(api, this, data);
                 this.roles.put(role.getId(), role);
+                api.addRoleToCache(role);
                 return role;
             });
         }
@@ -762,6 +801,8 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
     public void removeMember(long userId) {
         muted.remove(userId);
         deafened.remove(userId);
+        permissionsCache.remove(userId);
+        getUnorderedChannels().forEach(channel -> ((ServerChannelImpl) channel).removeCachedPermissions(userId));
         api.removeMemberFromCache(userId, getId());
     }
 
@@ -781,7 +822,14 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
     public MemberImpl addMember(JsonNode memberJson) {
         MemberImpl member = new MemberImpl(api, this, memberJson, null);
         api.addMemberToCacheOrReplaceExisting(member);
+        checkIfAllMembersCached();
+        return member;
+    }
 
+    /**
+     * Marks the server as ready and notifies the ready consumers, if all members of the server are cached.
+     */
+    private void checkIfAllMembersCached() {
         synchronized (readyConsumers) {
             if (!ready && getRealMembers().size() == getMemberCount()) {
                 ready = true;
@@ -789,7 +837,6 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
                 readyConsumers.clear();
             }
         }
-        return member;
     }
 
     /**
@@ -833,9 +880,12 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
      * @param members An array of guild member objects.
      */
     public void addMembers(JsonNode members) {
-        for (JsonNode member : members) {
-            addMember(member);
+        List<Member> newMembers = new ArrayList<>(members.size());
+        for (JsonNode memberJson : members) {
+            newMembers.add(new MemberImpl(api, this, memberJson, null));
         }
+        api.addMembersToCacheOrReplaceExisting(newMembers);
+        checkIfAllMembersCached();
     }
 
     /**
@@ -1307,6 +1357,55 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
                 .getMemberByIdAndServer(userId, getId());
     }
 
+    @Override
+    public Collection<User> getMembersByName(String name) {
+        return toUsers(api.getEntityCache().get().getMemberCache().getMembersByNameIgnoreCase(getId(), name).stream()
+                .filter(member -> member.getUser().getName().equals(name)));
+    }
+
+    @Override
+    public Collection<User> getMembersByNameIgnoreCase(String name) {
+        return toUsers(api.getEntityCache().get().getMemberCache().getMembersByNameIgnoreCase(getId(), name).stream());
+    }
+
+    @Override
+    public Collection<User> getMembersByNickname(String nickname) {
+        return toUsers(api.getEntityCache().get().getMemberCache()
+                .getMembersByNicknameIgnoreCase(getId(), nickname).stream()
+                .filter(member -> member.getNickname().map(nickname::equals).orElse(false)));
+    }
+
+    @Override
+    public Collection<User> getMembersByNicknameIgnoreCase(String nickname) {
+        return toUsers(api.getEntityCache().get().getMemberCache()
+                .getMembersByNicknameIgnoreCase(getId(), nickname).stream());
+    }
+
+    @Override
+    public Collection<User> getMembersByDisplayName(String displayName) {
+        return toUsers(api.getEntityCache().get().getMemberCache()
+                .getMembersByDisplayNameIgnoreCase(getId(), displayName).stream()
+                .filter(member -> member.getDisplayName().equals(displayName)));
+    }
+
+    @Override
+    public Collection<User> getMembersByDisplayNameIgnoreCase(String displayName) {
+        return toUsers(api.getEntityCache().get().getMemberCache()
+                .getMembersByDisplayNameIgnoreCase(getId(), displayName).stream());
+    }
+
+    /**
+     * Collects the users of the given members.
+     *
+     * @param members The members.
+     * @return An unmodifiable list with the users of the members.
+     */
+    private static List<User> toUsers(Stream<Member> members) {
+        return Collections.unmodifiableList(members
+                .map(Member::getUser)
+                .collect(Collectors.toList()));
+    }
+
     @Override
     public boolean isMember(User user) {
         return api.getEntityCache().get().getMemberCache()
@@ -1323,12 +1422,69 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
 
     @Override
     public List<Role> getRoles(User user) {
-        return ((UserImpl) user).getMember()
-                .filter(member -> member.getServer().equals(this))
-                .map(Member::getRoles)
-                .orElseGet(() ->
-                        getRealMemberById(user.getId())
-                                .map(Member::getRoles).orElseGet(Collections::emptyList));
+        MemberImpl member = getMemberOf(user);
+        return member == null ? Collections.emptyList() : member.getRoles();
+    }
+
+    /**
+     * Gets the member object which determines the roles of the given user in this server.
+     *
+     * <p>The member object which is attached to the user is preferred over the cached one.
+     *
+     * @param user The user.
+     * @return The member object or {@code null} if the user is not a member of this server.
+     */
+    public MemberImpl getMemberOf(User user) {
+        MemberImpl member = ((UserImpl) user).getMember().orElse(null);
+        if (member != null && member.getServer().equals(this)) {
+            return member;
+        }
+        return (MemberImpl) getRealMemberById(user.getId()).orElse(null);
+    }
+
+    @Override
+    public Permissions getPermissions(User user) {
+        long generation = permissionsGeneration.get();
+        MemberImpl member = getMemberOf(user);
+        List<Long> roleIds = member == null ? null : member.getRoleIds();
+        Permissions permissions = permissionsCache.get(user.getId(), roleIds, generation);
+        if (permissions == null) {
+            long allowed = 0;
+            if (isOwner(user)) {
+                allowed = PermissionsImpl.ALL_PERMISSIONS_BITMASK;
+            } else if (roleIds != null) {
+                for (Long roleId : roleIds) {
+                    Role role = roles.get(roleId);
+                    if (role != null) {
+                        allowed |= role.getPermissions().getAllowedBitmask();
+                    }
+                }
+            }
+            permissions = new PermissionsImpl(allowed & PermissionsImpl.ALL_PERMISSIONS_BITMASK, 0);
+            permissionsCache.put(user.getId(), roleIds, generation, permissions);
+        }
+        return permissions;
+    }
+
+    @Override
+    public Collection<PermissionType> getAllowedPermissions(User user) {
+        return getPermissions(user).getAllowedPermission();
+    }
+
+    @Override
+    public boolean hasPermission(User user, PermissionType permission) {
+        return permission.isSet(getPermissions(user).getAllowedBitmask());
+    }
+
+    @Override
+    public boolean hasPermissions(User user, PermissionType... type) {
+        long required = PermissionsImpl.toBitmask(type);
+        return (getPermissions(user).getAllowedBitmask() & required) == required;
+    }
+
+    @Override
+    public boolean hasAnyPermission(User user, PermissionType... type) {
+        return (getPermissions(user).getAllowedBitmask() & PermissionsImpl.toBitmask(type)) != 0;
     }
 
     @Override
@@ -1566,6 +1722,36 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
         return Collections.unmodifiableList(channels);
     }
 
+    @Override
+    public List<ServerChannel> getChannelsByName(String name) {
+        Set<ServerChannel> channels = api.getEntityCache().get().getChannelCache()
+                .getChannelsOfServerByNameIgnoreCase(getId(), name).stream()
+                .filter(channel -> channel.getName().equals(name))
+                .collect(Collectors.toSet());
+        return getChannelsInOrder(channels);
+    }
+
+    @Override
+    public List<ServerChannel> getChannelsByNameIgnoreCase(String name) {
+        return getChannelsInOrder(
+                api.getEntityCache().get().getChannelCache().getChannelsOfServerByNameIgnoreCase(getId(), name));
+    }
+
+    /**
+     * Sorts the given channels of this server like {@link #getChannels()} does.
+     *
+     * @param channels The channels to sort.
+     * @return An unmodifiable list with the sorted channels.
+     */
+    private List<ServerChannel> getChannelsInOrder(Set<ServerChannel> channels) {
+        if (channels.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(getChannels().stream()
+                .filter(channels::contains)
+                .collect(Collectors.toList()));
+    }
+
     @Override
     public List<ChannelCategory> getChannelCategories() {
         return Collections.unmodifiableList(getUnorderedChannels().stream()
@@ -1605,6 +1791,7 @@ public class ServerImpl implements Server, Cleanupable, InternalServerAttachable
         getUnorderedChannels().stream()
                 .map(ServerChannel::getId)
                 .forEach(api::removeChannelFromCache);
+        roles.values().forEach(api::removeRoleFromCache);
     }
 
     @Override
@@ -1,5 +1,11 @@
 package org.javacord.core.util;
 
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.Okio;
+import okio.Source;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.Javacord;
@@ -20,6 +26,11 @@ import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
@@ -292,12 +303,7 @@ public class FileContainer {
             return new FileInputStream(fileAsFile);
         }
         if (fileAsIcon != null || fileAsUrl != null) {
-            URL url = fileAsUrl == null ? fileAsIcon.getUrl() : fileAsUrl;
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-            conn.setRequestProperty("Content-Type", "application/json; charset=utf-8");
-            conn.setRequestProperty("User-Agent", Javacord.USER_AGENT);
-            return conn.getInputStream();
+            return openUrlConnection();
         }
         if (fileAsByteArray != null) {
             return new ByteArrayInputStream(fileAsByteArray);
@@ -308,6 +314,121 @@ public class FileContainer {
         throw new IllegalStateException("No file variant is set");
     }
 
+    /**
+     * Gets a request body which uploads the file.
+     *
+     * <p>Files, urls and buffered images are streamed to the connection instead of being loaded into memory first,
+     * and are read again if the request has to be repeated, e.g. because of a ratelimit. Input streams can only be
+     * read once, so they are read into memory on the first upload.
+     *
+     * @return A request body which uploads the file.
+     */
+    public RequestBody asRequestBody() {
+        String mediaTypeName = URLConnection.guessContentTypeFromName(getFileTypeOrName());
+        MediaType mediaType = MediaType.parse(mediaTypeName == null ? "application/octet-stream" : mediaTypeName);
+        if (fileAsByteArray != null) {
+            return RequestBody.create(mediaType, fileAsByteArray);
+        }
+        if (fileAsFile != null) {
+            return new RequestBody() {
+                @Override
+                public MediaType contentType() {
+                    return mediaType;
+                }
+
+                @Override
+                public long contentLength() {
+                    return fileAsFile.length();
+                }
+
+                @Override
+                public void writeTo(BufferedSink sink) throws IOException {
+                    try (FileChannel fileChannel = FileChannel.open(fileAsFile.toPath(), StandardOpenOption.READ)) {
+                        WritableByteChannel sinkChannel = Channels.newChannel(sink.outputStream());
+                        long size = fileChannel.size();
+                        long position = 0;
+                        while (position < size) {
+                            position += fileChannel.transferTo(position, size - position, sinkChannel);
+                        }
+                    }
+                }
+            };
+        }
+        if (fileAsBufferedImage != null) {
+            return new RequestBody() {
+                @Override
+                public MediaType contentType() {
+                    return mediaType;
+                }
+
+                @Override
+                public void writeTo(BufferedSink sink) throws IOException {
+                    ImageIO.write(fileAsBufferedImage, getFileType(), sink.outputStream());
+                }
+            };
+        }
+        if (fileAsIcon != null || fileAsUrl != null) {
+            return new RequestBody() {
+                @Override
+                public MediaType contentType() {
+                    return mediaType;
+                }
+
+                @Override
+                public void writeTo(BufferedSink sink) throws IOException {
+                    try (Source source = Okio.source(openUrlConnection())) {
+                        sink.writeAll(source);
+                    }
+                }
+            };
+        }
+        if (fileAsInputStream != null) {
+            return new RequestBody() {
+                /**
+                 * The content of the input stream, once it was read.
+                 */
+                private volatile byte[] content;
+
+                @Override
+                public MediaType contentType() {
+                    return mediaType;
+                }
+
+                @Override
+                public long contentLength() {
+                    byte[] content = this.content;
+                    return content == null ? -1 : content.length;
+                }
+
+                @Override
+                public void writeTo(BufferedSink sink) throws IOException {
+                    if (content == null) {
+                        try (BufferedSource source = Okio.buffer(Okio.source(fileAsInputStream))) {
+                            content = source.readByteArray();
+                        }
+                    }
+                    sink.write(content);
+                }
+            };
+        }
+        throw new IllegalStateException("No file variant is set");
+    }
+
+    /**
+     * Opens a connection to the url or icon and gets its input stream.
+     *
+     * @return The input stream of the connection.
+     * @throws IOException If an IO error occurs.
+     */
+    private InputStream openUrlConnection() throws IOException {
+        URL url = fileAsUrl == null ? fileAsIcon.getUrl() : fileAsUrl;
+        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        conn.setRequestMethod("GET");
+        conn.setRequestProperty("Content-Type", "application/json; charset=utf-8");
+        conn.setRequestProperty("User-Agent", Javacord.USER_AGENT);
+        return conn.getInputStream();
+    }
+
     /**
      * Gets the file as {@link BufferedImage}.
      *
@@ -0,0 +1,195 @@
+package org.javacord.core.util;
+
+import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.channel.ServerChannel;
+import org.javacord.api.entity.emoji.CustomEmoji;
+import org.javacord.api.entity.permission.Role;
+import org.javacord.api.entity.server.Server;
+import org.javacord.api.entity.user.User;
+
+import java.util.Optional;
+
+/**
+ * This class replaces mentions with readable names in a single pass.
+ *
+ * <p>The content is scanned once from left to right. Mentions are resolved when they are found and everything is
+ * appended to one builder, so the processing time grows linearly with the length of the content, no matter how many
+ * mentions it contains. Escaped characters are unescaped in the same pass.
+ */
+public class MentionRenderer {
+
+    private MentionRenderer() {
+        throw new UnsupportedOperationException("You cannot create an instance of this class");
+    }
+
+    /**
+     * Gets the readable content of the string, which replaces all mentions etc. with the actual name.
+     *
+     * @param api The discord api instance to resolve the mentions with.
+     * @param content The string to strip the mentions away.
+     * @param server The server to get the display name of users from.
+     * @return The readable content of the string.
+     * @see DiscordApi#makeMentionsReadable(String, Server)
+     */
+    public static String makeMentionsReadable(DiscordApi api, String content, Server server) {
+        int length = content.length();
+        StringBuilder readableContent = new StringBuilder(length);
+        int index = 0;
+        while (index < length) {
+            char c = content.charAt(index);
+            if (c == '\\' && index + 1 < length && isEscapable(content.codePointAt(index + 1))) {
+                // The escaped character can't start a mention
+                readableContent.append(content.charAt(index + 1));
+                index += 2;
+            } else if (c == '<') {
+                index = appendMention(api, content, index, server, readableContent);
+            } else {
+                readableContent.append(c);
+                index++;
+            }
+        }
+        return readableContent.toString();
+    }
+
+    /**
+     * Appends the readable form of the mention which starts at the given index.
+     * If there is no mention at this index, only the {@code <} is appended.
+     *
+     * @param api The discord api instance to resolve the mention with.
+     * @param content The content.
+     * @param start The index of the {@code <}.
+     * @param server The server to get the display name of users from.
+     * @param readableContent The builder to append to.
+     * @return The index after the appended part of the content.
+     */
+    private static int appendMention(
+            DiscordApi api, String content, int start, Server server, StringBuilder readableContent) {
+        int index = start + 1;
+        if (startsWith(content, index, '@')) {
+            index++;
+            if (startsWith(content, index, '&')) {
+                int end = findIdEnd(content, index + 1);
+                if (end > 0) {
+                    String roleName = api.getRoleById(content.substring(index + 1, end - 1))
+                            .map(Role::getName)
+                            .orElse("deleted-role");
+                    readableContent.append('@').append(roleName);
+                    return end;
+                }
+            } else {
+                int idStart = startsWith(content, index, '!') ? index + 1 : index;
+                int end = findIdEnd(content, idStart);
+                if (end > 0) {
+                    Optional<User> user = api.getCachedUserById(content.substring(idStart, end - 1));
+                    if (user.isPresent()) {
+                        readableContent.append('@')
+                                .append(server == null ? user.get().getName() : server.getDisplayName(user.get()));
+                    } else {
+                        readableContent.append(content, start, end);
+                    }
+                    return end;
+                }
+            }
+        } else if (startsWith(content, index, '#')) {
+            int end = findIdEnd(content, index + 1);
+            if (end > 0) {
+                String channelName = api.getServerChannelById(content.substring(index + 1, end - 1))
+                        .map(ServerChannel::getName)
+                        .orElse("deleted-channel");
+                readableContent.append('#').append(channelName);
+                return end;
+            }
+        } else {
+            if (startsWith(content, index, 'a')) {
+                index++;
+            }
+            if (startsWith(content, index, ':')) {
+                int nameStart = index + 1;
+                int nameEnd = findWordEnd(content, nameStart);
+                if (nameEnd > nameStart && startsWith(content, nameEnd, ':')) {
+                    int end = findIdEnd(content, nameEnd + 1);
+                    if (end > 0) {
+                        String name = api.getCustomEmojiById(content.substring(nameEnd + 1, end - 1))
+                                .map(CustomEmoji::getName)
+                                .orElseGet(() -> content.substring(nameStart, nameEnd));
+                        readableContent.append(':').append(name).append(':');
+                        return end;
+                    }
+                }
+            }
+        }
+        readableContent.append('<');
+        return start + 1;
+    }
+
+    /**
+     * Finds the end of an id which is terminated by a {@code >}.
+     *
+     * @param content The content.
+     * @param start The index of the first digit.
+     * @return The index after the {@code >} or {@code -1} if there is no such id.
+     */
+    private static int findIdEnd(String content, int start) {
+        int index = start;
+        while (index < content.length() && content.charAt(index) >= '0' && content.charAt(index) <= '9') {
+            index++;
+        }
+        return index > start && startsWith(content, index, '>') ? index + 1 : -1;
+    }
+
+    /**
+     * Finds the end of a word, like {@code \w++} in a regular expression.
+     *
+     * @param content The content.
+     * @param start The index of the first character of the word.
+     * @return The index after the last character of the word.
+     */
+    private static int findWordEnd(String content, int start) {
+        int index = start;
+        while (index < content.length() && isWordCharacter(content.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Checks if the content has the given character at the given index.
+     *
+     * @param content The content.
+     * @param index The index.
+     * @param c The character.
+     * @return Whether the content has the character at the index.
+     */
+    private static boolean startsWith(String content, int index, char c) {
+        return index < content.length() && content.charAt(index) == c;
+    }
+
+    /**
+     * Checks if the given character is a word character, like {@code \w} in a regular expression.
+     *
+     * @param c The character to check.
+     * @return Whether the character is a word character.
+     */
+    private static boolean isWordCharacter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Checks if the given character is unescaped if it follows a backslash.
+     *
+     * @param codePoint The character to check.
+     * @return Whether the character is unescaped.
+     * @see DiscordApi#ESCAPED_CHARACTER
+     */
+    private static boolean isEscapable(int codePoint) {
+        return !((codePoint >= 'a' && codePoint <= 'z')
+                || (codePoint >= 'A' && codePoint <= 'Z')
+                || (codePoint >= '0' && codePoint <= '9')
+                || Character.isWhitespace(codePoint)
+                || codePoint == '\u00a0'
+                || codePoint == '\u2007'
+                || codePoint == '\u202E'
+                || codePoint == '\u202F');
+    }
+
+}
@@ -1,58 +1,44 @@
 package org.javacord.core.util.cache;
 
-import io.vavr.collection.HashMap;
-import io.vavr.collection.HashSet;
-import io.vavr.collection.Map;
-import io.vavr.collection.Set;
-
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
- * An immutable cache, optionally with indexes.
+ * A cache, optionally with indexes.
  *
  * <p>The cache can store any elements and supports indexes to quickly access a subset of elements by a specific
  * criteria (the "key") with an effective (assuming an even distribution of hash keys) time-complexity of {@code O(1)}.
  *
- * <p>Ideally, the cache is only filled with immutable elements, but it also supports mutable objects.
- * However, for mutable objects, the {@link #updateIndexesOfElement(Object)} methods should be called every time an
- * element update changes the key for this element for one of the indexes.
+ * <p>There are two implementations of this interface: the {@link ImmutableCache} which returns a new cache for every
+ * modification, and the {@link ConcurrentCache} which modifies itself in place and returns itself from all
+ * modifying methods. Callers must always use the returned cache, so they work with both implementations.
  *
  * @param <T> The type of the elements in the cache.
  */
-public class Cache<T> {
-
-    /**
-     * A set with all elements in the cache.
-     */
-    private final Set<T> elements;
-
-    /**
-     * A map with all indexes.
-     *
-     * <p>The map's key is the index name and the value is the index itself.
-     */
-    private final Map<String, Index<Object, T>> indexes;
+public interface Cache<T> {
 
     /**
-     * Creates a new cache.
+     * Gets an empty immutable cache with no elements and no indexes.
      *
-     * @param elements The elements in the cache.
-     * @param indexes The indexes.
+     * @param <T> The type of the elements in the cache.
+     * @return An empty element cache.
      */
-    private Cache(Set<T> elements, Map<String, Index<Object, T>> indexes) {
-        this.elements = elements;
-        this.indexes = indexes;
+    static <T> Cache<T> empty() {
+        return ImmutableCache.empty();
     }
 
     /**
-     * Gets an empty cache with no elements and no indexes.
+     * Creates a new empty mutable cache with no elements and no indexes.
+     *
+     * <p>In contrast to {@link #empty()}, every call creates a new instance, as the returned cache is mutable.
      *
      * @param <T> The type of the elements in the cache.
-     * @return An empty element cache.
+     * @return A new empty mutable cache.
      */
-    public static <T> Cache<T> empty() {
-        return new Cache<>(HashSet.empty(), HashMap.empty());
+    static <T> Cache<T> concurrent() {
+        return new ConcurrentCache<>();
     }
 
     /**
@@ -70,20 +56,10 @@ public class Cache<T> {
      * @param mappingFunction A function to map elements to their key.
      *                        The function is allowed to return {@code null} which means that the element will not be
      *                        included in the index.
-     * @return The new cache with the added index.
+     * @return The cache with the added index.
      * @throws IllegalStateException If the cache already has an index with the given name.
      */
-    public Cache<T> addIndex(String indexName, Function<T, Object> mappingFunction) {
-        if (indexes.containsKey(indexName)) {
-            throw new IllegalStateException("The cache already has an index with name " + indexName);
-        }
-        Index<Object, T> index = new Index<>(mappingFunction);
-        for (T element : elements) {
-            index = index.addElement(element);
-        }
-        Map<String, Index<Object, T>> newIndexes = indexes.put(indexName, index);
-        return new Cache<>(elements, newIndexes);
-    }
+    Cache<T> addIndex(String indexName, Function<T, Object> mappingFunction);
 
     /**
      * Adds an element to the cache.
@@ -93,13 +69,20 @@ public class Cache<T> {
      * mapping function has an effective complexity of {@code O(1)}).
      *
      * @param element The element to add.
-     * @return The new cache after adding the element.
+     * @return The cache after adding the element.
      */
-    public Cache<T> addElement(T element) {
-        Set<T> newElements = elements.add(element);
-        Map<String, Index<Object, T>> newIndexes = indexes.mapValues(index -> index.addElement(element));
-        return new Cache<>(newElements, newIndexes);
-    }
+    Cache<T> addElement(T element);
+
+    /**
+     * Adds all given elements to the cache in one step.
+     *
+     * <p>This is more efficient than adding the elements one by one, as every index is only updated once for all
+     * elements.
+     *
+     * @param elements The elements to add.
+     * @return The cache after adding the elements.
+     */
+    Cache<T> addElements(Collection<T> elements);
 
     /**
      * Removes an element from the cache.
@@ -108,44 +91,44 @@ public class Cache<T> {
      * cache and a time complexity of {@code O(n)} regarding the amount of indexes in the cache.
      *
      * @param element The element to remove.
-     * @return The new cache after removing the element.
+     * @return The cache after removing the element.
      */
-    public Cache<T> removeElement(T element) {
-        Set<T> newElements = elements.remove(element);
-        Map<String, Index<Object, T>> newIndexes = indexes.mapValues(index -> index.removeElement(element));
-        return new Cache<>(newElements, newIndexes);
-    }
+    Cache<T> removeElement(T element);
+
+    /**
+     * Removes all given elements from the cache in one step.
+     *
+     * <p>This is more efficient than removing the elements one by one, as every index is only updated once for all
+     * elements.
+     *
+     * @param elements The elements to remove.
+     * @return The cache after removing the elements.
+     */
+    Cache<T> removeElements(Collection<T> elements);
 
     /**
      * Updates the indexes of the cache for the given element.
      *
      * <p>The update method should be called every time an element's mutation changes the key of one of the indexes.
-     * Ideally the {@code IndexedCache} is only filled with immutable elements which would make this method obsolete.
+     * Ideally the cache is only filled with immutable elements which would make this method obsolete.
      *
      * <p>This method has an effective time complexity of {@code O(1)} regarding the amount of elements already in the
      * cache and a time complexity of {@code O(n)} regarding the amount of indexes in the cache (assuming the index's
      * mapping function has an effective complexity of {@code O(1)}).
      *
      * @param element The element of which the values did change.
-     * @return The new cache after updating the element.
+     * @return The cache after updating the element.
      */
-    public Cache<T> updateIndexesOfElement(T element) {
-        if (!elements.contains(element)) {
-            return this;
-        }
-        return removeElement(element).addElement(element);
-    }
+    Cache<T> updateIndexesOfElement(T element);
 
     /**
-     * Gets a set with all elements in the cache.
+     * Gets an unmodifiable set with all elements in the cache.
      *
      * <p>This method has a time complexity of {@code O(1)}.
      *
      * @return All elements in the cache.
      */
-    public Set<T> getAll() {
-        return elements;
-    }
+    Set<T> getAll();
 
     /**
      * Gets any element in the cache that has the given key.
@@ -157,14 +140,10 @@ public class Cache<T> {
      * @return An element with the given key.
      * @throws IllegalArgumentException If the cache has no index with the given name.
      */
-    public Optional<T> findAnyByIndex(String indexName, Object key) {
-        Index<Object, T> index = indexes.get(indexName).getOrElseThrow(
-                () -> new IllegalArgumentException("No index with given name (" + indexName + ") found"));
-        return index.findAny(key);
-    }
+    Optional<T> findAnyByIndex(String indexName, Object key);
 
     /**
-     * Gets a set with all elements in the cache that have the given key.
+     * Gets an unmodifiable set with all elements in the cache that have the given key.
      *
      * <p>This method has an effective time complexity of {@code O(1)}.
      *
@@ -173,10 +152,6 @@ public class Cache<T> {
      * @return A set with all the elements that have the given key.
      * @throws IllegalArgumentException If the cache has no index with the given name.
      */
-    public Set<T> findByIndex(String indexName, Object key) {
-        Index<Object, T> index = indexes.get(indexName).getOrElseThrow(
-                () -> new IllegalArgumentException("No index with given name (" + indexName + ") found"));
-        return index.find(key);
-    }
+    Set<T> findByIndex(String indexName, Object key);
 
 }
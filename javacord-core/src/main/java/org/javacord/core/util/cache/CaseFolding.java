@@ -0,0 +1,31 @@
+package org.javacord.core.util.cache;
+
+/**
+ * This class creates the keys of the case-insensitive name indexes.
+ */
+class CaseFolding {
+
+    private CaseFolding() {
+        throw new UnsupportedOperationException("You cannot create an instance of this class");
+    }
+
+    /**
+     * Folds the case of the given string.
+     *
+     * <p>Two strings which are equal according to {@link String#equalsIgnoreCase(String)} always have the same folded
+     * string. Unlike {@link String#toLowerCase()} the result does not depend on the locale or on the surrounding
+     * characters. Folded strings can be equal for strings which are not equal ignoring case, so lookups still have
+     * to compare the found elements.
+     *
+     * @param string The string to fold.
+     * @return The folded string.
+     */
+    static String fold(String string) {
+        StringBuilder folded = new StringBuilder(string.length());
+        string.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .forEach(folded::appendCodePoint);
+        return folded.toString();
+    }
+
+}
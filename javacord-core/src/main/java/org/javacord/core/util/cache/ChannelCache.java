@@ -11,13 +11,17 @@ import org.javacord.api.entity.channel.TextChannel;
 import org.javacord.api.entity.channel.VoiceChannel;
 import org.javacord.api.entity.server.Server;
 import org.javacord.api.entity.user.User;
-import org.javacord.core.util.ImmutableToJavaMapper;
 
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
- * An immutable cache for all channel entities.
+ * A cache for all channel entities.
+ *
+ * <p>Depending on the underlying {@link Cache}, the channel cache is either immutable or modifies itself in place.
  */
 public class ChannelCache {
 
@@ -26,41 +30,87 @@ public class ChannelCache {
     private static final String SERVER_ID_INDEX_NAME = "server-id";
     private static final String SERVER_ID_AND_TYPE_INDEX_NAME = "server-id | type";
     private static final String PRIVATE_CHANNEL_USER_ID_INDEX_NAME = "user-id";
+    private static final String SERVER_ID_AND_NAME_INDEX_NAME = "server-id | name";
 
-    private static final ChannelCache EMPTY_CACHE = new ChannelCache(Cache.<Channel>empty()
-            .addIndex(ID_INDEX_NAME, Channel::getId)
-            .addIndex(TYPE_INDEX_NAME, Channel::getType)
-            .addIndex(SERVER_ID_INDEX_NAME, channel -> channel
-                    .asServerChannel()
-                    .map(ServerChannel::getServer)
-                    .map(Server::getId)
-                    .orElse(null))
-            .addIndex(SERVER_ID_AND_TYPE_INDEX_NAME, channel -> channel
-                    .asServerChannel()
-                    .map(ServerChannel::getServer)
-                    .map(Server::getId)
-                    .map(serverId -> Tuple.of(serverId, channel.getType()))
-                    .orElse(null))
-            .addIndex(PRIVATE_CHANNEL_USER_ID_INDEX_NAME, channel -> channel
-                    .asPrivateChannel()
-                    .flatMap(PrivateChannel::getRecipient)
-                    .map(User::getId)
-                    .orElse(null))
-    );
+    private static final ChannelCache EMPTY_CACHE = withIndexes(Cache.empty(), false);
+    private static final ChannelCache EMPTY_CACHE_WITH_NAME_INDEXES = withIndexes(Cache.empty(), true);
 
     private final Cache<Channel> cache;
+    private final boolean nameIndexesEnabled;
 
-    private ChannelCache(Cache<Channel> cache) {
+    private ChannelCache(Cache<Channel> cache, boolean nameIndexesEnabled) {
         this.cache = cache;
+        this.nameIndexesEnabled = nameIndexesEnabled;
+    }
+
+    /**
+     * Creates a channel cache with all indexes from the given empty cache.
+     *
+     * @param cache The empty underlying cache.
+     * @param nameIndexesEnabled Whether the cache should have an index for the case-folded names.
+     * @return The channel cache.
+     */
+    private static ChannelCache withIndexes(Cache<Channel> cache, boolean nameIndexesEnabled) {
+        Cache<Channel> indexedCache = cache
+                .addIndex(ID_INDEX_NAME, Channel::getId)
+                .addIndex(TYPE_INDEX_NAME, Channel::getType)
+                .addIndex(SERVER_ID_INDEX_NAME, channel -> channel
+                        .asServerChannel()
+                        .map(ServerChannel::getServer)
+                        .map(Server::getId)
+                        .orElse(null))
+                .addIndex(SERVER_ID_AND_TYPE_INDEX_NAME, channel -> channel
+                        .asServerChannel()
+                        .map(ServerChannel::getServer)
+                        .map(Server::getId)
+                        .map(serverId -> Tuple.of(serverId, channel.getType()))
+                        .orElse(null))
+                .addIndex(PRIVATE_CHANNEL_USER_ID_INDEX_NAME, channel -> channel
+                        .asPrivateChannel()
+                        .flatMap(PrivateChannel::getRecipient)
+                        .map(User::getId)
+                        .orElse(null));
+        if (nameIndexesEnabled) {
+            // Channel names are mutable, so renaming a channel must update the indexes of the channel
+            indexedCache = indexedCache.addIndex(SERVER_ID_AND_NAME_INDEX_NAME, channel -> channel
+                    .asServerChannel()
+                    .map(serverChannel -> Tuple.of(
+                            serverChannel.getServer().getId(), CaseFolding.fold(serverChannel.getName())))
+                    .orElse(null));
+        }
+        return new ChannelCache(indexedCache, nameIndexesEnabled);
     }
 
     /**
-     * Gets an empty channel cache.
+     * Gets an empty immutable channel cache.
      *
+     * @param nameIndexesEnabled Whether the cache should have an index for the case-folded names.
      * @return An empty channel cache.
      */
-    public static ChannelCache empty() {
-        return EMPTY_CACHE;
+    public static ChannelCache empty(boolean nameIndexesEnabled) {
+        return nameIndexesEnabled ? EMPTY_CACHE_WITH_NAME_INDEXES : EMPTY_CACHE;
+    }
+
+    /**
+     * Creates a new empty channel cache that modifies itself in place.
+     *
+     * @param nameIndexesEnabled Whether the cache should have an index for the case-folded names.
+     * @return A new empty channel cache.
+     */
+    public static ChannelCache concurrent(boolean nameIndexesEnabled) {
+        return withIndexes(Cache.concurrent(), nameIndexesEnabled);
+    }
+
+    /**
+     * Gets a channel cache for the given underlying cache.
+     *
+     * <p>Returns this instance if the underlying cache did not change, i.e. if it is mutable.
+     *
+     * @param newCache The new underlying cache.
+     * @return The channel cache.
+     */
+    private ChannelCache withCache(Cache<Channel> newCache) {
+        return newCache == cache ? this : new ChannelCache(newCache, nameIndexesEnabled);
     }
 
     /**
@@ -70,7 +120,7 @@ public class ChannelCache {
      * @return The new channel cache.
      */
     public ChannelCache addChannel(Channel channel) {
-        return new ChannelCache(cache.addElement(channel));
+        return withCache(cache.addElement(channel));
     }
 
     /**
@@ -80,7 +130,17 @@ public class ChannelCache {
      * @return The new channel cache.
      */
     public ChannelCache removeChannel(Channel channel) {
-        return new ChannelCache(cache.removeElement(channel));
+        return withCache(cache.removeElement(channel));
+    }
+
+    /**
+     * Updates the indexes of a channel after a change of its name.
+     *
+     * @param channel The changed channel.
+     * @return The new channel cache.
+     */
+    public ChannelCache updateChannel(Channel channel) {
+        return nameIndexesEnabled ? withCache(cache.updateIndexesOfElement(channel)) : this;
     }
 
     /**
@@ -89,7 +149,7 @@ public class ChannelCache {
      * @return A set with all channels.
      */
     public Set<Channel> getChannels() {
-        return ImmutableToJavaMapper.mapToJava(cache.getAll());
+        return cache.getAll();
     }
 
     /**
@@ -102,12 +162,16 @@ public class ChannelCache {
      *            {@link TextChannel}.
      * @return A set with all channels that are of one of the given types.
      */
+    @SuppressWarnings("unchecked")
     public <T extends Channel> Set<T> getChannelsWithTypes(ChannelType... types) {
-        io.vavr.collection.HashSet<Channel> channels = io.vavr.collection.HashSet.empty();
+        if (types.length == 1) {
+            return (Set<T>) cache.findByIndex(TYPE_INDEX_NAME, types[0]);
+        }
+        Set<Channel> channels = new HashSet<>();
         for (ChannelType type : types) {
-            channels = channels.addAll(cache.findByIndex(TYPE_INDEX_NAME, type));
+            channels.addAll(cache.findByIndex(TYPE_INDEX_NAME, type));
         }
-        return ImmutableToJavaMapper.mapToJava(channels);
+        return (Set<T>) Collections.unmodifiableSet(channels);
     }
 
     /**
@@ -116,8 +180,9 @@ public class ChannelCache {
      * @param serverId The id of the server.
      * @return A set with all channels in the server.
      */
+    @SuppressWarnings("unchecked")
     public Set<ServerChannel> getChannelsOfServer(long serverId) {
-        return ImmutableToJavaMapper.mapToJava(cache.findByIndex(SERVER_ID_INDEX_NAME, serverId));
+        return (Set<ServerChannel>) (Set<?>) cache.findByIndex(SERVER_ID_INDEX_NAME, serverId);
     }
 
     /**
@@ -131,9 +196,29 @@ public class ChannelCache {
      *            {@link ServerVoiceChannel} or {@link VoiceChannel}.
      * @return A set with all channels with the given type of the server with the given id.
      */
+    @SuppressWarnings("unchecked")
     public <T extends Channel> Set<T> getChannelsOfServerAndType(long serverId, ChannelType type) {
-        return ImmutableToJavaMapper.mapToJava(
-                cache.findByIndex(SERVER_ID_AND_TYPE_INDEX_NAME, Tuple.of(serverId, type)));
+        return (Set<T>) cache.findByIndex(SERVER_ID_AND_TYPE_INDEX_NAME, Tuple.of(serverId, type));
+    }
+
+    /**
+     * Gets all channels of the server with the given id that have the given name, ignoring case.
+     *
+     * <p>This method has an effective time complexity of {@code O(1)} if the name indexes are enabled.
+     *
+     * @param serverId The id of the server.
+     * @param name The name of the channels.
+     * @return A set with all channels in the server with the given name.
+     */
+    @SuppressWarnings("unchecked")
+    public Set<ServerChannel> getChannelsOfServerByNameIgnoreCase(long serverId, String name) {
+        Set<ServerChannel> channels = nameIndexesEnabled
+                ? (Set<ServerChannel>) (Set<?>) cache.findByIndex(
+                        SERVER_ID_AND_NAME_INDEX_NAME, Tuple.of(serverId, CaseFolding.fold(name)))
+                : getChannelsOfServer(serverId);
+        return Collections.unmodifiableSet(channels.stream()
+                .filter(channel -> channel.getName().equalsIgnoreCase(name))
+                .collect(Collectors.toSet()));
     }
 
     /**
@@ -0,0 +1,165 @@
+package org.javacord.core.util.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A mutable, thread-safe cache, optionally with indexes.
+ *
+ * <p>Unlike the {@link ImmutableCache}, this cache modifies itself in place and all modifying methods return the
+ * same instance. This avoids rebuilding persistent collections for every index on every modification, which creates
+ * a lot of short-living garbage for large caches.
+ *
+ * <p>Modifications of the same element are serialized by lock striping, modifications of different elements can
+ * happen in parallel. Read access is lock-free and the returned sets are weakly consistent, unmodifiable views.
+ *
+ * @param <T> The type of the elements in the cache.
+ */
+public class ConcurrentCache<T> implements Cache<T> {
+
+    /**
+     * The amount of lock stripes. Must be a power of two.
+     */
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * A set with all elements in the cache.
+     */
+    private final Set<T> elements = ConcurrentHashMap.newKeySet();
+
+    /**
+     * A map with all indexes.
+     *
+     * <p>The map's key is the index name and the value is the index itself.
+     */
+    private final Map<String, ConcurrentIndex<Object, T>> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * The locks used to serialize modifications of the same element.
+     */
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    /**
+     * Creates a new, empty cache.
+     */
+    public ConcurrentCache() {
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Gets the lock for the given element.
+     *
+     * @param element The element.
+     * @return The lock for the given element.
+     */
+    private Object getLock(T element) {
+        int hash = element.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+
+    @Override
+    public ConcurrentCache<T> addIndex(String indexName, Function<T, Object> mappingFunction) {
+        ConcurrentIndex<Object, T> index = new ConcurrentIndex<>(mappingFunction);
+        if (indexes.putIfAbsent(indexName, index) != null) {
+            throw new IllegalStateException("The cache already has an index with name " + indexName);
+        }
+        for (T element : elements) {
+            synchronized (getLock(element)) {
+                if (elements.contains(element)) {
+                    index.addElement(element);
+                }
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public ConcurrentCache<T> addElement(T element) {
+        synchronized (getLock(element)) {
+            elements.add(element);
+            for (ConcurrentIndex<Object, T> index : indexes.values()) {
+                index.addElement(element);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public ConcurrentCache<T> addElements(Collection<T> elements) {
+        for (T element : elements) {
+            addElement(element);
+        }
+        return this;
+    }
+
+    @Override
+    public ConcurrentCache<T> removeElement(T element) {
+        synchronized (getLock(element)) {
+            if (elements.remove(element)) {
+                for (ConcurrentIndex<Object, T> index : indexes.values()) {
+                    index.removeElement(element);
+                }
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public ConcurrentCache<T> removeElements(Collection<T> elements) {
+        for (T element : elements) {
+            removeElement(element);
+        }
+        return this;
+    }
+
+    @Override
+    public ConcurrentCache<T> updateIndexesOfElement(T element) {
+        synchronized (getLock(element)) {
+            if (elements.contains(element)) {
+                for (ConcurrentIndex<Object, T> index : indexes.values()) {
+                    index.removeElement(element);
+                    index.addElement(element);
+                }
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public Set<T> getAll() {
+        return Collections.unmodifiableSet(elements);
+    }
+
+    @Override
+    public Optional<T> findAnyByIndex(String indexName, Object key) {
+        return getIndex(indexName).findAny(key);
+    }
+
+    @Override
+    public Set<T> findByIndex(String indexName, Object key) {
+        return getIndex(indexName).find(key);
+    }
+
+    /**
+     * Gets the index with the given name.
+     *
+     * @param indexName The name of the index.
+     * @return The index with the given name.
+     * @throws IllegalArgumentException If the cache has no index with the given name.
+     */
+    private ConcurrentIndex<Object, T> getIndex(String indexName) {
+        ConcurrentIndex<Object, T> index = indexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException("No index with given name (" + indexName + ") found");
+        }
+        return index;
+    }
+
+}
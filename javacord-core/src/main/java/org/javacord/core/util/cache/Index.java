@@ -93,6 +93,36 @@ public class Index<K, E> {
         return new Index<>(keyMapper, newElementsByKey, newKeyByElement);
     }
 
+    /**
+     * Adds all given elements to the index.
+     *
+     * <p>Only creates a single new index for all elements instead of one per element.
+     * This method has an effective time complexity of {@code O(k)} with {@code k} being the amount of given elements.
+     *
+     * @param elements The elements to add.
+     * @return The new index with the added elements.
+     */
+    public Index<K, E> addElements(Iterable<E> elements) {
+        Map<K, Set<E>> newElementsByKey = elementsByKey;
+        Map<E, K> newKeyByElement = keyByElement;
+        for (E element : elements) {
+            K key = keyMapper.apply(element);
+            if (key == null) {
+                continue;
+            }
+            Set<E> elementsWithKey = newElementsByKey.getOrElse(key, HashSet.empty());
+            if (elementsWithKey.contains(element)) {
+                continue;
+            }
+            if (newKeyByElement.containsKey(element)) {
+                throw new IllegalStateException("The given element is already in the index with a different key");
+            }
+            newElementsByKey = newElementsByKey.put(key, elementsWithKey.add(element));
+            newKeyByElement = newKeyByElement.put(element, key);
+        }
+        return new Index<>(keyMapper, newElementsByKey, newKeyByElement);
+    }
+
     /**
      * Removes an element from the index.
      *
@@ -115,6 +145,33 @@ public class Index<K, E> {
         return new Index<>(keyMapper, newElementsByKey, newKeyByElement);
     }
 
+    /**
+     * Removes all given elements from the index.
+     *
+     * <p>Only creates a single new index for all elements instead of one per element.
+     * This method has an effective time complexity of {@code O(k)} with {@code k} being the amount of given elements.
+     *
+     * @param elements The elements to remove.
+     * @return The new index with the elements removed.
+     */
+    public Index<K, E> removeElements(Iterable<E> elements) {
+        Map<K, Set<E>> newElementsByKey = elementsByKey;
+        Map<E, K> newKeyByElement = keyByElement;
+        for (E element : elements) {
+            K key = newKeyByElement.getOrElse(element, null);
+            if (key == null) {
+                continue;
+            }
+            Set<E> elementsWithKey = newElementsByKey.getOrElse(key, HashSet.empty());
+            if (!elementsWithKey.contains(element)) {
+                continue;
+            }
+            newElementsByKey = newElementsByKey.put(key, elementsWithKey.remove(element));
+            newKeyByElement = newKeyByElement.remove(element);
+        }
+        return new Index<>(keyMapper, newElementsByKey, newKeyByElement);
+    }
+
     /**
      * Gets a set with all elements with the given key.
      *
@@ -1,14 +1,21 @@
 package org.javacord.core.util.cache;
 
+import org.javacord.api.util.cache.EntityCacheEngine;
+
 import java.util.function.UnaryOperator;
 
 /**
- * An immutable cache with all Javacord entites.
+ * A cache with all Javacord entites.
+ *
+ * <p>Depending on the {@link EntityCacheEngine}, the cache is either immutable or all sub caches modify themselves
+ * in place. In the latter case, all update methods return the same instance.
  */
 public class JavacordEntityCache {
 
     private static final JavacordEntityCache EMPTY_CACHE = new JavacordEntityCache(
-            ChannelCache.empty(), MemberCache.empty(), UserPresenceCache.empty());
+            ChannelCache.empty(false), MemberCache.empty(false), UserPresenceCache.empty());
+    private static final JavacordEntityCache EMPTY_CACHE_WITH_NAME_INDEXES = new JavacordEntityCache(
+            ChannelCache.empty(true), MemberCache.empty(true), UserPresenceCache.empty());
 
     private final ChannelCache channelCache;
     private final MemberCache memberCache;
@@ -23,6 +30,27 @@ public class JavacordEntityCache {
         return EMPTY_CACHE;
     }
 
+    /**
+     * Gets an empty Javacord cache for the given engine.
+     *
+     * <p>For {@link EntityCacheEngine#CONCURRENT} every call creates a new instance, as the cache is mutable.
+     *
+     * @param engine The engine of the cache.
+     * @param nameIndexesEnabled Whether the channel and member caches should have indexes for the case-folded names.
+     * @return An empty Javacord cache.
+     */
+    public static JavacordEntityCache empty(EntityCacheEngine engine, boolean nameIndexesEnabled) {
+        switch (engine) {
+            case IMMUTABLE:
+                return nameIndexesEnabled ? EMPTY_CACHE_WITH_NAME_INDEXES : EMPTY_CACHE;
+            case CONCURRENT:
+                return new JavacordEntityCache(ChannelCache.concurrent(nameIndexesEnabled),
+                        MemberCache.concurrent(nameIndexesEnabled), UserPresenceCache.concurrent());
+            default:
+                throw new IllegalArgumentException("Unknown entity cache engine " + engine);
+        }
+    }
+
     private JavacordEntityCache(
             ChannelCache channelCache, MemberCache memberCache, UserPresenceCache userPresenceCache) {
         this.channelCache = channelCache;
@@ -56,6 +84,9 @@ public class JavacordEntityCache {
      * @return The new Javacord entity cache.
      */
     public JavacordEntityCache setChannelCache(ChannelCache channelCache) {
+        if (channelCache == this.channelCache) {
+            return this;
+        }
         return new JavacordEntityCache(channelCache, memberCache, userPresenceCache);
     }
 
@@ -85,6 +116,9 @@ public class JavacordEntityCache {
      * @return The new Javacord entity cache.
      */
     public JavacordEntityCache setMemberCache(MemberCache memberCache) {
+        if (memberCache == this.memberCache) {
+            return this;
+        }
         return new JavacordEntityCache(channelCache, memberCache, userPresenceCache);
     }
 
@@ -114,6 +148,9 @@ public class JavacordEntityCache {
      * @return The new Javacord entity cache.
      */
     public JavacordEntityCache setUserPresenceCache(UserPresenceCache userPresenceCache) {
+        if (userPresenceCache == this.userPresenceCache) {
+            return this;
+        }
         return new JavacordEntityCache(channelCache, memberCache, userPresenceCache);
     }
 }
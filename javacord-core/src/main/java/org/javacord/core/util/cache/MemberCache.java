@@ -3,54 +3,131 @@ package org.javacord.core.util.cache;
 import io.vavr.Tuple;
 import io.vavr.Tuple2;
 import org.javacord.api.entity.server.Server;
+import org.javacord.api.entity.user.User;
 import org.javacord.core.entity.user.Member;
-import org.javacord.core.util.ImmutableToJavaMapper;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
- * An immutable cache for all member entities.
+ * A cache for all member entities.
+ *
+ * <p>Depending on the underlying {@link Cache}, the member cache is either immutable or modifies itself in place.
  */
 public class MemberCache {
 
     private static final String ID_INDEX_NAME = "id";
     private static final String SERVER_ID_INDEX_NAME = "server-id";
     private static final String ID_AND_SERVER_ID_INDEX_NAME = "server-id | type";
+    private static final String SERVER_ID_AND_NAME_INDEX_NAME = "server-id | name";
+    private static final String SERVER_ID_AND_NICKNAME_INDEX_NAME = "server-id | nickname";
+    private static final String SERVER_ID_AND_DISPLAY_NAME_INDEX_NAME = "server-id | display-name";
 
     private static final String MEMBER_SERVER_MEMBER_ID_INDEX_NAME = "ms > member-id";
     private static final String MEMBER_SERVER_MEMBER_ID_SERVER_ID_INDEX_NAME = "ms > member-id | server-id";
 
-    private static final MemberCache EMPTY_CACHE = new MemberCache(
-            Cache.<Member>empty()
-                    .addIndex(ID_INDEX_NAME, Member::getId)
-                    .addIndex(SERVER_ID_INDEX_NAME, member -> member.getServer().getId())
-                    .addIndex(ID_AND_SERVER_ID_INDEX_NAME,
-                            member -> Tuple.of(member.getId(), member.getServer().getId())),
-            UserCache.empty(),
-            Cache.<Tuple2<Member, Server>>empty()
-                    .addIndex(MEMBER_SERVER_MEMBER_ID_INDEX_NAME, tuple -> tuple._1().getId())
-                    .addIndex(MEMBER_SERVER_MEMBER_ID_SERVER_ID_INDEX_NAME,
-                            tuple -> Tuple.of(tuple._1.getId(), tuple._2.getId()))
-    );
+    private static final MemberCache EMPTY_CACHE =
+            withIndexes(Cache.empty(), UserCache.empty(false), Cache.empty(), false);
+    private static final MemberCache EMPTY_CACHE_WITH_NAME_INDEXES =
+            withIndexes(Cache.empty(), UserCache.empty(true), Cache.empty(), true);
 
     private final Cache<Tuple2<Member, Server>> memberServerCache;
     private final Cache<Member> cache;
     private final UserCache userCache;
+    private final boolean nameIndexesEnabled;
 
-    private MemberCache(Cache<Member> cache, UserCache userCache, Cache<Tuple2<Member, Server>> memberServerCache) {
+    private MemberCache(Cache<Member> cache, UserCache userCache, Cache<Tuple2<Member, Server>> memberServerCache,
+                        boolean nameIndexesEnabled) {
         this.cache = cache;
         this.userCache = userCache;
         this.memberServerCache = memberServerCache;
+        this.nameIndexesEnabled = nameIndexesEnabled;
     }
 
     /**
-     * Gets an empty channel cache.
+     * Creates a member cache with all indexes from the given empty caches.
      *
-     * @return An empty channel cache.
+     * @param cache The empty underlying member cache.
+     * @param userCache The empty underlying user cache.
+     * @param memberServerCache The empty underlying member-server cache.
+     * @param nameIndexesEnabled Whether the member cache should have indexes for the case-folded names.
+     * @return The member cache.
      */
-    public static MemberCache empty() {
-        return EMPTY_CACHE;
+    private static MemberCache withIndexes(Cache<Member> cache, UserCache userCache,
+                                           Cache<Tuple2<Member, Server>> memberServerCache,
+                                           boolean nameIndexesEnabled) {
+        Cache<Member> indexedCache = cache
+                .addIndex(ID_INDEX_NAME, Member::getId)
+                .addIndex(SERVER_ID_INDEX_NAME, member -> member.getServer().getId())
+                .addIndex(ID_AND_SERVER_ID_INDEX_NAME,
+                        member -> Tuple.of(member.getId(), member.getServer().getId()));
+        if (nameIndexesEnabled) {
+            // Members are immutable, a new member object replaces the old one on every update
+            indexedCache = indexedCache
+                    .addIndex(SERVER_ID_AND_NAME_INDEX_NAME, member -> Tuple.of(
+                            member.getServer().getId(), CaseFolding.fold(member.getUser().getName())))
+                    .addIndex(SERVER_ID_AND_NICKNAME_INDEX_NAME, member -> member.getNickname()
+                            .map(nickname -> Tuple.of(member.getServer().getId(), CaseFolding.fold(nickname)))
+                            .orElse(null))
+                    .addIndex(SERVER_ID_AND_DISPLAY_NAME_INDEX_NAME, member -> Tuple.of(
+                            member.getServer().getId(), CaseFolding.fold(member.getDisplayName())));
+        }
+        return new MemberCache(
+                indexedCache,
+                userCache,
+                memberServerCache
+                        .addIndex(MEMBER_SERVER_MEMBER_ID_INDEX_NAME, tuple -> tuple._1().getId())
+                        .addIndex(MEMBER_SERVER_MEMBER_ID_SERVER_ID_INDEX_NAME,
+                                tuple -> Tuple.of(tuple._1.getId(), tuple._2.getId())),
+                nameIndexesEnabled
+        );
+    }
+
+    /**
+     * Gets an empty immutable member cache.
+     *
+     * @param nameIndexesEnabled Whether the cache should have indexes for the case-folded names.
+     * @return An empty member cache.
+     */
+    public static MemberCache empty(boolean nameIndexesEnabled) {
+        return nameIndexesEnabled ? EMPTY_CACHE_WITH_NAME_INDEXES : EMPTY_CACHE;
+    }
+
+    /**
+     * Creates a new empty member cache that modifies itself in place.
+     *
+     * @param nameIndexesEnabled Whether the cache should have indexes for the case-folded names.
+     * @return A new empty member cache.
+     */
+    public static MemberCache concurrent(boolean nameIndexesEnabled) {
+        return withIndexes(
+                Cache.concurrent(), UserCache.concurrent(nameIndexesEnabled), Cache.concurrent(), nameIndexesEnabled);
+    }
+
+    /**
+     * Gets a member cache for the given underlying caches.
+     *
+     * <p>Returns this instance if none of the underlying caches did change, i.e. if they are mutable.
+     *
+     * @param newCache The new underlying member cache.
+     * @param newUserCache The new underlying user cache.
+     * @param newMemberServerCache The new underlying member-server cache.
+     * @return The member cache.
+     */
+    private MemberCache withCaches(
+            Cache<Member> newCache, UserCache newUserCache, Cache<Tuple2<Member, Server>> newMemberServerCache) {
+        if (newCache == cache && newUserCache == userCache && newMemberServerCache == memberServerCache) {
+            return this;
+        }
+        return new MemberCache(newCache, newUserCache, newMemberServerCache, nameIndexesEnabled);
     }
 
     /**
@@ -62,7 +139,7 @@ public class MemberCache {
      * @return The new member cache.
      */
     public MemberCache addMember(Member member) {
-        return new MemberCache(
+        return withCaches(
                 cache.addElement(member),
                 userCache.getUserById(member.getId())
                         .map(userCache::removeUser)
@@ -72,6 +149,42 @@ public class MemberCache {
         );
     }
 
+    /**
+     * Adds all given members to the cache in one step, replacing existing members with the same id in the same
+     * server.
+     *
+     * <p>Automatically updates the underlying user cache, too. Compared to adding the members one by one, every
+     * index is only updated once for all members.
+     *
+     * @param members The members to add.
+     * @return The new member cache.
+     */
+    public MemberCache addOrReplaceMembers(Collection<Member> members) {
+        Map<Tuple2<Long, Long>, Member> newMembers = new LinkedHashMap<>();
+        Map<Long, User> newUsers = new LinkedHashMap<>();
+        for (Member member : members) {
+            newMembers.put(Tuple.of(member.getId(), member.getServer().getId()), member);
+            newUsers.put(member.getId(), member.getUser());
+        }
+
+        List<Member> oldMembers = new ArrayList<>();
+        List<Tuple2<Member, Server>> oldMemberServerTuples = new ArrayList<>();
+        List<Tuple2<Member, Server>> newMemberServerTuples = new ArrayList<>();
+        for (Map.Entry<Tuple2<Long, Long>, Member> entry : newMembers.entrySet()) {
+            cache.findAnyByIndex(ID_AND_SERVER_ID_INDEX_NAME, entry.getKey()).ifPresent(oldMembers::add);
+            memberServerCache.findAnyByIndex(MEMBER_SERVER_MEMBER_ID_SERVER_ID_INDEX_NAME, entry.getKey())
+                    .ifPresent(oldMemberServerTuples::add);
+            Member member = entry.getValue();
+            newMemberServerTuples.add(Tuple.of(member, member.getServer()));
+        }
+
+        return withCaches(
+                cache.removeElements(oldMembers).addElements(new ArrayList<>(newMembers.values())),
+                userCache.addOrReplaceUsers(newUsers.values()),
+                memberServerCache.removeElements(oldMemberServerTuples).addElements(newMemberServerTuples)
+        );
+    }
+
     /**
      * Removes a member from the cache.
      *
@@ -91,7 +204,7 @@ public class MemberCache {
                 )
                 .orElse(null);
 
-        return new MemberCache(
+        return withCaches(
                 cache.removeElement(member),
                 userCache.getUserById(member.getId())
                         .map(userCache::removeUser)
@@ -107,9 +220,10 @@ public class MemberCache {
      * @return A list with all servers that the user with the given id is a member of.
      */
     public Set<Server> getServers(long userId) {
-        return ImmutableToJavaMapper.mapToJava(
-                memberServerCache.findByIndex(MEMBER_SERVER_MEMBER_ID_INDEX_NAME, userId)
+        return Collections.unmodifiableSet(
+                memberServerCache.findByIndex(MEMBER_SERVER_MEMBER_ID_INDEX_NAME, userId).stream()
                         .map(tuple -> tuple._2)
+                        .collect(Collectors.toSet())
         );
     }
 
@@ -128,7 +242,7 @@ public class MemberCache {
      * @return A set with all channels.
      */
     public Set<Member> getMembers() {
-        return ImmutableToJavaMapper.mapToJava(cache.getAll());
+        return cache.getAll();
     }
 
     /**
@@ -138,7 +252,7 @@ public class MemberCache {
      * @return A set with all member with the given id.
      */
     public Set<Member> getMembersById(long id) {
-        return ImmutableToJavaMapper.mapToJava(cache.findByIndex(ID_INDEX_NAME, id));
+        return cache.findByIndex(ID_INDEX_NAME, id);
     }
 
     /**
@@ -148,7 +262,7 @@ public class MemberCache {
      * @return A set with all member of the server with the given id.
      */
     public Set<Member> getMembersByServer(long serverId) {
-        return ImmutableToJavaMapper.mapToJava(cache.findByIndex(SERVER_ID_INDEX_NAME, serverId));
+        return cache.findByIndex(SERVER_ID_INDEX_NAME, serverId);
     }
 
     /**
@@ -161,4 +275,66 @@ public class MemberCache {
     public Optional<Member> getMemberByIdAndServer(long id, long serverId) {
         return cache.findAnyByIndex(ID_AND_SERVER_ID_INDEX_NAME, Tuple.of(id, serverId));
     }
+
+    /**
+     * Gets a set with all members in the server with the given id that have the given name, ignoring case.
+     *
+     * <p>This method has an effective time complexity of {@code O(1)} if the name indexes are enabled.
+     *
+     * @param serverId The server id.
+     * @param name The name of the members.
+     * @return A set with all members with the given name.
+     */
+    public Set<Member> getMembersByNameIgnoreCase(long serverId, String name) {
+        return findByName(serverId, SERVER_ID_AND_NAME_INDEX_NAME, name,
+                member -> member.getUser().getName().equalsIgnoreCase(name));
+    }
+
+    /**
+     * Gets a set with all members in the server with the given id that have the given nickname, ignoring case.
+     *
+     * <p>This method has an effective time complexity of {@code O(1)} if the name indexes are enabled.
+     *
+     * @param serverId The server id.
+     * @param nickname The nickname of the members.
+     * @return A set with all members with the given nickname.
+     */
+    public Set<Member> getMembersByNicknameIgnoreCase(long serverId, String nickname) {
+        return findByName(serverId, SERVER_ID_AND_NICKNAME_INDEX_NAME, nickname,
+                member -> member.getNickname().map(nickname::equalsIgnoreCase).orElse(false));
+    }
+
+    /**
+     * Gets a set with all members in the server with the given id that have the given display name, ignoring case.
+     *
+     * <p>This method has an effective time complexity of {@code O(1)} if the name indexes are enabled.
+     *
+     * @param serverId The server id.
+     * @param displayName The display name of the members.
+     * @return A set with all members with the given display name.
+     */
+    public Set<Member> getMembersByDisplayNameIgnoreCase(long serverId, String displayName) {
+        return findByName(serverId, SERVER_ID_AND_DISPLAY_NAME_INDEX_NAME, displayName,
+                member -> member.getDisplayName().equalsIgnoreCase(displayName));
+    }
+
+    /**
+     * Gets a set with all members in the server with the given id that match the given name filter.
+     *
+     * <p>Uses the given name index if the name indexes are enabled and scans all members of the server otherwise.
+     *
+     * @param serverId The server id.
+     * @param indexName The name of the name index.
+     * @param name The name to look up.
+     * @param filter The filter which compares the name of the members ignoring case.
+     * @return A set with all matching members.
+     */
+    private Set<Member> findByName(long serverId, String indexName, String name, Predicate<Member> filter) {
+        Set<Member> members = nameIndexesEnabled
+                ? cache.findByIndex(indexName, Tuple.of(serverId, CaseFolding.fold(name)))
+                : getMembersByServer(serverId);
+        return Collections.unmodifiableSet(members.stream()
+                .filter(filter)
+                .collect(Collectors.toSet()));
+    }
 }
@@ -1,28 +1,22 @@
 package org.javacord.core.util.cache;
 
-import org.apache.logging.log4j.Logger;
 import org.javacord.api.DiscordApi;
+import org.javacord.api.entity.DiscordEntity;
 import org.javacord.api.entity.message.Message;
 import org.javacord.api.util.cache.MessageCache;
 import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.util.Cleanupable;
-import org.javacord.core.util.logging.LoggerUtil;
 
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The implementation of {@link MessageCache}.
@@ -30,39 +24,39 @@ import java.util.stream.Collectors;
 public class MessageCacheImpl implements MessageCache, Cleanupable {
 
     /**
-     * The logger of this class.
+     * All cached messages ordered by their id, which also orders them by their creation time.
      */
-    private static final Logger logger = LoggerUtil.getLogger(MessageCacheImpl.class);
+    private final ConcurrentSkipListMap<Long, MessageReference> messages = new ConcurrentSkipListMap<>();
 
     /**
-     * A list with all messages.
+     * The amount of entries in {@link #messages}, because the size of a skip list is not a constant time operation.
      */
-    private final List<Reference<? extends Message>> messages = new ArrayList<>();
+    private final AtomicInteger messageCount = new AtomicInteger();
 
     /**
-     * The queue that is notified if a message became softly-reachable.
+     * A set with all messages that should be cached forever.
      */
-    private final ReferenceQueue<Message> messagesCleanupQueue = new ReferenceQueue<>();
+    private final Set<Message> cacheForeverMessages = Collections.synchronizedSet(new HashSet<>());
 
     /**
-     * The messages cleanup future to be cancelled in {@link #cleanup()}.
+     * Whether the cache is registered at the sweeper to be cleaned with its next sweep.
      */
-    private final Future<?> messagesCleanupFuture;
+    private final AtomicBoolean dirty = new AtomicBoolean();
 
     /**
-     * A list with all messages that should be cached forever.
+     * Whether the cache is registered at the sweeper as a cache with messages.
      */
-    private final List<Message> cacheForeverMessages = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicBoolean populated = new AtomicBoolean();
 
     /**
-     * The cache clean future to be cancelled in {@link #cleanup()}.
+     * The discord api instance.
      */
-    private final AtomicReference<Future<?>> cleanFuture = new AtomicReference<>();
+    private final DiscordApiImpl api;
 
     /**
-     * The discord api instance.
+     * The sweeper which cleans this cache.
      */
-    private final DiscordApiImpl api;
+    private final MessageCacheSweeper sweeper;
 
     /**
      * The maximum amount of stored messages.
@@ -74,6 +68,21 @@ public class MessageCacheImpl implements MessageCache, Cleanupable {
      */
     private volatile int storageTimeInSeconds;
 
+    /**
+     * Whether the cache is cleaned automatically.
+     */
+    private volatile boolean automaticCleanupEnabled;
+
+    /**
+     * The {@link System#currentTimeMillis()} when the sweeper should clean the cache next.
+     */
+    private volatile long nextSweepMillis;
+
+    /**
+     * The {@link System#nanoTime()} when the last message was added.
+     */
+    private volatile long lastAccessNanos = System.nanoTime();
+
     /**
      * Creates a new message cache.
      *
@@ -86,60 +95,59 @@ public class MessageCacheImpl implements MessageCache, Cleanupable {
         this.api = (DiscordApiImpl) api;
         this.capacity = capacity;
         this.storageTimeInSeconds = storageTimeInSeconds;
-
-        setAutomaticCleanupEnabled(automaticCleanupEnabled);
-
-        // After minimum JDK 9 is required this can be switched to use a Cleaner
-        messagesCleanupFuture = api.getThreadPool().getScheduler().scheduleWithFixedDelay(() -> {
-            try {
-                int removedMessages = 0;
-                for (Reference<? extends Message> messageRef = messagesCleanupQueue.poll();
-                         messageRef != null;
-                         messageRef = messagesCleanupQueue.poll()) {
-                    messages.remove(messageRef);
-                    removedMessages++;
-                }
-                if (removedMessages > 0) {
-                    logger.warn("Heap memory was too low to hold all configured messages in the cache. "
-                                + "Removed {} messages from the cache due to memory shortage. "
-                                + "Either increase your heap settings or decrease your message cache settings!",
-                                removedMessages);
-                }
-            } catch (Throwable t) {
-                logger.error("Failed to clean softly referenced messages!", t);
-            }
-        }, 30, 30, TimeUnit.SECONDS);
+        this.automaticCleanupEnabled = automaticCleanupEnabled;
+        sweeper = this.api.getMessageCacheSweeper();
     }
 
     /**
      * Adds a message to the cache.
      *
+     * <p>If the capacity of the cache or the global capacity is exceeded, the oldest messages which are not cached
+     * forever are removed right away.
+     *
      * @param message The message to add.
      */
     public void addMessage(Message message) {
-        synchronized (messages) {
-            api.addMessageToCache(message);
-            if (messages.stream().map(Reference::get).anyMatch(message::equals)) {
+        api.addMessageToCache(message);
+        long messageId = message.getId();
+        MessageReference messageRef = new MessageReference(this, message, sweeper.getMessagesCleanupQueue());
+        while (true) {
+            MessageReference previousRef = messages.putIfAbsent(messageId, messageRef);
+            if (previousRef == null) {
+                messageCount.incrementAndGet();
+                sweeper.updateMessageCount(1);
+                break;
+            }
+            if (previousRef.get() != null) {
+                // Already cached
                 return;
             }
-            // Add the message in the correct order
-            messages.removeIf(messageRef -> messageRef.get() == null);
-            Reference<Message> messageRef = new SoftReference<>(message, messagesCleanupQueue);
-            int pos = Collections.binarySearch(messages, messageRef, Comparator.comparing(Reference::get));
-            if (pos < 0) {
-                pos = -pos - 1;
+            // The previous message was garbage collected, but its reference was not processed yet
+            if (messages.replace(messageId, previousRef, messageRef)) {
+                break;
             }
-            messages.add(pos, messageRef);
         }
+        lastAccessNanos = System.nanoTime();
+        if (!populated.get() && populated.compareAndSet(false, true)) {
+            sweeper.addPopulatedCache(this);
+        }
+        removeExcessMessages();
+        scheduleSweep(getExpiryMillis(messageId));
+        sweeper.checkGlobalCapacity();
     }
 
     /**
      * Adds a message to be cached forever.
      *
+     * <p>The message should be added before it is added to the cache with {@link #addMessage(Message)}, otherwise
+     * adding it counts against the capacity and evicts a regular message.
+     *
      * @param message The message to add.
      */
     public void addCacheForeverMessage(Message message) {
-        cacheForeverMessages.add(message);
+        if (cacheForeverMessages.add(message)) {
+            sweeper.updateCacheForeverMessageCount(1);
+        }
     }
 
     /**
@@ -148,7 +156,12 @@ public class MessageCacheImpl implements MessageCache, Cleanupable {
      * @param message The message to remove.
      */
     public void removeCacheForeverMessage(Message message) {
-        cacheForeverMessages.remove(message);
+        if (cacheForeverMessages.remove(message)) {
+            sweeper.updateCacheForeverMessageCount(-1);
+            if (messages.containsKey(message.getId())) {
+                scheduleSweep(getExpiryMillis(message.getId()));
+            }
+        }
     }
 
     /**
@@ -157,34 +170,169 @@ public class MessageCacheImpl implements MessageCache, Cleanupable {
      * @param message The message to remove.
      */
     public void removeMessage(Message message) {
-        synchronized (messages) {
-            messages.removeIf(messageRef -> Objects.equals(messageRef.get(), message));
+        if (messages.remove(message.getId()) != null) {
+            messageCount.decrementAndGet();
+            sweeper.updateMessageCount(-1);
         }
     }
 
     /**
      * Cleans the cache.
+     *
+     * <p>Only the outdated messages at the start of the cache and the messages which exceed the capacity are visited,
+     * so cleaning a cache without outdated messages is cheap.
      */
     public void clean() {
-        Instant minAge = Instant.now().minus(storageTimeInSeconds, ChronoUnit.SECONDS);
-        synchronized (messages) {
-            messages.removeIf(messageRef -> Optional.ofNullable(messageRef.get())
-                    .map(message -> !message.isCachedForever() && message.getCreationTimestamp().isBefore(minAge))
-                    .orElse(true));
-            long foreverCachedAmount = messages.stream()
-                    .map(Reference::get)
-                    .filter(Objects::nonNull)
-                    .filter(Message::isCachedForever)
-                    .count();
-            messages.removeAll(messages.stream()
-                                       .filter(messageRef -> Optional.ofNullable(messageRef.get())
-                                               .map(message -> !message.isCachedForever())
-                                               .orElse(true))
-                                       .limit(Math.max(0, messages.size() - capacity - foreverCachedAmount))
-                                       .collect(Collectors.toList()));
+        removeOutdatedMessages();
+    }
+
+    /**
+     * Removes the outdated messages which are not cached forever and the messages which exceed the capacity.
+     *
+     * @return The {@link System#currentTimeMillis()} when the oldest remaining message which is not outdated yet
+     *         becomes outdated or {@code -1} if there is no such message.
+     */
+    private long removeOutdatedMessages() {
+        long nowMillis = System.currentTimeMillis();
+        long nextExpiryMillis = -1;
+        for (Map.Entry<Long, MessageReference> entry : messages.entrySet()) {
+            long expiryMillis = getExpiryMillis(entry.getKey());
+            if (expiryMillis >= nowMillis) {
+                // The messages are ordered by their creation time, so all following messages are young enough
+                nextExpiryMillis = expiryMillis;
+                break;
+            }
+            Message message = entry.getValue().get();
+            if (message == null || !message.isCachedForever()) {
+                remove(entry.getKey(), entry.getValue());
+            }
+        }
+        removeExcessMessages();
+        return nextExpiryMillis;
+    }
+
+    /**
+     * Cleans the cache if automatic cleanup is enabled. Called by the sweeper once the next sweep is due.
+     *
+     * <p>If messages remain, the cache schedules its next sweep for the time when the oldest of them becomes
+     * outdated. Outdated messages which are cached forever do not schedule a sweep, removing them from the messages
+     * which are cached forever does.
+     */
+    void sweep() {
+        dirty.set(false);
+        if (!automaticCleanupEnabled) {
+            return;
+        }
+        long nextExpiryMillis = removeOutdatedMessages();
+        if (nextExpiryMillis >= 0) {
+            scheduleSweep(nextExpiryMillis);
+        }
+    }
+
+    /**
+     * Registers the cache at the sweeper to be cleaned at the given time, if automatic cleanup is enabled.
+     *
+     * <p>If the cache is registered already, the next sweep is only moved forward.
+     *
+     * @param sweepAtMillis The {@link System#currentTimeMillis()} when the cache should be cleaned.
+     */
+    private void scheduleSweep(long sweepAtMillis) {
+        if (!automaticCleanupEnabled) {
+            return;
+        }
+        if (!dirty.get() && dirty.compareAndSet(false, true)) {
+            nextSweepMillis = sweepAtMillis;
+            sweeper.addDirtyCache(this);
+        } else if (sweepAtMillis < nextSweepMillis) {
+            nextSweepMillis = sweepAtMillis;
         }
     }
 
+    /**
+     * Gets the {@link System#currentTimeMillis()} when the sweeper should clean the cache next.
+     *
+     * @return The time of the next sweep.
+     */
+    long getNextSweepMillis() {
+        return nextSweepMillis;
+    }
+
+    /**
+     * Gets the {@link System#currentTimeMillis()} when the message with the given id becomes outdated.
+     *
+     * @param messageId The id of the message.
+     * @return The time when the message becomes outdated.
+     */
+    private long getExpiryMillis(long messageId) {
+        return DiscordEntity.getCreationTimestamp(messageId).toEpochMilli() + storageTimeInSeconds * 1000L;
+    }
+
+    /**
+     * Removes the given garbage collected message reference from its cache.
+     *
+     * @param messageRef The reference of the message.
+     * @return Whether the reference was still in its cache.
+     */
+    static boolean removeCollected(Reference<? extends Message> messageRef) {
+        MessageReference reference = (MessageReference) messageRef;
+        return reference.cache.remove(reference.messageId, reference);
+    }
+
+    /**
+     * Gets the {@link System#nanoTime()} when the last message was added to the cache.
+     *
+     * @return The time of the last access.
+     */
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    /**
+     * Removes the oldest messages which are not cached forever until the capacity is no longer exceeded.
+     */
+    private void removeExcessMessages() {
+        int excess = messageCount.get() - cacheForeverMessages.size() - capacity;
+        if (excess > 0) {
+            removeOldestMessages(excess);
+        }
+    }
+
+    /**
+     * Removes the given amount of the oldest messages which are not cached forever.
+     *
+     * @param amount The maximum amount of messages to remove.
+     * @return The amount of removed messages.
+     */
+    int removeOldestMessages(int amount) {
+        int removedMessages = 0;
+        for (Map.Entry<Long, MessageReference> entry : messages.entrySet()) {
+            if (removedMessages >= amount) {
+                break;
+            }
+            Message message = entry.getValue().get();
+            if ((message == null || !message.isCachedForever()) && remove(entry.getKey(), entry.getValue())) {
+                removedMessages++;
+            }
+        }
+        return removedMessages;
+    }
+
+    /**
+     * Removes the given entry from the cache.
+     *
+     * @param messageId The id of the message.
+     * @param messageRef The reference to the message.
+     * @return Whether the entry was removed.
+     */
+    private boolean remove(long messageId, MessageReference messageRef) {
+        if (messages.remove(messageId, messageRef)) {
+            messageCount.decrementAndGet();
+            sweeper.updateMessageCount(-1);
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public int getCapacity() {
         return capacity;
@@ -203,39 +351,60 @@ public class MessageCacheImpl implements MessageCache, Cleanupable {
     @Override
     public void setStorageTimeInSeconds(int storageTimeInSeconds) {
         this.storageTimeInSeconds = Math.max(storageTimeInSeconds, 0);
+        if (messageCount.get() > 0) {
+            // The scheduled sweep might be too late for a shorter storage time
+            scheduleSweep(System.currentTimeMillis());
+        }
     }
 
     @Override
     public void setAutomaticCleanupEnabled(boolean automaticCleanupEnabled) {
-        if (automaticCleanupEnabled) {
-            cleanFuture.updateAndGet(future -> {
-                // already enabled
-                if (future != null) {
-                    return future;
-                }
-
-                return api.getThreadPool().getScheduler().scheduleWithFixedDelay(() -> {
-                    try {
-                        clean();
-                    } catch (Throwable t) {
-                        logger.error("Failed to clean message cache!", t);
-                    }
-                }, 1, 1, TimeUnit.MINUTES);
-            });
-        } else {
-            cleanFuture.updateAndGet(future -> {
-                if (future != null) {
-                    future.cancel(false);
-                }
-                return null;
-            });
+        this.automaticCleanupEnabled = automaticCleanupEnabled;
+        if (messageCount.get() > 0) {
+            scheduleSweep(System.currentTimeMillis());
         }
     }
 
     @Override
     public void cleanup() {
-        setAutomaticCleanupEnabled(false);
-        messagesCleanupFuture.cancel(false);
+        automaticCleanupEnabled = false;
+        sweeper.removeCache(this);
+        // Give up the share of the global capacity
+        messages.forEach(this::remove);
+        synchronized (cacheForeverMessages) {
+            sweeper.updateCacheForeverMessageCount(-cacheForeverMessages.size());
+            cacheForeverMessages.clear();
+        }
+    }
+
+    /**
+     * A soft reference to a cached message which remembers the id of the message and its cache.
+     */
+    private static class MessageReference extends SoftReference<Message> {
+
+        /**
+         * The cache which contains the referenced message.
+         */
+        private final MessageCacheImpl cache;
+
+        /**
+         * The id of the referenced message.
+         */
+        private final long messageId;
+
+        /**
+         * Creates a new message reference.
+         *
+         * @param cache The cache which contains the referenced message.
+         * @param message The referenced message.
+         * @param queue The queue which is notified once the message became softly-reachable.
+         */
+        private MessageReference(MessageCacheImpl cache, Message message, ReferenceQueue<? super Message> queue) {
+            super(message, queue);
+            this.cache = cache;
+            messageId = message.getId();
+        }
+
     }
 
 }
@@ -0,0 +1,250 @@
+package org.javacord.core.util.cache;
+
+import org.apache.logging.log4j.Logger;
+import org.javacord.api.entity.message.Message;
+import org.javacord.core.util.logging.LoggerUtil;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cleans the message caches of all channels of a discord api instance.
+ *
+ * <p>Instead of scheduling tasks for every channel, the caches share one reference queue and a cache registers
+ * itself as dirty once it contains messages. Only dirty caches are cleaned, so the cost of the cleanup depends on the
+ * amount of channels with cached messages and not on the total amount of channels. A dirty cache is only cleaned once
+ * its oldest message becomes outdated, not with every sweep.
+ *
+ * <p>The sweeper also enforces the global capacity of all caches. If it is exceeded, the oldest messages of the least
+ * recently active caches are removed first, so active channels keep their messages while idle ones give them up.
+ */
+public class MessageCacheSweeper {
+
+    /**
+     * The logger of this class.
+     */
+    private static final Logger logger = LoggerUtil.getLogger(MessageCacheSweeper.class);
+
+    /**
+     * The queue that is notified if a cached message of any cache became softly-reachable.
+     */
+    private final ReferenceQueue<Message> messagesCleanupQueue = new ReferenceQueue<>();
+
+    /**
+     * The caches which contain messages and must be cleaned once their next sweep is due.
+     */
+    private final Set<MessageCacheImpl> dirtyCaches = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The caches which contained messages since their creation.
+     */
+    private final Set<MessageCacheImpl> populatedCaches = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The amount of cached messages across all caches.
+     */
+    private final AtomicInteger messageCount = new AtomicInteger();
+
+    /**
+     * The amount of messages which are cached forever across all caches.
+     */
+    private final AtomicInteger cacheForeverMessageCount = new AtomicInteger();
+
+    /**
+     * The lock which ensures that only one thread enforces the global capacity at a time.
+     */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * The maximum amount of cached messages across all caches, not including messages which are cached forever.
+     * A negative value means that there is no global capacity.
+     */
+    private volatile int globalCapacity = -1;
+
+    /**
+     * Starts the periodic cleanup.
+     *
+     * @param scheduler The scheduler which runs the cleanup.
+     */
+    public void start(ScheduledExecutorService scheduler) {
+        // After minimum JDK 9 is required this can be switched to use a Cleaner
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                processCleanupQueue();
+            } catch (Throwable t) {
+                logger.error("Failed to clean softly referenced messages!", t);
+            }
+        }, 30, 30, TimeUnit.SECONDS);
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                sweep();
+            } catch (Throwable t) {
+                logger.error("Failed to clean message caches!", t);
+            }
+        }, 1, 1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Gets the queue that is notified if a cached message became softly-reachable.
+     *
+     * @return The queue that is notified if a cached message became softly-reachable.
+     */
+    ReferenceQueue<Message> getMessagesCleanupQueue() {
+        return messagesCleanupQueue;
+    }
+
+    /**
+     * Registers a cache which must be cleaned with the next sweep.
+     *
+     * @param cache The dirty cache.
+     */
+    void addDirtyCache(MessageCacheImpl cache) {
+        dirtyCaches.add(cache);
+    }
+
+    /**
+     * Unregisters a cache, e.g. because its channel was deleted.
+     *
+     * @param cache The cache to remove.
+     */
+    void removeCache(MessageCacheImpl cache) {
+        dirtyCaches.remove(cache);
+        populatedCaches.remove(cache);
+    }
+
+    /**
+     * Registers a cache which got its first message, so that it is considered when enforcing the global capacity.
+     *
+     * @param cache The cache with messages.
+     */
+    void addPopulatedCache(MessageCacheImpl cache) {
+        populatedCaches.add(cache);
+    }
+
+    /**
+     * Updates the amount of cached messages across all caches.
+     *
+     * @param delta The amount of added messages, negative for removed messages.
+     */
+    void updateMessageCount(int delta) {
+        messageCount.addAndGet(delta);
+    }
+
+    /**
+     * Updates the amount of messages which are cached forever across all caches.
+     *
+     * @param delta The amount of added messages, negative for removed messages.
+     */
+    void updateCacheForeverMessageCount(int delta) {
+        cacheForeverMessageCount.addAndGet(delta);
+    }
+
+    /**
+     * Gets the maximum amount of cached messages across all caches.
+     *
+     * @return The global capacity or a negative value if there is none.
+     */
+    public int getGlobalCapacity() {
+        return globalCapacity;
+    }
+
+    /**
+     * Sets the maximum amount of cached messages across all caches, not including messages which are cached forever.
+     *
+     * @param globalCapacity The global capacity or a negative value to remove it.
+     */
+    public void setGlobalCapacity(int globalCapacity) {
+        this.globalCapacity = globalCapacity;
+        checkGlobalCapacity();
+    }
+
+    /**
+     * Removes the oldest messages of the least recently active caches if the global capacity is exceeded.
+     *
+     * <p>Only one thread evicts messages at a time, other threads return right away. A bit more than the excess is
+     * removed, so that not every new message triggers an eviction.
+     */
+    void checkGlobalCapacity() {
+        int capacity = globalCapacity;
+        if (capacity < 0 || getEvictableMessageCount() <= capacity || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = getEvictableMessageCount() - (capacity - capacity / 10);
+            if (excess <= 0) {
+                return;
+            }
+            // Take a snapshot of the access times, as they change while sorting
+            long now = System.nanoTime();
+            List<SimpleEntry<MessageCacheImpl, Long>> cachesByIdleTime = new ArrayList<>();
+            for (MessageCacheImpl cache : populatedCaches) {
+                cachesByIdleTime.add(new SimpleEntry<>(cache, now - cache.getLastAccessNanos()));
+            }
+            cachesByIdleTime.sort((first, second) -> Long.compare(second.getValue(), first.getValue()));
+            for (SimpleEntry<MessageCacheImpl, Long> entry : cachesByIdleTime) {
+                if (excess <= 0) {
+                    break;
+                }
+                excess -= entry.getKey().removeOldestMessages(excess);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the amount of cached messages across all caches which are not cached forever.
+     *
+     * @return The amount of evictable messages.
+     */
+    private int getEvictableMessageCount() {
+        return messageCount.get() - cacheForeverMessageCount.get();
+    }
+
+    /**
+     * Removes all messages which were garbage collected from their caches.
+     */
+    public void processCleanupQueue() {
+        int removedMessages = 0;
+        for (Reference<? extends Message> messageRef = messagesCleanupQueue.poll();
+                 messageRef != null;
+                 messageRef = messagesCleanupQueue.poll()) {
+            if (MessageCacheImpl.removeCollected(messageRef)) {
+                removedMessages++;
+            }
+        }
+        if (removedMessages > 0) {
+            logger.warn("Heap memory was too low to hold all configured messages in the cache. "
+                        + "Removed {} messages from the cache due to memory shortage. "
+                        + "Either increase your heap settings or decrease your message cache settings!",
+                        removedMessages);
+        }
+    }
+
+    /**
+     * Cleans all dirty caches whose next sweep is due.
+     */
+    public void sweep() {
+        long nowMillis = System.currentTimeMillis();
+        // Work on a copy, as swept caches which keep messages register themselves again
+        for (MessageCacheImpl cache : new ArrayList<>(dirtyCaches)) {
+            if (cache.getNextSweepMillis() > nowMillis) {
+                continue;
+            }
+            // Remove it before cleaning, so that it can register itself again if it gets new messages meanwhile
+            dirtyCaches.remove(cache);
+            cache.sweep();
+        }
+        checkGlobalCapacity();
+    }
+
+}
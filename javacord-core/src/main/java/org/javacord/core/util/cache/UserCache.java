@@ -1,35 +1,81 @@
 package org.javacord.core.util.cache;
 
 import org.javacord.api.entity.user.User;
-import org.javacord.core.util.ImmutableToJavaMapper;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
- * An immutable cache for all user entities.
+ * A cache for all user entities.
+ *
+ * <p>Depending on the underlying {@link Cache}, the user cache is either immutable or modifies itself in place.
  */
 public class UserCache {
 
     private static final String ID_INDEX_NAME = "id";
+    private static final String NAME_INDEX_NAME = "name";
 
-    private static final UserCache EMPTY_CACHE = new UserCache(Cache.<User>empty()
-            .addIndex(ID_INDEX_NAME, User::getId)
-    );
+    private static final UserCache EMPTY_CACHE = withIndexes(Cache.empty(), false);
+    private static final UserCache EMPTY_CACHE_WITH_NAME_INDEXES = withIndexes(Cache.empty(), true);
 
     private final Cache<User> cache;
+    private final boolean nameIndexesEnabled;
 
-    private UserCache(Cache<User> cache) {
+    private UserCache(Cache<User> cache, boolean nameIndexesEnabled) {
         this.cache = cache;
+        this.nameIndexesEnabled = nameIndexesEnabled;
     }
 
     /**
-     * Gets an empty channel cache.
+     * Creates a user cache with all indexes from the given empty cache.
      *
-     * @return An empty channel cache.
+     * @param cache The empty underlying cache.
+     * @param nameIndexesEnabled Whether the cache should have an index for the case-folded names.
+     * @return The user cache.
      */
-    public static UserCache empty() {
-        return EMPTY_CACHE;
+    private static UserCache withIndexes(Cache<User> cache, boolean nameIndexesEnabled) {
+        Cache<User> indexedCache = cache.addIndex(ID_INDEX_NAME, User::getId);
+        if (nameIndexesEnabled) {
+            indexedCache = indexedCache.addIndex(NAME_INDEX_NAME, user -> CaseFolding.fold(user.getName()));
+        }
+        return new UserCache(indexedCache, nameIndexesEnabled);
+    }
+
+    /**
+     * Gets an empty immutable user cache.
+     *
+     * @param nameIndexesEnabled Whether the cache should have an index for the case-folded names.
+     * @return An empty user cache.
+     */
+    public static UserCache empty(boolean nameIndexesEnabled) {
+        return nameIndexesEnabled ? EMPTY_CACHE_WITH_NAME_INDEXES : EMPTY_CACHE;
+    }
+
+    /**
+     * Creates a new empty user cache that modifies itself in place.
+     *
+     * @param nameIndexesEnabled Whether the cache should have an index for the case-folded names.
+     * @return A new empty user cache.
+     */
+    public static UserCache concurrent(boolean nameIndexesEnabled) {
+        return withIndexes(Cache.concurrent(), nameIndexesEnabled);
+    }
+
+    /**
+     * Gets a user cache for the given underlying cache.
+     *
+     * <p>Returns this instance if the underlying cache did not change, i.e. if it is mutable.
+     *
+     * @param newCache The new underlying cache.
+     * @return The user cache.
+     */
+    private UserCache withCache(Cache<User> newCache) {
+        return newCache == cache ? this : new UserCache(newCache, nameIndexesEnabled);
     }
 
     /**
@@ -39,7 +85,7 @@ public class UserCache {
      * @return The new user cache.
      */
     public UserCache addUser(User user) {
-        return new UserCache(cache.addElement(user));
+        return withCache(cache.addElement(user));
     }
 
     /**
@@ -49,7 +95,21 @@ public class UserCache {
      * @return The new user cache.
      */
     public UserCache removeUser(User user) {
-        return new UserCache(cache.removeElement(user));
+        return withCache(cache.removeElement(user));
+    }
+
+    /**
+     * Replaces the users with the same id as the given users and adds all given users in one step.
+     *
+     * @param users The users to add.
+     * @return The new user cache.
+     */
+    public UserCache addOrReplaceUsers(Collection<User> users) {
+        List<User> oldUsers = new ArrayList<>();
+        for (User user : users) {
+            getUserById(user.getId()).ifPresent(oldUsers::add);
+        }
+        return withCache(cache.removeElements(oldUsers).addElements(users));
     }
 
     /**
@@ -58,7 +118,7 @@ public class UserCache {
      * @return A set with all channels.
      */
     public Set<User> getUsers() {
-        return ImmutableToJavaMapper.mapToJava(cache.getAll());
+        return cache.getAll();
     }
 
     /**
@@ -71,4 +131,21 @@ public class UserCache {
         return cache.findAnyByIndex(ID_INDEX_NAME, id);
     }
 
+    /**
+     * Gets a set with all users with the given name, ignoring case.
+     *
+     * <p>This method has an effective time complexity of {@code O(1)} if the name indexes are enabled.
+     *
+     * @param name The name of the users.
+     * @return A set with all users with the given name.
+     */
+    public Set<User> getUsersByNameIgnoreCase(String name) {
+        Collection<User> users = nameIndexesEnabled
+                ? cache.findByIndex(NAME_INDEX_NAME, CaseFolding.fold(name))
+                : cache.getAll();
+        return Collections.unmodifiableSet(users.stream()
+                .filter(user -> user.getName().equalsIgnoreCase(name))
+                .collect(Collectors.toSet()));
+    }
+
 }
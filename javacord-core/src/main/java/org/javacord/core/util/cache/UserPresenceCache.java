@@ -5,15 +5,16 @@ import org.javacord.core.entity.user.UserPresence;
 import java.util.Optional;
 
 /**
- * An immutable cache for all user presences.
+ * A cache for all user presences.
+ *
+ * <p>Depending on the underlying {@link Cache}, the user presence cache is either immutable or modifies itself in
+ * place.
  */
 public class UserPresenceCache {
 
     private static final String USER_ID_INDEX_NAME = "user-id";
 
-    private static final UserPresenceCache EMPTY_CACHE = new UserPresenceCache(Cache.<UserPresence>empty()
-            .addIndex(USER_ID_INDEX_NAME, UserPresence::getUserId)
-    );
+    private static final UserPresenceCache EMPTY_CACHE = withIndexes(Cache.empty());
 
     private final Cache<UserPresence> cache;
 
@@ -22,7 +23,19 @@ public class UserPresenceCache {
     }
 
     /**
-     * Gets an empty user presence cache.
+     * Creates a user presence cache with all indexes from the given empty cache.
+     *
+     * @param cache The empty underlying cache.
+     * @return The user presence cache.
+     */
+    private static UserPresenceCache withIndexes(Cache<UserPresence> cache) {
+        return new UserPresenceCache(cache
+                .addIndex(USER_ID_INDEX_NAME, UserPresence::getUserId)
+        );
+    }
+
+    /**
+     * Gets an empty immutable user presence cache.
      *
      * @return An empty user presence cache.
      */
@@ -30,6 +43,27 @@ public class UserPresenceCache {
         return EMPTY_CACHE;
     }
 
+    /**
+     * Creates a new empty user presence cache that modifies itself in place.
+     *
+     * @return A new empty user presence cache.
+     */
+    public static UserPresenceCache concurrent() {
+        return withIndexes(Cache.concurrent());
+    }
+
+    /**
+     * Gets a user presence cache for the given underlying cache.
+     *
+     * <p>Returns this instance if the underlying cache did not change, i.e. if it is mutable.
+     *
+     * @param newCache The new underlying cache.
+     * @return The user presence cache.
+     */
+    private UserPresenceCache withCache(Cache<UserPresence> newCache) {
+        return newCache == cache ? this : new UserPresenceCache(newCache);
+    }
+
     /**
      * Adds a user presence to the cache.
      *
@@ -37,7 +71,7 @@ public class UserPresenceCache {
      * @return The new user presence cache.
      */
     public UserPresenceCache addUserPresence(UserPresence presence) {
-        return new UserPresenceCache(cache.addElement(presence));
+        return withCache(cache.addElement(presence));
     }
 
     /**
@@ -50,7 +84,7 @@ public class UserPresenceCache {
         if (presence == null) {
             return this;
         }
-        return new UserPresenceCache(cache.removeElement(presence));
+        return withCache(cache.removeElement(presence));
     }
 
     /**
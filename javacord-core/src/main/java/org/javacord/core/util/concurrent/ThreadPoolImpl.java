@@ -1,9 +1,14 @@
 package org.javacord.core.util.concurrent;
 
+import org.apache.logging.log4j.Logger;
+import org.javacord.api.util.concurrent.EventDispatchStrategy;
 import org.javacord.api.util.concurrent.ThreadPool;
+import org.javacord.core.util.gateway.AudioSendScheduler;
+import org.javacord.core.util.logging.LoggerUtil;
 
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -17,6 +22,11 @@ import java.util.concurrent.TimeUnit;
  */
 public class ThreadPoolImpl implements ThreadPool {
 
+    /**
+     * The logger of this class.
+     */
+    private static final Logger logger = LoggerUtil.getLogger(ThreadPoolImpl.class);
+
     private static final int CORE_POOL_SIZE = 1;
     private static final int MAXIMUM_POOL_SIZE = Integer.MAX_VALUE;
     private static final int KEEP_ALIVE_TIME = 60;
@@ -29,8 +39,106 @@ public class ThreadPoolImpl implements ThreadPool {
             CORE_POOL_SIZE, new ThreadFactory("Javacord - Central Scheduler - %d", false));
     private final ScheduledExecutorService daemonScheduler = Executors.newScheduledThreadPool(
             CORE_POOL_SIZE, new ThreadFactory("Javacord - Central Daemon Scheduler - %d", true));
+    private final ScheduledExecutorService ratelimitScheduler = Executors.newScheduledThreadPool(
+            CORE_POOL_SIZE, new ThreadFactory("Javacord - Ratelimit Scheduler - %d", false));
     private final ConcurrentHashMap<String, ExecutorService> executorServiceSingleThreads = new ConcurrentHashMap<>();
 
+    /**
+     * The scheduler which sends the audio packets of all audio connections.
+     */
+    private final AudioSendScheduler audioSendScheduler = new AudioSendScheduler();
+
+    /**
+     * The executor which is used to call listeners.
+     */
+    private final Executor listenerExecutor;
+
+    /**
+     * The executor service which was created for the {@link #listenerExecutor} and must be shut down with this pool.
+     * Is {@code null} if the listener executor is not owned by this pool.
+     */
+    private final ExecutorService ownedListenerExecutorService;
+
+    /**
+     * Creates a new thread pool which calls listeners on its executor service.
+     */
+    public ThreadPoolImpl() {
+        this(EventDispatchStrategy.unboundedPool());
+    }
+
+    /**
+     * Creates a new thread pool.
+     *
+     * @param eventDispatchStrategy The strategy which decides on which threads listeners are called.
+     */
+    public ThreadPoolImpl(EventDispatchStrategy eventDispatchStrategy) {
+        switch (eventDispatchStrategy.getType()) {
+            case UNBOUNDED_POOL:
+                ownedListenerExecutorService = null;
+                listenerExecutor = executorService;
+                break;
+            case BOUNDED_POOL:
+                ownedListenerExecutorService = createBoundedListenerPool(eventDispatchStrategy.getPoolSize());
+                listenerExecutor = ownedListenerExecutorService;
+                break;
+            case VIRTUAL_THREADS:
+                ExecutorService virtualThreadExecutor = createVirtualThreadListenerExecutor();
+                if (virtualThreadExecutor == null) {
+                    logger.warn("Virtual threads are not available in this Java version. Using a pool with {} "
+                            + "threads to call listeners instead.", eventDispatchStrategy.getPoolSize());
+                    virtualThreadExecutor = createBoundedListenerPool(eventDispatchStrategy.getPoolSize());
+                }
+                ownedListenerExecutorService = virtualThreadExecutor;
+                listenerExecutor = ownedListenerExecutorService;
+                break;
+            case EXECUTOR:
+                ownedListenerExecutorService = null;
+                listenerExecutor = eventDispatchStrategy.getExecutor()
+                        .orElseThrow(() -> new IllegalArgumentException("The strategy has no executor!"));
+                break;
+            default:
+                throw new IllegalArgumentException(
+                        "Unknown event dispatch strategy type " + eventDispatchStrategy.getType() + "!");
+        }
+    }
+
+    /**
+     * Creates a pool with a fixed amount of threads to call listeners.
+     *
+     * @param poolSize The amount of threads.
+     * @return The pool.
+     */
+    private static ExecutorService createBoundedListenerPool(int poolSize) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_TIME, TIME_UNIT,
+                new LinkedBlockingQueue<>(), new ThreadFactory("Javacord - Listener Executor - %d", false));
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Creates an executor service which starts a new virtual thread for every task.
+     *
+     * <p>The executor is looked up reflectively, because virtual threads only exist in Java 21 or newer, while
+     * Javacord is compiled for Java 8.
+     *
+     * @return The executor service or {@code null} if virtual threads are not available.
+     */
+    private static ExecutorService createVirtualThreadListenerExecutor() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class)
+                    .invoke(builder, "Javacord - Listener Virtual Thread - ", 0L);
+            java.util.concurrent.ThreadFactory factory =
+                    (java.util.concurrent.ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", java.util.concurrent.ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
     /**
      * Shutdowns the thread pool.
      * This method is called automatically after disconnecting.
@@ -39,7 +147,12 @@ public class ThreadPoolImpl implements ThreadPool {
         executorService.shutdown();
         scheduler.shutdown();
         daemonScheduler.shutdown();
+        ratelimitScheduler.shutdown();
+        if (ownedListenerExecutorService != null) {
+            ownedListenerExecutorService.shutdown();
+        }
         executorServiceSingleThreads.values().forEach(ExecutorService::shutdown);
+        audioSendScheduler.shutdown();
     }
 
     @Override
@@ -57,6 +170,38 @@ public class ThreadPoolImpl implements ThreadPool {
         return daemonScheduler;
     }
 
+    /**
+     * Gets the scheduler which is used by the {@link org.javacord.core.util.ratelimit.RatelimitManager}.
+     *
+     * <p>Tasks of this scheduler must never block, as it is shared by all ratelimit buckets.
+     *
+     * @return The scheduler for ratelimited rest requests.
+     */
+    public ScheduledExecutorService getRatelimitScheduler() {
+        return ratelimitScheduler;
+    }
+
+    /**
+     * Gets the scheduler which sends the audio packets of all audio connections.
+     *
+     * @return The audio send scheduler.
+     */
+    public AudioSendScheduler getAudioSendScheduler() {
+        return audioSendScheduler;
+    }
+
+    /**
+     * Gets the executor which is used to call listeners.
+     *
+     * <p>Depending on the {@link EventDispatchStrategy}, this is the {@link #getExecutorService() executor service},
+     * a bounded pool, an executor for virtual threads or a custom executor.
+     *
+     * @return The executor which is used to call listeners.
+     */
+    public Executor getListenerExecutor() {
+        return listenerExecutor;
+    }
+
     @Override
     public ExecutorService getSingleThreadExecutorService(String threadName) {
         return executorServiceSingleThreads.computeIfAbsent(threadName, key ->
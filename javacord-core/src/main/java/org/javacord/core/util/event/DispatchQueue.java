@@ -0,0 +1,95 @@
+package org.javacord.core.util.event;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The mailbox of a {@link DispatchQueueSelector}.
+ *
+ * <p>The tasks of a mailbox are executed one after another in the order they were added. The scheduled flag ensures
+ * that at most one task of the mailbox is submitted to an executor at a time, without any lock.
+ */
+class DispatchQueue {
+
+    /**
+     * The queue selector of this mailbox. Is {@code null} for the mailbox of lifecycle events.
+     */
+    private final DispatchQueueSelector queueSelector;
+
+    /**
+     * The waiting tasks.
+     */
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Whether a task of this mailbox is currently submitted or running.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * Creates a new mailbox.
+     *
+     * @param queueSelector The queue selector of the mailbox.
+     */
+    DispatchQueue(DispatchQueueSelector queueSelector) {
+        this.queueSelector = queueSelector;
+    }
+
+    /**
+     * Gets the queue selector of this mailbox.
+     *
+     * @return The queue selector of this mailbox.
+     */
+    DispatchQueueSelector getQueueSelector() {
+        return queueSelector;
+    }
+
+    /**
+     * Adds a task to the end of the mailbox.
+     *
+     * @param task The task to add.
+     */
+    void add(Runnable task) {
+        tasks.add(task);
+    }
+
+    /**
+     * Takes the next task of the mailbox.
+     *
+     * @return The next task or {@code null} if the mailbox is empty.
+     */
+    Runnable poll() {
+        return tasks.poll();
+    }
+
+    /**
+     * Checks if the mailbox has waiting tasks.
+     *
+     * @return Whether the mailbox has waiting tasks.
+     */
+    boolean hasTasks() {
+        return !tasks.isEmpty();
+    }
+
+    /**
+     * Tries to mark the mailbox as scheduled.
+     *
+     * <p>Only the caller which succeeded is allowed to submit the next task of the mailbox.
+     *
+     * @return Whether the mailbox was not scheduled before.
+     */
+    boolean trySchedule() {
+        return hasTasks() && scheduled.compareAndSet(false, true);
+    }
+
+    /**
+     * Marks the mailbox as no longer scheduled.
+     *
+     * <p>Because a task might have been added right before, the caller must call {@link #trySchedule()} afterwards.
+     */
+    void unschedule() {
+        scheduled.set(false);
+    }
+
+}
@@ -6,17 +6,16 @@ import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.entity.server.ServerImpl;
 import org.javacord.core.util.logging.LoggerUtil;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.ArrayDeque;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -61,23 +60,38 @@ public abstract class EventDispatcherBase {
     private final DiscordApiImpl api;
 
     /**
-     * This map which holds a queue for every object (usually a server) with tasks to call the waiting listeners.
+     * A map with the mailbox of every object (usually a server) with tasks to call the waiting listeners.
      */
-    private final Map<DispatchQueueSelector, Queue<Runnable>> queuedListenerTasks =
-            Collections.synchronizedMap(new HashMap<>());
+    private final Map<DispatchQueueSelector, DispatchQueue> dispatchQueues = new ConcurrentHashMap<>();
 
     /**
-     * A list with all objects which currently have a running listener.
+     * The mailbox with tasks to call the listeners of lifecycle events (the {@code null} queue selector).
      */
-    private final Set<DispatchQueueSelector> runningListeners = Collections.synchronizedSet(new HashSet<>());
+    private final DispatchQueue lifecycleDispatchQueue = new DispatchQueue(null);
+
+    /**
+     * The amount of object-dependent tasks which are queued or running.
+     */
+    private final AtomicInteger pendingObjectDependentTasks = new AtomicInteger();
+
+    /**
+     * The amount of lifecycle tasks which are queued or running.
+     * While it is not {@code 0}, no new object-dependent tasks are queued.
+     */
+    private final AtomicInteger pendingLifecycleTasks = new AtomicInteger();
+
+    /**
+     * Object-dependent dispatches which arrived while lifecycle tasks were pending.
+     * They are queued in order once all lifecycle tasks are finished. Also used as the lock for this transition.
+     */
+    private final Queue<Runnable> deferredDispatches = new ArrayDeque<>();
 
     /**
      * A map with all running listeners as its key. The value contains an array where the first element is a long
      * with the start time of the listener (using {@link System#nanoTime()} and the second element is the object
      * of the listener (usually a server).
      */
-    private final Map<AtomicReference<Future<?>>, Object[]> activeListeners =
-            Collections.synchronizedMap(new HashMap<>());
+    private final Map<AtomicReference<Future<?>>, Object[]> activeListeners = new ConcurrentHashMap<>();
 
     /**
      * A map with all running listeners that already were canceled as its key. The value is the nano time when there
@@ -92,58 +106,59 @@ public abstract class EventDispatcherBase {
      */
     protected EventDispatcherBase(DiscordApiImpl api) {
         this.api = api;
-        queuedListenerTasks.put(null, new ConcurrentLinkedQueue<>());
         api.getThreadPool().getScheduler().scheduleAtFixedRate(() -> {
             try {
                 if (!executionTimeCheckingEnabled) {
                     return;
                 }
-                synchronized (activeListeners) {
-                    long currentNanoTime = System.nanoTime();
-                    for (Map.Entry<AtomicReference<Future<?>>, Object[]> entry : activeListeners.entrySet()) {
-                        long difference = currentNanoTime - ((long) entry.getValue()[0]);
-                        DispatchQueueSelector queueSelector = (DispatchQueueSelector) entry.getValue()[1];
-                        if ((difference > DEBUG_WARNING_DELAY)
-                                && (difference <= (DEBUG_WARNING_DELAY + EXECUTION_TIME_CHECKING_INTERVAL))) {
-                            logger.debug("Detected {} which is now running for over {} ms ({} ms). This is"
-                                            + " an unusually long execution time for a listener task. Make"
-                                            + " sure to not do any heavy computations in listener threads!",
-                                    () -> getThreadType(queueSelector),
-                                    () -> TimeUnit.NANOSECONDS.toMillis(DEBUG_WARNING_DELAY),
-                                    () -> TimeUnit.NANOSECONDS.toMillis(difference));
-                        }
-                        if ((difference > INFO_WARNING_DELAY)
-                                && (difference <= (INFO_WARNING_DELAY + EXECUTION_TIME_CHECKING_INTERVAL))) {
-                            logger.warn("Detected {} which is now running for over {} seconds ({} ms)."
-                                            + " This is a very unusually long execution time for a listener task. Make"
-                                            + " sure to not do any heavy computations in listener threads!",
-                                    () -> getThreadType(queueSelector),
-                                    () -> TimeUnit.NANOSECONDS.toSeconds(INFO_WARNING_DELAY),
-                                    () -> TimeUnit.NANOSECONDS.toMillis(difference));
-                        }
-                        if (difference > MAX_EXECUTION_TIME) {
-                            AtomicReference<Future<?>> listener = entry.getKey();
-                            alreadyCanceledListeners.compute(listener, (l, lastWarning) -> {
-                                if (lastWarning == null) {
-                                    listener.get().cancel(true);
-                                    logger.error("Interrupted {}, because it was running over {} seconds! "
-                                                    + "This was most likely caused by a deadlock or very heavy "
-                                                    + "computation/blocking operations in the listener thread. "
-                                                    + "Make sure to not block listener threads!",
-                                            () -> getThreadType(queueSelector),
-                                            () -> TimeUnit.NANOSECONDS.toSeconds(MAX_EXECUTION_TIME));
-                                    return currentNanoTime;
-                                } else if (currentNanoTime - lastWarning > INFO_WARNING_DELAY) {
-                                    logger.error("Interrupted {} previously but the listener did not react "
-                                                    + "to being interrupted! This is most likely caused by a deadlock "
-                                                    + "or very heavy computation in the listener thread. "
-                                                    + "Make sure to not block listener threads!",
-                                            () -> getThreadType(queueSelector));
-                                    return currentNanoTime;
-                                } else {
-                                    return lastWarning;
-                                }
-                            });
+                long currentNanoTime = System.nanoTime();
+                for (Map.Entry<AtomicReference<Future<?>>, Object[]> entry : activeListeners.entrySet()) {
+                    long difference = currentNanoTime - ((long) entry.getValue()[0]);
+                    DispatchQueueSelector queueSelector = (DispatchQueueSelector) entry.getValue()[1];
+                    if ((difference > DEBUG_WARNING_DELAY)
+                            && (difference <= (DEBUG_WARNING_DELAY + EXECUTION_TIME_CHECKING_INTERVAL))) {
+                        logger.debug("Detected {} which is now running for over {} ms ({} ms). This is"
+                                        + " an unusually long execution time for a listener task. Make"
+                                        + " sure to not do any heavy computations in listener threads!",
+                                () -> getThreadType(queueSelector),
+                                () -> TimeUnit.NANOSECONDS.toMillis(DEBUG_WARNING_DELAY),
+                                () -> TimeUnit.NANOSECONDS.toMillis(difference));
+                    }
+                    if ((difference > INFO_WARNING_DELAY)
+                            && (difference <= (INFO_WARNING_DELAY + EXECUTION_TIME_CHECKING_INTERVAL))) {
+                        logger.warn("Detected {} which is now running for over {} seconds ({} ms)."
+                                        + " This is a very unusually long execution time for a listener task. Make"
+                                        + " sure to not do any heavy computations in listener threads!",
+                                () -> getThreadType(queueSelector),
+                                () -> TimeUnit.NANOSECONDS.toSeconds(INFO_WARNING_DELAY),
+                                () -> TimeUnit.NANOSECONDS.toMillis(difference));
+                    }
+                    if (difference > MAX_EXECUTION_TIME) {
+                        AtomicReference<Future<?>> listener = entry.getKey();
+                        alreadyCanceledListeners.compute(listener, (l, lastWarning) -> {
+                            if (lastWarning == null) {
+                                listener.get().cancel(true);
+                                logger.error("Interrupted {}, because it was running over {} seconds! "
+                                                + "This was most likely caused by a deadlock or very heavy "
+                                                + "computation/blocking operations in the listener thread. "
+                                                + "Make sure to not block listener threads!",
+                                        () -> getThreadType(queueSelector),
+                                        () -> TimeUnit.NANOSECONDS.toSeconds(MAX_EXECUTION_TIME));
+                                return currentNanoTime;
+                            } else if (currentNanoTime - lastWarning > INFO_WARNING_DELAY) {
+                                logger.error("Interrupted {} previously but the listener did not react "
+                                                + "to being interrupted! This is most likely caused by a deadlock "
+                                                + "or very heavy computation in the listener thread. "
+                                                + "Make sure to not block listener threads!",
+                                        () -> getThreadType(queueSelector));
+                                return currentNanoTime;
+                            } else {
+                                return lastWarning;
+                            }
+                        });
+                        if (!activeListeners.containsKey(listener)) {
+                            // The listener finished in the meantime
+                            alreadyCanceledListeners.remove(listener);
                         }
                     }
                 }
@@ -191,104 +206,161 @@ public abstract class EventDispatcherBase {
      * @param <T>           The type of the listener.
      */
     protected <T> void dispatchEvent(DispatchQueueSelector queueSelector, List<T> listeners, Consumer<T> consumer) {
-        api.getThreadPool().getSingleThreadExecutorService("Event Dispatch Queues Manager").submit(() -> {
-            if (queueSelector != null) { // Object dependent listeners
-                // Don't allow adding of more events while there are unfinished object independent tasks
-                Queue<Runnable> objectIndependentQueue = queuedListenerTasks.get(null);
-                while (!objectIndependentQueue.isEmpty()) {
-                    try {
-                        synchronized (queuedListenerTasks) {
-                            // Just to be on the safe side, we use a timeout of 5 seconds
-                            queuedListenerTasks.wait(5000);
-                        }
-                    } catch (InterruptedException ignored) { }
+        if (listeners.isEmpty()) {
+            return;
+        }
+        if (queueSelector == null) { // Object independent listeners
+            pendingLifecycleTasks.addAndGet(listeners.size());
+            listeners.forEach(listener -> lifecycleDispatchQueue.add(() -> consumer.accept(listener)));
+            tryStartLifecycleDispatchQueue();
+            return;
+        }
+        int taskCount = listeners.size();
+        while (true) {
+            // Announce the tasks before checking for lifecycle tasks. Either this thread sees the pending lifecycle
+            // tasks or the lifecycle tasks see the pending object-dependent tasks and wait for them.
+            pendingObjectDependentTasks.addAndGet(taskCount);
+            if (pendingLifecycleTasks.get() == 0) {
+                queueObjectDependentTasks(queueSelector, listeners, consumer);
+                return;
+            }
+            // Don't allow adding of more events while there are unfinished object independent tasks
+            finishObjectDependentTasks(taskCount);
+            synchronized (deferredDispatches) {
+                if (pendingLifecycleTasks.get() != 0) {
+                    deferredDispatches.add(() -> {
+                        pendingObjectDependentTasks.addAndGet(taskCount);
+                        queueObjectDependentTasks(queueSelector, listeners, consumer);
+                    });
+                    return;
                 }
             }
-            Queue<Runnable> queue = queuedListenerTasks.computeIfAbsent(
-                    queueSelector, o -> new ConcurrentLinkedQueue<>());
-            listeners.forEach(listener -> queue.add(() -> consumer.accept(listener)));
-            checkRunningListenersAndStartIfPossible(queueSelector);
-        });
+        }
     }
 
     /**
-     * Checks if there are listeners running for the given object and if
-     * not it takes one from the queue for the object and executes it.
+     * Adds tasks for the given listeners to the mailbox of the queue selector and schedules the mailbox.
      *
-     * <p>If all object-dependent tasks are finished,
-     * object-independent ones will be executed instead
-     * and after all object-independent are finished,
-     * new object-dependent tasks can get queued.
+     * @param queueSelector The object which is used to determine in which queue the event should be dispatched.
+     * @param listeners     A list with listeners which get consumed by the given consumer.
+     * @param consumer      A consumer which consumes all listeners from the given list.
+     * @param <T>           The type of the listener.
+     */
+    private <T> void queueObjectDependentTasks(
+            DispatchQueueSelector queueSelector, List<T> listeners, Consumer<T> consumer) {
+        DispatchQueue dispatchQueue = dispatchQueues.get(queueSelector);
+        if (dispatchQueue == null) {
+            dispatchQueue = dispatchQueues.computeIfAbsent(queueSelector, DispatchQueue::new);
+        }
+        for (T listener : listeners) {
+            dispatchQueue.add(() -> consumer.accept(listener));
+        }
+        if (dispatchQueue.trySchedule()) {
+            startNextTask(dispatchQueue);
+        }
+    }
+
+    /**
+     * Marks the given amount of object-dependent tasks as finished and starts the lifecycle tasks if they were
+     * waiting for them.
      *
-     * @param queueSelector The object which is used to determine in which thread the consumer should be executed.
+     * @param taskCount The amount of finished tasks.
      */
-    private void checkRunningListenersAndStartIfPossible(DispatchQueueSelector queueSelector) {
-        synchronized (queuedListenerTasks) {
-            // if either
-            // - running for object-independent tasks or
-            // - running for object-dependent tasks, but queue is empty or not present
-            Queue<Runnable> queue = queueSelector == null ? null : queuedListenerTasks.get(queueSelector);
-            if (queue == null || queue.isEmpty()) {
-                // if no object-independent tasks to be processed everything is fine, return
-                if (queuedListenerTasks.get(null).isEmpty()) {
-                    return;
+    private void finishObjectDependentTasks(int taskCount) {
+        if (pendingObjectDependentTasks.addAndGet(-taskCount) == 0) {
+            tryStartLifecycleDispatchQueue();
+        }
+    }
+
+    /**
+     * Starts the next lifecycle task if there is one and no object-dependent task is queued or running.
+     *
+     * <p>Lifecycle tasks are executed after all already queued object-dependent tasks are finished and before new
+     * object-dependent tasks are queued.
+     */
+    private void tryStartLifecycleDispatchQueue() {
+        if (pendingObjectDependentTasks.get() == 0 && lifecycleDispatchQueue.trySchedule()) {
+            startNextTask(lifecycleDispatchQueue);
+        }
+    }
+
+    /**
+     * Starts the next task of the given mailbox, which must already be marked as scheduled.
+     *
+     * <p>If the queue selector is a server which is not ready yet, the task is started once it is ready.
+     *
+     * @param dispatchQueue The scheduled mailbox.
+     */
+    private void startNextTask(DispatchQueue dispatchQueue) {
+        DispatchQueueSelector queueSelector = dispatchQueue.getQueueSelector();
+        if (queueSelector instanceof ServerImpl && !((ServerImpl) queueSelector).isReady()) {
+            // Start the task once the server is ready instead of blocking a listener thread until then
+            ((ServerImpl) queueSelector).addServerReadyConsumer(server -> executeNextTask(dispatchQueue));
+        } else {
+            executeNextTask(dispatchQueue);
+        }
+    }
+
+    /**
+     * Executes the next task of the given mailbox on the listener executor.
+     *
+     * @param dispatchQueue The scheduled mailbox.
+     */
+    private void executeNextTask(DispatchQueue dispatchQueue) {
+        DispatchQueueSelector queueSelector = dispatchQueue.getQueueSelector();
+        AtomicReference<Future<?>> activeListener = new AtomicReference<>();
+        // A future task can be interrupted by the execution time checker, no matter which executor runs it
+        FutureTask<?> listenerTask = new FutureTask<>(() -> {
+            // Add the future to the list of active listeners
+            activeListeners.put(activeListener, new Object[]{System.nanoTime(), queueSelector});
+            try {
+                Runnable task = dispatchQueue.poll();
+                if (task != null) {
+                    task.run();
                 }
-                // if object-independent tasks to be processed
-                // check whether there are still queued object-dependent tasks
-                boolean moreObjectDependentTasks = queuedListenerTasks.entrySet()
-                        .stream()
-                        .filter(entry -> !entry.getValue().isEmpty())
-                        .anyMatch(entry -> entry.getKey() != null);
-                // if there are object-dependent tasks scheduled or there are still tasks running => retry later
-                if (moreObjectDependentTasks || !runningListeners.isEmpty()) {
-                    return;
+            } catch (Throwable t) {
+                logger.error("Unhandled exception in {}!", () -> getThreadType(queueSelector), () -> t);
+            }
+            activeListeners.remove(activeListener);
+            alreadyCanceledListeners.remove(activeListener);
+            if (queueSelector == null) {
+                finishLifecycleTask();
+            } else {
+                dispatchQueue.unschedule();
+                if (dispatchQueue.trySchedule()) {
+                    startNextTask(dispatchQueue);
                 }
-                // force object-independent task being handled
-                // after all queued object-dependent tasks are finished
-                // and before new object-dependent tasks will get queued
-                queueSelector = null;
-                queue = queuedListenerTasks.get(null);
+                finishObjectDependentTasks(1);
             }
-            DispatchQueueSelector finalQueueSelector = queueSelector;
-            Queue<Runnable> taskQueue = queue;
-            // if there is something to execute and there is task running already
-            if (!queue.isEmpty() && runningListeners.add(finalQueueSelector)) {
-                AtomicReference<Future<?>> activeListener = new AtomicReference<>();
-                activeListener.set(api.getThreadPool().getExecutorService().submit(() -> {
-                    if (finalQueueSelector instanceof ServerImpl) {
-                        Object serverReadyNotifier = new Object();
-                        ((ServerImpl) finalQueueSelector)
-                                .addServerReadyConsumer(s -> {
-                                    synchronized (serverReadyNotifier) {
-                                        serverReadyNotifier.notifyAll();
-                                    }
-                                });
-                        while (!((ServerImpl) finalQueueSelector).isReady()) {
-                            try {
-                                synchronized (serverReadyNotifier) {
-                                    serverReadyNotifier.wait(5000);
-                                }
-                            } catch (InterruptedException ignored) { }
-                        }
-                    }
-                    // Add the future to the list of active listeners
-                    activeListeners.put(activeListener, new Object[]{System.nanoTime(), finalQueueSelector});
-                    try {
-                        taskQueue.poll().run();
-                    } catch (Throwable t) {
-                        logger.error("Unhandled exception in {}!", () -> getThreadType(finalQueueSelector), () -> t);
-                    }
-                    activeListeners.remove(activeListener);
-                    alreadyCanceledListeners.remove(activeListener);
-                    runningListeners.remove(finalQueueSelector);
-                    // Inform the dispatchEvent method that it maybe can queue new listeners now
-                    synchronized (queuedListenerTasks) {
-                        queuedListenerTasks.notifyAll();
-                    }
-                    checkRunningListenersAndStartIfPossible(finalQueueSelector);
-                }));
+        }, null);
+        activeListener.set(listenerTask);
+        try {
+            api.getThreadPool().getListenerExecutor().execute(listenerTask);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Listener executor rejected {}. This is expected during shutdown.",
+                    () -> getThreadType(queueSelector), () -> e);
+        }
+    }
+
+    /**
+     * Marks a lifecycle task as finished.
+     *
+     * <p>If it was the last one, the deferred object-dependent dispatches are queued. Otherwise the next lifecycle
+     * task is started once possible.
+     */
+    private void finishLifecycleTask() {
+        synchronized (deferredDispatches) {
+            if (pendingLifecycleTasks.get() == 1) {
+                // Queue them before the counter reaches 0, so that no new dispatch can overtake them
+                Runnable deferredDispatch;
+                while ((deferredDispatch = deferredDispatches.poll()) != null) {
+                    deferredDispatch.run();
+                }
             }
+            pendingLifecycleTasks.decrementAndGet();
         }
+        lifecycleDispatchQueue.unschedule();
+        tryStartLifecycleDispatchQueue();
     }
 
     /**
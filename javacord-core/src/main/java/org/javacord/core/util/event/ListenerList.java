@@ -0,0 +1,103 @@
+package org.javacord.core.util.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A copy-on-write list with the listeners of one listener class and their listener managers.
+ *
+ * <p>Adding and removing listeners creates a new immutable snapshot, so getting the listeners while dispatching an
+ * event neither allocates nor locks. The order of the listeners is the order of their first addition.
+ *
+ * @param <T> The type of the listeners.
+ */
+public class ListenerList<T> {
+
+    /**
+     * The listener managers by their listener. Guarded by {@code this}.
+     */
+    private final Map<T, ListenerManagerImpl<? extends T>> listenerManagers = new LinkedHashMap<>();
+
+    /**
+     * The immutable snapshot of the listeners.
+     */
+    private volatile List<T> listeners = Collections.emptyList();
+
+    /**
+     * Adds the given listener if it is not in the list yet.
+     *
+     * @param listener The listener to add.
+     * @param listenerManagerSupplier Supplies the listener manager if the listener is not in the list yet.
+     * @return The manager of the listener.
+     */
+    public synchronized ListenerManagerImpl<? extends T> add(
+            T listener, Supplier<ListenerManagerImpl<? extends T>> listenerManagerSupplier) {
+        ListenerManagerImpl<? extends T> listenerManager = listenerManagers.get(listener);
+        if (listenerManager == null) {
+            listenerManager = listenerManagerSupplier.get();
+            listenerManagers.put(listener, listenerManager);
+            updateSnapshot();
+        }
+        return listenerManager;
+    }
+
+    /**
+     * Removes the given listener.
+     *
+     * @param listener The listener to remove.
+     * @return The manager of the removed listener or {@code null} if the listener was not in the list.
+     */
+    public synchronized ListenerManagerImpl<? extends T> remove(T listener) {
+        ListenerManagerImpl<? extends T> listenerManager = listenerManagers.remove(listener);
+        if (listenerManager != null) {
+            updateSnapshot();
+        }
+        return listenerManager;
+    }
+
+    /**
+     * Removes all listeners.
+     *
+     * @return The managers of the removed listeners.
+     */
+    public synchronized List<ListenerManagerImpl<? extends T>> clear() {
+        List<ListenerManagerImpl<? extends T>> removedListenerManagers = new ArrayList<>(listenerManagers.values());
+        listenerManagers.clear();
+        updateSnapshot();
+        return removedListenerManagers;
+    }
+
+    /**
+     * Gets an immutable snapshot of the listeners.
+     *
+     * @return The listeners.
+     */
+    public List<T> getListeners() {
+        return listeners;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return Whether the list is empty.
+     */
+    public boolean isEmpty() {
+        return listeners.isEmpty();
+    }
+
+    /**
+     * Creates a new snapshot of the listeners.
+     */
+    @SuppressWarnings("unchecked")
+    private void updateSnapshot() {
+        listeners = listenerManagers.isEmpty()
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(Arrays.asList((T[]) listenerManagers.keySet().toArray()));
+    }
+
+}
@@ -1,91 +1,173 @@
 package org.javacord.core.util.gateway;
 
-import com.codahale.xsalsa20poly1305.SecretBox;
-import okio.ByteString;
+import org.bouncycastle.crypto.engines.XSalsa20Engine;
+import org.bouncycastle.crypto.macs.Poly1305;
+import org.bouncycastle.crypto.params.KeyParameter;
+import org.bouncycastle.crypto.params.ParametersWithIV;
 import org.javacord.api.audio.SilentAudioSource;
 
 import java.net.DatagramPacket;
 import java.net.InetSocketAddress;
-import java.nio.ByteBuffer;
+import java.util.Arrays;
 
+/**
+ * A reusable buffer for the audio packets of an audio connection.
+ *
+ * <p>Every 20 ms a packet is written into the same buffer and encrypted in place, using the same cipher instances
+ * and cipher parameters. The only garbage per frame is a 16 element int array which the XSalsa20 engine of Bouncy
+ * Castle allocates whenever it is initialized with a new nonce.
+ *
+ * <p>This class is not thread-safe. It is meant to be used by the thread which sends the audio packets.
+ */
 public class AudioPacket {
 
     private static final byte RTP_TYPE = (byte) 0x80;
     private static final byte RTP_VERSION = (byte) 0x78;
     private static final int RTP_HEADER_LENGTH = 12;
     private static final int NONCE_LENGTH = 24;
+    private static final int MAC_LENGTH = 16;
+    private static final int SUBKEY_LENGTH = 32;
+    private static final int AUDIO_FRAME_OFFSET = RTP_HEADER_LENGTH + MAC_LENGTH;
 
-    private boolean encrypted;
-    private byte[] header;
-    private byte[] audioFrame;
+    /**
+     * The cipher which encrypts the audio frames.
+     */
+    private final XSalsa20Engine xsalsa20 = new XSalsa20Engine();
+
+    /**
+     * The message authentication code which authenticates the encrypted audio frames.
+     */
+    private final Poly1305 poly1305 = new Poly1305();
+
+    /**
+     * The one-time key for the message authentication code of the current packet.
+     *
+     * <p>The key parameter does not copy its key on access, so the key is overwritten in place for every packet.
+     */
+    private final KeyParameter subkey = new KeyParameter(new byte[SUBKEY_LENGTH]);
+
+    /**
+     * The ssrc of the audio connection.
+     */
+    private final int ssrc;
+
+    /**
+     * The datagram packet which wraps the buffer.
+     */
+    private final DatagramPacket datagramPacket;
+
+    /**
+     * The buffer which contains the header, the message authentication code and the encrypted audio frame.
+     */
+    private byte[] buffer;
+
+    /**
+     * The secret key used to encrypt audio packets and the nonce of the current packet.
+     *
+     * <p>The parameters do not copy the nonce on access, so it is overwritten in place for every packet. Its first
+     * bytes are the header, the rest is zero.
+     */
+    private volatile ParametersWithIV cipherParameters;
 
     /**
-     * Creates a new silent audio packet.
+     * Creates a new audio packet buffer.
      *
      * @param ssrc The ssrc.
-     * @param sequence The sequence.
-     * @param timestamp The timestamp.
+     * @param address The destination address.
      */
-    public AudioPacket(int ssrc, char sequence, int timestamp) {
-        this(null, ssrc, sequence, timestamp);
+    public AudioPacket(int ssrc, InetSocketAddress address) {
+        this.ssrc = ssrc;
+        // Opus frames of 20 ms are much smaller than this, it only grows for unusual audio sources
+        buffer = new byte[AUDIO_FRAME_OFFSET + 1024];
+        datagramPacket = new DatagramPacket(buffer, buffer.length, address);
     }
 
     /**
-     * Creates a new audio packet.
+     * Sets the secret key which is used to encrypt audio packets.
      *
-     * @param audioFrame A byte array containing 20ms of audio
-     * @param ssrc The ssrc.
+     * @param secretKey The secret key.
+     */
+    public void setSecretKey(byte[] secretKey) {
+        cipherParameters = new ParametersWithIV(new KeyParameter(secretKey), new byte[NONCE_LENGTH]);
+    }
+
+    /**
+     * Writes an encrypted audio packet into the buffer.
+     *
+     * @param audioFrame A byte array containing 20ms of audio or {@code null} for silence.
      * @param sequence The sequence.
      * @param timestamp The timestamp.
+     * @return The datagram packet which is ready to be sent, until the next packet is written.
      */
-    public AudioPacket(byte[] audioFrame, int ssrc, char sequence, int timestamp) {
+    public DatagramPacket write(byte[] audioFrame, char sequence, int timestamp) {
         if (audioFrame == null) {
             audioFrame = SilentAudioSource.SILENCE_FRAME;
         }
-        this.audioFrame = audioFrame;
+        int length = AUDIO_FRAME_OFFSET + audioFrame.length;
+        if (buffer.length < length) {
+            buffer = new byte[length];
+        }
+
         // See https://discordapp.com/developers/docs/topics/voice-connections#encrypting-and-sending-voice
-        ByteBuffer buffer = ByteBuffer.allocate(RTP_HEADER_LENGTH)
-                .put(0, RTP_TYPE)
-                .put(1, RTP_VERSION)
-                .putChar(2, sequence)
-                .putInt(4, timestamp)
-                .putInt(8, ssrc);
-        header = buffer.array();
+        buffer[0] = RTP_TYPE;
+        buffer[1] = RTP_VERSION;
+        putShort(2, sequence);
+        putInt(4, timestamp);
+        putInt(8, ssrc);
+
+        System.arraycopy(audioFrame, 0, buffer, AUDIO_FRAME_OFFSET, audioFrame.length);
+        encrypt(audioFrame.length);
+
+        datagramPacket.setData(buffer, 0, length);
+        return datagramPacket;
     }
 
     /**
-     * Encrypts the audio packet with the given key.
+     * Encrypts the audio frame in the buffer in place, like {@code crypto_secretbox_xsalsa20poly1305} does.
      *
-     * @param key The key used to encrypt the packet.
+     * <p>The message authentication code is written right in front of the encrypted audio frame.
+     *
+     * @param audioFrameLength The length of the audio frame.
      */
-    public void encrypt(byte[] key) {
-        byte[] nonce = new byte[NONCE_LENGTH];
-        System.arraycopy(header, 0, nonce, 0, RTP_HEADER_LENGTH);
-        audioFrame = new SecretBox(ByteString.of(key)).seal(ByteString.of(nonce), ByteString.of(audioFrame))
-                .toByteArray();
-        encrypted = true;
+    private void encrypt(int audioFrameLength) {
+        ParametersWithIV parameters = cipherParameters;
+        System.arraycopy(buffer, 0, parameters.getIV(), 0, RTP_HEADER_LENGTH);
+        xsalsa20.init(true, parameters);
+
+        // The first block of the key stream is the one-time key for the message authentication code
+        byte[] subkeyBytes = subkey.getKey();
+        Arrays.fill(subkeyBytes, (byte) 0);
+        xsalsa20.processBytes(subkeyBytes, 0, SUBKEY_LENGTH, subkeyBytes, 0);
+
+        xsalsa20.processBytes(buffer, AUDIO_FRAME_OFFSET, audioFrameLength, buffer, AUDIO_FRAME_OFFSET);
+
+        poly1305.init(subkey);
+        poly1305.update(buffer, AUDIO_FRAME_OFFSET, audioFrameLength);
+        poly1305.doFinal(buffer, RTP_HEADER_LENGTH);
     }
 
     /**
-     * Creates a {@code DatagramPacket}, ready to be sent.
+     * Writes a big endian short into the buffer.
      *
-     * @param address The destination address.
-     * @return The created datagram packet.
+     * @param index The index to write to.
+     * @param value The value to write.
      */
-    public DatagramPacket asUdpPacket(InetSocketAddress address) {
-        byte[] packet = new byte[header.length + audioFrame.length];
-        System.arraycopy(header, 0, packet, 0, header.length);
-        System.arraycopy(audioFrame, 0, packet, header.length, audioFrame.length);
-        return new DatagramPacket(packet, packet.length, address);
+    private void putShort(int index, char value) {
+        buffer[index] = (byte) (value >>> 8);
+        buffer[index + 1] = (byte) value;
     }
 
     /**
-     * Checks if the audio packet has been encrypted using the {@link #encrypt(byte[])} method.
+     * Writes a big endian int into the buffer.
      *
-     * @return Whether the audio packet is encrypted or not.
+     * @param index The index to write to.
+     * @param value The value to write.
      */
-    public boolean isEncrypted() {
-        return encrypted;
+    private void putInt(int index, int value) {
+        buffer[index] = (byte) (value >>> 24);
+        buffer[index + 1] = (byte) (value >>> 16);
+        buffer[index + 2] = (byte) (value >>> 8);
+        buffer[index + 3] = (byte) value;
     }
 
 }
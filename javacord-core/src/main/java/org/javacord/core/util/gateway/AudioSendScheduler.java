@@ -0,0 +1,205 @@
+package org.javacord.core.util.gateway;
+
+import org.apache.logging.log4j.Logger;
+import org.javacord.core.util.concurrent.ThreadFactory;
+import org.javacord.core.util.logging.LoggerUtil;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends the audio packets of all audio connections of a discord api instance.
+ *
+ * <p>Instead of one thread per audio connection, a small number of tick threads is shared by all connections. Every
+ * 20 ms a tick thread sends the next packet of each of its connections. The frames are polled without blocking, a
+ * connection without an audio source is skipped until the next tick. Because of this, audio sources must not block
+ * when they are asked for their next frame.
+ *
+ * <p>A tick thread is only running while it has at least one connection.
+ */
+public class AudioSendScheduler {
+
+    /**
+     * The logger of this class.
+     */
+    private static final Logger logger = LoggerUtil.getLogger(AudioSendScheduler.class);
+
+    /**
+     * The time between two packets of the same connection.
+     */
+    private static final long FRAME_INTERVAL_NANOS = 20_000_000;
+
+    /**
+     * The time before a tick from which the tick thread yields instead of parking.
+     * Parking can take noticeably longer than requested, so this keeps the jitter low.
+     */
+    private static final long SPIN_THRESHOLD_NANOS = 200_000;
+
+    /**
+     * The maximum amount of tick threads.
+     */
+    private static final int MAX_TICK_THREADS = 4;
+
+    private final ThreadFactory threadFactory = new ThreadFactory("Javacord - Audio Send Scheduler - %d", false);
+
+    /**
+     * The tick threads. A tick thread only has a running thread while it has connections.
+     */
+    private final TickThread[] tickThreads;
+
+    /**
+     * The tick thread of every registered socket.
+     */
+    private final ConcurrentHashMap<AudioUdpSocket, TickThread> tickThreadsBySocket = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the scheduler was shut down.
+     */
+    private volatile boolean shutdown = false;
+
+    /**
+     * Creates a new audio send scheduler.
+     */
+    public AudioSendScheduler() {
+        tickThreads = new TickThread[Math.min(MAX_TICK_THREADS, Runtime.getRuntime().availableProcessors())];
+        for (int i = 0; i < tickThreads.length; i++) {
+            tickThreads[i] = new TickThread();
+        }
+    }
+
+    /**
+     * Starts sending the audio packets of the given socket.
+     *
+     * <p>The socket is assigned to the tick thread with the fewest connections.
+     *
+     * @param socket The socket.
+     */
+    public synchronized void register(AudioUdpSocket socket) {
+        if (shutdown || tickThreadsBySocket.containsKey(socket)) {
+            return;
+        }
+        TickThread tickThread = tickThreads[0];
+        for (TickThread candidate : tickThreads) {
+            if (candidate.sockets.size() < tickThread.sockets.size()) {
+                tickThread = candidate;
+            }
+        }
+        tickThreadsBySocket.put(socket, tickThread);
+        tickThread.add(socket);
+    }
+
+    /**
+     * Stops sending the audio packets of the given socket.
+     *
+     * @param socket The socket.
+     */
+    public synchronized void unregister(AudioUdpSocket socket) {
+        TickThread tickThread = tickThreadsBySocket.remove(socket);
+        if (tickThread != null) {
+            tickThread.remove(socket);
+        }
+    }
+
+    /**
+     * Shuts down the scheduler.
+     * All tick threads stop after their current tick.
+     */
+    public synchronized void shutdown() {
+        shutdown = true;
+        tickThreadsBySocket.clear();
+        for (TickThread tickThread : tickThreads) {
+            tickThread.sockets.clear();
+        }
+    }
+
+    /**
+     * Waits until the given time, with a precision of far less than a millisecond.
+     *
+     * @param deadline The {@link System#nanoTime()} to wait for.
+     */
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * A tick thread, which sends the packets of its sockets every 20 ms.
+     */
+    private class TickThread {
+
+        /**
+         * The sockets of this tick thread.
+         */
+        private final CopyOnWriteArrayList<AudioUdpSocket> sockets = new CopyOnWriteArrayList<>();
+
+        /**
+         * The running thread or {@code null} if there is none.
+         */
+        private Thread thread;
+
+        /**
+         * Adds a socket and starts the thread if it is not running.
+         *
+         * @param socket The socket to add.
+         */
+        private synchronized void add(AudioUdpSocket socket) {
+            sockets.add(socket);
+            if (thread == null) {
+                thread = threadFactory.newThread(this::run);
+                thread.start();
+            }
+        }
+
+        /**
+         * Removes a socket. The thread stops on its own if this was the last socket.
+         *
+         * @param socket The socket to remove.
+         */
+        private synchronized void remove(AudioUdpSocket socket) {
+            sockets.remove(socket);
+        }
+
+        /**
+         * Sends the packets of all sockets every 20 ms, until there are no sockets left.
+         */
+        private void run() {
+            long deadline = System.nanoTime();
+            while (true) {
+                synchronized (this) {
+                    if (sockets.isEmpty() || shutdown) {
+                        thread = null;
+                        return;
+                    }
+                }
+
+                waitUntil(deadline);
+                for (AudioUdpSocket socket : sockets) {
+                    try {
+                        socket.sendNextPacket(deadline);
+                    } catch (Throwable t) {
+                        logger.error("Failed to send audio packet for {}", socket.getConnection(), t);
+                    }
+                }
+
+                deadline += FRAME_INTERVAL_NANOS;
+                long now = System.nanoTime();
+                if (now - deadline > FRAME_INTERVAL_NANOS) {
+                    // We are more than a frame behind, e.g. because of a long GC pause. Catching up would send a
+                    // burst of packets, so we continue from now instead.
+                    logger.debug("Audio send scheduler is {} ms behind, skipping ticks",
+                            (now - deadline) / 1_000_000);
+                    deadline = now;
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+package org.javacord.core.util.gateway;
+
+import org.javacord.api.audio.AudioSendStatistics;
+
+import java.time.Duration;
+
+/**
+ * The implementation of {@link AudioSendStatistics}.
+ *
+ * <p>Every packet has a deadline, which is the tick of the {@link AudioSendScheduler} it belongs to. The lateness
+ * of a packet is the time between its deadline and the moment it was actually sent. The jitter is estimated like the
+ * interarrival jitter of RTP (see <a href="https://tools.ietf.org/html/rfc3550#appendix-A.8">RFC 3550</a>), from
+ * the difference between the intervals of consecutive packets and their expected interval.
+ *
+ * <p>The statistics are only updated by one thread at a time, which holds the send lock of the socket, but they
+ * can be read from any thread.
+ */
+public class AudioSendStatisticsImpl implements AudioSendStatistics {
+
+    private volatile long packetsSent;
+    private volatile long totalLatenessNanos;
+    private volatile long maxLatenessNanos;
+    private volatile long jitterNanos;
+
+    private long lastDeadline;
+    private long lastSendTime;
+
+    /**
+     * Records a sent packet.
+     *
+     * @param deadline The {@link System#nanoTime()} at which the packet should have been sent.
+     * @param sendTime The {@link System#nanoTime()} at which the packet was sent.
+     */
+    void record(long deadline, long sendTime) {
+        // Only one thread at a time writes, so the fields can be updated without atomic operations
+        long lateness = Math.max(0, sendTime - deadline);
+        if (packetsSent > 0) {
+            long deviation = Math.abs((sendTime - lastSendTime) - (deadline - lastDeadline));
+            jitterNanos = jitterNanos + (deviation - jitterNanos) / 16;
+        }
+        lastDeadline = deadline;
+        lastSendTime = sendTime;
+        totalLatenessNanos = totalLatenessNanos + lateness;
+        maxLatenessNanos = Math.max(maxLatenessNanos, lateness);
+        packetsSent = packetsSent + 1;
+    }
+
+    @Override
+    public long getPacketsSent() {
+        return packetsSent;
+    }
+
+    @Override
+    public Duration getAverageLateness() {
+        long packetsSent = this.packetsSent;
+        return Duration.ofNanos(packetsSent == 0 ? 0 : totalLatenessNanos / packetsSent);
+    }
+
+    @Override
+    public Duration getMaxLateness() {
+        return Duration.ofNanos(maxLatenessNanos);
+    }
+
+    @Override
+    public Duration getJitter() {
+        return Duration.ofNanos(jitterNanos);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AudioSendStatistics (packets sent: %d, average lateness: %s, max lateness: %s, "
+                + "jitter: %s)", getPacketsSent(), getAverageLateness(), getMaxLateness(), getJitter());
+    }
+
+}
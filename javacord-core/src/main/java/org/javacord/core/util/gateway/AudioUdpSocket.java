@@ -16,6 +16,7 @@ import java.net.InetSocketAddress;
 import java.net.SocketException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class AudioUdpSocket {
 
@@ -24,8 +25,12 @@ public class AudioUdpSocket {
      */
     private static final Logger logger = LoggerUtil.getLogger(AudioUdpSocket.class);
 
+    /**
+     * The minimum time between the ticks two packets are sent for, which is half the time of a frame.
+     */
+    private static final long MIN_TICK_DISTANCE_NANOS = 10_000_000;
+
     private final DatagramSocket socket;
-    private final String threadName;
 
     private final AudioConnectionImpl connection;
     private final InetSocketAddress address;
@@ -34,15 +39,44 @@ public class AudioUdpSocket {
     private volatile boolean shouldSend = false;
 
     /**
-     * The secret key used to encrypt audio packets.
+     * The lock which makes sure that only one thread sends packets at a time.
+     *
+     * <p>A socket which is stopped and started again, e.g. when the websocket resumes, can be assigned to another tick
+     * thread of the {@link AudioSendScheduler}, while its previous tick thread is still busy with its current tick.
+     * The lock guards the packet, the sequence and the speaking state against both threads.
      */
-    private byte[] secretKey;
+    private final ReentrantLock sendLock = new ReentrantLock();
 
     /**
-     * Gets incremented for every packet sent.
+     * The deadline of the last tick of this socket. Guarded by {@link #sendLock}.
+     */
+    private long lastDeadline;
+
+    /**
+     * The reusable buffer for the audio packets which are sent.
+     */
+    private final AudioPacket packet;
+
+    /**
+     * The statistics about the timing of the sent audio packets.
+     */
+    private final AudioSendStatisticsImpl sendStatistics = new AudioSendStatisticsImpl();
+
+    /**
+     * Gets incremented for every packet sent. Guarded by {@link #sendLock}.
      */
     private char sequence = (char) 0;
 
+    /**
+     * Whether the connection is currently speaking. Guarded by {@link #sendLock}.
+     */
+    private boolean speaking = false;
+
+    /**
+     * The amount of silent frames to send before the connection stops speaking. Guarded by {@link #sendLock}.
+     */
+    private long framesOfSilenceToPlay = 5;
+
     /**
      * Creates a new audio udp socket.
      *
@@ -56,9 +90,10 @@ public class AudioUdpSocket {
         this.connection = connection;
         this.address = address;
         this.ssrc = ssrc;
+        packet = new AudioPacket(ssrc, address);
+        lastDeadline = System.nanoTime() - 2 * MIN_TICK_DISTANCE_NANOS;
 
         socket = new DatagramSocket();
-        threadName = String.format("Javacord Audio Send Thread (%#s)", connection.getServer());
     }
 
     /**
@@ -67,7 +102,7 @@ public class AudioUdpSocket {
      * @param secretKey The secret key.
      */
     public void setSecretKey(byte[] secretKey) {
-        this.secretKey = secretKey;
+        packet.setSecretKey(secretKey);
     }
 
     /**
@@ -94,6 +129,24 @@ public class AudioUdpSocket {
         return new InetSocketAddress(ip, port);
     }
 
+    /**
+     * Gets the audio connection that uses the socket.
+     *
+     * @return The audio connection.
+     */
+    public AudioConnectionImpl getConnection() {
+        return connection;
+    }
+
+    /**
+     * Gets the statistics about the timing of the sent audio packets.
+     *
+     * @return The send statistics.
+     */
+    public AudioSendStatisticsImpl getSendStatistics() {
+        return sendStatistics;
+    }
+
     /**
      * Starts polling frames from the audio connection and sending them through the socket.
      */
@@ -102,89 +155,14 @@ public class AudioUdpSocket {
             return;
         }
         shouldSend = true;
-
-        DiscordApiImpl api = (DiscordApiImpl) connection.getChannel().getApi();
-        api.getThreadPool().getSingleThreadExecutorService(threadName).submit(() -> {
-            try {
-                long nextFrameTimestamp = System.nanoTime();
-                boolean dontSleep = true;
-                boolean speaking = false;
-                long framesOfSilenceToPlay = 5;
-                while (shouldSend) {
-                    // Get the current audio source. If none is available, it will block the thread
-                    AudioSource source = connection.getCurrentAudioSourceBlocking();
-                    if (source == null) {
-                        logger.error("Got null audio source without being interrupted ({})", connection);
-                        return;
-                    }
-
-                    if (source.hasFinished()) {
-                        connection.removeAudioSource();
-                        dontSleep = true;
-
-                        // Dispatch AudioSourceFinishedEvent AFTER removing the source.
-                        // Otherwise AudioSourceFinishedEvent#getNextSource() won't work
-                        api.getEventDispatcher().dispatchAudioSourceFinishedEvent(
-                                (ServerImpl) connection.getServer(),
-                                connection,
-                                ((AudioSourceBase) source).getDelegate(),
-                                new AudioSourceFinishedEventImpl(source, connection));
-                        continue;
-                    }
-
-                    AudioPacket packet = null;
-                    byte[] frame = source.hasNextFrame() ? source.getNextFrame() : null;
-
-                    // If the source is muted, replace the frame with a muted frame
-                    if (source.isMuted()) {
-                        frame = null;
-                    }
-
-                    if (frame != null || framesOfSilenceToPlay > 0) {
-                        if (!speaking && frame != null) {
-                            speaking = true;
-                            connection.setSpeaking(true);
-                        }
-                        packet = new AudioPacket(frame, ssrc, sequence, ((int) sequence) * 960);
-                        // We can stop sending frames of silence after 5 frames
-                        if (frame == null) {
-                            framesOfSilenceToPlay--;
-                            if (framesOfSilenceToPlay == 0) {
-                                speaking = false;
-                                connection.setSpeaking(false);
-                            }
-                        } else {
-                            framesOfSilenceToPlay = 5;
-                        }
-                    }
-
-                    nextFrameTimestamp = nextFrameTimestamp + 20_000_000;
-
-                    sequence++;
-
-                    if (packet != null) {
-                        packet.encrypt(secretKey);
-                    }
-                    try {
-                        if (dontSleep) {
-                            nextFrameTimestamp = System.nanoTime() + 20_000_000;
-                            dontSleep = false;
-                        } else {
-                            Thread.sleep(Math.max(0, nextFrameTimestamp - System.nanoTime()) / 1_000_000);
-                        }
-                        if (packet != null) {
-                            socket.send(packet.asUdpPacket(address));
-                        }
-                    } catch (IOException e) {
-                        logger.error("Failed to send audio packet for {}", connection);
-                    }
-                }
-            } catch (InterruptedException e) {
-                if (shouldSend) {
-                    logger.debug("Got interrupted unexpectedly while waiting for next audio source packet");
-                }
-            }
-        });
+        sendLock.lock();
+        try {
+            speaking = false;
+            framesOfSilenceToPlay = 5;
+        } finally {
+            sendLock.unlock();
+        }
+        getApi().getThreadPool().getAudioSendScheduler().register(this);
     }
 
     /**
@@ -192,10 +170,107 @@ public class AudioUdpSocket {
      */
     public void stopSending() {
         shouldSend = false;
-        connection.getChannel()
-                .getApi()
-                .getThreadPool()
-                .removeAndShutdownSingleThreadExecutorService(threadName);
+        getApi().getThreadPool().getAudioSendScheduler().unregister(this);
+    }
+
+    /**
+     * Polls the next frame from the audio connection and sends it.
+     *
+     * <p>This method never blocks to wait for an audio source or a frame. It is called every 20 ms by the
+     * {@link AudioSendScheduler}. If the socket was moved to another tick thread, the tick of the other thread which
+     * is less than half a frame apart is skipped, so that no frame is sent twice as fast.
+     *
+     * @param deadline The {@link System#nanoTime()} of the tick the packet belongs to.
+     * @return Whether a packet was sent or not.
+     */
+    boolean sendNextPacket(long deadline) {
+        sendLock.lock();
+        try {
+            if (!shouldSend || Math.abs(deadline - lastDeadline) < MIN_TICK_DISTANCE_NANOS) {
+                return false;
+            }
+            lastDeadline = deadline;
+            if (!pollAndSendFrame()) {
+                return false;
+            }
+            sendStatistics.record(deadline, System.nanoTime());
+            return true;
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    /**
+     * Polls the next frame from the audio source of the connection and sends it. Must hold {@link #sendLock}.
+     *
+     * @return Whether a packet was sent or not.
+     */
+    private boolean pollAndSendFrame() {
+        AudioSource source = connection.getCurrentAudioSource();
+        // Poll the next source within the same tick, so that there is no gap between two sources
+        while (source != null && source.hasFinished()) {
+            connection.removeAudioSource();
+
+            // Dispatch AudioSourceFinishedEvent AFTER removing the source.
+            // Otherwise AudioSourceFinishedEvent#getNextSource() won't work
+            getApi().getEventDispatcher().dispatchAudioSourceFinishedEvent(
+                    (ServerImpl) connection.getServer(),
+                    connection,
+                    ((AudioSourceBase) source).getDelegate(),
+                    new AudioSourceFinishedEventImpl(source, connection));
+            source = connection.getCurrentAudioSource();
+        }
+        if (source == null) {
+            return false;
+        }
+
+        DatagramPacket datagramPacket = null;
+        byte[] frame = source.hasNextFrame() ? source.getNextFrame() : null;
+
+        // If the source is muted, replace the frame with a muted frame
+        if (source.isMuted()) {
+            frame = null;
+        }
+
+        if (frame != null || framesOfSilenceToPlay > 0) {
+            if (!speaking && frame != null) {
+                speaking = true;
+                connection.setSpeaking(true);
+            }
+            datagramPacket = packet.write(frame, sequence, ((int) sequence) * 960);
+            // We can stop sending frames of silence after 5 frames
+            if (frame == null) {
+                framesOfSilenceToPlay--;
+                if (framesOfSilenceToPlay == 0) {
+                    speaking = false;
+                    connection.setSpeaking(false);
+                }
+            } else {
+                framesOfSilenceToPlay = 5;
+            }
+        }
+
+        sequence++;
+
+        if (datagramPacket == null) {
+            return false;
+        }
+        try {
+            socket.send(datagramPacket);
+            return true;
+        } catch (IOException e) {
+            logger.error("Failed to send audio packet for {}", connection);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the discord api instance of the audio connection.
+     *
+     * @return The discord api instance.
+     */
+    private DiscordApiImpl getApi() {
+        return (DiscordApiImpl) connection.getChannel().getApi();
     }
 
 }
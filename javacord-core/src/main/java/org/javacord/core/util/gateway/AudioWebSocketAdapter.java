@@ -10,6 +10,7 @@ import com.neovisionaries.ws.client.WebSocketFactory;
 import com.neovisionaries.ws.client.WebSocketFrame;
 import org.apache.logging.log4j.Logger;
 import org.javacord.api.Javacord;
+import org.javacord.api.audio.AudioSendStatistics;
 import org.javacord.api.audio.SpeakingFlag;
 import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.audio.AudioConnectionImpl;
@@ -19,6 +20,7 @@ import org.javacord.core.util.logging.WebSocketLogger;
 import javax.net.ssl.SSLContext;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
 import java.util.Map;
@@ -46,7 +48,7 @@ public class AudioWebSocketAdapter extends WebSocketAdapter {
 
     private final Heart heart;
 
-    private AudioUdpSocket socket;
+    private volatile AudioUdpSocket socket;
     private int ssrc;
 
     /**
@@ -145,7 +147,7 @@ public class AudioWebSocketAdapter extends WebSocketAdapter {
     public void onBinaryMessage(WebSocket websocket, byte[] binary) throws Exception {
         String message;
         try {
-            message = BinaryMessageDecompressor.decompress(binary);
+            message = new String(BinaryMessageDecompressor.decompress(binary), StandardCharsets.UTF_8);
         } catch (DataFormatException e) {
             logger.warn("An error occurred while decompressing data", e);
             return;
@@ -297,6 +299,15 @@ public class AudioWebSocketAdapter extends WebSocketAdapter {
                 .schedule(this::connect, api.getReconnectDelay(reconnectAttempt.get()), TimeUnit.SECONDS);
     }
 
+    /**
+     * Gets the statistics about the timing of the audio packets sent through the current socket.
+     *
+     * @return The send statistics or an empty optional if there is no socket yet.
+     */
+    public Optional<AudioSendStatistics> getSendStatistics() {
+        return Optional.ofNullable(socket).map(AudioUdpSocket::getSendStatistics);
+    }
+
     /**
      * Disconnects from the websocket.
      */
@@ -5,7 +5,6 @@ import org.javacord.core.util.logging.LoggerUtil;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
 
@@ -24,24 +23,28 @@ public class BinaryMessageDecompressor {
      * Decompresses the given byte array.
      *
      * @param data The data to decompress.
-     * @return The decompressed string.
+     * @return The decompressed data.
      * @throws DataFormatException If the compressed data format is invalid.
      */
-    public static String decompress(byte[] data) throws DataFormatException {
+    public static byte[] decompress(byte[] data) throws DataFormatException {
         Inflater decompressor = new Inflater();
-        decompressor.setInput(data);
         ByteArrayOutputStream bos = new ByteArrayOutputStream(data.length);
-        byte[] buf = new byte[1024];
-        while (!decompressor.finished()) {
-            int count;
-            count = decompressor.inflate(buf);
-            bos.write(buf, 0, count);
+        try {
+            decompressor.setInput(data);
+            byte[] buf = new byte[1024];
+            while (!decompressor.finished()) {
+                int count;
+                count = decompressor.inflate(buf);
+                bos.write(buf, 0, count);
+            }
+        } finally {
+            // Release the native memory right away instead of waiting for the finalizer
+            decompressor.end();
         }
         try {
             bos.close();
         } catch (IOException ignored) { }
-        byte[] decompressedData = bos.toByteArray();
-        return new String(decompressedData, StandardCharsets.UTF_8);
+        return bos.toByteArray();
     }
 
 }
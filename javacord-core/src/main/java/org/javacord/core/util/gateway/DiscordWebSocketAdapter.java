@@ -12,6 +12,7 @@ import com.neovisionaries.ws.client.WebSocketFactory;
 import com.neovisionaries.ws.client.WebSocketFrame;
 import com.neovisionaries.ws.client.WebSocketListener;
 import org.apache.logging.log4j.Logger;
+import org.javacord.api.GatewayEncoding;
 import org.javacord.api.Javacord;
 import org.javacord.api.entity.Nameable;
 import org.javacord.api.entity.activity.Activity;
@@ -81,6 +82,7 @@ import java.net.ProxySelector;
 import java.net.SocketAddress;
 import java.net.URI;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -132,6 +134,11 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
 
     private final Heart heart;
 
+    /**
+     * The decompressor of the current connection if the zlib-stream transport compression is used.
+     */
+    private volatile ZlibStreamDecompressor zlibStreamDecompressor = null;
+
     private volatile int lastSeq = -1;
     private volatile String sessionId = null;
 
@@ -179,6 +186,7 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
         this.heart = new Heart(
                 api,
                 heartbeatFrame -> sendFrame(websocket.get(), heartbeatFrame, true, true),
+                this::createPayloadFrame,
                 (code, reason) -> sendCloseFrame(websocket.get(), code, reason),
                 false);
 
@@ -210,7 +218,7 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
                                 data.put("guild_id", Long.toUnsignedString(serverId));
                                 logger.debug("Sending request guild members packet {}",
                                              requestGuildMembersPacket);
-                                sendTextFrame(requestGuildMembersPacket.toString());
+                                sendFrame(createPayloadFrame(requestGuildMembersPacket));
                             });
                     Thread.sleep(1000);
                 } catch (InterruptedException ignored) {
@@ -365,7 +373,9 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
     private void connect() {
         try {
             WebSocketFactory factory = new WebSocketFactory();
-            String webSocketUri = getGateway(api) + "?encoding=json&v=" + Javacord.DISCORD_GATEWAY_VERSION;
+            String webSocketUri = getGateway(api) + "?encoding=" + api.getGatewayEncoding().getName()
+                    + "&v=" + Javacord.DISCORD_GATEWAY_VERSION
+                    + (api.isTransportCompressionEnabled() ? "&compress=zlib-stream" : "");
             Proxy proxy = api.getProxy().orElseGet(() -> {
                 List<Proxy> proxies = api.getProxySelector().orElseGet(ProxySelector::getDefault).select(URI.create(
                         webSocketUri.replace("wss://", "https://").replace("ws://", "http://")));
@@ -443,6 +453,14 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
             }
             WebSocket websocket = factory.createSocket(webSocketUri);
             this.websocket.set(websocket);
+            if (api.isTransportCompressionEnabled()) {
+                // Every connection starts a new zlib stream
+                ZlibStreamDecompressor previousDecompressor = zlibStreamDecompressor;
+                zlibStreamDecompressor = new ZlibStreamDecompressor();
+                if (previousDecompressor != null) {
+                    previousDecompressor.close();
+                }
+            }
             websocket.addHeader("Accept-Encoding", "gzip");
             websocket.addListener(this);
             websocket.addListener(new WebSocketLogger());
@@ -504,6 +522,12 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
         // Squash it, until it stops beating
         heart.squash();
 
+        // Release the native memory of the zlib stream
+        ZlibStreamDecompressor decompressor = zlibStreamDecompressor;
+        if (decompressor != null) {
+            decompressor.close();
+        }
+
         if (!ready.isDone()) {
             ready.complete(false);
             return;
@@ -527,11 +551,20 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
     @Override
     public void onTextMessage(WebSocket websocket, String text) throws Exception {
         ObjectMapper mapper = api.getObjectMapper();
-        JsonNode packet = mapper.readTree(text);
+        handlePacket(websocket, GatewayPacket.parse(mapper, text, handlers::containsKey));
+    }
 
+    /**
+     * Handles the given decoded gateway packet.
+     *
+     * @param websocket The websocket the packet was received from.
+     * @param packet The packet.
+     * @throws InterruptedException If interrupted while waiting for the identify ratelimit.
+     */
+    private void handlePacket(WebSocket websocket, GatewayPacket packet) throws InterruptedException {
         heart.handlePacket(packet);
 
-        int op = packet.get("op").asInt();
+        int op = packet.getOp();
         Optional<GatewayOpcode> opcode = GatewayOpcode.fromCode(op);
         if (!opcode.isPresent()) {
             logger.debug("Received unknown packet (op: {}, content: {})", op, packet);
@@ -540,11 +573,13 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
 
         switch (opcode.get()) {
             case DISPATCH:
-                lastSeq = packet.get("s").asInt();
-                String type = packet.get("t").asText();
+                if (packet.getSequence() != null) {
+                    lastSeq = packet.getSequence();
+                }
+                String type = packet.getType();
                 PacketHandler handler = handlers.get(type);
                 if (handler != null) {
-                    handler.handlePacket(packet.get("d"));
+                    handler.handlePacket(packet.getData());
                 } else {
                     logger.debug("Received unknown packet of type {} (packet: {})", type, packet);
                 }
@@ -573,7 +608,7 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
                     } finally {
                         reconnectingOrResumingLock.unlock();
                     }
-                    sessionId = packet.get("d").get("session_id").asText();
+                    sessionId = packet.getData().get("session_id").asText();
                     // Discord sends us GUILD_CREATE packets after logging in. We will wait for them.
                     api.getThreadPool().getSingleThreadExecutorService("Startup Servers Wait Thread").submit(() -> {
                         boolean allUsersLoaded = false;
@@ -644,7 +679,7 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
             case HELLO:
                 logger.debug("Received HELLO packet");
 
-                JsonNode data = packet.get("d");
+                JsonNode data = packet.getData();
                 int heartbeatInterval = data.get("heartbeat_interval").asInt();
 
                 // calculate reserved places for heartbeats
@@ -668,15 +703,52 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
 
     @Override
     public void onBinaryMessage(WebSocket websocket, byte[] binary) throws Exception {
-        String message;
+        boolean etf = api.getGatewayEncoding() == GatewayEncoding.ETF;
+        ZlibStreamDecompressor decompressor = zlibStreamDecompressor;
+        byte[] message;
+        int length;
         try {
-            message = BinaryMessageDecompressor.decompress(binary);
+            if (decompressor != null) {
+                length = decompressor.decompress(binary);
+                if (length < 0) {
+                    // The message is split into multiple frames
+                    return;
+                }
+                // The message is only valid until the next frame is decompressed
+                message = decompressor.getBuffer();
+            } else if (etf) {
+                // Uncompressed ETF payloads are sent as binary frames, too
+                message = binary;
+                length = binary.length;
+            } else {
+                message = BinaryMessageDecompressor.decompress(binary);
+                length = message.length;
+            }
         } catch (DataFormatException e) {
             logger.warn("An error occurred while decompressing data", e);
             return;
         }
-        logger.trace("onTextMessage: text='{}'", message);
-        onTextMessage(websocket, message);
+        if (etf) {
+            handlePacket(websocket, GatewayPacket.of(EtfDecoder.decode(message, 0, length)));
+        } else {
+            logger.trace("onTextMessage: text='{}'", () -> new String(message, 0, length, StandardCharsets.UTF_8));
+            handlePacket(websocket, decompressor != null
+                    ? GatewayPacket.parse(api.getObjectMapper(), message, 0, length, handlers::containsKey)
+                    : GatewayPacket.parse(api.getObjectMapper(), message, handlers::containsKey));
+        }
+    }
+
+    /**
+     * Creates a frame for the given packet in the encoding of the gateway connection.
+     *
+     * @param packet The packet.
+     * @return The frame.
+     */
+    private WebSocketFrame createPayloadFrame(JsonNode packet) {
+        if (api.getGatewayEncoding() == GatewayEncoding.ETF) {
+            return WebSocketFrame.createBinaryFrame(EtfEncoder.encode(packet));
+        }
+        return WebSocketFrame.createTextFrame(packet.toString());
     }
 
     /**
@@ -692,7 +764,7 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
                 .put("session_id", sessionId)
                 .put("seq", lastSeq);
         logger.debug("Sending resume packet");
-        sendLifecycleTextFrame(websocket, resumePacket.toString());
+        sendLifecycleFrame(websocket, createPayloadFrame(resumePacket));
     }
 
     /**
@@ -706,7 +778,9 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
         ObjectNode data = identifyPacket.putObject("d");
         String token = api.getPrefixedToken();
         data.put("token", token)
-                .put("compress", true)
+                // Payload compression must not be combined with transport compression or etf
+                .put("compress", !api.isTransportCompressionEnabled()
+                        && api.getGatewayEncoding() != GatewayEncoding.ETF)
                 .put("large_threshold", 250)
                 .putObject("properties")
                 .put("$os", System.getProperty("os.name"))
@@ -725,7 +799,7 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
             websocket.removeListeners(identifyFrameListeners);
             identifyFrameListeners.clear();
         }
-        WebSocketFrame identifyFrame = WebSocketFrame.createTextFrame(identifyPacket.toString());
+        WebSocketFrame identifyFrame = createPayloadFrame(identifyPacket);
         lastSentFrameWasIdentify.set(identifyFrame, false);
         WebSocketAdapter identifyFrameListener = new WebSocketAdapter() {
             @Override
@@ -775,7 +849,7 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
                 .put("self_mute", (selfMuted == null) ? server.isSelfMuted(yourself) : selfMuted)
                 .put("self_deaf", (selfDeafened == null) ? server.isSelfDeafened(yourself) : selfDeafened);
         logger.debug("Sending VOICE_STATE_UPDATE packet for {} on {}", channel, server);
-        sendTextFrame(updateVoiceStatePacket.toString());
+        sendFrame(createPayloadFrame(updateVoiceStatePacket));
     }
 
     /**
@@ -892,7 +966,7 @@ public class DiscordWebSocketAdapter extends WebSocketAdapter {
         }).orElse(0));
         activity.flatMap(Activity::getStreamingUrl).ifPresent(url -> activityJson.put("url", url));
         logger.debug("Updating status (content: {})", updateStatus);
-        sendTextFrame(updateStatus.toString());
+        sendFrame(createPayloadFrame(updateStatus));
     }
 
     /**
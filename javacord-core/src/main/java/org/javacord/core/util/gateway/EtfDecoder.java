@@ -0,0 +1,366 @@
+package org.javacord.core.util.gateway;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decodes gateway payloads in the external term format (ETF) of Erlang.
+ *
+ * <p>The terms are decoded in a single pass directly into the same {@link JsonNode} structures that are created for
+ * json payloads, so packet handlers do not have to care about the encoding:
+ * <ul>
+ *     <li>Maps become objects and lists and tuples become arrays.</li>
+ *     <li>Binaries, strings and atoms become text nodes, except for the atoms {@code nil}, {@code null},
+ *     {@code true} and {@code false}.</li>
+ *     <li>Integers become int or long nodes, or big integer nodes if they do not fit into a long.</li>
+ * </ul>
+ */
+public class EtfDecoder {
+
+    static final int VERSION = 131;
+    static final int NEW_FLOAT_EXT = 70;
+    static final int COMPRESSED = 80;
+    static final int SMALL_INTEGER_EXT = 97;
+    static final int INTEGER_EXT = 98;
+    static final int FLOAT_EXT = 99;
+    static final int ATOM_EXT = 100;
+    static final int SMALL_TUPLE_EXT = 104;
+    static final int LARGE_TUPLE_EXT = 105;
+    static final int NIL_EXT = 106;
+    static final int STRING_EXT = 107;
+    static final int LIST_EXT = 108;
+    static final int BINARY_EXT = 109;
+    static final int SMALL_BIG_EXT = 110;
+    static final int LARGE_BIG_EXT = 111;
+    static final int SMALL_ATOM_EXT = 115;
+    static final int MAP_EXT = 116;
+    static final int ATOM_UTF8_EXT = 118;
+    static final int SMALL_ATOM_UTF8_EXT = 119;
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    private final byte[] data;
+    private final int limit;
+    private int position;
+
+    /**
+     * Creates a new decoder for the given data.
+     *
+     * @param data The data to decode.
+     * @param offset The offset of the first byte to decode.
+     * @param length The amount of bytes to decode.
+     */
+    private EtfDecoder(byte[] data, int offset, int length) {
+        this.data = data;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * Decodes the given ETF payload.
+     *
+     * @param data The payload including the leading version byte.
+     * @return The decoded payload.
+     * @throws IllegalArgumentException If the payload is no valid ETF payload.
+     */
+    public static JsonNode decode(byte[] data) {
+        return decode(data, 0, data.length);
+    }
+
+    /**
+     * Decodes the given ETF payload.
+     *
+     * @param data The array which contains the payload including the leading version byte.
+     * @param offset The offset of the payload in the array.
+     * @param length The length of the payload.
+     * @return The decoded payload.
+     * @throws IllegalArgumentException If the payload is no valid ETF payload.
+     */
+    public static JsonNode decode(byte[] data, int offset, int length) {
+        EtfDecoder decoder = new EtfDecoder(data, offset, length);
+        int version = decoder.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported ETF version " + version + "!");
+        }
+        return decoder.readTerm();
+    }
+
+    /**
+     * Reads the next term.
+     *
+     * @return The term.
+     */
+    private JsonNode readTerm() {
+        int tag = readUnsignedByte();
+        switch (tag) {
+            case SMALL_INTEGER_EXT:
+                return nodeFactory.numberNode(readUnsignedByte());
+            case INTEGER_EXT:
+                return nodeFactory.numberNode(readInt());
+            case SMALL_BIG_EXT:
+                return readBig(readUnsignedByte());
+            case LARGE_BIG_EXT:
+                return readBig(readLength());
+            case NEW_FLOAT_EXT:
+                return nodeFactory.numberNode(Double.longBitsToDouble(readLong()));
+            case FLOAT_EXT:
+                return nodeFactory.numberNode(Double.parseDouble(readString(31, StandardCharsets.ISO_8859_1).trim()));
+            case ATOM_EXT:
+            case SMALL_ATOM_EXT:
+                return atomToNode(readString(
+                        tag == ATOM_EXT ? readUnsignedShort() : readUnsignedByte(), StandardCharsets.ISO_8859_1));
+            case ATOM_UTF8_EXT:
+            case SMALL_ATOM_UTF8_EXT:
+                return atomToNode(readString(
+                        tag == ATOM_UTF8_EXT ? readUnsignedShort() : readUnsignedByte(), StandardCharsets.UTF_8));
+            case BINARY_EXT:
+                return nodeFactory.textNode(readString(readLength(), StandardCharsets.UTF_8));
+            case STRING_EXT:
+                return nodeFactory.textNode(readString(readUnsignedShort(), StandardCharsets.ISO_8859_1));
+            case NIL_EXT:
+                return nodeFactory.arrayNode();
+            case LIST_EXT:
+                return readList();
+            case SMALL_TUPLE_EXT:
+                return readArray(readUnsignedByte());
+            case LARGE_TUPLE_EXT:
+                return readArray(readLength());
+            case MAP_EXT:
+                return readMap();
+            case COMPRESSED:
+                return readCompressed();
+            default:
+                throw new IllegalArgumentException("Unsupported ETF tag " + tag + " at position " + (position - 1));
+        }
+    }
+
+    /**
+     * Reads a list including its tail.
+     *
+     * @return The list.
+     */
+    private ArrayNode readList() {
+        ArrayNode list = readArray(readLength());
+        // Proper lists end with an empty list as tail
+        if (peekUnsignedByte() == NIL_EXT) {
+            position++;
+        } else {
+            list.add(readTerm());
+        }
+        return list;
+    }
+
+    /**
+     * Reads the given amount of terms into an array.
+     *
+     * @param length The amount of terms.
+     * @return The array.
+     */
+    private ArrayNode readArray(int length) {
+        ArrayNode array = nodeFactory.arrayNode();
+        for (int i = 0; i < length; i++) {
+            array.add(readTerm());
+        }
+        return array;
+    }
+
+    /**
+     * Reads a map.
+     *
+     * @return The map as an object.
+     */
+    private ObjectNode readMap() {
+        int length = readLength();
+        ObjectNode object = nodeFactory.objectNode();
+        for (int i = 0; i < length; i++) {
+            JsonNode key = readTerm();
+            object.set(key.asText(), readTerm());
+        }
+        return object;
+    }
+
+    /**
+     * Reads a big integer with the given amount of digits.
+     *
+     * @param length The amount of bytes of the number.
+     * @return The number.
+     */
+    private JsonNode readBig(int length) {
+        boolean negative = readUnsignedByte() != 0;
+        ensureAvailable(length);
+        if (length <= 8) {
+            long value = 0;
+            for (int i = length - 1; i >= 0; i--) {
+                value = (value << 8) | (data[position + i] & 0xFF);
+            }
+            position += length;
+            if (value >= 0) {
+                return nodeFactory.numberNode(negative ? -value : value);
+            }
+            // An unsigned 64 bit value that does not fit into a long, fall through to BigInteger
+            position -= length;
+        }
+        byte[] magnitude = new byte[length];
+        for (int i = 0; i < length; i++) {
+            // The digits are little endian
+            magnitude[length - 1 - i] = data[position + i];
+        }
+        position += length;
+        BigInteger value = new BigInteger(1, magnitude);
+        return nodeFactory.numberNode(negative ? value.negate() : value);
+    }
+
+    /**
+     * Reads a compressed term.
+     *
+     * @return The decompressed term.
+     */
+    private JsonNode readCompressed() {
+        int uncompressedSize = readLength();
+        byte[] uncompressed = new byte[uncompressedSize];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, position, limit - position);
+            int inflated = 0;
+            while (inflated < uncompressedSize && !inflater.finished()) {
+                int count = inflater.inflate(uncompressed, inflated, uncompressedSize - inflated);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Truncated compressed ETF term!");
+                }
+                inflated += count;
+            }
+            position = limit - inflater.getRemaining();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Invalid compressed ETF term!", e);
+        } finally {
+            inflater.end();
+        }
+        return new EtfDecoder(uncompressed, 0, uncompressedSize).readTerm();
+    }
+
+    /**
+     * Maps the given atom to a node.
+     *
+     * @param atom The atom.
+     * @return The node.
+     */
+    private static JsonNode atomToNode(String atom) {
+        switch (atom) {
+            case "nil":
+            case "null":
+                return nodeFactory.nullNode();
+            case "true":
+                return nodeFactory.booleanNode(true);
+            case "false":
+                return nodeFactory.booleanNode(false);
+            default:
+                return nodeFactory.textNode(atom);
+        }
+    }
+
+    /**
+     * Reads a string with the given length.
+     *
+     * @param length The length of the string in bytes.
+     * @param charset The charset of the string.
+     * @return The string.
+     */
+    private String readString(int length, Charset charset) {
+        ensureAvailable(length);
+        String string = new String(data, position, length, charset);
+        position += length;
+        return string;
+    }
+
+    /**
+     * Reads a four byte length.
+     *
+     * @return The length.
+     */
+    private int readLength() {
+        int length = readInt();
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid ETF length " + Integer.toUnsignedString(length) + "!");
+        }
+        return length;
+    }
+
+    /**
+     * Gets the next byte without consuming it.
+     *
+     * @return The next byte.
+     */
+    private int peekUnsignedByte() {
+        ensureAvailable(1);
+        return data[position] & 0xFF;
+    }
+
+    /**
+     * Reads an unsigned byte.
+     *
+     * @return The byte.
+     */
+    private int readUnsignedByte() {
+        ensureAvailable(1);
+        return data[position++] & 0xFF;
+    }
+
+    /**
+     * Reads an unsigned big endian short.
+     *
+     * @return The short.
+     */
+    private int readUnsignedShort() {
+        ensureAvailable(2);
+        int value = ((data[position] & 0xFF) << 8) | (data[position + 1] & 0xFF);
+        position += 2;
+        return value;
+    }
+
+    /**
+     * Reads a big endian int.
+     *
+     * @return The int.
+     */
+    private int readInt() {
+        ensureAvailable(4);
+        int value = ((data[position] & 0xFF) << 24)
+                | ((data[position + 1] & 0xFF) << 16)
+                | ((data[position + 2] & 0xFF) << 8)
+                | (data[position + 3] & 0xFF);
+        position += 4;
+        return value;
+    }
+
+    /**
+     * Reads a big endian long.
+     *
+     * @return The long.
+     */
+    private long readLong() {
+        long high = readInt() & 0xFFFFFFFFL;
+        long low = readInt() & 0xFFFFFFFFL;
+        return (high << 32) | low;
+    }
+
+    /**
+     * Checks that the given amount of bytes is available.
+     *
+     * @param length The amount of bytes.
+     * @throws IllegalArgumentException If the payload ends before.
+     */
+    private void ensureAvailable(int length) {
+        if (limit - position < length) {
+            throw new IllegalArgumentException("Unexpected end of ETF payload at position " + position + "!");
+        }
+    }
+
+}
@@ -0,0 +1,159 @@
+package org.javacord.core.util.gateway;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Encodes gateway payloads in the external term format (ETF) of Erlang.
+ *
+ * <p>This is the counterpart of {@link EtfDecoder}: objects become maps with binary keys, arrays become lists, text
+ * becomes binaries and {@code null} becomes the atom {@code nil}.
+ */
+public class EtfEncoder {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    /**
+     * Creates a new encoder.
+     */
+    private EtfEncoder() {
+        out.write(EtfDecoder.VERSION);
+    }
+
+    /**
+     * Encodes the given payload.
+     *
+     * @param payload The payload to encode.
+     * @return The encoded payload including the leading version byte.
+     */
+    public static byte[] encode(JsonNode payload) {
+        EtfEncoder encoder = new EtfEncoder();
+        encoder.writeTerm(payload);
+        return encoder.out.toByteArray();
+    }
+
+    /**
+     * Writes the given node as term.
+     *
+     * @param node The node to write.
+     */
+    private void writeTerm(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                out.write(EtfDecoder.MAP_EXT);
+                writeInt(node.size());
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    writeBinary(field.getKey());
+                    writeTerm(field.getValue());
+                }
+                break;
+            case ARRAY:
+                if (node.size() == 0) {
+                    out.write(EtfDecoder.NIL_EXT);
+                    break;
+                }
+                out.write(EtfDecoder.LIST_EXT);
+                writeInt(node.size());
+                for (JsonNode element : node) {
+                    writeTerm(element);
+                }
+                out.write(EtfDecoder.NIL_EXT);
+                break;
+            case STRING:
+                writeBinary(node.textValue());
+                break;
+            case BOOLEAN:
+                writeAtom(node.booleanValue() ? "true" : "false");
+                break;
+            case NUMBER:
+                writeNumber(node);
+                break;
+            case NULL:
+            case MISSING:
+                writeAtom("nil");
+                break;
+            default:
+                throw new IllegalArgumentException("Cannot encode node of type " + node.getNodeType() + "!");
+        }
+    }
+
+    /**
+     * Writes the given number node.
+     *
+     * @param node The number node to write.
+     */
+    private void writeNumber(JsonNode node) {
+        if (node.isFloatingPointNumber()) {
+            out.write(EtfDecoder.NEW_FLOAT_EXT);
+            long bits = Double.doubleToLongBits(node.doubleValue());
+            writeInt((int) (bits >>> 32));
+            writeInt((int) bits);
+        } else if (node.canConvertToInt()) {
+            int value = node.intValue();
+            if (value >= 0 && value <= 255) {
+                out.write(EtfDecoder.SMALL_INTEGER_EXT);
+                out.write(value);
+            } else {
+                out.write(EtfDecoder.INTEGER_EXT);
+                writeInt(value);
+            }
+        } else {
+            BigInteger value = node.bigIntegerValue();
+            byte[] magnitude = value.abs().toByteArray();
+            // Skip the sign byte of the two's complement representation
+            int start = magnitude[0] == 0 ? 1 : 0;
+            int length = magnitude.length - start;
+            out.write(EtfDecoder.SMALL_BIG_EXT);
+            out.write(length);
+            out.write(value.signum() < 0 ? 1 : 0);
+            // The digits are little endian
+            for (int i = magnitude.length - 1; i >= start; i--) {
+                out.write(magnitude[i]);
+            }
+        }
+    }
+
+    /**
+     * Writes the given text as binary.
+     *
+     * @param text The text to write.
+     */
+    private void writeBinary(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.write(EtfDecoder.BINARY_EXT);
+        writeInt(bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes the given atom.
+     *
+     * @param atom The atom to write.
+     */
+    private void writeAtom(String atom) {
+        byte[] bytes = atom.getBytes(StandardCharsets.UTF_8);
+        out.write(EtfDecoder.SMALL_ATOM_UTF8_EXT);
+        out.write(bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes a big endian int.
+     *
+     * @param value The int to write.
+     */
+    private void writeInt(int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+}
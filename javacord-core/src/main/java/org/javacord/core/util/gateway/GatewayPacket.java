@@ -0,0 +1,309 @@
+package org.javacord.core.util.gateway;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * A packet received from the gateway.
+ *
+ * <p>Json packets are parsed with a streaming parser that only reads the opcode, the sequence number and the type
+ * eagerly. The data of dispatch packets is skipped without building a tree and only parsed if it is actually
+ * requested, so dispatch types nobody is interested in are almost free.
+ */
+class GatewayPacket {
+
+    private final int op;
+    private final Integer sequence;
+    private final String type;
+
+    private final ObjectMapper mapper;
+    private final byte[] bytes;
+    private final char[] chars;
+    private final int dataOffset;
+    private final int dataLength;
+    private volatile JsonNode data;
+
+    /**
+     * Creates a new gateway packet.
+     *
+     * @param op The opcode.
+     * @param sequence The sequence number. May be {@code null}.
+     * @param type The dispatch type. May be {@code null}.
+     * @param data The data or {@code null} if it was skipped.
+     * @param mapper The object mapper to parse skipped data.
+     * @param bytes The raw json bytes if the data was skipped in a byte based packet.
+     * @param chars The raw json chars if the data was skipped in a char based packet.
+     * @param dataOffset The offset of the skipped data.
+     * @param dataLength The length of the skipped data.
+     */
+    private GatewayPacket(int op, Integer sequence, String type, JsonNode data, ObjectMapper mapper,
+                          byte[] bytes, char[] chars, int dataOffset, int dataLength) {
+        this.op = op;
+        this.sequence = sequence;
+        this.type = type;
+        this.data = data;
+        this.mapper = mapper;
+        this.bytes = bytes;
+        this.chars = chars;
+        this.dataOffset = dataOffset;
+        this.dataLength = dataLength;
+    }
+
+    /**
+     * Creates a gateway packet from an already decoded packet.
+     *
+     * @param packet The decoded packet.
+     * @return The gateway packet.
+     */
+    public static GatewayPacket of(JsonNode packet) {
+        JsonNode sequence = packet.path("s");
+        JsonNode type = packet.path("t");
+        return new GatewayPacket(
+                packet.path("op").asInt(),
+                sequence.isNumber() ? sequence.asInt() : null,
+                type.isTextual() ? type.asText() : null,
+                packet.path("d"),
+                null, null, null, 0, 0);
+    }
+
+    /**
+     * Parses the given json packet.
+     *
+     * @param mapper The object mapper.
+     * @param json The utf-8 encoded json packet.
+     * @param dataRequired A predicate which decides by the dispatch type whether the data should be parsed eagerly.
+     *                     The data of non-dispatch packets is always parsed eagerly.
+     * @return The gateway packet.
+     * @throws IOException If the packet is no valid json.
+     */
+    public static GatewayPacket parse(ObjectMapper mapper, byte[] json, Predicate<String> dataRequired)
+            throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(json)) {
+            return parse(mapper, parser, json, 0, null, dataRequired);
+        }
+    }
+
+    /**
+     * Parses the given json packet from a buffer which is reused afterwards.
+     *
+     * <p>If the data is skipped, only the bytes of the data are copied out of the buffer.
+     *
+     * @param mapper The object mapper.
+     * @param buffer The buffer which contains the utf-8 encoded json packet.
+     * @param offset The offset of the json packet in the buffer.
+     * @param length The length of the json packet.
+     * @param dataRequired A predicate which decides by the dispatch type whether the data should be parsed eagerly.
+     *                     The data of non-dispatch packets is always parsed eagerly.
+     * @return The gateway packet.
+     * @throws IOException If the packet is no valid json.
+     */
+    public static GatewayPacket parse(ObjectMapper mapper, byte[] buffer, int offset, int length,
+                                      Predicate<String> dataRequired) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(buffer, offset, length)) {
+            GatewayPacket packet = parse(mapper, parser, buffer, offset, null, dataRequired);
+            if (packet.data != null) {
+                return packet;
+            }
+            byte[] data = Arrays.copyOfRange(buffer, packet.dataOffset, packet.dataOffset + packet.dataLength);
+            return new GatewayPacket(packet.op, packet.sequence, packet.type, null, mapper, data, null,
+                    0, packet.dataLength);
+        }
+    }
+
+    /**
+     * Parses the given json packet.
+     *
+     * @param mapper The object mapper.
+     * @param json The json packet.
+     * @param dataRequired A predicate which decides by the dispatch type whether the data should be parsed eagerly.
+     *                     The data of non-dispatch packets is always parsed eagerly.
+     * @return The gateway packet.
+     * @throws IOException If the packet is no valid json.
+     */
+    public static GatewayPacket parse(ObjectMapper mapper, String json, Predicate<String> dataRequired)
+            throws IOException {
+        char[] chars = json.toCharArray();
+        try (JsonParser parser = mapper.getFactory().createParser(chars)) {
+            return parse(mapper, parser, null, 0, chars, dataRequired);
+        }
+    }
+
+    /**
+     * Parses a json packet with the given parser.
+     *
+     * @param mapper The object mapper.
+     * @param parser The parser.
+     * @param bytes The raw bytes if the parser is byte based.
+     * @param offset The offset of the packet in the raw bytes, the offsets of the parser are relative to it.
+     * @param chars The raw chars if the parser is char based.
+     * @param dataRequired A predicate which decides by the dispatch type whether the data should be parsed eagerly.
+     * @return The gateway packet.
+     * @throws IOException If the packet is no valid json.
+     */
+    private static GatewayPacket parse(ObjectMapper mapper, JsonParser parser, byte[] bytes, int offset,
+                                       char[] chars, Predicate<String> dataRequired) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Gateway packet is not a json object");
+        }
+        int op = -1;
+        Integer sequence = null;
+        String type = null;
+        Boolean required = null;
+        JsonNode data = null;
+        int dataStart = -1;
+        int dataEnd = -1;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "op":
+                    op = parser.getIntValue();
+                    break;
+                case "s":
+                    sequence = token == JsonToken.VALUE_NULL ? null : parser.getIntValue();
+                    break;
+                case "t":
+                    type = token == JsonToken.VALUE_NULL ? null : parser.getText();
+                    break;
+                case "d":
+                    if (op != -1 && (op != GatewayOpcode.DISPATCH.getCode() || type != null)) {
+                        required = isDataRequired(op, type, dataRequired);
+                    }
+                    boolean container = token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY;
+                    if (!container || Boolean.TRUE.equals(required)) {
+                        data = mapper.readTree(parser);
+                    } else {
+                        // We do not know yet if the data is required (or know that it is not), so just remember
+                        // where it is
+                        dataStart = offset + getOffset(parser.getTokenLocation(), bytes != null);
+                        parser.skipChildren();
+                        dataEnd = offset + getOffset(parser.getCurrentLocation(), bytes != null);
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        if (data == null && dataStart == -1) {
+            data = MissingNode.getInstance();
+        }
+        GatewayPacket packet = new GatewayPacket(op, sequence, type, data, mapper, bytes, chars,
+                dataStart, dataEnd - dataStart);
+        if (data == null && required == null && isDataRequired(op, type, dataRequired)) {
+            // The data came before the opcode or the type
+            packet.getData();
+        }
+        return packet;
+    }
+
+    /**
+     * Checks if the data of a packet with the given opcode and type is required.
+     *
+     * @param op The opcode.
+     * @param type The dispatch type. May be {@code null}.
+     * @param dataRequired A predicate which decides by the dispatch type whether the data is required.
+     * @return Whether the data is required.
+     */
+    private static boolean isDataRequired(int op, String type, Predicate<String> dataRequired) {
+        return op != GatewayOpcode.DISPATCH.getCode() || (type != null && dataRequired.test(type));
+    }
+
+    /**
+     * Gets the offset of the given location in the raw input.
+     *
+     * @param location The location.
+     * @param byteBased Whether the input is byte based.
+     * @return The offset.
+     */
+    private static int getOffset(JsonLocation location, boolean byteBased) {
+        return (int) (byteBased ? location.getByteOffset() : location.getCharOffset());
+    }
+
+    /**
+     * Gets the opcode of the packet.
+     *
+     * @return The opcode.
+     */
+    public int getOp() {
+        return op;
+    }
+
+    /**
+     * Gets the sequence number of the packet.
+     *
+     * @return The sequence number or {@code null} if the packet has none.
+     */
+    public Integer getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the dispatch type of the packet.
+     *
+     * @return The dispatch type or {@code null} if the packet is no dispatch packet.
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Gets the data of the packet, parsing it if that did not happen yet.
+     *
+     * @return The data of the packet.
+     */
+    public JsonNode getData() {
+        JsonNode data = this.data;
+        if (data != null) {
+            return data;
+        }
+        synchronized (this) {
+            if (this.data == null) {
+                JsonFactory factory = mapper.getFactory();
+                try (JsonParser parser = bytes != null
+                        ? factory.createParser(bytes, dataOffset, dataLength)
+                        : factory.createParser(chars, dataOffset, dataLength)) {
+                    this.data = mapper.readTree(parser);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return this.data;
+        }
+    }
+
+    /**
+     * Converts the packet back into a tree, including the data.
+     *
+     * @return The packet as tree.
+     */
+    public JsonNode toTree() {
+        ObjectNode packet = JsonNodeFactory.instance.objectNode()
+                .put("op", op)
+                .put("s", sequence)
+                .put("t", type);
+        JsonNode data = getData();
+        if (!data.isMissingNode()) {
+            packet.set("d", data);
+        }
+        return packet;
+    }
+
+    @Override
+    public String toString() {
+        return toTree().toString();
+    }
+
+}
@@ -14,6 +14,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Every animal has a heart.
@@ -28,6 +29,7 @@ public class Heart {
 
     private final DiscordApiImpl api;
     private final Consumer<WebSocketFrame> heartbeatFrameSender;
+    private final Function<JsonNode, WebSocketFrame> payloadFrameFactory;
     private final BiConsumer<Integer, String> closeFrameSender;
     private final boolean voice;
 
@@ -48,8 +50,25 @@ public class Heart {
      */
     public Heart(DiscordApiImpl api, Consumer<WebSocketFrame> heartbeatFrameSender,
                  BiConsumer<Integer, String> closeFrameSender, boolean voice) {
+        this(api, heartbeatFrameSender, packet -> WebSocketFrame.createTextFrame(packet.toString()), closeFrameSender,
+                voice);
+    }
+
+    /**
+     * Ba boom, ba boom, ba boom, ba boom, ...
+     *
+     * @param api                  The heart of every Javacord bot.
+     * @param heartbeatFrameSender A consumer that forwards the given frame to the corresponding web socket.
+     * @param payloadFrameFactory  A function that creates the frame for the given heartbeat packet.
+     * @param closeFrameSender     A bi consumer that sends a close frame with the given code and reason.
+     * @param voice                Voice websocket hearts beat differently.
+     */
+    public Heart(DiscordApiImpl api, Consumer<WebSocketFrame> heartbeatFrameSender,
+                 Function<JsonNode, WebSocketFrame> payloadFrameFactory, BiConsumer<Integer, String> closeFrameSender,
+                 boolean voice) {
         this.api = api;
         this.heartbeatFrameSender = heartbeatFrameSender;
+        this.payloadFrameFactory = payloadFrameFactory;
         this.closeFrameSender = closeFrameSender;
         this.voice = voice;
     }
@@ -61,14 +80,37 @@ public class Heart {
      * @param packet The packet to handle.
      */
     public void handlePacket(JsonNode packet) {
+        JsonNode sequence = packet.path("s");
+        handlePacket(packet.get("op").asInt(), sequence.isNull() || sequence.isMissingNode() ? null : sequence.asInt(),
+                packet);
+    }
+
+    /**
+     * Handles the given gateway packet.
+     * Usually used to update the last sequence number and listen for acks.
+     *
+     * @param packet The packet to handle.
+     */
+    public void handlePacket(GatewayPacket packet) {
+        handlePacket(packet.getOp(), packet.getSequence(), packet);
+    }
+
+    /**
+     * Handles a packet with the given opcode and sequence number.
+     *
+     * @param op The opcode of the packet.
+     * @param sequence The sequence number of the packet or {@code null} if it has none.
+     * @param packet The packet, only used for logging.
+     */
+    private void handlePacket(int op, Integer sequence, Object packet) {
         if (!voice) {
             // For normal websockets, the last sequence number is sent in the heartbeat
-            if (packet.has("s") && !packet.get("s").isNull()) {
-                lastSeq = packet.get("s").asInt();
+            if (sequence != null) {
+                lastSeq = sequence;
             }
         }
         int heartbeatAckOp = voice ? VoiceGatewayOpcode.HEARTBEAT_ACK.getCode() : GatewayOpcode.HEARTBEAT_ACK.getCode();
-        if (packet.get("op").asInt() == heartbeatAckOp) {
+        if (op == heartbeatAckOp) {
             long gatewayLatency = System.nanoTime() - lastHeartbeatSentTimeNanos;
             if (!voice) {
                 api.setLatestGatewayLatencyNanos(gatewayLatency);
@@ -117,7 +159,7 @@ public class Heart {
         ObjectNode heartbeatPacket = JsonNodeFactory.instance.objectNode()
                 .put("op", voice ? VoiceGatewayOpcode.HEARTBEAT.getCode() : GatewayOpcode.HEARTBEAT.getCode())
                 .put("d", voice ? (int) (Math.random() * Integer.MAX_VALUE) : lastSeq);
-        WebSocketFrame heartbeatFrame = WebSocketFrame.createTextFrame(heartbeatPacket.toString());
+        WebSocketFrame heartbeatFrame = payloadFrameFactory.apply(heartbeatPacket);
         heartbeatFrameSender.accept(heartbeatFrame);
         lastHeartbeatSentTimeNanos = System.nanoTime();
         // Ba boom, ba boom, ba boom, ba boom, ...
@@ -18,10 +18,15 @@ public abstract class PacketHandler {
      */
     private static final Logger logger = LoggerUtil.getLogger(PacketHandler.class);
 
+    /**
+     * The name of the thread that handles async packets if only one partition is used.
+     */
+    private static final String HANDLERS_PROCESSOR_THREAD_NAME = "Handlers Processor";
+
     protected final DiscordApiImpl api;
     private final String type;
     private final boolean async;
-    private ExecutorService executorService;
+    private ExecutorService[] executorServices;
 
     /**
      * Creates a new instance of this class.
@@ -35,7 +40,13 @@ public abstract class PacketHandler {
         this.async = async;
         this.type = type;
         if (async) {
-            executorService = api.getThreadPool().getSingleThreadExecutorService("Handlers Processor");
+            int partitionCount = this.api.getPacketHandlerPartitionCount();
+            executorServices = new ExecutorService[partitionCount];
+            for (int i = 0; i < partitionCount; i++) {
+                executorServices[i] = api.getThreadPool().getSingleThreadExecutorService(partitionCount == 1
+                        ? HANDLERS_PROCESSOR_THREAD_NAME
+                        : HANDLERS_PROCESSOR_THREAD_NAME + " - " + i);
+            }
         }
     }
 
@@ -46,7 +57,7 @@ public abstract class PacketHandler {
      */
     public void handlePacket(final JsonNode packet) {
         if (async) {
-            executorService.submit(() -> {
+            getExecutorService(packet).submit(() -> {
                 try {
                     handle(packet);
                 } catch (Throwable t) {
@@ -64,6 +75,44 @@ public abstract class PacketHandler {
         }
     }
 
+    /**
+     * Gets the executor service that should handle the given packet.
+     *
+     * <p>All packets with the same partition key are handled by the same single-threaded executor service, so they
+     * are handled in the order in which they were received.
+     *
+     * @param packet The packet (the "d"-object).
+     * @return The executor service that should handle the given packet.
+     */
+    private ExecutorService getExecutorService(JsonNode packet) {
+        if (executorServices.length == 1) {
+            return executorServices[0];
+        }
+        int hash = Long.hashCode(getPartitionKey(packet));
+        return executorServices[Math.floorMod(hash ^ (hash >>> 16), executorServices.length)];
+    }
+
+    /**
+     * Gets the key that is used to assign the packet to one of the packet handler partitions.
+     *
+     * <p>By default, this is the id of the server the packet belongs to, or the id of the channel if it does not
+     * belong to a server. Packets that belong to neither of them use {@code 0}.
+     * Handlers for packets that contain a server or channel object itself should override this method and use its id,
+     * so that the packet is handled in the same partition as all other packets of this server or channel.
+     *
+     * @param packet The packet (the "d"-object).
+     * @return The partition key of the packet.
+     */
+    protected long getPartitionKey(JsonNode packet) {
+        if (packet.hasNonNull("guild_id")) {
+            return packet.get("guild_id").asLong();
+        }
+        if (packet.hasNonNull("channel_id")) {
+            return packet.get("channel_id").asLong();
+        }
+        return 0;
+    }
+
     /**
      * This method is called by the super class to handle the packet.
      *
@@ -0,0 +1,146 @@
+package org.javacord.core.util.gateway;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decompresses the messages of a gateway connection that uses the {@code zlib-stream} transport compression.
+ *
+ * <p>All messages of a connection are part of a single zlib stream, so one instance must be used per connection and
+ * must be {@link #close() closed} once the connection is gone. A message may be split into multiple binary frames;
+ * it is complete once a frame ends with the {@code Z_SYNC_FLUSH} suffix.
+ *
+ * <p>A decompressed message is not copied out of the reusable {@link #getBuffer() buffer}, it is only valid until the
+ * next frame is decompressed.
+ */
+public class ZlibStreamDecompressor implements AutoCloseable {
+
+    /**
+     * The suffix which marks the end of a message.
+     */
+    private static final int ZLIB_SUFFIX = 0x0000FFFF;
+
+    /**
+     * The initial size of the reusable buffers.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * The inflater of the connection.
+     */
+    private final Inflater inflater = new Inflater();
+
+    /**
+     * The compressed data of the frames which have been received for the current message.
+     */
+    private byte[] inputBuffer = new byte[INITIAL_BUFFER_SIZE];
+
+    /**
+     * The amount of bytes in the {@link #inputBuffer}.
+     */
+    private int inputLength = 0;
+
+    /**
+     * The buffer for the decompressed data.
+     */
+    private byte[] outputBuffer = new byte[INITIAL_BUFFER_SIZE];
+
+    /**
+     * Whether this decompressor was closed.
+     */
+    private boolean closed = false;
+
+    /**
+     * Adds the given frame to the stream and decompresses the message into the {@link #getBuffer() buffer} if it is
+     * complete.
+     *
+     * @param data The payload of a binary frame.
+     * @return The length of the decompressed message or {@code -1} if the message is not complete yet.
+     * @throws DataFormatException If the compressed data format is invalid or the decompressor was already closed,
+     *                             e.g. because a frame arrived after the connection was lost.
+     */
+    public synchronized int decompress(byte[] data) throws DataFormatException {
+        if (closed) {
+            throw new DataFormatException("The decompressor was already closed!");
+        }
+        if (inputLength == 0 && endsWithSuffix(data, data.length)) {
+            // Fast path: the message fits into a single frame
+            return inflate(data, data.length);
+        }
+        if (inputLength + data.length > inputBuffer.length) {
+            inputBuffer = Arrays.copyOf(inputBuffer, Math.max(inputBuffer.length * 2, inputLength + data.length));
+        }
+        System.arraycopy(data, 0, inputBuffer, inputLength, data.length);
+        inputLength += data.length;
+        if (!endsWithSuffix(inputBuffer, inputLength)) {
+            return -1;
+        }
+        int length = inputLength;
+        inputLength = 0;
+        return inflate(inputBuffer, length);
+    }
+
+    /**
+     * Gets the buffer which contains the last decompressed message, starting at index {@code 0}.
+     *
+     * @return The buffer with the last decompressed message.
+     */
+    public synchronized byte[] getBuffer() {
+        return outputBuffer;
+    }
+
+    /**
+     * Inflates the given data into the output buffer.
+     *
+     * @param data The compressed data.
+     * @param length The amount of bytes to use from the data.
+     * @return The length of the decompressed data.
+     * @throws DataFormatException If the compressed data format is invalid.
+     */
+    private int inflate(byte[] data, int length) throws DataFormatException {
+        inflater.setInput(data, 0, length);
+        int outputLength = 0;
+        while (true) {
+            if (outputLength == outputBuffer.length) {
+                outputBuffer = Arrays.copyOf(outputBuffer, outputBuffer.length * 2);
+            }
+            int count = inflater.inflate(outputBuffer, outputLength, outputBuffer.length - outputLength);
+            outputLength += count;
+            if (count == 0 && (inflater.needsInput() || inflater.finished() || inflater.needsDictionary())) {
+                break;
+            }
+        }
+        return outputLength;
+    }
+
+    /**
+     * Checks if the given data ends with the {@code Z_SYNC_FLUSH} suffix.
+     *
+     * @param data The data to check.
+     * @param length The amount of bytes to use from the data.
+     * @return Whether the data ends with the suffix.
+     */
+    private static boolean endsWithSuffix(byte[] data, int length) {
+        if (length < 4) {
+            return false;
+        }
+        int suffix = ((data[length - 4] & 0xFF) << 24)
+                | ((data[length - 3] & 0xFF) << 16)
+                | ((data[length - 2] & 0xFF) << 8)
+                | (data[length - 1] & 0xFF);
+        return suffix == ZLIB_SUFFIX;
+    }
+
+    /**
+     * Releases the native resources of the inflater.
+     */
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            inflater.end();
+        }
+    }
+
+}
@@ -39,6 +39,12 @@ public class ChannelDeleteHandler extends PacketHandler {
         super(api, true, "CHANNEL_DELETE");
     }
 
+    @Override
+    protected long getPartitionKey(JsonNode packet) {
+        // Private channels do not belong to a server, but their messages use the channel id as partition key
+        return packet.hasNonNull("guild_id") ? packet.get("guild_id").asLong() : packet.get("id").asLong();
+    }
+
     @Override
     public void handle(JsonNode packet) {
         ChannelType type = ChannelType.fromId(packet.get("type").asInt());
@@ -71,6 +71,12 @@ public class ChannelUpdateHandler extends PacketHandler {
         super(api, true, "CHANNEL_UPDATE");
     }
 
+    @Override
+    protected long getPartitionKey(JsonNode packet) {
+        // Private channels do not belong to a server, but their messages use the channel id as partition key
+        return packet.hasNonNull("guild_id") ? packet.get("guild_id").asLong() : packet.get("id").asLong();
+    }
+
     @Override
     public void handle(JsonNode packet) {
         ChannelType type = ChannelType.fromId(packet.get("type").asInt());
@@ -134,6 +140,7 @@ public class ChannelUpdateHandler extends PacketHandler {
         String newName = jsonChannel.get("name").asText();
         if (!Objects.deepEquals(oldName, newName)) {
             channel.setName(newName);
+            api.updateChannelInCache(channel);
             ServerChannelChangeNameEvent event =
                     new ServerChannelChangeNameEventImpl(channel, newName, oldName);
 
@@ -203,6 +210,7 @@ public class ChannelUpdateHandler extends PacketHandler {
                 Permissions newOverwrittenPermissions = new PermissionsImpl(allow, deny);
                 if (!newOverwrittenPermissions.equals(oldOverwrittenPermissions)) {
                     overwrittenPermissions.put(entityId, newOverwrittenPermissions);
+                    server.invalidatePermissions();
                     if (server.isReady()) {
                         dispatchServerChannelChangeOverwrittenPermissionsEvent(
                                 channel, newOverwrittenPermissions, oldOverwrittenPermissions, entityId,
@@ -229,6 +237,7 @@ public class ChannelUpdateHandler extends PacketHandler {
             }
             Permissions oldPermissions = entry.getValue();
             userIt.remove();
+            server.invalidatePermissions();
             if (server.isReady()) {
                 dispatchServerChannelChangeOverwrittenPermissionsEvent(
                         channel, PermissionsImpl.EMPTY_PERMISSIONS, oldPermissions, entry.getKey(),
@@ -246,6 +255,7 @@ public class ChannelUpdateHandler extends PacketHandler {
             api.getRoleById(entry.getKey()).ifPresent(role -> {
                 Permissions oldPermissions = entry.getValue();
                 roleIt.remove();
+                server.invalidatePermissions();
                 if (server.isReady()) {
                     dispatchServerChannelChangeOverwrittenPermissionsEvent(
                             channel, PermissionsImpl.EMPTY_PERMISSIONS, oldPermissions, role.getId(), role);
@@ -23,6 +23,11 @@ public class GuildCreateHandler extends PacketHandler {
         super(api, true, "GUILD_CREATE");
     }
 
+    @Override
+    protected long getPartitionKey(JsonNode packet) {
+        return packet.get("id").asLong();
+    }
+
     @Override
     public void handle(JsonNode packet) {
         if (packet.has("unavailable") && packet.get("unavailable").asBoolean()) {
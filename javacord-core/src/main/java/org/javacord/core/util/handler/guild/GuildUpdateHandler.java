@@ -87,6 +87,11 @@ public class GuildUpdateHandler extends PacketHandler {
         super(api, true, "GUILD_UPDATE");
     }
 
+    @Override
+    protected long getPartitionKey(JsonNode packet) {
+        return packet.get("id").asLong();
+    }
+
     @Override
     public void handle(JsonNode packet) {
         if (packet.has("unavailable") && packet.get("unavailable").asBoolean()) {
@@ -164,6 +169,7 @@ public class GuildUpdateHandler extends PacketHandler {
             long oldOwnerId = server.getOwnerId();
             if (newOwnerId != oldOwnerId) {
                 server.setOwnerId(newOwnerId);
+                server.invalidatePermissions();
                 ServerChangeOwnerEvent event = new ServerChangeOwnerEventImpl(server, newOwnerId, oldOwnerId);
 
                 api.getEventDispatcher().dispatchServerChangeOwnerEvent(server, server, event);
@@ -28,6 +28,8 @@ public class GuildRoleCreateHandler extends PacketHandler {
         long serverId = Long.parseLong(packet.get("guild_id").asText());
         api.getPossiblyUnreadyServerById(serverId).ifPresent(server -> {
             Role role = ((ServerImpl) server).getOrCreateRole(packet.get("role"));
+            // Members might already have the role
+            ((ServerImpl) server).invalidatePermissions();
             RoleCreateEvent event = new RoleCreateEventImpl(role);
 
             api.getEventDispatcher().dispatchRoleCreateEvent((DispatchQueueSelector) server, server, event);
@@ -10,6 +10,7 @@ import org.javacord.api.entity.message.Message;
 import org.javacord.api.entity.message.MessageAuthor;
 import org.javacord.api.entity.message.MessageFlag;
 import org.javacord.api.entity.server.Server;
+import org.javacord.api.entity.user.User;
 import org.javacord.api.event.message.MessageCreateEvent;
 import org.javacord.core.entity.channel.PrivateChannelImpl;
 import org.javacord.core.entity.user.MemberImpl;
@@ -75,16 +76,23 @@ public class MessageCreateHandler extends PacketHandler {
 
     private void handle(TextChannel channel, JsonNode packet) {
         Message message = api.getOrCreateMessage(channel, packet);
-        MessageCreateEvent event = new MessageCreateEventImpl(message);
 
         Optional<Server> optionalServer = channel.asServerChannel().map(ServerChannel::getServer);
         MessageAuthor author = message.getAuthor();
+        User user = author.asUser().orElse(null);
+        Long webhookId = author.isWebhook() ? author.getId() : null;
+        if (!api.getEventDispatcher().hasMessageCreateListeners(
+                optionalServer.orElse(null), channel, user, webhookId)) {
+            return;
+        }
+
+        MessageCreateEvent event = new MessageCreateEventImpl(message);
         api.getEventDispatcher().dispatchMessageCreateEvent(
                 optionalServer.map(DispatchQueueSelector.class::cast).orElse(api),
                 optionalServer.orElse(null),
                 channel,
-                author.asUser().orElse(null),
-                author.isWebhook() ? author.getId() : null,
+                user,
+                webhookId,
                 event);
     }
 
@@ -61,7 +61,8 @@ public class PresenceUpdateHandler extends PacketHandler {
                     .orElse(Collections.emptySet());
             presence.set(presence.get().setActivities(newActivities));
 
-            if (!Objects.deepEquals(newActivities.toArray(), oldActivities.toArray())) {
+            if (api.getEventDispatcher().hasUserChangeActivityListeners()
+                    && !Objects.deepEquals(newActivities.toArray(), oldActivities.toArray())) {
                 dispatchUserActivityChangeEvent(userId, newActivities, oldActivities);
             }
         }
@@ -118,7 +119,9 @@ public class PresenceUpdateHandler extends PacketHandler {
     private void dispatchUserStatusChangeEventIfChangeDetected(long userId, UserStatus newStatus, UserStatus oldStatus,
                                                                Map<DiscordClient, UserStatus> newClientStatus,
                                                                Map<DiscordClient, UserStatus> oldClientStatus) {
-        UserImpl user = api.getCachedUserById(userId).map(UserImpl.class::cast).orElse(null);
+        if (!api.getEventDispatcher().hasUserChangeStatusListeners()) {
+            return;
+        }
         // Only dispatch the event if something changed
         boolean shouldDispatch = false;
         if (newClientStatus != oldClientStatus) {
@@ -133,6 +136,7 @@ public class PresenceUpdateHandler extends PacketHandler {
             return;
         }
 
+        UserImpl user = api.getCachedUserById(userId).map(UserImpl.class::cast).orElse(null);
         UserChangeStatusEvent event =
                 new UserChangeStatusEventImpl(api, userId, newStatus, oldStatus, newClientStatus, oldClientStatus);
 
@@ -25,6 +25,10 @@ public class TypingStartHandler extends PacketHandler {
 
     @Override
     public void handle(JsonNode packet) {
+        if (!api.getEventDispatcher().hasUserStartTypingListeners()) {
+            // Typing events are not cached, so there is nothing to do if nobody listens to them
+            return;
+        }
         long userId = packet.get("user_id").asLong();
         long channelId = packet.get("channel_id").asLong();
         TextChannel channel = api.getTextChannelById(channelId).orElse(null);
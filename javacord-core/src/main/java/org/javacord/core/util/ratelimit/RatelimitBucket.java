@@ -5,10 +5,18 @@ import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.util.rest.RestEndpoint;
 import org.javacord.core.util.rest.RestRequest;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * A ratelimit bucket with a queue of requests.
+ *
+ * <p>A bucket is created for a route (an endpoint / major url parameter combination), but can be shared by multiple
+ * routes once Discord told us that they share the same ratelimit using the {@code X-RateLimit-Bucket} header.
+ */
 public class RatelimitBucket {
 
     // The key is the token, as global ratelimits are shared across the same account.
@@ -18,8 +26,16 @@ public class RatelimitBucket {
 
     private final ConcurrentLinkedQueue<RestRequest<?>> requestQueue = new ConcurrentLinkedQueue<>();
 
-    private final RestEndpoint endpoint;
-    private final String majorUrlParameter;
+    private final RatelimitRoute route;
+
+    // All routes that are currently mapped to this bucket
+    private final Set<RatelimitRoute> routes = ConcurrentHashMap.newKeySet();
+
+    // The key under which this bucket is registered as shared bucket, or null
+    private volatile String sharedBucketKey = null;
+
+    // Whether this bucket was removed from the ratelimit manager and must not accept new requests
+    private volatile boolean removed = false;
 
     private volatile long ratelimitResetTimestamp = 0;
     private volatile int ratelimitRemaining = 1;
@@ -42,12 +58,84 @@ public class RatelimitBucket {
      * @param majorUrlParameter The url parameter this bucket is specific for. May be null.
      */
     public RatelimitBucket(DiscordApi api, RestEndpoint endpoint, String majorUrlParameter) {
+        this(api, new RatelimitRoute(endpoint, majorUrlParameter));
+    }
+
+    /**
+     * Creates a RatelimitBucket for the given route.
+     *
+     * @param api The api/shard to use.
+     * @param route The route the ratelimit is tracked for.
+     */
+    RatelimitBucket(DiscordApi api, RatelimitRoute route) {
         this.api = (DiscordApiImpl) api;
-        if (endpoint.isGlobal()) {
-            endpoint = null;
-        }
-        this.endpoint = endpoint;
-        this.majorUrlParameter = majorUrlParameter;
+        this.route = route;
+        routes.add(route);
+    }
+
+    /**
+     * Gets the route this bucket was created for.
+     *
+     * @return The route this bucket was created for.
+     */
+    RatelimitRoute getRoute() {
+        return route;
+    }
+
+    /**
+     * Gets all routes that are currently mapped to this bucket.
+     *
+     * @return All routes that are currently mapped to this bucket.
+     */
+    Set<RatelimitRoute> getRoutes() {
+        return Collections.unmodifiableSet(routes);
+    }
+
+    /**
+     * Adds a route that is mapped to this bucket.
+     *
+     * @param route The route to add.
+     */
+    void addRoute(RatelimitRoute route) {
+        routes.add(route);
+    }
+
+    /**
+     * Gets the key under which this bucket is registered as shared bucket.
+     *
+     * @return The shared bucket key or {@code null} if this bucket is not registered as shared bucket.
+     */
+    String getSharedBucketKey() {
+        return sharedBucketKey;
+    }
+
+    /**
+     * Sets the key under which this bucket is registered as shared bucket.
+     *
+     * @param sharedBucketKey The shared bucket key.
+     */
+    void setSharedBucketKey(String sharedBucketKey) {
+        this.sharedBucketKey = sharedBucketKey;
+    }
+
+    /**
+     * Checks if this bucket was removed from the ratelimit manager.
+     *
+     * <p>Must only be called while holding the bucket's monitor.
+     *
+     * @return Whether this bucket was removed or not.
+     */
+    boolean isRemoved() {
+        return removed;
+    }
+
+    /**
+     * Marks this bucket as removed from the ratelimit manager.
+     *
+     * <p>Must only be called while holding the bucket's monitor.
+     */
+    void markRemoved() {
+        removed = true;
     }
 
     /**
@@ -128,15 +216,7 @@ public class RatelimitBucket {
      * @return Whether a bucket created with the given parameters would equal this bucket or not.
      */
     public boolean equals(RestEndpoint endpoint, String majorUrlParameter) {
-        if (endpoint.isGlobal()) {
-            endpoint = null;
-        }
-        boolean endpointSame = this.endpoint == endpoint;
-        boolean majorUrlParameterBothNull = this.majorUrlParameter == null && majorUrlParameter == null;
-        boolean majorUrlParameterEqual =
-                this.majorUrlParameter != null && this.majorUrlParameter.equals(majorUrlParameter);
-
-        return endpointSame && (majorUrlParameterBothNull || majorUrlParameterEqual);
+        return route.equals(new RatelimitRoute(endpoint, majorUrlParameter));
     }
 
 
@@ -146,24 +226,16 @@ public class RatelimitBucket {
             return false;
         }
         RatelimitBucket otherBucket = (RatelimitBucket) obj;
-        return equals(otherBucket.endpoint, otherBucket.majorUrlParameter);
+        return route.equals(otherBucket.route);
     }
 
     @Override
     public int hashCode() {
-        int hash = 42;
-        int urlParamHash = majorUrlParameter == null ? 0 : majorUrlParameter.hashCode();
-        int endpointHash = endpoint == null ? 0 : endpoint.hashCode();
-
-        hash = hash * 11 + urlParamHash;
-        hash = hash * 17 + endpointHash;
-        return hash;
+        return route.hashCode();
     }
 
     @Override
     public String toString() {
-        String str = "Endpoint: " + (endpoint == null ? "global" : endpoint.getEndpointUrl());
-        str += ", Major url parameter:" + (majorUrlParameter == null ? "none" : majorUrlParameter);
-        return str;
+        return sharedBucketKey == null ? route.toString() : route + ", Bucket: " + sharedBucketKey;
     }
 }
@@ -5,6 +5,7 @@ import org.apache.logging.log4j.Logger;
 import org.javacord.api.exception.DiscordException;
 import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.util.logging.LoggerUtil;
+import org.javacord.core.util.rest.RestEndpoint;
 import org.javacord.core.util.rest.RestRequest;
 import org.javacord.core.util.rest.RestRequestResponseInformationImpl;
 import org.javacord.core.util.rest.RestRequestResult;
@@ -14,6 +15,9 @@ import java.time.format.DateTimeFormatter;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -32,9 +36,24 @@ public class RatelimitManager {
     private final DiscordApiImpl api;
 
     /**
-     * A set with all buckets.
+     * A map with all buckets that currently have queued requests.
+     *
+     * <p>The key is the route, the value is the bucket the route is mapped to.
+     * Multiple routes can be mapped to the same bucket.
+     */
+    private final ConcurrentMap<RatelimitRoute, RatelimitBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * A map with the bucket hashes Discord sent in the {@code X-RateLimit-Bucket} header for an endpoint.
+     */
+    private final ConcurrentMap<RestEndpoint, String> bucketHashes = new ConcurrentHashMap<>();
+
+    /**
+     * A map with buckets that can be shared by multiple routes.
+     *
+     * <p>The key consists of the bucket hash and the major url parameter.
      */
-    private final Set<RatelimitBucket> buckets = new HashSet<>();
+    private final ConcurrentMap<String, RatelimitBucket> sharedBuckets = new ConcurrentHashMap<>();
 
     /**
      * Creates a new ratelimit manager.
@@ -51,7 +70,7 @@ public class RatelimitManager {
      * @return A set with all ratelimit buckets.
      */
     public Set<RatelimitBucket> getBuckets() {
-        return buckets;
+        return new HashSet<>(buckets.values());
     }
 
     /**
@@ -61,24 +80,26 @@ public class RatelimitManager {
      * @param request The request to queue.
      */
     public void queueRequest(RestRequest<?> request) {
-        final RatelimitBucket bucket;
-        final boolean alreadyInQueue;
-        synchronized (buckets) {
+        RatelimitRoute route = new RatelimitRoute(request.getEndpoint(), request.getMajorUrlParameter().orElse(null));
+        RatelimitBucket bucket;
+        boolean alreadyInQueue;
+        while (true) {
             // Search for a bucket that fits to this request
-            bucket = buckets.stream()
-                    .filter(b -> b.equals(request.getEndpoint(), request.getMajorUrlParameter().orElse(null)))
-                    .findAny()
-                    .orElseGet(() -> new RatelimitBucket(
-                            api, request.getEndpoint(), request.getMajorUrlParameter().orElse(null)));
-
-            // Must be executed BEFORE adding the request to the queue
-            alreadyInQueue = bucket.peekRequestFromQueue() != null;
+            bucket = buckets.computeIfAbsent(route, this::getOrCreateBucket);
+            synchronized (bucket) {
+                if (bucket.isRemoved()) {
+                    // The bucket got empty in the meantime, try again with a new one
+                    buckets.remove(route, bucket);
+                    continue;
+                }
 
-            // Add the bucket to the set of buckets (does nothing if it's already in the set)
-            buckets.add(bucket);
+                // Must be executed BEFORE adding the request to the queue
+                alreadyInQueue = bucket.peekRequestFromQueue() != null;
 
-            // Add the request to the bucket's queue
-            bucket.addRequestToQueue(request);
+                // Add the request to the bucket's queue
+                bucket.addRequestToQueue(request);
+            }
+            break;
         }
 
         // If the bucket is already in the queue, there's nothing more to do
@@ -87,75 +108,182 @@ public class RatelimitManager {
         }
 
         // Start working of the queue
-        api.getThreadPool().getExecutorService().submit(() -> {
-            RestRequest<?> currentRequest = bucket.peekRequestFromQueue();
-            RestRequestResult result = null;
-            long responseTimestamp = System.currentTimeMillis();
-            while (currentRequest != null) {
-                try {
-                    int sleepTime = bucket.getTimeTillSpaceGetsAvailable();
-                    if (sleepTime > 0) {
-                        logger.debug("Delaying requests to {} for {}ms to prevent hitting ratelimits",
-                                bucket, sleepTime);
-                    }
-
-                    // Sleep until space is available
-                    while (sleepTime > 0) {
-                        try {
-                            Thread.sleep(sleepTime);
-                        } catch (InterruptedException e) {
-                            logger.warn("We got interrupted while waiting for a rate limit!", e);
-                        }
-                        // Update in case something changed (e.g. because we hit a global ratelimit)
-                        sleepTime = bucket.getTimeTillSpaceGetsAvailable();
-                    }
-
-                    // Execute the request
-                    result = currentRequest.executeBlocking();
-
-                    // Calculate the time offset, if it wasn't done before
-                    responseTimestamp = System.currentTimeMillis();
-                } catch (Throwable t) {
-                    responseTimestamp = System.currentTimeMillis();
-                    if (currentRequest.getResult().isDone()) {
-                        logger.warn("Received exception for a request that is already done. "
-                                + "This should not be able to happen!", t);
-                    }
-                    // Try to get the response from the exception if it exists
-                    if (t instanceof DiscordException) {
-                        result = ((DiscordException) t).getResponse()
-                                .map(RestRequestResponseInformationImpl.class::cast)
-                                .map(RestRequestResponseInformationImpl::getRestRequestResult)
-                                .orElse(null);
-                    }
-                    // Complete the request
-                    currentRequest.getResult().completeExceptionally(t);
-                } finally {
-                    try {
-                        // Calculate offset
-                        calculateOffset(responseTimestamp, result);
-                        // Handle the response
-                        handleResponse(currentRequest, result, bucket, responseTimestamp);
-                    } catch (Throwable t) {
-                        logger.warn("Encountered unexpected exception.", t);
-                    }
-
-                    // The request didn't finish, so let's try again
-                    if (!currentRequest.getResult().isDone()) {
-                        continue;
-                    }
-
-                    // Poll a new quest
-                    synchronized (buckets) {
-                        bucket.pollRequestFromQueue();
-                        currentRequest = bucket.peekRequestFromQueue();
-                        if (currentRequest == null) {
-                            buckets.remove(bucket);
-                        }
-                    }
+        scheduleNextRequest(bucket);
+    }
+
+    /**
+     * Schedules the request at the head of the bucket's queue for the moment the bucket has space available.
+     *
+     * <p>No thread is blocked while waiting for the ratelimit to reset. The timer of the ratelimit scheduler only
+     * hands the request over to the http client, and the response is handled in the http client's callback.
+     *
+     * @param bucket The bucket.
+     */
+    private void scheduleNextRequest(RatelimitBucket bucket) {
+        int delay = bucket.getTimeTillSpaceGetsAvailable();
+        if (delay > 0) {
+            logger.debug("Delaying requests to {} for {}ms to prevent hitting ratelimits", bucket, delay);
+        }
+        api.getThreadPool().getRatelimitScheduler().schedule(() -> executeNextRequest(bucket), delay,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Executes the request at the head of the bucket's queue if the bucket has space available.
+     *
+     * @param bucket The bucket.
+     */
+    private void executeNextRequest(RatelimitBucket bucket) {
+        // Check again in case something changed (e.g. because we hit a global ratelimit)
+        if (bucket.getTimeTillSpaceGetsAvailable() > 0) {
+            scheduleNextRequest(bucket);
+            return;
+        }
+        RestRequest<?> request = bucket.peekRequestFromQueue();
+        CompletableFuture<RestRequestResult> future;
+        try {
+            future = request.executeAsync();
+        } catch (Throwable t) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(t);
+        }
+        future.whenComplete((result, throwable) -> handleRequestCompletion(bucket, request, result, throwable));
+    }
+
+    /**
+     * Handles the completion of a request and continues with the next request of the bucket.
+     *
+     * @param bucket The bucket.
+     * @param request The request.
+     * @param result The result of the request. May be {@code null}.
+     * @param throwable The throwable if the request failed. May be {@code null}.
+     */
+    private void handleRequestCompletion(
+            RatelimitBucket bucket, RestRequest<?> request, RestRequestResult result, Throwable throwable) {
+        long responseTimestamp = System.currentTimeMillis();
+        if (throwable != null) {
+            if (request.getResult().isDone()) {
+                logger.warn("Received exception for a request that is already done. "
+                        + "This should not be able to happen!", throwable);
+            }
+            // Try to get the response from the exception if it exists
+            if (throwable instanceof DiscordException) {
+                result = ((DiscordException) throwable).getResponse()
+                        .map(RestRequestResponseInformationImpl.class::cast)
+                        .map(RestRequestResponseInformationImpl::getRestRequestResult)
+                        .orElse(null);
+            }
+            // Complete the request
+            request.getResult().completeExceptionally(throwable);
+        }
+        try {
+            // Calculate offset
+            calculateOffset(responseTimestamp, result);
+            // Handle the response
+            handleResponse(request, result, bucket, responseTimestamp);
+        } catch (Throwable t) {
+            logger.warn("Encountered unexpected exception.", t);
+        }
+
+        // The request didn't finish, so let's try again
+        if (!request.getResult().isDone()) {
+            scheduleNextRequest(bucket);
+            return;
+        }
+
+        // Poll a new request
+        synchronized (bucket) {
+            bucket.pollRequestFromQueue();
+            if (bucket.peekRequestFromQueue() == null) {
+                removeBucket(bucket);
+                return;
+            }
+        }
+        scheduleNextRequest(bucket);
+    }
+
+    /**
+     * Gets the shared bucket for the given route if Discord already told us its bucket hash, or creates a new one.
+     *
+     * @param route The route.
+     * @return The bucket for the given route.
+     */
+    private RatelimitBucket getOrCreateBucket(RatelimitRoute route) {
+        String bucketHash = route.getEndpoint() == null ? null : bucketHashes.get(route.getEndpoint());
+        if (bucketHash == null) {
+            return createBucket(route);
+        }
+        RatelimitBucket bucket = sharedBuckets.computeIfAbsent(
+                getSharedBucketKey(bucketHash, route.getMajorUrlParameter()), key -> {
+                    RatelimitBucket newBucket = createBucket(route);
+                    newBucket.setSharedBucketKey(key);
+                    return newBucket;
+                });
+        bucket.addRoute(route);
+        return bucket;
+    }
+
+    /**
+     * Creates a new bucket for the given route.
+     *
+     * @param route The route.
+     * @return The new bucket.
+     */
+    private RatelimitBucket createBucket(RatelimitRoute route) {
+        return new RatelimitBucket(api, route);
+    }
+
+    /**
+     * Removes the given bucket and all its mappings.
+     *
+     * <p>Must only be called while holding the bucket's monitor.
+     *
+     * @param bucket The bucket to remove.
+     */
+    private void removeBucket(RatelimitBucket bucket) {
+        bucket.markRemoved();
+        for (RatelimitRoute route : bucket.getRoutes()) {
+            buckets.remove(route, bucket);
+        }
+        String sharedBucketKey = bucket.getSharedBucketKey();
+        if (sharedBucketKey != null) {
+            sharedBuckets.remove(sharedBucketKey, bucket);
+        }
+    }
+
+    /**
+     * Remembers the bucket hash Discord sent for a route and registers the bucket as shared bucket, so that other
+     * routes with the same bucket hash and major url parameter use the same bucket.
+     *
+     * @param bucket The bucket of the request.
+     * @param request The request.
+     * @param bucketHash The bucket hash from the {@code X-RateLimit-Bucket} header.
+     */
+    private void registerBucketHash(RatelimitBucket bucket, RestRequest<?> request, String bucketHash) {
+        RestEndpoint endpoint = request.getEndpoint();
+        if (endpoint.isGlobal()) {
+            return;
+        }
+        bucketHashes.put(endpoint, bucketHash);
+        if (bucket.getSharedBucketKey() == null) {
+            String sharedBucketKey = getSharedBucketKey(bucketHash, request.getMajorUrlParameter().orElse(null));
+            synchronized (bucket) {
+                if (!bucket.isRemoved() && sharedBuckets.putIfAbsent(sharedBucketKey, bucket) == null) {
+                    bucket.setSharedBucketKey(sharedBucketKey);
                 }
             }
-        });
+        }
+    }
+
+    /**
+     * Gets the key of a shared bucket.
+     *
+     * @param bucketHash The bucket hash from the {@code X-RateLimit-Bucket} header.
+     * @param majorUrlParameter The major url parameter. May be {@code null}.
+     * @return The key of the shared bucket.
+     */
+    private static String getSharedBucketKey(String bucketHash, String majorUrlParameter) {
+        return majorUrlParameter == null ? bucketHash : bucketHash + ':' + majorUrlParameter;
     }
 
     /**
@@ -172,6 +300,10 @@ public class RatelimitManager {
             return;
         }
         Response response = result.getResponse();
+        String bucketHash = response.header("X-RateLimit-Bucket");
+        if (bucketHash != null) {
+            registerBucketHash(bucket, request, bucketHash);
+        }
         boolean global = response.header("X-RateLimit-Global", "false").equalsIgnoreCase("true");
         int remaining = Integer.parseInt(response.header("X-RateLimit-Remaining", "1"));
         long reset = request
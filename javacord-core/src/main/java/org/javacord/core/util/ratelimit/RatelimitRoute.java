@@ -0,0 +1,80 @@
+package org.javacord.core.util.ratelimit;
+
+import org.javacord.core.util.rest.RestEndpoint;
+
+import java.util.Objects;
+
+/**
+ * A route consisting of a REST endpoint and its major url parameter.
+ *
+ * <p>A route is the smallest unit that Discord applies ratelimits to. Multiple routes can share the same ratelimit
+ * bucket, which is announced in the {@code X-RateLimit-Bucket} header.
+ */
+class RatelimitRoute {
+
+    /**
+     * The endpoint of the route or {@code null} for global endpoints, as they all share the same ratelimit.
+     */
+    private final RestEndpoint endpoint;
+
+    /**
+     * The major url parameter of the route. May be {@code null}.
+     */
+    private final String majorUrlParameter;
+
+    /**
+     * Creates a new route.
+     *
+     * @param endpoint The REST endpoint of the route.
+     * @param majorUrlParameter The major url parameter of the route. May be {@code null}.
+     */
+    RatelimitRoute(RestEndpoint endpoint, String majorUrlParameter) {
+        this.endpoint = endpoint.isGlobal() ? null : endpoint;
+        this.majorUrlParameter = majorUrlParameter;
+    }
+
+    /**
+     * Gets the endpoint of the route.
+     *
+     * @return The endpoint of the route or {@code null} for global endpoints.
+     */
+    RestEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Gets the major url parameter of the route.
+     *
+     * @return The major url parameter of the route. May be {@code null}.
+     */
+    String getMajorUrlParameter() {
+        return majorUrlParameter;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof RatelimitRoute)) {
+            return false;
+        }
+        RatelimitRoute otherRoute = (RatelimitRoute) obj;
+        return endpoint == otherRoute.endpoint && Objects.equals(majorUrlParameter, otherRoute.majorUrlParameter);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 42;
+        int urlParamHash = majorUrlParameter == null ? 0 : majorUrlParameter.hashCode();
+        int endpointHash = endpoint == null ? 0 : endpoint.hashCode();
+
+        hash = hash * 11 + urlParamHash;
+        hash = hash * 17 + endpointHash;
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        String str = "Endpoint: " + (endpoint == null ? "global" : endpoint.getEndpointUrl());
+        str += ", Major url parameter:" + (majorUrlParameter == null ? "none" : majorUrlParameter);
+        return str;
+    }
+}
@@ -1,6 +1,8 @@
 package org.javacord.core.util.rest;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
@@ -15,6 +17,7 @@ import org.javacord.api.util.rest.RestRequestResponseInformation;
 import org.javacord.core.DiscordApiImpl;
 import org.javacord.core.util.logging.LoggerUtil;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.HashMap;
@@ -305,6 +308,68 @@ public class RestRequest<T> {
      * @throws Exception If something went wrong while executing the request.
      */
     public RestRequestResult executeBlocking() throws Exception {
+        requestGlobalRatelimiterQuota();
+        try (Response response = getApi().getHttpClient().newCall(buildHttpRequest()).execute()) {
+            return handleHttpResponse(response);
+        }
+    }
+
+    /**
+     * Executes the request asynchronously.
+     *
+     * <p>Unlike {@link #executeBlocking()}, this method does not block the calling thread while waiting for the
+     * response. If a global ratelimiter is set, waiting for its quota happens in the central executor service.
+     * The returned future is not the same as {@link #getResult()} and does not complete it.
+     *
+     * @return A future with the result of the request.
+     */
+    public CompletableFuture<RestRequestResult> executeAsync() {
+        CompletableFuture<RestRequestResult> future = new CompletableFuture<>();
+        if (api.getGlobalRatelimiter().isPresent()) {
+            api.getThreadPool().getExecutorService().submit(() -> {
+                requestGlobalRatelimiterQuota();
+                enqueue(future);
+            });
+        } else {
+            enqueue(future);
+        }
+        return future;
+    }
+
+    /**
+     * Enqueues the http call of this request and completes the given future once it finished.
+     *
+     * @param future The future to complete.
+     */
+    private void enqueue(CompletableFuture<RestRequestResult> future) {
+        Request request;
+        try {
+            request = buildHttpRequest();
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            return;
+        }
+        getApi().getHttpClient().newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                future.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (Response closeableResponse = response) {
+                    future.complete(handleHttpResponse(closeableResponse));
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }
+        });
+    }
+
+    /**
+     * Blocks until the global ratelimiter, if one is set, has a quota available.
+     */
+    private void requestGlobalRatelimiterQuota() {
         api.getGlobalRatelimiter().ifPresent(ratelimiter -> {
             try {
                 ratelimiter.requestQuota();
@@ -312,6 +377,14 @@ public class RestRequest<T> {
                 logger.warn("Encountered unexpected ratelimiter interrupt", e);
             }
         });
+    }
+
+    /**
+     * Builds the http request for OkHttp.
+     *
+     * @return The http request.
+     */
+    private Request buildHttpRequest() {
         Request.Builder requestBuilder = new Request.Builder();
         HttpUrl.Builder httpUrlBuilder = endpoint.getOkHttpUrl(urlParameters).newBuilder();
         queryParameters.forEach(httpUrlBuilder::addQueryParameter);
@@ -351,69 +424,77 @@ public class RestRequest<T> {
         headers.forEach(requestBuilder::addHeader);
         logger.debug("Trying to send {} request to {}{}",
                 method::name, () -> endpoint.getFullUrl(urlParameters), () -> body != null ? " with body " + body : "");
+        return requestBuilder.build();
+    }
 
-        try (Response response = getApi().getHttpClient().newCall(requestBuilder.build()).execute()) {
-            RestRequestResult result = new RestRequestResult(this, response);
-            logger.debug("Sent {} request to {} and received status code {} with{} body{}",
-                    method::name, () -> endpoint.getFullUrl(urlParameters), response::code,
-                    () -> result.getBody().map(b -> "").orElse(" empty"),
-                    () -> result.getStringBody().map(s -> " " + s).orElse(""));
-
-            if (response.code() >= 300 || response.code() < 200) {
-
-                RestRequestInformation requestInformation = asRestRequestInformation();
-                RestRequestResponseInformation responseInformation = new RestRequestResponseInformationImpl(
-                        requestInformation, result);
-                Optional<RestRequestHttpResponseCode> responseCode = RestRequestHttpResponseCode
-                        .fromCode(response.code());
-
-                // Check if the response body contained a know error code
-                if (!result.getJsonBody().isNull() && result.getJsonBody().has("code")) {
-                    int code = result.getJsonBody().get("code").asInt();
-                    String message = result.getJsonBody().has("message")
-                            ? result.getJsonBody().get("message").asText()
-                            : null;
-                    Optional<? extends DiscordException> discordException =
-                            RestRequestResultErrorCode.fromCode(code, responseCode.orElse(null))
-                                    .flatMap(restRequestResultCode -> restRequestResultCode.getDiscordException(
-                                            origin, (message == null) ? restRequestResultCode.getMeaning() : message,
-                                            requestInformation, responseInformation));
-                    // There's an exception for this specific response code
+    /**
+     * Reads the http response and maps unsuccessful responses to exceptions.
+     *
+     * @param response The http response.
+     * @return The result of the request.
+     * @throws Exception If the response was not successful.
+     */
+    private RestRequestResult handleHttpResponse(Response response) throws Exception {
+        RestRequestResult result = new RestRequestResult(this, response);
+        logger.debug("Sent {} request to {} and received status code {} with{} body{}",
+                method::name, () -> endpoint.getFullUrl(urlParameters), response::code,
+                () -> result.getBody().map(b -> "").orElse(" empty"),
+                () -> result.getStringBody().map(s -> " " + s).orElse(""));
+
+        if (response.code() >= 300 || response.code() < 200) {
+
+            RestRequestInformation requestInformation = asRestRequestInformation();
+            RestRequestResponseInformation responseInformation = new RestRequestResponseInformationImpl(
+                    requestInformation, result);
+            Optional<RestRequestHttpResponseCode> responseCode = RestRequestHttpResponseCode
+                    .fromCode(response.code());
+
+            // Check if the response body contained a know error code
+            if (!result.getJsonBody().isNull() && result.getJsonBody().has("code")) {
+                int code = result.getJsonBody().get("code").asInt();
+                String message = result.getJsonBody().has("message")
+                        ? result.getJsonBody().get("message").asText()
+                        : null;
+                Optional<? extends DiscordException> discordException =
+                        RestRequestResultErrorCode.fromCode(code, responseCode.orElse(null))
+                                .flatMap(restRequestResultCode -> restRequestResultCode.getDiscordException(
+                                        origin, (message == null) ? restRequestResultCode.getMeaning() : message,
+                                        requestInformation, responseInformation));
+                // There's an exception for this specific response code
+                if (discordException.isPresent()) {
+                    throw discordException.get();
+                }
+            }
+
+            switch (response.code()) {
+                case 429:
+                    // A 429 will be handled in the RatelimitManager class
+                    return result;
+                default:
+                    // There are specific exceptions for specific response codes (e.g. NotFoundException for 404)
+                    Optional<? extends DiscordException> discordException = responseCode
+                            .flatMap(restRequestHttpResponseCode ->
+                                             restRequestHttpResponseCode.getDiscordException(
+                                                     origin,
+                                                     "Received a " + response.code() + " response from Discord with"
+                                                     + (result.getBody().isPresent() ? "" : " empty")
+                                                     + " body"
+                                                     + result.getStringBody().map(s -> " " + s).orElse("")
+                                                     + "!",
+                                                     requestInformation, responseInformation));
                     if (discordException.isPresent()) {
                         throw discordException.get();
+                    } else {
+                        // No specific exception was defined for the response code, so throw a "normal"
+                        throw new DiscordException(
+                                origin, "Received a " + response.code() + " response from Discord with"
+                                        + (result.getBody().isPresent() ? "" : " empty") + " body"
+                                        + result.getStringBody().map(s -> " " + s).orElse("") + "!",
+                                requestInformation, responseInformation);
                     }
-                }
-
-                switch (response.code()) {
-                    case 429:
-                        // A 429 will be handled in the RatelimitManager class
-                        return result;
-                    default:
-                        // There are specific exceptions for specific response codes (e.g. NotFoundException for 404)
-                        Optional<? extends DiscordException> discordException = responseCode
-                                .flatMap(restRequestHttpResponseCode ->
-                                                 restRequestHttpResponseCode.getDiscordException(
-                                                         origin,
-                                                         "Received a " + response.code() + " response from Discord with"
-                                                         + (result.getBody().isPresent() ? "" : " empty")
-                                                         + " body"
-                                                         + result.getStringBody().map(s -> " " + s).orElse("")
-                                                         + "!",
-                                                         requestInformation, responseInformation));
-                        if (discordException.isPresent()) {
-                            throw discordException.get();
-                        } else {
-                            // No specific exception was defined for the response code, so throw a "normal"
-                            throw new DiscordException(
-                                    origin, "Received a " + response.code() + " response from Discord with"
-                                            + (result.getBody().isPresent() ? "" : " empty") + " body"
-                                            + result.getStringBody().map(s -> " " + s).orElse("") + "!",
-                                    requestInformation, responseInformation);
-                        }
-                }
             }
-            return result;
         }
+        return result;
     }
 
 }
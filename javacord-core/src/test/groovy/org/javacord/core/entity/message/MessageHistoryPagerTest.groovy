@@ -0,0 +1,93 @@
+package org.javacord.core.entity.message
+
+import com.fasterxml.jackson.databind.JsonNode
+import com.fasterxml.jackson.databind.node.JsonNodeFactory
+import org.javacord.api.entity.channel.TextChannel
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.util.concurrent.CompletableFuture
+
+@Subject(MessageHistoryPager)
+class MessageHistoryPagerTest extends Specification {
+
+    static final int PAGE_SIZE = MessageHistoryPager.PAGE_SIZE
+
+    def requestedReferenceIds = []
+
+    def 'all messages of all pages are iterated in order'() {
+        given:
+            def pager = pager(1000, [PAGE_SIZE, PAGE_SIZE, 30])
+
+        when:
+            def ids = pager.collect { it.get('id').asLong() }
+
+        then:
+            ids == (999L..(1000L - 2 * PAGE_SIZE - 30))
+            requestedReferenceIds == [1000L, 1000L - PAGE_SIZE, 1000L - 2 * PAGE_SIZE]
+    }
+
+    def 'the next page is requested as soon as the current page is received'() {
+        given:
+            def pager = pager(1000, [PAGE_SIZE, PAGE_SIZE])
+
+        when:
+            pager.hasNext()
+
+        then:
+            requestedReferenceIds == [1000L, 1000L - PAGE_SIZE]
+
+        when:
+            PAGE_SIZE.times { pager.next() }
+
+        then:
+            requestedReferenceIds == [1000L, 1000L - PAGE_SIZE]
+    }
+
+    def 'no page is requested after a page which is not full'() {
+        given:
+            def pager = pager(1000, [30])
+
+        when:
+            30.times { pager.next() }
+
+        then:
+            !pager.hasNext()
+            pager.peek() == null
+            requestedReferenceIds == [1000L]
+
+        when:
+            pager.next()
+
+        then:
+            thrown(NoSuchElementException)
+            requestedReferenceIds == [1000L]
+    }
+
+    def 'an empty history has no messages'() {
+        given:
+            def pager = pager(1000, [0])
+
+        expect:
+            !pager.hasNext()
+            requestedReferenceIds == [1000L]
+    }
+
+    /**
+     * Creates a pager for older messages which receives pages of the given sizes.
+     */
+    MessageHistoryPager pager(long referenceMessageId, List<Integer> pageSizes) {
+        def pages = pageSizes.iterator()
+        new MessageHistoryPager(Stub(TextChannel), referenceMessageId, true) {
+            @Override
+            CompletableFuture<List<JsonNode>> requestPage(long reference) {
+                requestedReferenceIds << reference
+                def size = pages.hasNext() ? pages.next() : 0
+                CompletableFuture.completedFuture((0..<size).collect {
+                    JsonNodeFactory.instance.objectNode().put('id', reference - it - 1) as JsonNode
+                })
+            }
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package org.javacord.core.entity.message
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import org.javacord.api.entity.channel.TextChannel
+import org.javacord.api.entity.user.User
+import org.javacord.core.DiscordApiImpl
+import spock.lang.Specification
+import spock.lang.Subject
+
+@Subject(MessageImpl)
+class MessageImplTest extends Specification {
+
+    def mapper = new ObjectMapper()
+
+    def cachedUser = Stub(User) {
+        getId() >> 3
+    }
+
+    def 'a compact message has the same parts as a regular message'() {
+        given:
+            def regularMessage = message(false)
+            def compactMessage = message(true)
+
+        expect:
+            compactMessage.content == regularMessage.content
+            compactMessage.embeds*.title == regularMessage.embeds*.title
+            compactMessage.reactions*.count == regularMessage.reactions*.count
+            compactMessage.attachments*.fileName == regularMessage.attachments*.fileName
+            compactMessage.components == regularMessage.components
+            compactMessage.mentionedUsers*.id == regularMessage.mentionedUsers*.id
+    }
+
+    def 'the mentioned users of a compact message are resolved through the user cache'() {
+        given:
+            def message = message(true)
+
+        when:
+            def mentionedUsers = message.mentionedUsers
+
+        then:
+            mentionedUsers*.id == [3L, 4L]
+            mentionedUsers[0].is(cachedUser)
+            mentionedUsers[1].name == 'Second'
+    }
+
+    def message(boolean compact) {
+        def api = Stub(DiscordApiImpl) {
+            getObjectMapper() >> mapper
+            isCompactMessageCacheEnabled() >> compact
+            getCachedUserById(3) >> Optional.of(cachedUser)
+            getCachedUserById(_) >> Optional.empty()
+        }
+        def channel = Stub(TextChannel) {
+            getApi() >> api
+        }
+        new MessageImpl(api, channel, mapper.readTree('''{
+            "id": "1",
+            "type": 0,
+            "content": "Hey <@3> and <@4>!",
+            "author": {"id": "6", "username": "Author", "discriminator": "0001", "avatar": null},
+            "tts": false,
+            "mention_everyone": false,
+            "pinned": false,
+            "mentions": [
+                {"id": "3", "username": "First", "discriminator": "0002", "avatar": null},
+                {"id": "4", "username": "Second", "discriminator": "0003", "avatar": null}
+            ],
+            "attachments": [{
+                "id": "7",
+                "filename": "screenshot.png",
+                "size": 123456,
+                "url": "https://cdn.discordapp.com/attachments/2/7/screenshot.png",
+                "proxy_url": "https://media.discordapp.net/attachments/2/7/screenshot.png"
+            }],
+            "embeds": [{"type": "rich", "title": "Announcement"}],
+            "reactions": [{"count": 3, "me": false, "emoji": {"id": null, "name": "\\uD83D\\uDC4D"}}]
+        }'''), false)
+    }
+
+}
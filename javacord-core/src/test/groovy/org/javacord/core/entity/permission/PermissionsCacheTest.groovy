@@ -0,0 +1,80 @@
+package org.javacord.core.entity.permission
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+class PermissionsCacheTest extends Specification {
+
+    @Subject
+    def cache = new PermissionsCache()
+
+    def permissions = new PermissionsImpl(8, 0)
+
+    def 'cached permissions are returned for the same role ids and generation'() {
+        given:
+            cache.put(1, [10L, 20L], 0, permissions)
+
+        expect:
+            cache.get(1, [10L, 20L], 0).is(permissions)
+            cache.get(1, [10L, 20L], 0).is(permissions)
+    }
+
+    def 'cached permissions are invalid for other role ids'() {
+        given:
+            cache.put(1, [10L, 20L], 0, permissions)
+
+        expect:
+            cache.get(1, roleIds, 0) == null
+
+        where:
+            roleIds << [[10L], [10L, 30L], null]
+    }
+
+    def 'cached permissions are invalid for a newer generation'() {
+        given:
+            cache.put(1, [10L], 0, permissions)
+            cache.put(2, null, 0, permissions)
+
+        expect:
+            cache.get(1, [10L], 1) == null
+            cache.get(2, null, 1) == null
+    }
+
+    def 'permissions computed before a generation change are not returned afterwards'() {
+        given:
+            cache.get(1, [10L], 1)
+            cache.put(1, [10L], 0, permissions)
+
+        expect:
+            cache.get(1, [10L], 1) == null
+    }
+
+    def 'removed permissions are not returned'() {
+        given:
+            cache.put(1, [10L], 0, permissions)
+
+        when:
+            cache.remove(1)
+
+        then:
+            cache.get(1, [10L], 0) == null
+    }
+
+    def 'the capacity is not exceeded'() {
+        given:
+            def boundedCache = new PermissionsCache(2)
+            (1..3).each { boundedCache.put(it, [10L], 0, permissions) }
+
+        expect:
+            boundedCache.entries.size() == 2
+            boundedCache.get(3, [10L], 0).is(permissions)
+
+        when:
+            boundedCache.put(3, [20L], 0, permissions)
+
+        then:
+            boundedCache.entries.size() == 2
+            boundedCache.get(3, [20L], 0).is(permissions)
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.javacord.core.util
 
+import okio.Buffer
 import org.javacord.core.DiscordApiImpl
 import org.javacord.core.util.concurrent.ThreadPoolImpl
 import spock.lang.AutoCleanup
@@ -49,4 +50,44 @@ class FileContainerTest extends Specification {
             iae.message == 'No image writer found for format "txt"'
     }
 
+    def 'request body of FileContainer with File streams the file every time it is written'() {
+        given:
+            def file = File.createTempFile('javacord', '.txt')
+            file.deleteOnExit()
+            file.text = 'x' * 100_000
+            def requestBody = new FileContainer(file).asRequestBody()
+
+        when:
+            def firstBuffer = new Buffer()
+            requestBody.writeTo(firstBuffer)
+            def secondBuffer = new Buffer()
+            requestBody.writeTo(secondBuffer)
+
+        then:
+            requestBody.contentLength() == 100_000
+            requestBody.contentType().toString() == 'text/plain'
+            firstBuffer.readUtf8() == file.text
+            secondBuffer.readUtf8() == file.text
+
+        cleanup:
+            file?.delete()
+    }
+
+    def 'request body of FileContainer with InputStream can be written more than once'() {
+        given:
+            def requestBody = new FileContainer(new ByteArrayInputStream([1, 2, 3] as byte[]), 'file.bin')
+                    .asRequestBody()
+
+        when:
+            def firstBuffer = new Buffer()
+            requestBody.writeTo(firstBuffer)
+            def secondBuffer = new Buffer()
+            requestBody.writeTo(secondBuffer)
+
+        then:
+            firstBuffer.readByteArray() == [1, 2, 3] as byte[]
+            secondBuffer.readByteArray() == [1, 2, 3] as byte[]
+            requestBody.contentLength() == 3
+    }
+
 }
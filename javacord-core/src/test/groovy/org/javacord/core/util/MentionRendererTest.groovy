@@ -0,0 +1,65 @@
+package org.javacord.core.util
+
+import org.javacord.api.DiscordApi
+import org.javacord.api.entity.channel.ServerChannel
+import org.javacord.api.entity.emoji.KnownCustomEmoji
+import org.javacord.api.entity.permission.Role
+import org.javacord.api.entity.server.Server
+import org.javacord.api.entity.user.User
+import spock.lang.Specification
+import spock.lang.Subject
+
+@Subject(MentionRenderer)
+class MentionRendererTest extends Specification {
+
+    def user = Stub(User) {
+        getName() >> 'Bo$$'
+    }
+
+    def role = Stub(Role) {
+        getName() >> 'mods'
+    }
+
+    def channel = Stub(ServerChannel) {
+        getName() >> '$general'
+    }
+
+    def emoji = Stub(KnownCustomEmoji) {
+        getName() >> 'real_name'
+    }
+
+    def api = Stub(DiscordApi) {
+        getCachedUserById(_ as String) >> { String id -> Optional.ofNullable(id == '1' ? user : null) }
+        getRoleById(_ as String) >> { String id -> Optional.ofNullable(id == '2' ? role : null) }
+        getServerChannelById(_ as String) >> { String id -> Optional.ofNullable(id == '3' ? channel : null) }
+        getCustomEmojiById(_ as String) >> { String id -> Optional.ofNullable(id == '4' ? emoji : null) }
+    }
+
+    def 'mentions are made readable'() {
+        expect:
+            MentionRenderer.makeMentionsReadable(api, content, null) == readableContent
+
+        where:
+            content                         || readableContent
+            'hi <@1> and <@!1>'             || 'hi @Bo$$ and @Bo$$'
+            '<@99> stays, <@1> does not'    || '<@99> stays, @Bo$$ does not'
+            '<@&2> <@&99>'                  || '@mods @deleted-role'
+            '<#3> <#99>'                    || '#$general #deleted-channel'
+            '<:name:4> <a:other:99>'        || ':real_name: :other:'
+            '<@> <@!> <@&> <#> <:x:> <<@1>' || '<@> <@!> <@&> <#> <:x:> <@Bo$$'
+            '\\<@1> \\\\<@1>'               || '<@1> \\@Bo$$'
+            '\\* \\a \\\\'                  || '* \\a \\'
+            ''                              || ''
+    }
+
+    def 'the display name is used if there is a server'() {
+        given:
+            def server = Stub(Server) {
+                getDisplayName(user) >> 'nick'
+            }
+
+        expect:
+            MentionRenderer.makeMentionsReadable(api, '<@1>', server) == '@nick'
+    }
+
+}
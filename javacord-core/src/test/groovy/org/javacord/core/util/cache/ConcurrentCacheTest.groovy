@@ -0,0 +1,56 @@
+package org.javacord.core.util.cache
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+@Subject(ConcurrentCache)
+class ConcurrentCacheTest extends Specification {
+
+    def 'modifications return the same cache instance'() {
+        given:
+            def cache = Cache.<String> concurrent().addIndex('length', { it.length() })
+
+        expect:
+            cache.addElement('foo').is(cache)
+            cache.removeElement('foo').is(cache)
+    }
+
+    def 'indexes are updated when elements are added and removed'() {
+        given:
+            def cache = Cache.<String> concurrent().addIndex('length', { it.length() })
+
+        when:
+            cache.addElement('foo').addElement('bar').addElement('hello')
+
+        then:
+            cache.findByIndex('length', 3) == ['foo', 'bar'] as Set
+            cache.findAnyByIndex('length', 5).get() == 'hello'
+
+        when:
+            cache.removeElement('foo').removeElement('bar')
+
+        then:
+            cache.findByIndex('length', 3).isEmpty()
+            cache.getAll() == ['hello'] as Set
+    }
+
+    def 'indexes added later contain already present elements'() {
+        given:
+            def cache = Cache.<String> concurrent().addElement('foo')
+
+        when:
+            cache.addIndex('length', { it.length() })
+
+        then:
+            cache.findAnyByIndex('length', 3).get() == 'foo'
+    }
+
+    def 'unknown indexes throw an exception'() {
+        when:
+            Cache.<String> concurrent().findByIndex('unknown', 1)
+
+        then:
+            thrown(IllegalArgumentException)
+    }
+
+}
@@ -0,0 +1,41 @@
+package org.javacord.core.util.cache
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+@Subject(ImmutableCache)
+class ImmutableCacheTest extends Specification {
+
+    def 'adding elements in bulk equals adding them one by one'() {
+        given:
+            def empty = Cache.<String> empty().addIndex('length', { it.length() })
+
+        when:
+            def bulk = empty.addElements(['foo', 'bar', 'hello'])
+            def single = empty.addElement('foo').addElement('bar').addElement('hello')
+
+        then:
+            bulk.getAll() == single.getAll()
+            bulk.findByIndex('length', 3) == ['foo', 'bar'] as Set
+            bulk.findByIndex('length', 5) == single.findByIndex('length', 5)
+
+        and:
+            empty.getAll().isEmpty()
+    }
+
+    def 'removing elements in bulk updates all indexes'() {
+        given:
+            def cache = Cache.<String> empty()
+                    .addIndex('length', { it.length() })
+                    .addElements(['foo', 'bar', 'hello'])
+
+        when:
+            def newCache = cache.removeElements(['foo', 'hello'])
+
+        then:
+            newCache.getAll() == ['bar'] as Set
+            newCache.findByIndex('length', 3) == ['bar'] as Set
+            newCache.findByIndex('length', 5).isEmpty()
+    }
+
+}
@@ -0,0 +1,167 @@
+package org.javacord.core.util.cache
+
+import org.javacord.api.entity.message.Message
+import org.javacord.core.DiscordApiImpl
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.Timeout
+
+@Subject(MessageCacheImpl)
+class MessageCacheImplTest extends Specification {
+
+    def sweeper = new MessageCacheSweeper()
+
+    def api = Stub(DiscordApiImpl) {
+        getMessageCacheSweeper() >> sweeper
+    }
+
+    def 'messages exceeding the capacity are removed oldest first'() {
+        given:
+            def messageCache = new MessageCacheImpl(api, 2, 60, false)
+            def messages = (1..4).collect { message(it) }
+
+        when:
+            messages.reverse().each { messageCache.addMessage(it) }
+
+        then:
+            messageCache.messages.keySet() as List == [3L, 4L]
+    }
+
+    def 'messages which are cached forever are not removed because of the capacity'() {
+        given:
+            def messageCache = new MessageCacheImpl(api, 1, 60, false)
+            def foreverMessage = message(1, true)
+            messageCache.addCacheForeverMessage(foreverMessage)
+            messageCache.addMessage(foreverMessage)
+
+        when:
+            messageCache.addMessage(message(2))
+            messageCache.addMessage(message(3))
+
+        then:
+            messageCache.messages.keySet() as List == [1L, 3L]
+    }
+
+    def 'caching a message forever twice counts it once'() {
+        given:
+            def messageCache = new MessageCacheImpl(api, 1, 60, false)
+            def foreverMessage = message(1, true)
+            messageCache.addMessage(message(2))
+
+        when:
+            2.times {
+                messageCache.addCacheForeverMessage(foreverMessage)
+                messageCache.addMessage(foreverMessage)
+            }
+            messageCache.addMessage(message(3))
+
+        then:
+            messageCache.messages.keySet() as List == [1L, 3L]
+            sweeper.cacheForeverMessageCount.get() == 1
+
+        when:
+            2.times { messageCache.removeCacheForeverMessage(foreverMessage) }
+
+        then:
+            sweeper.cacheForeverMessageCount.get() == 0
+    }
+
+    def 'adding a message twice does not cache it twice'() {
+        given:
+            def messageCache = new MessageCacheImpl(api, 10, 60, false)
+            def message = message(1)
+
+        when:
+            messageCache.addMessage(message)
+            messageCache.addMessage(message)
+
+        then:
+            messageCache.messageCount.get() == 1
+    }
+
+    def 'cleaning removes outdated messages'() {
+        given:
+            def messageCache = new MessageCacheImpl(api, 10, 0, false)
+            messageCache.addMessage(message(1))
+            messageCache.addMessage(message(2, true))
+
+        when:
+            messageCache.clean()
+
+        then:
+            messageCache.messages.keySet() as List == [2L]
+    }
+
+    def 'only caches with messages and enabled cleanup are swept'() {
+        given:
+            def emptyCache = new MessageCacheImpl(api, 10, 0, true)
+            def disabledCache = new MessageCacheImpl(api, 10, 0, false)
+            def messageCache = new MessageCacheImpl(api, 10, 0, true)
+            disabledCache.addMessage(message(1))
+            messageCache.addMessage(message(2))
+
+        expect:
+            sweeper.dirtyCaches == [messageCache] as Set
+
+        when:
+            sweeper.sweep()
+
+        then:
+            messageCache.messages.isEmpty()
+            disabledCache.messageCount.get() == 1
+            sweeper.dirtyCaches.isEmpty()
+    }
+
+    @Timeout(10)
+    def 'caches which keep their messages are swept once and not again before their oldest message is outdated'() {
+        given:
+            def caches = (0..<20).collect { Spy(MessageCacheImpl, constructorArgs: [api, 10, 60, true]) }
+            caches.eachWithIndex { cache, i -> cache.addMessage(message(recentMessageId(i))) }
+            // Changing the storage time makes the next sweep due right away
+            caches.each { it.storageTimeInSeconds = 60 }
+
+        when:
+            sweeper.sweep()
+
+        then:
+            caches.each { 1 * it.sweep() }
+            sweeper.messageCount.get() == 20
+            caches.every { it.nextSweepMillis > System.currentTimeMillis() }
+            sweeper.dirtyCaches == caches as Set
+
+        when:
+            sweeper.sweep()
+
+        then:
+            0 * _.sweep()
+    }
+
+    def 'exceeding the global capacity removes the messages of the least recently active cache first'() {
+        given:
+            def idleCache = new MessageCacheImpl(api, 10, 60, false)
+            def activeCache = new MessageCacheImpl(api, 10, 60, false)
+            (1..5).each { idleCache.addMessage(message(it)) }
+            (6..10).each { activeCache.addMessage(message(it)) }
+            idleCache.lastAccessNanos = System.nanoTime() - 1_000_000_000
+
+        when:
+            sweeper.globalCapacity = 5
+
+        then:
+            idleCache.messages.isEmpty()
+            activeCache.messages.keySet() as List == (6L..10L)
+            sweeper.messageCount.get() == 5
+    }
+
+    def recentMessageId(int offset) {
+        (System.currentTimeMillis() - 1_420_070_400_000L + offset) << 22
+    }
+
+    def message(long id, boolean cachedForever = false) {
+        Stub(Message) {
+            getId() >> id
+            isCachedForever() >> cachedForever
+        }
+    }
+
+}
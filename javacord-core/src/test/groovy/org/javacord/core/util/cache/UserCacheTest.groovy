@@ -0,0 +1,54 @@
+package org.javacord.core.util.cache
+
+import org.javacord.api.entity.user.User
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.Unroll
+
+@Subject(UserCache)
+class UserCacheTest extends Specification {
+
+    @Unroll
+    def 'folded names of "#name" and "#otherName" are equal'() {
+        expect:
+            name.equalsIgnoreCase(otherName)
+            CaseFolding.fold(name) == CaseFolding.fold(otherName)
+
+        where:
+            name                       | otherName
+            'Javacord'                 | 'jAVACORD'
+            '\u039F\u0394\u039F\u03A3' | '\u03BF\u03B4\u03BF\u03C2'
+            '\u03BF\u03B4\u03BF\u03C3' | '\u03BF\u03B4\u03BF\u03C2'
+            '\u01C5'                   | '\u01C6'
+            '\u212A'                   | 'k'
+    }
+
+    @Unroll
+    def 'finding users by name ignoring case works #description'() {
+        given:
+            def users = [user(1, 'Bastian'), user(2, 'bastian'), user(3, 'BASTIAN_'), user(4, 'Javacord \u03A3')]
+            def cache = emptyCache.addOrReplaceUsers(users)
+
+        expect:
+            cache.getUsersByNameIgnoreCase('BASTIAN') == users[0..1] as Set
+            cache.getUsersByNameIgnoreCase('JAVACORD \u03C2') == [users[3]] as Set
+            cache.getUsersByNameIgnoreCase('unknown').isEmpty()
+
+        and:
+            cache.removeUser(users[0]).getUsersByNameIgnoreCase('bastian') == [users[1]] as Set
+
+        where:
+            description                   | emptyCache
+            'without name indexes'        | UserCache.empty(false)
+            'with immutable name indexes' | UserCache.empty(true)
+            'with mutable name indexes'   | UserCache.concurrent(true)
+    }
+
+    def user(long id, String name) {
+        Stub(User) {
+            getId() >> id
+            getName() >> name
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package org.javacord.core.util.concurrent
+
+import org.javacord.api.util.concurrent.EventDispatchStrategy
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.ThreadPoolExecutor
+
+@Subject(ThreadPoolImpl)
+class ThreadPoolImplTest extends Specification {
+
+    def 'the default strategy calls listeners on the executor service'() {
+        given:
+            def threadPool = new ThreadPoolImpl()
+
+        expect:
+            threadPool.listenerExecutor.is(threadPool.executorService)
+
+        cleanup:
+            threadPool.shutdown()
+    }
+
+    def 'a bounded pool does not create more threads than configured'() {
+        given:
+            def threadPool = new ThreadPoolImpl(EventDispatchStrategy.boundedPool(3))
+
+        expect:
+            with(threadPool.listenerExecutor as ThreadPoolExecutor) {
+                maximumPoolSize == 3
+            }
+
+        cleanup:
+            threadPool.shutdown()
+    }
+
+    def 'a bounded pool is shut down with the thread pool'() {
+        given:
+            def threadPool = new ThreadPoolImpl(EventDispatchStrategy.boundedPool(3))
+
+        when:
+            threadPool.shutdown()
+
+        then:
+            (threadPool.listenerExecutor as ExecutorService).shutdown
+    }
+
+    def 'a custom executor is used but not shut down'() {
+        given:
+            def executor = Mock(ExecutorService)
+            def threadPool = new ThreadPoolImpl(EventDispatchStrategy.executor(executor))
+
+        when:
+            threadPool.shutdown()
+
+        then:
+            threadPool.listenerExecutor.is(executor)
+            0 * executor.shutdown()
+    }
+
+    def 'virtual threads or the fallback pool are used'() {
+        given:
+            def threadPool = new ThreadPoolImpl(EventDispatchStrategy.virtualThreads(2))
+
+        expect:
+            threadPool.listenerExecutor instanceof ExecutorService
+            !threadPool.listenerExecutor.is(threadPool.executorService)
+
+        cleanup:
+            threadPool.shutdown()
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.javacord.core.util.event
+
+import org.javacord.api.util.concurrent.EventDispatchStrategy
+import org.javacord.core.DiscordApiImpl
+import org.javacord.core.util.concurrent.ThreadPoolImpl
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+@Subject(EventDispatcherBase)
+class EventDispatcherBaseTest extends Specification {
+
+    def threadPool = new ThreadPoolImpl(EventDispatchStrategy.boundedPool(4))
+
+    def api = Stub(DiscordApiImpl) {
+        getThreadPool() >> threadPool
+    }
+
+    def dispatcher = new EventDispatcherBase(api) { }
+
+    def cleanup() {
+        threadPool.shutdown()
+    }
+
+    def 'events with the same queue selector are dispatched in order'() {
+        given:
+            def queueSelector = new DispatchQueueSelector() { }
+            def calls = new ConcurrentLinkedQueue<Integer>()
+            def done = new CountDownLatch(1000)
+
+        when:
+            (0..<1000).each { i ->
+                dispatcher.dispatchEvent(queueSelector, [i]) { calls.add(it); done.countDown() }
+            }
+
+        then:
+            done.await(10, TimeUnit.SECONDS)
+            calls as List == (0..<1000) as List
+    }
+
+    def 'lifecycle events wait for running events and delay later events'() {
+        given:
+            def queueSelector = new DispatchQueueSelector() { }
+            def calls = new ConcurrentLinkedQueue<String>()
+            def firstEventStarted = new CountDownLatch(1)
+            def releaseFirstEvent = new CountDownLatch(1)
+            def done = new CountDownLatch(3)
+
+        when:
+            dispatcher.dispatchEvent(queueSelector, ['first']) {
+                firstEventStarted.countDown()
+                releaseFirstEvent.await()
+                calls.add(it)
+                done.countDown()
+            }
+            firstEventStarted.await(10, TimeUnit.SECONDS)
+            dispatcher.dispatchEvent(null, ['lifecycle']) { calls.add(it); done.countDown() }
+            dispatcher.dispatchEvent(new DispatchQueueSelector() { }, ['second']) { calls.add(it); done.countDown() }
+            releaseFirstEvent.countDown()
+
+        then:
+            done.await(10, TimeUnit.SECONDS)
+            calls as List == ['first', 'lifecycle', 'second']
+    }
+
+}
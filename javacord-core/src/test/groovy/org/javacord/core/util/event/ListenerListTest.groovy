@@ -0,0 +1,73 @@
+package org.javacord.core.util.event
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+@Subject(ListenerList)
+class ListenerListTest extends Specification {
+
+    def listenerList = new ListenerList<Object>()
+
+    def 'a listener is only added once and keeps its manager'() {
+        given:
+            def listener = new Object()
+            def listenerManager = Mock(ListenerManagerImpl)
+
+        when:
+            def first = listenerList.add(listener) { listenerManager }
+            def second = listenerList.add(listener) { Mock(ListenerManagerImpl) }
+
+        then:
+            first.is(listenerManager)
+            second.is(listenerManager)
+            listenerList.listeners == [listener]
+    }
+
+    def 'snapshots are not affected by later changes'() {
+        given:
+            def first = new Object()
+            def second = new Object()
+            listenerList.add(first) { Mock(ListenerManagerImpl) }
+            def snapshot = listenerList.listeners
+
+        when:
+            listenerList.add(second) { Mock(ListenerManagerImpl) }
+            listenerList.remove(first)
+
+        then:
+            snapshot == [first]
+            listenerList.listeners == [second]
+    }
+
+    def 'getting the listeners returns the same snapshot until the list changes'() {
+        given:
+            listenerList.add(new Object()) { Mock(ListenerManagerImpl) }
+
+        expect:
+            listenerList.listeners.is(listenerList.listeners)
+    }
+
+    def 'snapshots cannot be modified'() {
+        given:
+            listenerList.add(new Object()) { Mock(ListenerManagerImpl) }
+
+        when:
+            listenerList.listeners.clear()
+
+        then:
+            thrown(UnsupportedOperationException)
+    }
+
+    def 'clearing returns the managers of all removed listeners'() {
+        given:
+            def firstManager = Mock(ListenerManagerImpl)
+            def secondManager = Mock(ListenerManagerImpl)
+            listenerList.add(new Object()) { firstManager }
+            listenerList.add(new Object()) { secondManager }
+
+        expect:
+            listenerList.clear() == [firstManager, secondManager]
+            listenerList.empty
+    }
+
+}
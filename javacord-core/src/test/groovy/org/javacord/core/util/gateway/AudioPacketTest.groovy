@@ -0,0 +1,90 @@
+package org.javacord.core.util.gateway
+
+import com.codahale.xsalsa20poly1305.SecretBox
+import okio.ByteString
+import org.javacord.api.audio.SilentAudioSource
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.ByteBuffer
+
+@Subject(AudioPacket)
+class AudioPacketTest extends Specification {
+
+    static final int SSRC = 1234
+
+    static final byte[] KEY = (0..<32).collect { it as byte } as byte[]
+
+    def address = new InetSocketAddress('127.0.0.1', 50000)
+
+    def packet = new AudioPacket(SSRC, address)
+
+    def setup() {
+        packet.setSecretKey(KEY)
+    }
+
+    def 'packets are encrypted like with a secret box'() {
+        given:
+            byte[] frame = (0..<frameLength).collect { it as byte } as byte[]
+
+        when:
+            def datagramPacket = packet.write(frame, sequence as char, sequence * 960)
+
+        then:
+            datagramPacket.address == address.address
+            datagramPacket.port == address.port
+            bytesOf(datagramPacket) == sealWithSecretBox(frame, sequence as char, sequence * 960)
+
+        where:
+            frameLength | sequence
+            1           | 0
+            160         | 1
+            2000        | 65535
+    }
+
+    def 'a missing frame is sent as silence'() {
+        when:
+            def datagramPacket = packet.write(null, 7 as char, 7 * 960)
+
+        then:
+            bytesOf(datagramPacket) == sealWithSecretBox(SilentAudioSource.SILENCE_FRAME, 7 as char, 7 * 960)
+    }
+
+    def 'reusing the packet does not leak state from previous packets'() {
+        given:
+            byte[] longFrame = new byte[500]
+            Arrays.fill(longFrame, 42 as byte)
+            byte[] shortFrame = [1, 2, 3] as byte[]
+
+        when:
+            packet.write(longFrame, 1 as char, 960)
+            def datagramPacket = packet.write(shortFrame, 2 as char, 2 * 960)
+
+        then:
+            bytesOf(datagramPacket) == sealWithSecretBox(shortFrame, 2 as char, 2 * 960)
+    }
+
+    static byte[] bytesOf(datagramPacket) {
+        Arrays.copyOfRange(datagramPacket.data, datagramPacket.offset, datagramPacket.offset + datagramPacket.length)
+    }
+
+    /**
+     * Builds an audio packet the way it was done before the buffers and ciphers were reused.
+     */
+    static byte[] sealWithSecretBox(byte[] frame, char sequence, int timestamp) {
+        byte[] header = ByteBuffer.allocate(12)
+                .put(0, 0x80 as byte)
+                .put(1, 0x78 as byte)
+                .putChar(2, sequence)
+                .putInt(4, timestamp)
+                .putInt(8, SSRC)
+                .array()
+        byte[] nonce = new byte[24]
+        System.arraycopy(header, 0, nonce, 0, header.length)
+        byte[] sealed = new SecretBox(ByteString.of(KEY))
+                .seal(ByteString.of(nonce), ByteString.of(frame))
+                .toByteArray()
+        ByteBuffer.allocate(header.length + sealed.length).put(header).put(sealed).array()
+    }
+
+}
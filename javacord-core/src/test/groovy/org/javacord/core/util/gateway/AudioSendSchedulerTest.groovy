@@ -0,0 +1,80 @@
+package org.javacord.core.util.gateway
+
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+@Subject(AudioSendScheduler)
+class AudioSendSchedulerTest extends Specification {
+
+    def scheduler = new AudioSendScheduler()
+
+    def conditions = new PollingConditions(timeout: 2)
+
+    def cleanup() {
+        scheduler.shutdown()
+    }
+
+    def 'a registered socket is ticked every 20 ms until it is unregistered'() {
+        given:
+            def socket = new RecordingSocket()
+
+        when:
+            scheduler.register(socket)
+
+        then:
+            conditions.eventually {
+                assert socket.deadlines.size() >= 3
+            }
+            socket.deadlines.collate(2, 1, false).every { it[1] - it[0] >= 20_000_000 }
+
+        when:
+            scheduler.unregister(socket)
+
+        then:
+            conditions.eventually {
+                assert scheduler.tickThreads.every { it.thread == null }
+            }
+
+        when:
+            def ticks = socket.deadlines.size()
+            sleep(100)
+
+        then:
+            socket.deadlines.size() == ticks
+    }
+
+    def 'a socket which is registered twice is ticked once per tick'() {
+        given:
+            def socket = new RecordingSocket()
+
+        when:
+            scheduler.register(socket)
+            scheduler.register(socket)
+
+        then:
+            scheduler.tickThreads*.sockets.flatten() == [socket]
+    }
+
+    /**
+     * A socket which records the deadlines of its ticks instead of sending packets.
+     */
+    static class RecordingSocket extends AudioUdpSocket {
+
+        def deadlines = new CopyOnWriteArrayList<Long>()
+
+        RecordingSocket() {
+            super(null, new InetSocketAddress(InetAddress.loopbackAddress, 1), 1)
+        }
+
+        @Override
+        boolean sendNextPacket(long deadline) {
+            deadlines << deadline
+            true
+        }
+
+    }
+
+}
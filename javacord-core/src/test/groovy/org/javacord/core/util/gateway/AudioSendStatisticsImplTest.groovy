@@ -0,0 +1,48 @@
+package org.javacord.core.util.gateway
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.time.Duration
+
+@Subject(AudioSendStatisticsImpl)
+class AudioSendStatisticsImplTest extends Specification {
+
+    static final long INTERVAL = 20_000_000
+
+    def statistics = new AudioSendStatisticsImpl()
+
+    def 'statistics are empty without sent packets'() {
+        expect:
+            statistics.packetsSent == 0
+            statistics.averageLateness == Duration.ZERO
+            statistics.maxLateness == Duration.ZERO
+            statistics.jitter == Duration.ZERO
+    }
+
+    def 'packets sent on time have no lateness and no jitter'() {
+        when:
+            (0..<10).each { statistics.record(it * INTERVAL, it * INTERVAL) }
+
+        then:
+            statistics.packetsSent == 10
+            statistics.averageLateness == Duration.ZERO
+            statistics.maxLateness == Duration.ZERO
+            statistics.jitter == Duration.ZERO
+    }
+
+    def 'lateness and jitter are recorded'() {
+        when:
+            statistics.record(0, 0)
+            statistics.record(INTERVAL, INTERVAL + 1_600_000)
+            statistics.record(2 * INTERVAL, 2 * INTERVAL)
+
+        then:
+            statistics.packetsSent == 3
+            statistics.averageLateness == Duration.ofNanos(533_333)
+            statistics.maxLateness == Duration.ofNanos(1_600_000)
+            // 1/16 of the first deviation, then 1/16 of the difference to the second one
+            statistics.jitter == Duration.ofNanos(100_000 + 93_750)
+    }
+
+}
@@ -0,0 +1,141 @@
+package org.javacord.core.util.gateway
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.Unroll
+
+@Subject(EtfDecoder)
+class EtfDecoderTest extends Specification {
+
+    def mapper = new ObjectMapper()
+
+    @Unroll
+    def 'decoding the #fixture payload results in the same structure as its json counterpart'() {
+        given:
+            def etf = getClass().getResourceAsStream("/gateway/${fixture}.etf").bytes
+            def json = mapper.readTree(getClass().getResource("/gateway/${fixture}.json"))
+
+        expect:
+            EtfDecoder.decode(etf) == json
+
+        where:
+            fixture << ['hello', 'message_create']
+    }
+
+    def 'encoded payloads can be decoded again'() {
+        given:
+            def json = mapper.readTree(getClass().getResource('/gateway/message_create.json'))
+
+        expect:
+            EtfDecoder.decode(EtfEncoder.encode(json)) == json
+    }
+
+    def 'snowflakes sent as big integers are decoded to long nodes'() {
+        given:
+            // 131 = version, 110 = SMALL_BIG_EXT, 8 digits, positive, little endian digits of 157862224206102529
+            def etf = [131, 110, 8, 0, 0x01, 0x00, 0x42, 0x45, 0xDB, 0xD6, 0x30, 0x02] as byte[]
+
+        expect:
+            EtfDecoder.decode(etf).asLong() == 157862224206102529L
+    }
+
+    def 'payloads with atom keys and integer snowflakes like the ones sent by discord are decoded'() {
+        given:
+            // Discord encodes map keys and constants as atoms and snowflakes as integers, not as binaries
+            def author = etfMap([
+                    (atom('id'))           : smallBig(157862224206102529L),
+                    (atom('username'))     : binary('Bastian'),
+                    (atom('discriminator')): binary('0001'),
+                    (atom('avatar'))       : atom('nil'),
+                    (atom('bot'))          : atom('false')
+            ])
+            def data = etfMap([
+                    (atom('id'))              : smallBig(523152486283378688L),
+                    (atom('channel_id'))      : smallBig(381870553235193857L),
+                    (atom('guild_id'))        : smallBig(151037561152733184L),
+                    (atom('content'))         : binary('Hello \u00e9t\u00e9'),
+                    (atom('tts'))             : atom('false'),
+                    (atom('edited_timestamp')): atom('nil'),
+                    (atom('mentions'))        : [106],
+                    (atom('type'))            : [97, 0],
+                    (atom('author'))          : author
+            ])
+            def etf = ([131] + etfMap([
+                    (atom('op')): [97, 0],
+                    (atom('s')) : [98, 0, 0, 1, 44],
+                    (atom('t')) : atom('MESSAGE_CREATE'),
+                    (atom('d')) : data
+            ])) as byte[]
+
+        when:
+            def packet = EtfDecoder.decode(etf)
+
+        then:
+            packet == mapper.readTree("""{
+                "op": 0, "s": 300, "t": "MESSAGE_CREATE",
+                "d": {
+                    "id": 523152486283378688, "channel_id": 381870553235193857, "guild_id": 151037561152733184,
+                    "content": "Hello \u00e9t\u00e9", "tts": false, "edited_timestamp": null, "mentions": [],
+                    "type": 0,
+                    "author": {
+                        "id": 157862224206102529, "username": "Bastian", "discriminator": "0001", "avatar": null,
+                        "bot": false
+                    }
+                }
+            }""")
+
+        and: 'integer snowflakes are read like the string snowflakes of json payloads'
+            packet.get('d').get('id').asText() == '523152486283378688'
+            packet.get('d').get('author').get('id').asLong() == 157862224206102529L
+    }
+
+    @Unroll
+    def 'atom keys with tag #tag are decoded'() {
+        given:
+            def key = 'op'.bytes as List
+            def etf = ([131, 116, 0, 0, 0, 1] + header + key + [97, 10]) as byte[]
+
+        expect:
+            EtfDecoder.decode(etf) == mapper.readTree('{"op": 10}')
+
+        where:
+            tag                   | header
+            'ATOM_EXT'            | [100, 0, 2]
+            'SMALL_ATOM_EXT'      | [115, 2]
+            'ATOM_UTF8_EXT'       | [118, 0, 2]
+            'SMALL_ATOM_UTF8_EXT' | [119, 2]
+    }
+
+    def 'payloads with an unknown version are rejected'() {
+        when:
+            EtfDecoder.decode([130, 106] as byte[])
+
+        then:
+            thrown(IllegalArgumentException)
+    }
+
+    static List<Integer> atom(String name) {
+        def bytes = name.getBytes('UTF-8')
+        [119, bytes.length] + (bytes as List)
+    }
+
+    static List<Integer> binary(String value) {
+        def bytes = value.getBytes('UTF-8')
+        [109] + int32(bytes.length) + (bytes as List)
+    }
+
+    static List<Integer> smallBig(long value) {
+        // 8 little endian digits, positive
+        [110, 8, 0] + (0..<8).collect { (value >>> (8 * it)) & 0xFF }
+    }
+
+    static List<Integer> etfMap(Map<List<Integer>, List<Integer>> entries) {
+        [116] + int32(entries.size()) + entries.collectMany { key, value -> key + value }
+    }
+
+    static List<Integer> int32(int value) {
+        [value >>> 24, value >>> 16, value >>> 8, value].collect { it & 0xFF }
+    }
+
+}
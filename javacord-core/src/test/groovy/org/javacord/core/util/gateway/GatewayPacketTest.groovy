@@ -0,0 +1,74 @@
+package org.javacord.core.util.gateway
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Subject
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+import java.util.function.Predicate
+
+@Subject(GatewayPacket)
+class GatewayPacketTest extends Specification {
+
+    @Shared
+    def mapper = new ObjectMapper()
+
+    @Unroll
+    def 'the header of a #description packet is read without parsing the data'() {
+        given:
+            def json = '{"t":"TYPING_START","s":42,"op":0,"d":{"user_id":"1","emoji":"ä"}}'
+            Predicate<String> dataRequired = Mock()
+
+        when:
+            def packet = parse(json, dataRequired)
+
+        then:
+            1 * dataRequired.test('TYPING_START') >> false
+            packet.op == 0
+            packet.sequence == 42
+            packet.type == 'TYPING_START'
+            packet.@data == null
+
+        and:
+            packet.data == mapper.readTree('{"user_id":"1","emoji":"ä"}')
+
+        where:
+            description | parse
+            'byte'      | { text, filter -> GatewayPacket.parse(mapper, text.getBytes(StandardCharsets.UTF_8), filter) }
+            'char'      | { text, filter -> GatewayPacket.parse(mapper, text, filter) }
+    }
+
+    def 'the data of a required dispatch type is parsed eagerly, even if it comes first'() {
+        when:
+            def packet = GatewayPacket.parse(mapper, '{"d":{"id":"1"},"op":0,"s":1,"t":"GUILD_CREATE"}', { true })
+
+        then:
+            packet.@data == mapper.readTree('{"id":"1"}')
+    }
+
+    def 'the skipped data of a packet in a reused buffer is copied'() {
+        given:
+            def buffer = 'xx{"t":"TYPING_START","s":1,"op":0,"d":{"user_id":"1"}}'.getBytes(StandardCharsets.UTF_8)
+
+        when:
+            def packet = GatewayPacket.parse(mapper, buffer, 2, buffer.length - 2, { false })
+            Arrays.fill(buffer, 0 as byte)
+
+        then:
+            packet.data == mapper.readTree('{"user_id":"1"}')
+    }
+
+    def 'the data of non-dispatch packets is always parsed eagerly'() {
+        when:
+            def packet = GatewayPacket.parse(mapper, '{"t":null,"s":null,"op":10,"d":{"heartbeat_interval":41250}}',
+                    { false })
+
+        then:
+            packet.sequence == null
+            packet.type == null
+            packet.@data.get('heartbeat_interval').asInt() == 41250
+    }
+
+}
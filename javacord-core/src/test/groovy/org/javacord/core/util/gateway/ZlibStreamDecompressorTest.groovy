@@ -0,0 +1,70 @@
+package org.javacord.core.util.gateway
+
+import spock.lang.Specification
+import spock.lang.Subject
+
+import java.nio.charset.StandardCharsets
+import java.util.zip.DataFormatException
+import java.util.zip.Deflater
+
+@Subject(ZlibStreamDecompressor)
+class ZlibStreamDecompressorTest extends Specification {
+
+    def deflater = new Deflater()
+
+    def decompressor = new ZlibStreamDecompressor()
+
+    def cleanup() {
+        deflater.end()
+        decompressor.close()
+    }
+
+    def 'messages of the same stream are decompressed with one inflater'() {
+        expect:
+            decompress(compress('{"op":10}')) == '{"op":10}'
+            decompress(compress('{"op":11}')) == '{"op":11}'
+    }
+
+    def 'a message split into multiple frames is decompressed once it is complete'() {
+        given:
+            def message = '{"t":"GUILD_CREATE","d":"' + ('x' * 100_000) + '"}'
+            def compressed = compress(message)
+            def firstFrame = Arrays.copyOfRange(compressed, 0, compressed.length.intdiv(2))
+            def secondFrame = Arrays.copyOfRange(compressed, compressed.length.intdiv(2), compressed.length)
+
+        expect:
+            decompressor.decompress(firstFrame) == -1
+            decompress(secondFrame) == message
+    }
+
+    def 'using a closed decompressor reports a format error'() {
+        given:
+            decompressor.close()
+
+        when:
+            decompressor.decompress(compress('{}'))
+
+        then:
+            thrown(DataFormatException)
+    }
+
+    def decompress(byte[] frame) {
+        int length = decompressor.decompress(frame)
+        new String(decompressor.buffer, 0, length, StandardCharsets.UTF_8)
+    }
+
+    /**
+     * Compresses the given message like Discord does, i.e. ending with a sync flush.
+     */
+    def compress(String message) {
+        deflater.setInput(message.getBytes(StandardCharsets.UTF_8))
+        def output = new ByteArrayOutputStream()
+        def buffer = new byte[1024]
+        int count
+        while ((count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH)) > 0) {
+            output.write(buffer, 0, count)
+        }
+        output.toByteArray()
+    }
+
+}
@@ -15,10 +15,12 @@ import java.util.concurrent.TimeUnit
 @Subject(RatelimitManager)
 class RatelimitManagerTest extends Specification {
 
-    def 'executeBlocking() throwing a DiscordException without result does not cause an Exception'() {
+    def 'executeAsync() failing with a DiscordException without result does not cause an Exception'() {
         given:
+            def failedFuture = new CompletableFuture<>()
+            failedFuture.completeExceptionally new DiscordException(null, null, null, null)
             RestRequest request = Stub {
-                executeBlocking() >> { throw new DiscordException(null, null, null, null) }
+                executeAsync() >> failedFuture
                 getResult() >> new CompletableFuture<>()
             }
             def threadPool = new ThreadPoolImpl()
@@ -40,7 +42,7 @@ class RatelimitManagerTest extends Specification {
             // wait until the thread pool is shut down, so that the request processing
             // is finished and the message got logged if the exception happened
             threadPool.shutdown()
-            threadPool.executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS)
+            threadPool.ratelimitScheduler.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS)
             !new ArrayList<>(ListAppender.getListAppender('Test Appender').events).any { it.thrown }
 
         cleanup: